@@ -0,0 +1,98 @@
+package com.example.appointment.json;
+
+import com.example.appointment.dto.AppointmentResponseDto;
+import com.example.appointment.entity.Appointment;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 약속 목록 JSON 직렬화 비교 - 기본 databind 경로 vs 스트리밍 직렬화 모듈
+ * 할당률은 gc 프로파일러의 gc.alloc.rate.norm(B/op) 값으로 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AppointmentJsonBenchmark {
+    
+    @Param({"100", "1000"})
+    private int size;
+    
+    private List<AppointmentResponseDto> appointments;
+    private ObjectWriter databindWriter;
+    private ObjectWriter streamingWriter;
+    
+    @Setup
+    public void setUp() {
+        appointments = new ArrayList<>(size);
+        LocalDateTime base = LocalDateTime.of(2025, 3, 1, 9, 0);
+        for (int i = 0; i < size; i++) {
+            appointments.add(new AppointmentResponseDto(
+                    String.format("appo%03d", i), "user" + (i % 50), "username" + (i % 50), "닉네임" + (i % 50),
+                    "주간 회의 " + i, i % 3 == 0 ? null : "회의실에서 진행되는 정기 회의입니다",
+                    base.plusHours(i), base.plusHours(i + 1), "loc" + (i % 20),
+                    Appointment.AppointmentStatus.PLANNED, "F"));
+        }
+        
+        databindWriter = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writerFor(List.class);
+        streamingWriter = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .addModule(new AppointmentJsonModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writerFor(List.class);
+    }
+    
+    @Benchmark
+    public void databind(Blackhole blackhole) throws IOException {
+        databindWriter.writeValue(new BlackholeOutputStream(blackhole), appointments);
+    }
+    
+    @Benchmark
+    public void streaming(Blackhole blackhole) throws IOException {
+        streamingWriter.writeValue(new BlackholeOutputStream(blackhole), appointments);
+    }
+    
+    /**
+     * 응답 스트림 대용 - 출력 버퍼 할당이 측정 결과에 섞이지 않도록 바이트를 버림
+     */
+    private static final class BlackholeOutputStream extends OutputStream {
+        
+        private final Blackhole blackhole;
+        
+        BlackholeOutputStream(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+        
+        @Override
+        public void write(int b) {
+            blackhole.consume(b);
+        }
+        
+        @Override
+        public void write(byte[] b, int off, int len) {
+            blackhole.consume(b);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.appointment.support;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 1,000건 배치 처리 시 로그 비용 비교 (요청 스레드 4개 동시 실행)
+ * - perRowInfo: 행마다 INFO 한 줄 (기존 방식)
+ * - summary: 행 단위는 DEBUG(비활성), 요약 INFO 한 줄 (변경 후)
+ * - appender: sync(콘솔 appender 직접) / async(logback-spring.xml 과 같은 AsyncAppender 설정)
+ * 출력 I/O 는 제외하고 포맷팅과 appender 잠금 경합 비용만 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class LoggingBenchmark {
+    
+    private static final int ROWS = 1000;
+    private static final LocalDateTime END_TIME = LocalDateTime.of(2025, 3, 1, 10, 0);
+    
+    @Param({"sync", "async"})
+    private String appender;
+    
+    private LoggerContext context;
+    private Logger logger;
+    private List<String> appointmentIds;
+    
+    @Setup
+    public void setUp() {
+        context = new LoggerContext();
+        
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%t] %logger{40} [%X{requestId}] : %m%n");
+        encoder.start();
+        
+        OutputStreamAppender<ILoggingEvent> console = new OutputStreamAppender<>();
+        console.setContext(context);
+        console.setEncoder(encoder);
+        console.setOutputStream(OutputStream.nullOutputStream());
+        console.start();
+        
+        Appender<ILoggingEvent> target = console;
+        if ("async".equals(appender)) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.setIncludeCallerData(false);
+            async.addAppender(console);
+            async.start();
+            target = async;
+        }
+        
+        logger = context.getLogger("com.example.appointment.scheduler.AppointmentStatusScheduler");
+        logger.setAdditive(false);
+        logger.setLevel(Level.INFO);
+        logger.addAppender(target);
+        
+        appointmentIds = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            appointmentIds.add(String.format("appo%03d", i));
+        }
+    }
+    
+    @TearDown
+    public void tearDown() {
+        context.stop();
+    }
+    
+    @Benchmark
+    public void perRowInfo() {
+        for (String appointmentId : appointmentIds) {
+            logger.info("실시간 상태 변경: {} - ONGOING → DONE (종료: {})", appointmentId, END_TIME);
+        }
+        logger.info("ONGOING → DONE 배치 변경 완료: {}개 약속", appointmentIds.size());
+    }
+    
+    @Benchmark
+    public void summary() {
+        for (String appointmentId : appointmentIds) {
+            logger.debug("실시간 상태 변경: {} - ONGOING → DONE (종료: {})", appointmentId, END_TIME);
+        }
+        logger.info("{} 배치 변경 완료: {}개 약속 (대상 {}개, 예: {})", "ONGOING → DONE", appointmentIds.size(),
+                appointmentIds.size(), appointmentIds.subList(0, 5));
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.appointment.admission;
+
+import com.example.appointment.dto.ErrorResponse;
+import com.example.appointment.support.AdaptiveConcurrencyLimiter;
+import com.example.appointment.support.TokenBucket;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클라이언트별 요청 속도 제한 및 과부하 시 요청 차단
+ * - 클라이언트(등록된 API 키의 클라이언트, 없으면 원격 주소 - ClientIdentityResolver)마다 토큰 버킷을 두고
+ *   엔드포인트 비용(@RequestCost)만큼 소비, 부족하면 429
+ * - 클라이언트 상태는 최대 개수를 넘으면 오래 쓰지 않은 것부터 제거함 (원격 주소가 많아도 메모리 상한 유지)
+ * - 전체 동시 처리 수는 응답 지연에 따라 AIMD로 조정되는 제한을 넘으면 503으로 차단
+ * - 메트릭: appointment.admission.requests{client, outcome=accepted|rate_limited|shed},
+ *   appointment.admission.concurrency.limit, appointment.admission.concurrency.in_flight
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+    
+    private static final String START_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".start";
+    private static final String ANONYMOUS_TAG = "anonymous";
+    
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final ClientIdentityResolver clientIdentityResolver;
+    
+    @Value("${appointment.admission.enabled:true}")
+    private final boolean enabled;
+    
+    @Value("${appointment.admission.rate.tokens-per-second:50}")
+    private final double tokensPerSecond;
+    
+    @Value("${appointment.admission.rate.burst:100}")
+    private final long burst;
+    
+    @Value("${appointment.admission.concurrency.initial-limit:64}")
+    private final int initialLimit;
+    
+    @Value("${appointment.admission.concurrency.min-limit:8}")
+    private final int minLimit;
+    
+    @Value("${appointment.admission.concurrency.max-limit:400}")
+    private final int maxLimit;
+    
+    @Value("${appointment.admission.concurrency.target-latency-ms:250}")
+    private final long targetLatencyMillis;
+    
+    @Value("${appointment.admission.concurrency.backoff-ratio:0.9}")
+    private final double backoffRatio;
+    
+    @Value("${appointment.admission.max-clients:100000}")
+    private final long maxClients;
+    
+    private Cache<String, ClientState> clients;
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+    
+    @PostConstruct
+    void start() {
+        clients = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .build();
+        concurrencyLimiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit,
+                TimeUnit.MILLISECONDS.toNanos(targetLatencyMillis), backoffRatio);
+        Gauge.builder("appointment.admission.concurrency.limit", concurrencyLimiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("현재 동시 처리 제한")
+                .register(meterRegistry);
+        Gauge.builder("appointment.admission.concurrency.in_flight", concurrencyLimiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("처리 중인 요청 수")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        // 비동기 재디스패치는 최초 요청에서 이미 허용됨
+        if (!enabled || !(handler instanceof HandlerMethod handlerMethod)
+                || request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        
+        ClientState client = clients.get(clientIdentityResolver.resolve(request), this::newClientState);
+        long waitNanos = client.bucket.tryAcquire(cost(handlerMethod, request));
+        if (waitNanos > 0) {
+            client.rateLimited.increment();
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, retryAfterSeconds,
+                    new ErrorResponse("TooManyRequests", "Rate limit exceeded, retry after " + retryAfterSeconds + "s"));
+            return false;
+        }
+        
+        if (!concurrencyLimiter.tryAcquire()) {
+            client.shed.increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, 1,
+                    new ErrorResponse("ServiceUnavailable", "Server is overloaded, please retry"));
+            return false;
+        }
+        
+        client.accepted.increment();
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+    
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object started = request.getAttribute(START_ATTRIBUTE);
+        if (started instanceof Long startNanos) {
+            request.removeAttribute(START_ATTRIBUTE);
+            concurrencyLimiter.release(System.nanoTime() - startNanos);
+        }
+    }
+    
+    /**
+     * 가득 찬(한동안 요청이 없던) 클라이언트 버킷 제거 - 다시 요청하면 같은 상태로 새로 생성됨
+     */
+    @Scheduled(fixedDelayString = "${appointment.admission.eviction-interval-ms:60000}")
+    public void evictIdleClients() {
+        clients.asMap().values().removeIf(client -> client.bucket.isFull());
+    }
+    
+    static int cost(HandlerMethod handlerMethod, HttpServletRequest request) {
+        RequestCost cost = handlerMethod.getMethodAnnotation(RequestCost.class);
+        if (cost == null) {
+            return 1;
+        }
+        if (cost.unfiltered() > 0 && request.getParameterMap().isEmpty()) {
+            return cost.unfiltered();
+        }
+        return cost.value();
+    }
+    
+    private ClientState newClientState(String clientKey) {
+        return new ClientState(new TokenBucket(tokensPerSecond, burst), metricTag(clientKey));
+    }
+    
+    private static String metricTag(String clientKey) {
+        // 원격 주소 기반 익명 클라이언트는 태그를 묶어 메트릭 카디널리티 제한 (등록 클라이언트 수는 설정으로 제한됨)
+        return ClientIdentityResolver.isAnonymous(clientKey) ? ANONYMOUS_TAG : clientKey;
+    }
+    
+    private void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds,
+                        ErrorResponse body) throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+    
+    private class ClientState {
+        
+        private final TokenBucket bucket;
+        private final Counter accepted;
+        private final Counter rateLimited;
+        private final Counter shed;
+        
+        private ClientState(TokenBucket bucket, String tag) {
+            this.bucket = bucket;
+            this.accepted = counter(tag, "accepted");
+            this.rateLimited = counter(tag, "rate_limited");
+            this.shed = counter(tag, "shed");
+        }
+        
+        private Counter counter(String tag, String outcome) {
+            return Counter.builder("appointment.admission.requests")
+                    .tag("client", tag)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.appointment.admission;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 클라이언트 식별 (속도 제한 / Idempotency-Key 범위 구분용)
+ * - X-API-Key가 설정된 클라이언트 키(appointment.admission.client-keys, "이름:키" 목록)와 일치하면 그 클라이언트 이름
+ * - 속도 제한: 키가 없거나 등록되지 않은 키면 원격 주소 (프록시 뒤에서는 server.forward-headers-strategy로 신뢰 프록시만 반영)
+ *   검증되지 않은 헤더 값으로는 식별자를 만들지 않으므로 헤더를 바꿔 가며 제한을 피하거나 식별자를 무한히 늘릴 수 없음
+ * - Idempotency-Key 범위: 등록되지 않은 클라이언트는 원격 주소 대신 클라이언트가 설치 시 만들어 보관하는 X-Installation-Id
+ *   (원격 주소는 재시도 중 바뀔 수 있고 프록시 뒤에서는 여러 클라이언트가 공유하므로 범위로 쓰지 않음)
+ */
+@Component
+@Slf4j
+public class ClientIdentityResolver {
+    
+    public static final String API_KEY_HEADER = "X-API-Key";
+    private static final String CLIENT_PREFIX = "client-";
+    private static final String ADDRESS_PREFIX = "ip-";
+    
+    public static final String INSTALLATION_ID_HEADER = "X-Installation-Id";
+    private static final String INSTALLATION_PREFIX = "install-";
+    // UUID 등 추측할 수 없는 값이어야 함 (같은 설치 ID와 키를 알면 그 응답을 재사용할 수 있음)
+    private static final Pattern INSTALLATION_ID = Pattern.compile("[A-Za-z0-9_-]{16,64}");
+    
+    // SHA-256(API 키) → 클라이언트 이름 (키 원문은 메모리에 남기지 않음)
+    private final Map<String, String> clientsByKeyDigest;
+    
+    public ClientIdentityResolver(@Value("${appointment.admission.client-keys:}") List<String> clientKeys) {
+        Map<String, String> clients = new HashMap<>();
+        for (String entry : clientKeys) {
+            int separator = entry.indexOf(':');
+            if (separator <= 0 || separator == entry.length() - 1) {
+                log.warn("잘못된 클라이언트 키 설정 무시 (이름:키 형식이어야 함)");
+                continue;
+            }
+            clients.put(digest(entry.substring(separator + 1).trim()), entry.substring(0, separator).trim());
+        }
+        this.clientsByKeyDigest = Map.copyOf(clients);
+    }
+    
+    /**
+     * 요청의 클라이언트 식별자 (client-{이름} 또는 ip-{원격 주소})
+     */
+    public String resolve(HttpServletRequest request) {
+        String client = registeredClient(request);
+        return client != null ? client : ADDRESS_PREFIX + request.getRemoteAddr();
+    }
+    
+    /**
+     * 요청의 Idempotency-Key 범위 (client-{이름} 또는 install-{설치 ID})
+     * 설치 ID는 자기 키의 범위만 정하므로 검증하지 않음 - 바꿔 보내면 이전 키와 구분될 뿐임
+     * @return 등록된 클라이언트가 아니고 올바른 설치 ID도 없으면 null
+     */
+    public String resolveIdempotencyScope(HttpServletRequest request) {
+        String client = registeredClient(request);
+        if (client != null) {
+            return client;
+        }
+        String installationId = request.getHeader(INSTALLATION_ID_HEADER);
+        if (installationId != null && INSTALLATION_ID.matcher(installationId).matches()) {
+            return INSTALLATION_PREFIX + installationId;
+        }
+        return null;
+    }
+    
+    private String registeredClient(HttpServletRequest request) {
+        String apiKey = request.getHeader(API_KEY_HEADER);
+        if (apiKey == null || apiKey.isBlank()) {
+            return null;
+        }
+        String client = clientsByKeyDigest.get(digest(apiKey.trim()));
+        return client != null ? CLIENT_PREFIX + client : null;
+    }
+    
+    /**
+     * 등록된 클라이언트가 아닌 원격 주소 기반 식별자인지
+     */
+    public static boolean isAnonymous(String identity) {
+        return identity.startsWith(ADDRESS_PREFIX);
+    }
+    
+    private static String digest(String apiKey) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(apiKey.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
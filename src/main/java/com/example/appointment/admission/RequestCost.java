@@ -0,0 +1,24 @@
+package com.example.appointment.admission;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 요청당 소비 토큰 수 (지정하지 않은 엔드포인트는 1)
+ * 목록 조회처럼 DB/외부 서비스 부하가 큰 엔드포인트에 더 큰 값을 지정
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequestCost {
+    
+    int value() default 1;
+    
+    /**
+     * 쿼리 파라미터(필터)가 하나도 없는 요청의 비용 (0이면 value 사용)
+     */
+    int unfiltered() default 0;
+}
@@ -1,15 +1,20 @@
 package com.example.appointment.client;
 
+import com.example.appointment.config.WebClientConfig;
 import com.example.appointment.dto.ApiResponse;
 import com.example.appointment.dto.GuestResponse;
+import com.example.appointment.support.LogSampler;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Guest 서비스 클라이언트!!!
@@ -19,59 +24,99 @@ import java.util.List;
 @Slf4j
 public class GuestServiceClient {
     
+    // GuestService 장애 시 요청마다 스택 트레이스가 쌓이지 않도록 실패 로그는 호출 위치별 초당 5건으로 제한
+    private static final LogSampler BY_APPOINTMENT_FAILURE_LOG = LogSampler.perSecond(5);
+    private static final LogSampler BY_USER_FAILURE_LOG = LogSampler.perSecond(5);
+    private static final LogSampler BY_USER_AND_STATUS_FAILURE_LOG = LogSampler.perSecond(5);
+    
     private final WebClient.Builder webClientBuilder;
     
     @Value("${services.guest.url}")
-    private String guestServiceUrl;
+    private final String guestServiceUrl;
     
     @Value("${services.guest.api-key}")
-    private String apiKey;
+    private final String apiKey;
+    
+    // true면 CBOR 응답을 우선 요청 (원격 미지원 시 JSON)
+    @Value("${services.guest.binary-format:false}")
+    private final boolean binaryFormat;
+    
+    private WebClient webClient;
     
     /**
-     * 약속 ID로 Guest 목록 조회
+     * WebClient는 한 번만 생성하여 재사용 (공용 빌더는 복제 후 설정)
      */
-    public List<GuestResponse> getGuestsByAppointmentId(String appointmentId) {
-        log.info("GuestService에서 Guest 정보 조회 시작 - appointmentId: {}", appointmentId);
-        
-        WebClient webClient = webClientBuilder
+    @PostConstruct
+    void init() {
+        WebClient.Builder builder = webClientBuilder.clone()
                 .baseUrl(guestServiceUrl)
                 .defaultHeader("X-API-Key", apiKey)
-                .defaultHeader("User-Agent", "appointment-service/1.0")
-                .build();
-        
+                .defaultHeader("User-Agent", "appointment-service/1.0");
+        if (binaryFormat) {
+            builder.defaultHeader(HttpHeaders.ACCEPT, WebClientConfig.BINARY_PREFERRED_ACCEPT);
+        }
+        webClient = builder.build();
+    }
+    
+    /**
+     * 약속 ID로 Guest 목록 조회 (실패 시 빈 목록)
+     */
+    public List<GuestResponse> getGuestsByAppointmentId(String appointmentId) {
         try {
-            ApiResponse<List<GuestResponse>> apiResponse = webClient
-                    .get()
-                    // .uri("/guests/appointment/{appointmentId}", appointmentId)
-                    .uri("/appointments/{appointmentId}/guests", appointmentId)
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<ApiResponse<List<GuestResponse>>>() {})
-                    .block();
-            
-            List<GuestResponse> guestResponses = apiResponse != null ? apiResponse.getData() : List.of();
-            
-            log.info("GuestService에서 Guest 정보 조회 완료 - appointmentId: {}, guestCount: {}", 
-                    appointmentId, guestResponses.size());
-            
-            return guestResponses;
-            
+            return fetchGuestsByAppointmentId(appointmentId);
         } catch (Exception e) {
-            log.error("GuestService에서 Guest 정보 조회 실패 - appointmentId: {}", appointmentId, e);
+            if (BY_APPOINTMENT_FAILURE_LOG.tryAcquire()) {
+                log.error("GuestService에서 Guest 정보 조회 실패 - appointmentId: {} (생략된 유사 로그 {}건)",
+                        appointmentId, BY_APPOINTMENT_FAILURE_LOG.drainSuppressed(), e);
+            }
             return List.of(); // 빈 리스트 반환
         }
     }
     
+    /**
+     * 약속 ID로 Guest 목록 조회 - 실패 시 예외를 그대로 전파 (캐시 로더용, 실패 결과를 캐시하지 않도록)
+     */
+    public List<GuestResponse> fetchGuestsByAppointmentId(String appointmentId) {
+        log.debug("GuestService에서 Guest 정보 조회 시작 - appointmentId: {}", appointmentId);
+        
+        ApiResponse<List<GuestResponse>> apiResponse = webClient
+                .get()
+                // .uri("/guests/appointment/{appointmentId}", appointmentId)
+                .uri("/appointments/{appointmentId}/guests", appointmentId)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<ApiResponse<List<GuestResponse>>>() {})
+                .block();
+        
+        List<GuestResponse> guestResponses = apiResponse != null && apiResponse.getData() != null
+                ? apiResponse.getData() : List.of();
+        
+        log.debug("GuestService에서 Guest 정보 조회 완료 - appointmentId: {}, guestCount: {}", 
+                appointmentId, guestResponses.size());
+        
+        return guestResponses;
+    }
+    
+    /**
+     * 약속 ID로 Guest 목록 비동기 조회 - 실패 시 future가 예외로 완료 (캐시 일괄 로더에서 약속별 동시 조회용)
+     */
+    public CompletableFuture<List<GuestResponse>> fetchGuestsByAppointmentIdAsync(String appointmentId) {
+        log.debug("GuestService에서 Guest 정보 비동기 조회 시작 - appointmentId: {}", appointmentId);
+        
+        return webClient
+                .get()
+                .uri("/appointments/{appointmentId}/guests", appointmentId)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<ApiResponse<List<GuestResponse>>>() {})
+                .map(apiResponse -> apiResponse.getData() != null ? apiResponse.getData() : List.<GuestResponse>of())
+                .defaultIfEmpty(List.of())
+                .toFuture();
+    }
+    
     /**
      * 사용자 ID로 Guest 목록 조회
      */
     public List<GuestResponse> getGuestsByUserId(String userId) {
-        log.info("GuestService에서 사용자별 Guest 정보 조회 시작 - userId: {}", userId);
-        
-        WebClient webClient = webClientBuilder
-                .baseUrl(guestServiceUrl)
-                .defaultHeader("X-API-Key", apiKey)
-                .defaultHeader("User-Agent", "appointment-service/1.0")
-                .build();
+        log.debug("GuestService에서 사용자별 Guest 정보 조회 시작 - userId: {}", userId);
         
         try {
             List<GuestResponse> guestResponses = webClient
@@ -81,45 +126,74 @@ public class GuestServiceClient {
                     .bodyToMono(new ParameterizedTypeReference<List<GuestResponse>>() {})
                     .block();
             
-            log.info("GuestService에서 사용자별 Guest 정보 조회 완료 - userId: {}, guestCount: {}", 
+            log.debug("GuestService에서 사용자별 Guest 정보 조회 완료 - userId: {}, guestCount: {}", 
                     userId, guestResponses != null ? guestResponses.size() : 0);
             
             return guestResponses != null ? guestResponses : List.of();
             
         } catch (Exception e) {
-            log.error("GuestService에서 사용자별 Guest 정보 조회 실패 - userId: {}", userId, e);
+            if (BY_USER_FAILURE_LOG.tryAcquire()) {
+                log.error("GuestService에서 사용자별 Guest 정보 조회 실패 - userId: {} (생략된 유사 로그 {}건)",
+                        userId, BY_USER_FAILURE_LOG.drainSuppressed(), e);
+            }
             return List.of(); // 빈 리스트 반환
         }
     }
     
     /**
-     * 사용자 ID와 상태로 Guest 목록 조회
+     * 사용자 ID와 상태로 Guest 목록 조회 (실패 시 빈 목록)
      */
     public List<GuestResponse> getGuestsByUserIdAndStatus(String userId, String status) {
-        log.info("GuestService에서 사용자별 상태별 Guest 정보 조회 시작 - userId: {}, status: {}", userId, status);
-        
-        WebClient webClient = webClientBuilder
-                .baseUrl(guestServiceUrl)
-                .defaultHeader("X-API-Key", apiKey)
-                .defaultHeader("User-Agent", "appointment-service/1.0")
-                .build();
-        
         try {
-            List<GuestResponse> guestResponses = webClient
-                    .get()
-                    .uri("/appointments/guests/user/{userId}/status/{status}", userId, status)
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<List<GuestResponse>>() {})
-                    .block();
-            
-            log.info("GuestService에서 사용자별 상태별 Guest 정보 조회 완료 - userId: {}, status: {}, guestCount: {}", 
-                    userId, status, guestResponses != null ? guestResponses.size() : 0);
-            
-            return guestResponses != null ? guestResponses : List.of();
-            
+            return fetchGuestsByUserIdAndStatus(userId, status);
         } catch (Exception e) {
-            log.error("GuestService에서 사용자별 상태별 Guest 정보 조회 실패 - userId: {}, status: {}", userId, status, e);
+            if (BY_USER_AND_STATUS_FAILURE_LOG.tryAcquire()) {
+                log.error("GuestService에서 사용자별 상태별 Guest 정보 조회 실패 - userId: {}, status: {} (생략된 유사 로그 {}건)",
+                        userId, status, BY_USER_AND_STATUS_FAILURE_LOG.drainSuppressed(), e);
+            }
             return List.of(); // 빈 리스트 반환
         }
     }
+    
+    /**
+     * 사용자 ID와 상태로 Guest 목록 조회 - 실패 시 예외를 그대로 전파 (캐시 로더용)
+     */
+    public List<GuestResponse> fetchGuestsByUserIdAndStatus(String userId, String status) {
+        log.debug("GuestService에서 사용자별 상태별 Guest 정보 조회 시작 - userId: {}, status: {}", userId, status);
+        
+        List<GuestResponse> guestResponses = webClient
+                .get()
+                .uri("/appointments/guests/user/{userId}/status/{status}", userId, status)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<List<GuestResponse>>() {})
+                .block();
+        
+        log.debug("GuestService에서 사용자별 상태별 Guest 정보 조회 완료 - userId: {}, status: {}, guestCount: {}", 
+                userId, status, guestResponses != null ? guestResponses.size() : 0);
+        
+        return guestResponses != null ? guestResponses : List.of();
+    }
+    
+    /**
+     * 상태별 Guest 목록 페이지 조회 - 실패 시 예외를 그대로 전파 (참여자 인덱스 일괄 재동기화용)
+     * 오프셋 페이지라서 조회 중 Guest 변경이 있으면 행을 건너뛰거나 중복해서 받을 수 있음 - 호출 측에서 빠진 행을 사용자 단위로 재확인해야 함
+     */
+    public List<GuestResponse> fetchGuestsPageByStatus(String status, int page, int size) {
+        log.debug("GuestService에서 상태별 Guest 페이지 조회 시작 - status: {}, page: {}, size: {}", status, page, size);
+        
+        ApiResponse<List<GuestResponse>> apiResponse = webClient
+                .get()
+                .uri("/appointments/guests/status/{status}?page={page}&size={size}", status, page, size)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<ApiResponse<List<GuestResponse>>>() {})
+                .block();
+        
+        List<GuestResponse> guestResponses = apiResponse != null && apiResponse.getData() != null
+                ? apiResponse.getData() : List.of();
+        
+        log.debug("GuestService에서 상태별 Guest 페이지 조회 완료 - status: {}, page: {}, guestCount: {}",
+                status, page, guestResponses.size());
+        
+        return guestResponses;
+    }
 }
@@ -1,14 +1,19 @@
 package com.example.appointment.client;
 
+import com.example.appointment.config.WebClientConfig;
 import com.example.appointment.dto.ApiResponse;
 import com.example.appointment.dto.UserResponse;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.util.concurrent.CompletableFuture;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -17,19 +22,34 @@ public class UserServiceClient {
     private final WebClient.Builder webClientBuilder;
     
     @Value("${services.user.url}")
-    private String userServiceUrl;
+    private final String userServiceUrl;
     
     @Value("${services.user.api-key}")
-    private String apiKey;
+    private final String apiKey;
     
-    public UserResponse getUserById(String userId) {
-        log.info("UserService에서 사용자 정보 조회 시작 - userId: {}", userId);
-        
-        WebClient webClient = webClientBuilder
+    // true면 CBOR 응답을 우선 요청 (원격 미지원 시 JSON)
+    @Value("${services.user.binary-format:false}")
+    private final boolean binaryFormat;
+    
+    private WebClient webClient;
+    
+    /**
+     * WebClient는 한 번만 생성하여 재사용 (공용 빌더는 복제 후 설정)
+     */
+    @PostConstruct
+    void init() {
+        WebClient.Builder builder = webClientBuilder.clone()
                 .baseUrl(userServiceUrl)
                 .defaultHeader("X-API-Key", apiKey)
-                .defaultHeader("User-Agent", "appointment-service/1.0")
-                .build();
+                .defaultHeader("User-Agent", "appointment-service/1.0");
+        if (binaryFormat) {
+            builder.defaultHeader(HttpHeaders.ACCEPT, WebClientConfig.BINARY_PREFERRED_ACCEPT);
+        }
+        webClient = builder.build();
+    }
+    
+    public UserResponse getUserById(String userId) {
+        log.debug("UserService에서 사용자 정보 조회 시작 - userId: {}", userId);
         
         ApiResponse<UserResponse> apiResponse = webClient
                 .get()
@@ -40,9 +60,25 @@ public class UserServiceClient {
         
         UserResponse userResponse = apiResponse.getData();
         
-        log.info("UserService에서 사용자 정보 조회 완료 - userId: {}, username: {}", 
+        log.debug("UserService에서 사용자 정보 조회 완료 - userId: {}, username: {}", 
                 userId, userResponse != null ? userResponse.getUsername() : "null");
         
         return userResponse;
     }
+    
+    /**
+     * 사용자 정보 비동기 조회 - 호출 스레드를 블로킹하지 않음
+     * 반환된 future를 취소하면 진행 중인 HTTP 요청도 취소됨
+     */
+    public CompletableFuture<UserResponse> getUserByIdAsync(String userId) {
+        log.debug("UserService에서 사용자 정보 비동기 조회 시작 - userId: {}", userId);
+        
+        return webClient
+                .get()
+                .uri("/users/{userId}", userId)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<ApiResponse<UserResponse>>() {})
+                .mapNotNull(ApiResponse::getData)
+                .toFuture();
+    }
 }
\ No newline at end of file
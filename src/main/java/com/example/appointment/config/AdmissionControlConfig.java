@@ -0,0 +1,27 @@
+package com.example.appointment.config;
+
+import com.example.appointment.admission.AdmissionControlInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 약속 API 요청 속도 제한 / 과부하 차단 인터셉터 등록
+ * SSE 구독(장기 연결)은 동시 처리 제한을 계속 점유하므로 대상에서 제외
+ */
+@Configuration
+public class AdmissionControlConfig implements WebMvcConfigurer {
+    
+    private final AdmissionControlInterceptor admissionControlInterceptor;
+    
+    public AdmissionControlConfig(AdmissionControlInterceptor admissionControlInterceptor) {
+        this.admissionControlInterceptor = admissionControlInterceptor;
+    }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(admissionControlInterceptor)
+                .addPathPatterns("/appointments/**")
+                .excludePathPatterns("/appointments/events/**", "/appointments/status-stream/**");
+    }
+}
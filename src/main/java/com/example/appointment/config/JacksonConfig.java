@@ -0,0 +1,18 @@
+package com.example.appointment.config;
+
+import com.example.appointment.json.AppointmentJsonModule;
+import com.fasterxml.jackson.databind.Module;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+    
+    /**
+     * 응답 DTO 스트리밍 직렬화 모듈 (Boot ObjectMapper에 자동 등록)
+     */
+    @Bean
+    public Module appointmentJsonModule() {
+        return new AppointmentJsonModule();
+    }
+}
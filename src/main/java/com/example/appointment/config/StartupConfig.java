@@ -0,0 +1,89 @@
+package com.example.appointment.config;
+
+import com.example.appointment.dto.ApiResponse;
+import com.example.appointment.dto.AppointmentRequestDto;
+import com.example.appointment.dto.AppointmentResponseDto;
+import com.example.appointment.dto.AppointmentSeriesRequestDto;
+import com.example.appointment.dto.AppointmentSeriesResponseDto;
+import com.example.appointment.dto.AppointmentStatisticsDto;
+import com.example.appointment.dto.AppointmentStatusFeedbackDto;
+import com.example.appointment.dto.AppointmentStatusPushDto;
+import com.example.appointment.dto.AppointmentStatusUpdateDto;
+import com.example.appointment.dto.CalendarPageDto;
+import com.example.appointment.dto.ErrorResponse;
+import com.example.appointment.dto.FeedbackCompleteRequestDto;
+import com.example.appointment.dto.FeedbackCompleteResponseDto;
+import com.example.appointment.dto.FeedbackPendingDto;
+import com.example.appointment.dto.GuestInfo;
+import com.example.appointment.dto.GuestResponse;
+import com.example.appointment.dto.LocationAvailabilityDto;
+import com.example.appointment.dto.LocationAvailabilityRequestDto;
+import com.example.appointment.dto.SeriesOccurrenceDto;
+import com.example.appointment.dto.TimeBucketCountDto;
+import com.example.appointment.dto.TimeIntervalDto;
+import com.example.appointment.dto.TimelineEntryDto;
+import com.example.appointment.dto.UserResponse;
+import com.example.appointment.event.AppointmentChangedEvent;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.Arrays;
+
+/**
+ * 빠른 기동 설정 (AOT / native-image / 지연 초기화)
+ * - ResponseEntity<?> 반환값, WebClient 응답, 아웃박스 페이로드처럼 AOT가 타입을 추론하지 못하는 JSON 바인딩 대상을 리플렉션 힌트로 등록
+ *   (엔티티와 리포지토리 프로젝션은 Spring Data JPA AOT 처리가 등록)
+ * - 지연 초기화(spring.main.lazy-initialization) 사용 시에도 @Scheduled 작업이 있는 빈은 즉시 생성
+ */
+@Configuration
+@RegisterReflectionForBinding({
+        ApiResponse.class,
+        AppointmentRequestDto.class,
+        AppointmentResponseDto.class,
+        AppointmentSeriesRequestDto.class,
+        AppointmentSeriesResponseDto.class,
+        AppointmentStatisticsDto.class,
+        AppointmentStatusFeedbackDto.class,
+        AppointmentStatusPushDto.class,
+        AppointmentStatusUpdateDto.class,
+        CalendarPageDto.class,
+        ErrorResponse.class,
+        FeedbackCompleteRequestDto.class,
+        FeedbackCompleteResponseDto.class,
+        FeedbackPendingDto.class,
+        GuestInfo.class,
+        GuestResponse.class,
+        LocationAvailabilityDto.class,
+        LocationAvailabilityRequestDto.class,
+        SeriesOccurrenceDto.class,
+        TimeBucketCountDto.class,
+        TimeIntervalDto.class,
+        TimelineEntryDto.class,
+        UserResponse.class,
+        AppointmentChangedEvent.class
+})
+public class StartupConfig {
+    
+    /**
+     * 스케줄 작업 빈은 지연 초기화하면 생성되지 않아 작업이 등록되지 않으므로 제외
+     * (@EventListener 빈은 첫 이벤트 시 생성되므로 지연 초기화해도 안전)
+     */
+    @Bean
+    static LazyInitializationExcludeFilter scheduledBeansLazyInitializationExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> hasScheduledMethods(beanType);
+    }
+    
+    static boolean hasScheduledMethods(Class<?> beanType) {
+        if (beanType == null || !AnnotationUtils.isCandidateClass(beanType, Scheduled.class)) {
+            return false;
+        }
+        return Arrays.stream(ReflectionUtils.getUniqueDeclaredMethods(beanType, ReflectionUtils.USER_DECLARED_METHODS))
+                .anyMatch(method -> AnnotatedElementUtils.hasAnnotation(method, Scheduled.class));
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.appointment.config;
+
+import com.example.appointment.support.RepositoryObservationInterceptor;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * 분산 트레이싱 설정 (Micrometer Tracing + OpenTelemetry)
+ * - HTTP 서버 요청, WebClient 호출(traceparent 전파 포함), @Scheduled 실행은 Boot 자동 구성으로 span 생성
+ * - 리포지토리 쿼리는 아래 후처리기가 모든 리포지토리 프록시에 관측 인터셉터를 추가하여 span 생성
+ */
+@Configuration
+public class TracingConfig {
+    
+    @Bean
+    static BeanPostProcessor repositoryObservationPostProcessor(ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(new RepositoryObservationInterceptor(
+                                    observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP),
+                                    repositoryInformation.getRepositoryInterface().getSimpleName()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
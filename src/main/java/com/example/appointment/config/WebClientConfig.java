@@ -1,14 +1,44 @@
 package com.example.appointment.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.netty.http.client.HttpClient;
 
 @Configuration
 public class WebClientConfig {
     
+    /**
+     * 바이너리 형식 사용 시 Accept 헤더 - 원격이 CBOR를 지원하지 않으면 JSON으로 응답받음
+     */
+    public static final String BINARY_PREFERRED_ACCEPT = "application/cbor, application/json;q=0.9";
+    
+    /**
+     * 공용 WebClient 빌더 설정 (클라이언트는 Boot가 제공하는 빌더를 clone() 후 설정하여 사용)
+     * - CBOR 응답 디코딩 지원, gzip 응답 압축 요청
+     * - 빌더를 직접 만들지 않고 커스터마이저로 적용하여 관측(트레이싱/메트릭) 설정과 trace context 전파를 유지
+     * - Boot 기본 커넥터 설정 이후에 적용되도록 가장 낮은 우선순위
+     */
     @Bean
-    public WebClient.Builder webClientBuilder() {
-        return WebClient.builder();
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public WebClientCustomizer appointmentWebClientCustomizer(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder) {
+        ObjectMapper cborMapper = objectMapperBuilder.getIfAvailable(Jackson2ObjectMapperBuilder::json)
+                .factory(new CBORFactory())
+                .build();
+        return builder -> builder
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create().compress(true)))
+                .codecs(codecs -> {
+                    codecs.customCodecs().register(new Jackson2CborDecoder(cborMapper));
+                    codecs.customCodecs().register(new Jackson2CborEncoder(cborMapper));
+                });
     }
-}
\ No newline at end of file
+}
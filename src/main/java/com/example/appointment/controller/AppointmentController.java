@@ -1,15 +1,30 @@
 package com.example.appointment.controller;
 
+import com.example.appointment.admission.ClientIdentityResolver;
+import com.example.appointment.admission.RequestCost;
 import com.example.appointment.dto.*;
 import com.example.appointment.entity.Appointment;
+import com.example.appointment.idempotency.IdempotencyStore;
+import com.example.appointment.index.AppointmentStatistics;
+import com.example.appointment.index.AppointmentVersionTracker;
+import com.example.appointment.repository.AppointmentVersionView;
+import com.example.appointment.service.AppointmentCalendarService;
+import com.example.appointment.service.AppointmentFeedbackService;
+import com.example.appointment.service.AppointmentSearchService;
 import com.example.appointment.service.AppointmentService;
+import com.example.appointment.service.LocationAvailabilityService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeParseException;
 import java.util.List;
 
@@ -22,14 +37,44 @@ import java.util.List;
 @Slf4j
 public class AppointmentController {
     
+    private static final int MAX_AVAILABILITY_LOCATIONS = 1000;
+    private static final int MAX_PARTICIPATING_PAGE_SIZE = 1000;
+    private static final int MAX_CALENDAR_PAGE_SIZE = 500;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_FEEDBACK_PAGE_SIZE = 100;
+    private static final int MAX_FEEDBACK_COMPLETE_IDS = 500;
+    
     private final AppointmentService appointmentService;
+    private final AppointmentCalendarService calendarService;
+    private final AppointmentSearchService searchService;
+    private final AppointmentFeedbackService feedbackService;
+    private final LocationAvailabilityService locationAvailabilityService;
+    private final AppointmentVersionTracker versionTracker;
+    private final AppointmentStatistics statistics;
+    private final IdempotencyStore idempotencyStore;
+    private final ClientIdentityResolver clientIdentityResolver;
     
     /**
-     * 약속 생성
+     * 약속 생성 (Idempotency-Key 헤더가 있으면 같은 클라이언트의 같은 키 재시도에 처음 응답을 반환)
      * POST /appointments
      */
     @PostMapping
-    public ResponseEntity<?> createAppointment(@RequestBody AppointmentRequestDto requestDto) {
+    @RequestCost(3)
+    public ResponseEntity<?> createAppointment(
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            @RequestBody AppointmentRequestDto requestDto,
+            HttpServletRequest request) {
+        try {
+            return idempotencyStore.execute(clientIdentityResolver.resolveIdempotencyScope(request), idempotencyKey,
+                "POST /appointments", requestDto, AppointmentResponseDto.class, () -> handleCreateAppointment(requestDto));
+        } catch (Exception e) {
+            log.error("Error processing idempotent appointment creation", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ErrorResponse("InternalError", "Failed to create appointment"));
+        }
+    }
+    
+    private ResponseEntity<?> handleCreateAppointment(AppointmentRequestDto requestDto) {
         try {
             // 요청 형식 검증
             if (requestDto == null) {
@@ -77,13 +122,20 @@ public class AppointmentController {
      * GET /appointments
      */
     @GetMapping
+    @RequestCost(value = 5, unfiltered = 20)
     public ResponseEntity<?> getAllAppointments(
             @RequestParam(required = false) String location_id,
             @RequestParam(required = false) String appointment_status,
             @RequestParam(required = false) String start_time,
-            @RequestParam(required = false) String end_time) {
+            @RequestParam(required = false) String end_time,
+            WebRequest webRequest) {
         
         try {
+            // 변경이 없으면 304 응답
+            if (isNotModified(webRequest, AppointmentVersionTracker.Scope.ALL, null)) {
+                return null;
+            }
+            
             // 필터링 파라미터가 있는 경우
             if (location_id != null || appointment_status != null || start_time != null || end_time != null) {
                 return getAppointmentsWithFilters(location_id, appointment_status, start_time, end_time);
@@ -104,13 +156,22 @@ public class AppointmentController {
      * GET /appointments/{appointment_id}
      */
     @GetMapping("/{appointment_id}")
-    public ResponseEntity<?> getAppointmentById(@PathVariable("appointment_id") String appointmentId) {
+    public ResponseEntity<?> getAppointmentById(@PathVariable("appointment_id") String appointmentId, WebRequest webRequest) {
         try {
             if (appointmentId == null || appointmentId.trim().isEmpty()) {
                 return ResponseEntity.badRequest()
                     .body(new ErrorResponse("InvalidRequest", "Appointment ID cannot be null or empty"));
             }
             
+            // 버전이 같으면 호스트 정보 조회/직렬화 없이 304 응답
+            AppointmentVersionView version = appointmentService.getAppointmentVersion(appointmentId);
+            if (version == null) {
+                return ResponseEntity.notFound().build();
+            }
+            if (isNotModified(webRequest, "appointment", appointmentId, version)) {
+                return null;
+            }
+            
             AppointmentResponseDto appointment = appointmentService.getAppointmentById(appointmentId);
             if (appointment == null) {
                 return ResponseEntity.notFound().build();
@@ -130,13 +191,18 @@ public class AppointmentController {
      * GET /appointments/host/{host_id}
      */
     @GetMapping("/host/{host_id}")
-    public ResponseEntity<?> getAppointmentsByHostId(@PathVariable("host_id") String hostId) {
+    @RequestCost(5)
+    public ResponseEntity<?> getAppointmentsByHostId(@PathVariable("host_id") String hostId, WebRequest webRequest) {
         try {
             if (hostId == null || hostId.trim().isEmpty()) {
                 return ResponseEntity.badRequest()
                     .body(new ErrorResponse("InvalidRequest", "Host ID cannot be null or empty"));
             }
             
+            if (isNotModified(webRequest, AppointmentVersionTracker.Scope.HOST, hostId)) {
+                return null;
+            }
+            
             List<AppointmentResponseDto> appointments = appointmentService.getAppointmentsByHostId(hostId);
             return ResponseEntity.ok(appointments);
             
@@ -148,20 +214,41 @@ public class AppointmentController {
     }
     
     /**
-     * 사용자가 참여중인 약속 목록 조회
-     * GET /appointments/participating/{user_id}
+     * 사용자가 참여중인 약속 목록 조회 (시작 시간 순)
+     * GET /appointments/participating/{user_id}?from={from}&to={to}&page={page}&size={size}
      */
     @GetMapping("/participating/{user_id}")
-    public ResponseEntity<?> getParticipatingAppointments(@PathVariable("user_id") String userId) {
+    @RequestCost(5)
+    public ResponseEntity<?> getParticipatingAppointments(
+            @PathVariable("user_id") String userId,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "500") int size) {
         try {
             if (userId == null || userId.trim().isEmpty()) {
                 return ResponseEntity.badRequest()
                     .body(new ErrorResponse("InvalidRequest", "User ID cannot be null or empty"));
             }
+            if (page < 0 || size < 1 || size > MAX_PARTICIPATING_PAGE_SIZE) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("InvalidRequest", "page must be >= 0 and size must be 1.." + MAX_PARTICIPATING_PAGE_SIZE));
+            }
+            
+            LocalDateTime fromTime = from != null ? LocalDateTime.parse(from) : null;
+            LocalDateTime toTime = to != null ? LocalDateTime.parse(to) : null;
+            if (fromTime != null && toTime != null && !fromTime.isBefore(toTime)) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("InvalidRequest", "from must be before to"));
+            }
             
-            List<AppointmentResponseDto> appointments = appointmentService.getParticipatingAppointments(userId);
+            List<AppointmentResponseDto> appointments = appointmentService.getParticipatingAppointments(
+                userId, fromTime, toTime, page, size);
             return ResponseEntity.ok(appointments);
             
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("InvalidRequest", "Invalid time format"));
         } catch (Exception e) {
             log.error("Error retrieving participating appointments for user: {}", userId, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -169,18 +256,68 @@ public class AppointmentController {
         }
     }
     
+    /**
+     * 사용자 캘린더 조회 - 주최 + 참여 약속을 시작 시간 순으로 병합 (keyset 커서 페이지)
+     * GET /appointments/calendar/{user_id}?from={from}&to={to}&cursor={cursor}&size={size}
+     */
+    @GetMapping("/calendar/{user_id}")
+    @RequestCost(5)
+    public ResponseEntity<?> getCalendar(
+            @PathVariable("user_id") String userId,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        try {
+            if (userId == null || userId.trim().isEmpty()) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("InvalidRequest", "User ID cannot be null or empty"));
+            }
+            if (size < 1 || size > MAX_CALENDAR_PAGE_SIZE) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("InvalidRequest", "size must be 1.." + MAX_CALENDAR_PAGE_SIZE));
+            }
+            
+            LocalDateTime fromTime = from != null ? LocalDateTime.parse(from) : null;
+            LocalDateTime toTime = to != null ? LocalDateTime.parse(to) : null;
+            if (fromTime != null && toTime != null && !fromTime.isBefore(toTime)) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("InvalidRequest", "from must be before to"));
+            }
+            
+            CalendarPageDto calendar = calendarService.getCalendar(userId, fromTime, toTime, cursor, size);
+            return ResponseEntity.ok(calendar);
+            
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("InvalidRequest", "Invalid time format"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("InvalidRequest", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error retrieving calendar for user: {}", userId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ErrorResponse("InternalError", "Failed to retrieve calendar"));
+        }
+    }
+    
     /**
      * 위치별 약속 목록 조회
      * GET /appointments/location/{location_id}
      */
     @GetMapping("/location/{location_id}")
-    public ResponseEntity<?> getAppointmentsByLocationId(@PathVariable("location_id") String locationId) {
+    @RequestCost(5)
+    public ResponseEntity<?> getAppointmentsByLocationId(@PathVariable("location_id") String locationId, WebRequest webRequest) {
         try {
             if (locationId == null || locationId.trim().isEmpty()) {
                 return ResponseEntity.badRequest()
                     .body(new ErrorResponse("InvalidRequest", "Location ID cannot be null or empty"));
             }
             
+            if (isNotModified(webRequest, AppointmentVersionTracker.Scope.LOCATION, locationId)) {
+                return null;
+            }
+            
             List<AppointmentResponseDto> appointments = appointmentService.getAppointmentsByLocationId(locationId);
             return ResponseEntity.ok(appointments);
             
@@ -191,11 +328,191 @@ public class AppointmentController {
         }
     }
     
+    /**
+     * 호스트의 구간별 약속 타임라인 조회
+     * GET /appointments/host/{host_id}/timeline?from={from}&to={to}
+     */
+    @GetMapping("/host/{host_id}/timeline")
+    @RequestCost(5)
+    public ResponseEntity<?> getHostTimeline(
+            @PathVariable("host_id") String hostId,
+            @RequestParam String from,
+            @RequestParam String to,
+            WebRequest webRequest) {
+        try {
+            if (hostId == null || hostId.trim().isEmpty()) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("InvalidRequest", "Host ID cannot be null or empty"));
+            }
+            
+            if (isNotModified(webRequest, AppointmentVersionTracker.Scope.HOST, hostId)) {
+                return null;
+            }
+            
+            LocalDateTime fromTime = LocalDateTime.parse(from);
+            LocalDateTime toTime = LocalDateTime.parse(to);
+            if (!fromTime.isBefore(toTime)) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("InvalidRequest", "from must be before to"));
+            }
+            
+            List<TimelineEntryDto> timeline = appointmentService.getHostTimeline(hostId, fromTime, toTime);
+            return ResponseEntity.ok(timeline);
+            
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("InvalidRequest", "Invalid time format"));
+        } catch (Exception e) {
+            log.error("Error retrieving timeline for host: {}", hostId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ErrorResponse("InternalError", "Failed to retrieve timeline for host"));
+        }
+    }
+    
+    /**
+     * 약속 제목/설명 키워드 검색 (관련도 순)
+     * GET /appointments/search?q={keywords}&location_id={location_id}&appointment_status={status}&from={from}&to={to}&page={page}&size={size}
+     */
+    @GetMapping("/search")
+    @RequestCost(5)
+    public ResponseEntity<?> searchAppointments(
+            @RequestParam String q,
+            @RequestParam(required = false) String location_id,
+            @RequestParam(required = false) String appointment_status,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            if (page < 0 || size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("InvalidRequest", "page must be >= 0 and size must be 1.." + MAX_SEARCH_PAGE_SIZE));
+            }
+            
+            Appointment.AppointmentStatus status = null;
+            if (appointment_status != null && !appointment_status.trim().isEmpty()) {
+                try {
+                    status = Appointment.AppointmentStatus.valueOf(appointment_status.toUpperCase());
+                } catch (IllegalArgumentException e) {
+                    return ResponseEntity.badRequest()
+                        .body(new ErrorResponse("InvalidRequest", "Invalid appointment status"));
+                }
+            }
+            
+            LocalDateTime fromTime = from != null ? LocalDateTime.parse(from) : null;
+            LocalDateTime toTime = to != null ? LocalDateTime.parse(to) : null;
+            if (fromTime != null && toTime != null && !fromTime.isBefore(toTime)) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("InvalidRequest", "from must be before to"));
+            }
+            
+            List<AppointmentResponseDto> appointments = searchService.search(
+                q, location_id, status, fromTime, toTime, page, size);
+            return ResponseEntity.ok(appointments);
+            
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("InvalidRequest", "Invalid time format"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("InvalidRequest", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error searching appointments", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ErrorResponse("InternalError", "Failed to search appointments"));
+        }
+    }
+    
+    /**
+     * 약속 통계 조회 (상태별/장소별/호스트별/시작 날짜별 건수, 보관된 약속 포함)
+     * GET /appointments/statistics?from={yyyy-MM-dd}&to={yyyy-MM-dd}
+     */
+    @GetMapping("/statistics")
+    public ResponseEntity<?> getStatistics(
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        try {
+            LocalDate fromDate = from != null ? LocalDate.parse(from) : null;
+            LocalDate toDate = to != null ? LocalDate.parse(to) : null;
+            if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("InvalidRequest", "from must not be after to"));
+            }
+            
+            return ResponseEntity.ok(statistics.snapshot(fromDate, toDate));
+            
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("InvalidRequest", "Invalid date format"));
+        } catch (Exception e) {
+            log.error("Error retrieving appointment statistics", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ErrorResponse("InternalError", "Failed to retrieve appointment statistics"));
+        }
+    }
+    
+    /**
+     * 장소에서 현재 진행 중인 약속 조회
+     * GET /appointments/location/{location_id}/now
+     */
+    @GetMapping("/location/{location_id}/now")
+    public ResponseEntity<?> getActiveAppointmentsAtLocation(@PathVariable("location_id") String locationId) {
+        try {
+            if (locationId == null || locationId.trim().isEmpty()) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("InvalidRequest", "Location ID cannot be null or empty"));
+            }
+            
+            List<TimelineEntryDto> appointments = appointmentService.getActiveAppointmentsAtLocation(locationId);
+            return ResponseEntity.ok(appointments);
+            
+        } catch (Exception e) {
+            log.error("Error retrieving active appointments for location: {}", locationId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ErrorResponse("InternalError", "Failed to retrieve active appointments for location"));
+        }
+    }
+    
+    /**
+     * 장소별 빈 시간대 및 사용률 조회
+     * POST /appointments/availability
+     */
+    @PostMapping("/availability")
+    @RequestCost(5)
+    public ResponseEntity<?> getLocationAvailability(@RequestBody LocationAvailabilityRequestDto requestDto) {
+        try {
+            if (requestDto == null || requestDto.getLocationIds() == null || requestDto.getLocationIds().isEmpty()) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("InvalidRequest", "Location IDs cannot be null or empty"));
+            }
+            
+            if (requestDto.getLocationIds().size() > MAX_AVAILABILITY_LOCATIONS) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("InvalidRequest", "Too many location IDs (max " + MAX_AVAILABILITY_LOCATIONS + ")"));
+            }
+            
+            if (requestDto.getFrom() == null || requestDto.getTo() == null || !requestDto.getFrom().isBefore(requestDto.getTo())) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("InvalidRequest", "from must be before to"));
+            }
+            
+            List<LocationAvailabilityDto> availability = locationAvailabilityService.getAvailability(
+                requestDto.getLocationIds(), requestDto.getFrom(), requestDto.getTo());
+            return ResponseEntity.ok(availability);
+            
+        } catch (Exception e) {
+            log.error("Error calculating location availability", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ErrorResponse("InternalError", "Failed to calculate location availability"));
+        }
+    }
+    
     /**
      * 시작 시간별 약속 목록 조회
      * GET /appointments/start-time/{start_time}
      */
     @GetMapping("/start-time/{start_time}")
+    @RequestCost(5)
     public ResponseEntity<?> getAppointmentsByStartTime(@PathVariable("start_time") String startTimeStr) {
         try {
             if (startTimeStr == null || startTimeStr.trim().isEmpty()) {
@@ -222,6 +539,7 @@ public class AppointmentController {
      * GET /appointments/end-time/{end_time}
      */
     @GetMapping("/end-time/{end_time}")
+    @RequestCost(5)
     public ResponseEntity<?> getAppointmentsByEndTime(@PathVariable("end_time") String endTimeStr) {
         try {
             if (endTimeStr == null || endTimeStr.trim().isEmpty()) {
@@ -243,18 +561,97 @@ public class AppointmentController {
         }
     }
     
+    /**
+     * 시작 시간 범위 약속 목록 조회
+     * GET /appointments/start-time?from={from}&to={to}
+     */
+    @GetMapping("/start-time")
+    @RequestCost(5)
+    public ResponseEntity<?> getAppointmentsByStartTimeRange(@RequestParam String from, @RequestParam String to,
+                                                             WebRequest webRequest) {
+        return getAppointmentsInTimeRange(AppointmentService.TimeField.START_TIME, from, to, webRequest);
+    }
+    
+    /**
+     * 종료 시간 범위 약속 목록 조회
+     * GET /appointments/end-time?from={from}&to={to}
+     */
+    @GetMapping("/end-time")
+    @RequestCost(5)
+    public ResponseEntity<?> getAppointmentsByEndTimeRange(@RequestParam String from, @RequestParam String to,
+                                                           WebRequest webRequest) {
+        return getAppointmentsInTimeRange(AppointmentService.TimeField.END_TIME, from, to, webRequest);
+    }
+    
+    /**
+     * 시간 구간별 약속 건수 집계
+     * GET /appointments/histogram?field={start_time|end_time}&bucket={hour|day}&from={from}&to={to}
+     */
+    @GetMapping("/histogram")
+    @RequestCost(5)
+    public ResponseEntity<?> getTimeHistogram(
+            @RequestParam(defaultValue = "start_time") String field,
+            @RequestParam(defaultValue = "day") String bucket,
+            @RequestParam String from,
+            @RequestParam String to,
+            WebRequest webRequest) {
+        
+        try {
+            if (isNotModified(webRequest, AppointmentVersionTracker.Scope.ALL, null)) {
+                return null;
+            }
+            
+            AppointmentService.TimeField timeField;
+            AppointmentService.HistogramBucket histogramBucket;
+            try {
+                timeField = AppointmentService.TimeField.valueOf(field.toUpperCase());
+                histogramBucket = AppointmentService.HistogramBucket.valueOf(bucket.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("InvalidRequest", "Invalid histogram field or bucket"));
+            }
+            
+            LocalDateTime fromTime = LocalDateTime.parse(from);
+            LocalDateTime toTime = LocalDateTime.parse(to);
+            if (!fromTime.isBefore(toTime)) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("InvalidRequest", "from must be before to"));
+            }
+            
+            List<TimeBucketCountDto> histogram = appointmentService.getTimeHistogram(
+                timeField, histogramBucket, fromTime, toTime);
+            return ResponseEntity.ok(histogram);
+            
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("InvalidRequest", "Invalid time format"));
+        } catch (Exception e) {
+            log.error("Error calculating appointment histogram", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ErrorResponse("InternalError", "Failed to calculate appointment histogram"));
+        }
+    }
+    
     /**
      * 약속 상태 조회
      * GET /appointments/{appointment_id}/status
      */
     @GetMapping("/{appointment_id}/status")
-    public ResponseEntity<?> getAppointmentStatus(@PathVariable("appointment_id") String appointmentId) {
+    public ResponseEntity<?> getAppointmentStatus(@PathVariable("appointment_id") String appointmentId, WebRequest webRequest) {
         try {
             if (appointmentId == null || appointmentId.trim().isEmpty()) {
                 return ResponseEntity.badRequest()
                     .body(new ErrorResponse("InvalidRequest", "Appointment ID cannot be null or empty"));
             }
             
+            AppointmentVersionView version = appointmentService.getAppointmentVersion(appointmentId);
+            if (version == null) {
+                return ResponseEntity.notFound().build();
+            }
+            if (isNotModified(webRequest, "status", appointmentId, version)) {
+                return null;
+            }
+            
             Appointment.AppointmentStatus status = appointmentService.getAppointmentStatus(appointmentId);
             if (status == null) {
                 return ResponseEntity.notFound().build();
@@ -270,14 +667,27 @@ public class AppointmentController {
     }
     
     /**
-     * 약속 상태 변경
+     * 약속 상태 변경 (Idempotency-Key 헤더가 있으면 같은 클라이언트의 같은 키 재시도에 처음 응답을 반환)
      * PUT /appointments/{appointment_id}/status
      */
     @PutMapping("/{appointment_id}/status")
     public ResponseEntity<?> updateAppointmentStatus(
             @PathVariable("appointment_id") String appointmentId,
-            @RequestBody AppointmentStatusUpdateDto statusUpdateDto) {
-        
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            @RequestBody AppointmentStatusUpdateDto statusUpdateDto,
+            HttpServletRequest request) {
+        try {
+            return idempotencyStore.execute(clientIdentityResolver.resolveIdempotencyScope(request), idempotencyKey,
+                "PUT /appointments/" + appointmentId + "/status",
+                statusUpdateDto, AppointmentResponseDto.class, () -> handleUpdateAppointmentStatus(appointmentId, statusUpdateDto));
+        } catch (Exception e) {
+            log.error("Error processing idempotent status update for ID: {}", appointmentId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ErrorResponse("InternalError", "Failed to update appointment status"));
+        }
+    }
+    
+    private ResponseEntity<?> handleUpdateAppointmentStatus(String appointmentId, AppointmentStatusUpdateDto statusUpdateDto) {
         try {
             if (appointmentId == null || appointmentId.trim().isEmpty()) {
                 return ResponseEntity.badRequest()
@@ -297,6 +707,10 @@ public class AppointmentController {
             AppointmentResponseDto response = appointmentService.updateAppointmentStatus(appointmentId, statusUpdateDto);
             return ResponseEntity.ok(response);
             
+        } catch (ConcurrencyFailureException e) {
+            log.warn("Concurrent status update conflict for ID: {}", appointmentId);
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ErrorResponse("Conflict", "Appointment was modified concurrently, please retry"));
         } catch (Exception e) {
             log.error("Error updating appointment status for ID: {}", appointmentId, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -361,6 +775,36 @@ public class AppointmentController {
         }
     }
     
+    /**
+     * 시간 범위 약속 목록 조회 (시작/종료 공통)
+     */
+    private ResponseEntity<?> getAppointmentsInTimeRange(AppointmentService.TimeField field, String from, String to,
+                                                         WebRequest webRequest) {
+        try {
+            if (isNotModified(webRequest, AppointmentVersionTracker.Scope.ALL, null)) {
+                return null;
+            }
+            
+            LocalDateTime fromTime = LocalDateTime.parse(from);
+            LocalDateTime toTime = LocalDateTime.parse(to);
+            if (!fromTime.isBefore(toTime)) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("InvalidRequest", "from must be before to"));
+            }
+            
+            List<AppointmentResponseDto> appointments = appointmentService.getAppointmentsInTimeRange(field, fromTime, toTime);
+            return ResponseEntity.ok(appointments);
+            
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("InvalidRequest", "Invalid time format"));
+        } catch (Exception e) {
+            log.error("Error retrieving appointments by {} range", field, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ErrorResponse("InternalError", "Failed to retrieve appointments for time range"));
+        }
+    }
+    
     /**
      * 약속 삭제
      * DELETE /appointments/{appointment_id}
@@ -391,7 +835,7 @@ public class AppointmentController {
     @GetMapping("/{appointmentId}/status-feedback")
     public ResponseEntity<?> getAppointmentStatusFeedback(@PathVariable String appointmentId) {
         try {
-            log.info("Processing status-feedback request for appointment: {}", appointmentId);
+            log.debug("Processing status-feedback request for appointment: {}", appointmentId);
             
             // 1. 입력 검증
             if (appointmentId == null || appointmentId.trim().isEmpty()) {
@@ -402,7 +846,7 @@ public class AppointmentController {
             
             // 2. 약속 존재 여부 확인
             if (!appointmentExists(appointmentId)) {
-                log.warn("Appointment not found with ID: {}", appointmentId);
+                log.debug("Appointment not found with ID: {}", appointmentId);
                 return ResponseEntity.notFound().build();
             }
             
@@ -411,12 +855,12 @@ public class AppointmentController {
             
             // 4. 응답 처리
             if (statusFeedback == null) {
-                log.info("Appointment {} does not meet feedback criteria (DONE status with F feedback)", appointmentId);
+                log.debug("Appointment {} does not meet feedback criteria (DONE status with F feedback)", appointmentId);
                 return ResponseEntity.status(HttpStatus.NO_CONTENT)
                     .body(new ErrorResponse("NoContent", "Appointment does not meet feedback criteria"));
             }
             
-            log.info("Successfully retrieved status and feedback for appointment: {} with {} guests", 
+            log.debug("Successfully retrieved status and feedback for appointment: {} with {} guests", 
                     appointmentId, statusFeedback.getGuests().size());
             return ResponseEntity.ok(statusFeedback);
             
@@ -428,9 +872,91 @@ public class AppointmentController {
     }
     
     /**
-     * 약속 존재 여부 확인
+     * 사용자 피드백 대기 약속 목록 조회 - 주최/참여 약속 중 DONE 이면서 피드백 미완료(F)인 약속 (종료 시간 순, Guest 정보 포함)
+     * GET /appointments/feedback-pending/{user_id}?page={page}&size={size}
+     */
+    @GetMapping("/feedback-pending/{user_id}")
+    @RequestCost(5)
+    public ResponseEntity<?> getFeedbackPendingAppointments(
+            @PathVariable("user_id") String userId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            if (userId == null || userId.trim().isEmpty()) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("InvalidRequest", "User ID cannot be null or empty"));
+            }
+            if (page < 0 || size < 1 || size > MAX_FEEDBACK_PAGE_SIZE) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("InvalidRequest", "page must be >= 0 and size must be 1.." + MAX_FEEDBACK_PAGE_SIZE));
+            }
+            
+            List<FeedbackPendingDto> pending = feedbackService.getPendingFeedback(userId, page, size);
+            return ResponseEntity.ok(pending);
+            
+        } catch (Exception e) {
+            log.error("Error retrieving feedback-pending appointments for user: {}", userId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ErrorResponse("InternalError", "Failed to retrieve feedback-pending appointments"));
+        }
+    }
+    
+    /**
+     * 피드백 완료 일괄 처리 (F -> T) - 대기 상태가 아닌 약속은 건너뛰고 처리된 수를 반환
+     * PUT /appointments/feedback
+     */
+    @PutMapping("/feedback")
+    @RequestCost(3)
+    public ResponseEntity<?> completeFeedback(@RequestBody FeedbackCompleteRequestDto requestDto) {
+        try {
+            if (requestDto == null || requestDto.getAppointmentIds() == null || requestDto.getAppointmentIds().isEmpty()) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("InvalidRequest", "Appointment IDs cannot be null or empty"));
+            }
+            if (requestDto.getAppointmentIds().size() > MAX_FEEDBACK_COMPLETE_IDS) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("InvalidRequest", "Too many appointment IDs (max " + MAX_FEEDBACK_COMPLETE_IDS + ")"));
+            }
+            if (requestDto.getAppointmentIds().stream().anyMatch(id -> id == null || id.trim().isEmpty())) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("InvalidRequest", "Appointment ID cannot be null or empty"));
+            }
+            
+            FeedbackCompleteResponseDto result = feedbackService.completeFeedback(requestDto.getAppointmentIds());
+            return ResponseEntity.ok(result);
+            
+        } catch (Exception e) {
+            log.error("Error completing feedback for {} appointments", requestDto.getAppointmentIds().size(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ErrorResponse("InternalError", "Failed to complete feedback"));
+        }
+    }
+    
+    /**
+     * 약속 존재 여부 확인 (버전만 조회하여 호스트 정보 조회를 피함)
      */
     private boolean appointmentExists(String appointmentId) {
-        return appointmentService.getAppointmentById(appointmentId) != null;
+        return appointmentService.getAppointmentVersion(appointmentId) != null;
+    }
+    
+    /**
+     * 집계 버전 기반 조건부 요청 확인 (If-None-Match / If-Modified-Since)
+     * 변경이 없으면 304 응답을 설정하고 true 반환, 아니면 ETag/Last-Modified 헤더만 설정함
+     */
+    private boolean isNotModified(WebRequest webRequest, AppointmentVersionTracker.Scope scope, String key) {
+        AppointmentVersionTracker.Snapshot version = versionTracker.snapshot(scope, key);
+        return webRequest.checkNotModified(version.getEtag(), version.getLastModified());
+    }
+    
+    /**
+     * 단건 약속 버전 기반 조건부 요청 확인
+     */
+    private boolean isNotModified(WebRequest webRequest, String representation, String appointmentId,
+                                  AppointmentVersionView version) {
+        String etag = "\"" + representation + "-" + appointmentId + "-" + version.getVersion() + "\"";
+        long lastModified = version.getUpdatedAt() != null
+                ? version.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1L;
+        return webRequest.checkNotModified(etag, lastModified);
     }
 }
@@ -0,0 +1,41 @@
+package com.example.appointment.controller;
+
+import com.example.appointment.event.SseOutboxEventStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 약속 변경 이벤트 스트림 Controller (하위 서비스 구독용)
+ */
+@RestController
+@RequestMapping("/appointments/events")
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentEventController {
+    
+    private final SseOutboxEventStream sseOutboxEventStream;
+    
+    /**
+     * 약속 변경 이벤트 구독
+     * GET /appointments/events
+     * Last-Event-ID 헤더가 있으면 그 이후에 발행된 이벤트를 먼저 재전송함 (중복 가능, id로 중복 제거)
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        SseEmitter emitter = sseOutboxEventStream.subscribe();
+        
+        if (lastEventId != null) {
+            sseOutboxEventStream.replay(emitter, lastEventId);
+        }
+        
+        log.info("Appointment event subscriber connected (lastEventId: {}, subscribers: {})",
+                lastEventId, sseOutboxEventStream.getSubscriberCount());
+        return emitter;
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.appointment.controller;
+
+import com.example.appointment.admission.RequestCost;
+import com.example.appointment.dto.*;
+import com.example.appointment.service.AppointmentSeriesService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * 반복 약속 시리즈 Controller
+ */
+@RestController
+@RequestMapping("/appointments/series")
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentSeriesController {
+    
+    private final AppointmentSeriesService seriesService;
+    
+    /**
+     * 시리즈 생성
+     * POST /appointments/series
+     */
+    @PostMapping
+    @RequestCost(5)
+    public ResponseEntity<?> createSeries(@RequestBody AppointmentSeriesRequestDto requestDto) {
+        try {
+            if (requestDto == null) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("InvalidRequest", "Request body cannot be null"));
+            }
+            
+            if (requestDto.getHostId() == null || requestDto.getHostId().trim().isEmpty()) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("InvalidRequest", "Host ID cannot be null or empty"));
+            }
+            
+            if (requestDto.getTitle() == null || requestDto.getTitle().trim().isEmpty()) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("InvalidRequest", "Title cannot be null or empty"));
+            }
+            
+            if (requestDto.getLocationId() == null || requestDto.getLocationId().trim().isEmpty()) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("InvalidRequest", "Location ID cannot be null or empty"));
+            }
+            
+            if (requestDto.getStartTime() == null || requestDto.getEndTime() == null) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("InvalidRequest", "Start time and end time cannot be null"));
+            }
+            
+            AppointmentSeriesResponseDto response = seriesService.createSeries(requestDto);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+            
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("InvalidRequest", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error creating appointment series", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ErrorResponse("InternalError", "Failed to create appointment series"));
+        }
+    }
+    
+    /**
+     * 시리즈 조회
+     * GET /appointments/series/{series_id}
+     */
+    @GetMapping("/{series_id}")
+    public ResponseEntity<?> getSeries(@PathVariable("series_id") String seriesId) {
+        try {
+            AppointmentSeriesResponseDto series = seriesService.getSeries(seriesId);
+            if (series == null) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(series);
+            
+        } catch (Exception e) {
+            log.error("Error retrieving appointment series with ID: {}", seriesId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ErrorResponse("InternalError", "Failed to retrieve appointment series"));
+        }
+    }
+    
+    /**
+     * 시리즈 삭제 (이미 약속으로 생성된 발생은 유지)
+     * DELETE /appointments/series/{series_id}
+     */
+    @DeleteMapping("/{series_id}")
+    public ResponseEntity<?> deleteSeries(@PathVariable("series_id") String seriesId) {
+        try {
+            if (!seriesService.deleteSeries(seriesId)) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.noContent().build();
+            
+        } catch (Exception e) {
+            log.error("Error deleting appointment series with ID: {}", seriesId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ErrorResponse("InternalError", "Failed to delete appointment series"));
+        }
+    }
+    
+    /**
+     * 시리즈 발생 조회
+     * GET /appointments/series/{series_id}/occurrences?from={from}&to={to}
+     */
+    @GetMapping("/{series_id}/occurrences")
+    @RequestCost(5)
+    public ResponseEntity<?> getOccurrences(
+            @PathVariable("series_id") String seriesId,
+            @RequestParam String from,
+            @RequestParam String to) {
+        try {
+            List<SeriesOccurrenceDto> occurrences = seriesService.getOccurrences(
+                    seriesId, LocalDateTime.parse(from), LocalDateTime.parse(to));
+            if (occurrences == null) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(occurrences);
+            
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("InvalidRequest", "Invalid time format"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("InvalidRequest", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error retrieving occurrences for series: {}", seriesId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ErrorResponse("InternalError", "Failed to retrieve series occurrences"));
+        }
+    }
+    
+    /**
+     * 호스트의 모든 시리즈 발생 조회
+     * GET /appointments/series/host/{host_id}/occurrences?from={from}&to={to}
+     */
+    @GetMapping("/host/{host_id}/occurrences")
+    @RequestCost(5)
+    public ResponseEntity<?> getHostOccurrences(
+            @PathVariable("host_id") String hostId,
+            @RequestParam String from,
+            @RequestParam String to) {
+        try {
+            if (hostId == null || hostId.trim().isEmpty()) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("InvalidRequest", "Host ID cannot be null or empty"));
+            }
+            
+            List<SeriesOccurrenceDto> occurrences = seriesService.getHostOccurrences(
+                    hostId, LocalDateTime.parse(from), LocalDateTime.parse(to));
+            return ResponseEntity.ok(occurrences);
+            
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("InvalidRequest", "Invalid time format"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("InvalidRequest", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error retrieving series occurrences for host: {}", hostId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ErrorResponse("InternalError", "Failed to retrieve series occurrences for host"));
+        }
+    }
+    
+    /**
+     * 발생 1회 취소
+     * DELETE /appointments/series/{series_id}/occurrences/{start_time}
+     */
+    @DeleteMapping("/{series_id}/occurrences/{start_time}")
+    public ResponseEntity<?> cancelOccurrence(
+            @PathVariable("series_id") String seriesId,
+            @PathVariable("start_time") String startTime) {
+        try {
+            if (!seriesService.cancelOccurrence(seriesId, LocalDateTime.parse(startTime))) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.noContent().build();
+            
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("InvalidRequest", "Invalid time format"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("InvalidRequest", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error cancelling occurrence {} of series: {}", startTime, seriesId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ErrorResponse("InternalError", "Failed to cancel series occurrence"));
+        }
+    }
+    
+    /**
+     * 발생 1회 수정 (수정된 발생은 약속으로 생성되어 이후 일반 약속 API로 관리)
+     * PUT /appointments/series/{series_id}/occurrences/{start_time}
+     */
+    @PutMapping("/{series_id}/occurrences/{start_time}")
+    @RequestCost(3)
+    public ResponseEntity<?> overrideOccurrence(
+            @PathVariable("series_id") String seriesId,
+            @PathVariable("start_time") String startTime,
+            @RequestBody AppointmentRequestDto changes) {
+        try {
+            AppointmentResponseDto response = seriesService.overrideOccurrence(
+                    seriesId, LocalDateTime.parse(startTime), changes);
+            if (response == null) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(response);
+            
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("InvalidRequest", "Invalid time format"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("InvalidRequest", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ErrorResponse("Conflict", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error overriding occurrence {} of series: {}", startTime, seriesId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ErrorResponse("InternalError", "Failed to update series occurrence"));
+        }
+    }
+}
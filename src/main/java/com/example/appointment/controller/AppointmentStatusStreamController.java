@@ -0,0 +1,57 @@
+package com.example.appointment.controller;
+
+import com.example.appointment.push.AppointmentStatusHub;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 약속 상태 푸시 Controller (프론트 상태 폴링 대체)
+ */
+@RestController
+@RequestMapping("/appointments/status-stream")
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentStatusStreamController {
+    
+    private final AppointmentStatusHub appointmentStatusHub;
+    
+    @Value("${appointment.push.max-ids-per-subscription:200}")
+    private final int maxIdsPerSubscription;
+    
+    /**
+     * 약속 상태 구독
+     * GET /appointments/status-stream?ids={appointment_id},{appointment_id}...
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestParam String ids) {
+        Set<String> appointmentIds = Arrays.stream(ids.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .collect(Collectors.toSet());
+        
+        if (appointmentIds.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Appointment IDs cannot be null or empty");
+        }
+        
+        if (appointmentIds.size() > maxIdsPerSubscription) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Too many appointment IDs (max " + maxIdsPerSubscription + ")");
+        }
+        
+        log.debug("Status stream subscription for {} appointments", appointmentIds.size());
+        return appointmentStatusHub.subscribe(appointmentIds);
+    }
+}
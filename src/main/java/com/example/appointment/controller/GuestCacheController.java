@@ -0,0 +1,68 @@
+package com.example.appointment.controller;
+
+import com.example.appointment.dto.ErrorResponse;
+import com.example.appointment.dto.GuestCacheInvalidationDto;
+import com.example.appointment.service.AppointmentParticipantSync;
+import com.example.appointment.service.GuestCacheInvalidationBroadcaster;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Guest 캐시 무효화 웹훅 Controller (Guest 서비스가 RSVP 변경 시 호출)
+ */
+@RestController
+@RequestMapping("/appointments/guest-cache")
+@RequiredArgsConstructor
+@Slf4j
+public class GuestCacheController {
+    
+    private static final int MAX_IDS_PER_REQUEST = 1000;
+    
+    private final GuestCacheInvalidationBroadcaster invalidationBroadcaster;
+    private final AppointmentParticipantSync participantSync;
+    
+    // 비어 있으면 웹훅 비활성화
+    @Value("${appointment.guest-cache.webhook-api-key:}")
+    private final String webhookApiKey;
+    
+    /**
+     * Guest 캐시 무효화 (모든 인스턴스로 전파) + 참여자 로컬 인덱스 동기화 요청 (동기화는 백그라운드 실행)
+     * POST /appointments/guest-cache/invalidations
+     */
+    @PostMapping("/invalidations")
+    public ResponseEntity<?> invalidate(
+            @RequestHeader(value = "X-API-Key", required = false) String apiKey,
+            @RequestBody GuestCacheInvalidationDto requestDto) {
+        if (webhookApiKey == null || webhookApiKey.isBlank()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(new ErrorResponse("Forbidden", "Guest cache webhook is not enabled"));
+        }
+        if (apiKey == null || !MessageDigest.isEqual(
+                apiKey.getBytes(StandardCharsets.UTF_8), webhookApiKey.getBytes(StandardCharsets.UTF_8))) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(new ErrorResponse("Unauthorized", "Invalid API key"));
+        }
+        
+        int size = (requestDto.getUserIds() == null ? 0 : requestDto.getUserIds().size())
+                + (requestDto.getAppointmentIds() == null ? 0 : requestDto.getAppointmentIds().size());
+        if (size == 0 || size > MAX_IDS_PER_REQUEST) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("InvalidRequest", "userIds/appointmentIds must contain 1.." + MAX_IDS_PER_REQUEST + " IDs"));
+        }
+        
+        invalidationBroadcaster.broadcast(requestDto.getUserIds(), requestDto.getAppointmentIds());
+        participantSync.requestSync(requestDto.getUserIds(), requestDto.getAppointmentIds());
+        return ResponseEntity.noContent().build();
+    }
+}
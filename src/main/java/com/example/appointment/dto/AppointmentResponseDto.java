@@ -26,4 +26,12 @@ public class AppointmentResponseDto {
     private String locationId;
     private Appointment.AppointmentStatus appointmentStatus;
     private String feedback; // 피드백 상태 (F: 미완료, T: 완료)
+    
+    /**
+     * 얕은 복사본 (모든 필드가 불변 타입) - 병합된 조회 결과를 호출자별로 나눠줄 때 사용
+     */
+    public AppointmentResponseDto copy() {
+        return new AppointmentResponseDto(appointmentId, hostId, hostUsername, hostNickname, title, description,
+                startTime, endTime, locationId, appointmentStatus, feedback);
+    }
 }
@@ -0,0 +1,25 @@
+package com.example.appointment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반복 약속 시리즈 생성 요청 DTO
+ * startTime/endTime 은 첫 발생 시간, recurrenceRule 은 RRULE (예: FREQ=WEEKLY;BYDAY=MO,WE;COUNT=10)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentSeriesRequestDto {
+    
+    private String hostId;
+    private String title;
+    private String description;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private String locationId;
+    private String recurrenceRule;
+}
@@ -0,0 +1,26 @@
+package com.example.appointment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반복 약속 시리즈 응답 DTO (lastEndTime 이 null 이면 무기한 반복)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentSeriesResponseDto {
+    
+    private String seriesId;
+    private String hostId;
+    private String title;
+    private String description;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private String locationId;
+    private String recurrenceRule;
+    private LocalDateTime lastEndTime;
+}
@@ -0,0 +1,27 @@
+package com.example.appointment.dto;
+
+import com.example.appointment.entity.Appointment;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 약속 통계 DTO (보관된 약속 포함)
+ * byDay 는 시작 날짜 기준, reconciledAt 은 마지막 DB 재조정 시각
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentStatisticsDto {
+    
+    private long total;
+    private Map<Appointment.AppointmentStatus, Long> byStatus;
+    private Map<String, Long> byLocation;
+    private Map<String, Long> byHost;
+    private Map<LocalDate, Long> byDay;
+    private LocalDateTime reconciledAt;
+}
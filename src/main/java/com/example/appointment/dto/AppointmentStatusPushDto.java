@@ -0,0 +1,21 @@
+package com.example.appointment.dto;
+
+import com.example.appointment.entity.Appointment;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 약속 상태 푸시 DTO (상태 구독용)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentStatusPushDto {
+    
+    private String appointmentId;
+    private Appointment.AppointmentStatus appointmentStatus;
+    private String feedback;
+    private boolean feedbackPending; // DONE 상태이고 피드백 미완료(F)인 경우 true
+    private boolean deleted;
+}
@@ -0,0 +1,20 @@
+package com.example.appointment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사용자 캘린더 페이지 DTO (주최 + 참여 약속, 시작 시간 순)
+ * nextCursor 가 null 이면 마지막 페이지
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarPageDto {
+    
+    private List<AppointmentResponseDto> appointments;
+    private String nextCursor;
+}
@@ -0,0 +1,18 @@
+package com.example.appointment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 피드백 완료 일괄 처리 요청 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedbackCompleteRequestDto {
+    
+    private List<String> appointmentIds;
+}
@@ -0,0 +1,17 @@
+package com.example.appointment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 피드백 완료 일괄 처리 결과 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedbackCompleteResponseDto {
+    
+    private int requested; // 요청한 약속 수 (중복 제외)
+    private int completed; // 이번 요청으로 F -> T 가 된 약속 수 (이미 완료/대상 아님은 제외)
+}
@@ -0,0 +1,19 @@
+package com.example.appointment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 피드백 대기 약속 DTO (약속 정보 + Guest 정보)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedbackPendingDto {
+    
+    private AppointmentResponseDto appointment;
+    private List<GuestInfo> guests; // Guest 정보들
+}
@@ -0,0 +1,19 @@
+package com.example.appointment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Guest 캐시 무효화 요청 DTO (Guest 서비스 RSVP 변경 웹훅)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GuestCacheInvalidationDto {
+    
+    private List<String> userIds;           // 참여 목록이 바뀐 사용자 ID
+    private List<String> appointmentIds;    // Guest 목록이 바뀐 약속 ID
+}
@@ -0,0 +1,21 @@
+package com.example.appointment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 장소 가용성 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LocationAvailabilityDto {
+    
+    private String locationId;
+    private List<TimeIntervalDto> freeIntervals;
+    private long busySeconds;
+    private double utilizationPercent; // 조회 구간 대비 사용 비율 (0~100)
+}
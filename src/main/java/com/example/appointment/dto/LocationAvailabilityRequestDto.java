@@ -0,0 +1,21 @@
+package com.example.appointment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 장소 가용성 조회 요청 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LocationAvailabilityRequestDto {
+    
+    private List<String> locationIds;
+    private LocalDateTime from;
+    private LocalDateTime to;
+}
@@ -0,0 +1,28 @@
+package com.example.appointment.dto;
+
+import com.example.appointment.entity.Appointment;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반복 약속 발생 DTO
+ * materialized 가 true 이면 약속 행으로 생성된 발생 (appointmentId 로 일반 약속 API 사용 가능)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeriesOccurrenceDto {
+    
+    private String seriesId;
+    private LocalDateTime originalStartTime;
+    private String appointmentId;
+    private boolean materialized;
+    private String title;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private String locationId;
+    private Appointment.AppointmentStatus appointmentStatus;
+}
@@ -0,0 +1,19 @@
+package com.example.appointment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간 구간별 약속 건수 DTO (히스토그램용)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeBucketCountDto {
+    
+    private LocalDateTime bucketStart;
+    private long count;
+}
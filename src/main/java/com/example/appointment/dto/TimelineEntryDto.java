@@ -0,0 +1,22 @@
+package com.example.appointment.dto;
+
+import com.example.appointment.entity.Appointment;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 타임라인 조회 응답 DTO (시간은 초 단위)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimelineEntryDto {
+    
+    private String appointmentId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private Appointment.AppointmentStatus appointmentStatus;
+}
@@ -9,6 +9,8 @@ import java.time.LocalDateTime;
 
 /**
  * 약속 엔티티 - MySQL 최적화
+ * 스키마는 Flyway 마이그레이션(db/migration)이 관리하므로 컬럼/인덱스 변경 시 마이그레이션을 함께 추가
+ * (title, description FULLTEXT ngram 인덱스는 JPA로 표현할 수 없어 V5 마이그레이션에만 있음)
  */
 @Entity
 @Table(name = "appointment", 
@@ -19,7 +21,15 @@ import java.time.LocalDateTime;
            @Index(name = "idx_end_time", columnList = "end_time"),
            @Index(name = "idx_appointment_status", columnList = "appointment_status"),
            @Index(name = "idx_feedback", columnList = "feedback"),
-           @Index(name = "idx_host_time", columnList = "host_id, start_time, end_time")
+           @Index(name = "idx_host_time", columnList = "host_id, start_time, end_time"),
+           @Index(name = "idx_location_time", columnList = "location_id, start_time, end_time"),
+           @Index(name = "idx_status_start_time", columnList = "appointment_status, start_time"),
+           @Index(name = "idx_status_end_time", columnList = "appointment_status, end_time"),
+           @Index(name = "idx_status_feedback_end_time", columnList = "appointment_status, feedback, end_time"),
+           @Index(name = "idx_updated_at", columnList = "updated_at"),
+           @Index(name = "idx_host_updated_at", columnList = "host_id, updated_at"),
+           @Index(name = "idx_host_status_feedback_end_time", columnList = "host_id, appointment_status, feedback, end_time"),
+           @Index(name = "idx_location_updated_at", columnList = "location_id, updated_at")
        })
 @Data
 @NoArgsConstructor
@@ -55,6 +65,14 @@ public class Appointment {
     @Column(name = "feedback", length = 1, nullable = false, columnDefinition = "CHAR(1) DEFAULT 'F'")
     private String feedback;
     
+    // 낙관적 잠금 및 ETag용 버전 (null이면 신규 엔티티로 판단하여 persist 됨)
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long version;
+    
+    @Column(name = "updated_at", columnDefinition = "DATETIME(6)")
+    private LocalDateTime updatedAt;
+    
     
     /**
      * 약속 상태 열거형
@@ -66,6 +84,14 @@ public class Appointment {
         CANCELLED   // 취소
     }
     
+    /**
+     * 분리된(detached) 복사본 - 배치 조회 결과를 호출자별로 나눠줄 때 사용
+     */
+    public Appointment copy() {
+        return new Appointment(appointmentId, hostId, title, description, startTime, endTime, locationId,
+                appointmentStatus, feedback, version, updatedAt);
+    }
+    
     /**
      * 엔티티 생성 전 기본값 설정
      */
@@ -77,5 +103,14 @@ public class Appointment {
         if (feedback == null) {
             feedback = "F"; // 기본값: 피드백 미완료
         }
+        updatedAt = LocalDateTime.now();
+    }
+    
+    /**
+     * 엔티티 수정 전 수정 시각 갱신
+     */
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
     }
 }
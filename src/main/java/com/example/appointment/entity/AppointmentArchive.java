@@ -0,0 +1,84 @@
+package com.example.appointment.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 약속 엔티티 - 오래된 DONE/CANCELLED 약속 이력
+ * start_time 기준 월 단위 RANGE 파티션 (최초 분할은 V9 마이그레이션, 월 파티션 추가는 AppointmentArchivePartitionManager)
+ */
+@Entity
+@Table(name = "appointment_archive",
+       indexes = {
+           @Index(name = "idx_archive_appointment_id", columnList = "appointment_id"),
+           @Index(name = "idx_archive_host_time", columnList = "host_id, start_time"),
+           @Index(name = "idx_archive_location_time", columnList = "location_id, start_time")
+       })
+@IdClass(AppointmentArchiveId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentArchive {
+    
+    @Id
+    @Column(name = "appointment_id", length = 100, nullable = false)
+    private String appointmentId;
+    
+    @Id
+    @Column(name = "start_time", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime startTime;
+    
+    @Column(name = "host_id", length = 100, nullable = false)
+    private String hostId;
+    
+    @Column(name = "title", length = 200, nullable = false)
+    private String title;
+    
+    @Column(name = "description", columnDefinition = "TEXT CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci")
+    private String description;
+    
+    @Column(name = "end_time", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime endTime;
+    
+    @Column(name = "location_id", length = 100, nullable = false)
+    private String locationId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "appointment_status", length = 20, nullable = false, columnDefinition = "VARCHAR(20)")
+    private Appointment.AppointmentStatus appointmentStatus;
+    
+    @Column(name = "feedback", length = 1, nullable = false, columnDefinition = "CHAR(1) DEFAULT 'F'")
+    private String feedback;
+    
+    @Column(name = "version", nullable = false)
+    private Long version;
+    
+    @Column(name = "updated_at", columnDefinition = "DATETIME(6)")
+    private LocalDateTime updatedAt;
+    
+    @Column(name = "archived_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime archivedAt;
+    
+    /**
+     * 조회 응답 변환용 Appointment로 복원 (읽기 전용, 저장 대상 아님)
+     */
+    public Appointment toAppointment() {
+        Appointment appointment = new Appointment();
+        appointment.setAppointmentId(appointmentId);
+        appointment.setHostId(hostId);
+        appointment.setTitle(title);
+        appointment.setDescription(description);
+        appointment.setStartTime(startTime);
+        appointment.setEndTime(endTime);
+        appointment.setLocationId(locationId);
+        appointment.setAppointmentStatus(appointmentStatus);
+        appointment.setFeedback(feedback);
+        appointment.setVersion(version);
+        appointment.setUpdatedAt(updatedAt);
+        return appointment;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.appointment.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 약속 복합 키 - 파티션 키(start_time)는 MySQL 규칙상 기본 키에 포함되어야 함
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentArchiveId implements Serializable {
+    
+    private String appointmentId;
+    private LocalDateTime startTime;
+}
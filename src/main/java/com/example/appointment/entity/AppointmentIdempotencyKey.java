@@ -0,0 +1,50 @@
+package com.example.appointment.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 약속 요청 Idempotency-Key 엔티티 - 키는 요청 클라이언트별로 구분됨
+ * completed_at 이 NULL 이면 처리 중인 키, 값이 있으면 response_status/response_body 에 처음 성공 응답이 있음
+ */
+@Entity
+@Table(name = "appointment_idempotency_key",
+       indexes = {
+           @Index(name = "idx_idempotency_expires_at", columnList = "expires_at")
+       })
+@IdClass(AppointmentIdempotencyKeyId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentIdempotencyKey {
+    
+    @Id
+    @Column(name = "client_id", length = 100, nullable = false)
+    private String clientId;
+    
+    @Id
+    @Column(name = "idempotency_key", length = 100, nullable = false)
+    private String idempotencyKey;
+    
+    @Column(name = "request_hash", length = 64, nullable = false, columnDefinition = "CHAR(64)")
+    private String requestHash;
+    
+    @Column(name = "response_status")
+    private Integer responseStatus;
+    
+    @Column(name = "response_body", columnDefinition = "TEXT CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci")
+    private String responseBody; // 응답 본문 JSON
+    
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime createdAt;
+    
+    @Column(name = "completed_at", columnDefinition = "DATETIME(6)")
+    private LocalDateTime completedAt;
+    
+    @Column(name = "expires_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime expiresAt;
+}
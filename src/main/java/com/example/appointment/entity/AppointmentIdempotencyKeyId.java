@@ -0,0 +1,19 @@
+package com.example.appointment.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Idempotency-Key 복합 키 (요청 클라이언트 식별자 + 클라이언트가 보낸 키)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentIdempotencyKeyId implements Serializable {
+    
+    private String clientId;
+    private String idempotencyKey;
+}
@@ -0,0 +1,51 @@
+package com.example.appointment.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 약속 변경 아웃박스 엔티티
+ * 약속 변경과 같은 트랜잭션에서 기록되고, 릴레이가 발행 후 published_at을 채움
+ * 발행 실패 시 attempts를 올리고 next_attempt_at까지 릴레이 대상에서 제외함
+ */
+@Entity
+@Table(name = "appointment_outbox",
+       indexes = {
+           @Index(name = "idx_outbox_published", columnList = "published_at, id"),
+           @Index(name = "idx_outbox_appointment_id", columnList = "appointment_id")
+       })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentOutboxEvent {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+    
+    @Column(name = "appointment_id", length = 100, nullable = false)
+    private String appointmentId;
+    
+    @Column(name = "event_type", length = 30, nullable = false)
+    private String eventType;
+    
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci")
+    private String payload; // AppointmentChangedEvent JSON
+    
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime createdAt;
+    
+    @Column(name = "published_at", columnDefinition = "DATETIME(6)")
+    private LocalDateTime publishedAt;
+    
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+    
+    @Column(name = "next_attempt_at", columnDefinition = "DATETIME(6)")
+    private LocalDateTime nextAttemptAt;
+}
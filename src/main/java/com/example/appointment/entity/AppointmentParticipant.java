@@ -0,0 +1,47 @@
+package com.example.appointment.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 약속 참여자 엔티티 - Guest 서비스 참여 정보의 로컬 사본
+ * 사용자별 참여 약속 조회를 원격 호출 없이 (user_id, status, start_time) 인덱스로 처리하기 위해 사용
+ */
+@Entity
+@Table(name = "appointment_participant",
+       indexes = {
+           @Index(name = "idx_participant_user_status_time", columnList = "user_id, status, start_time")
+       })
+@IdClass(AppointmentParticipantId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentParticipant {
+    
+    @Id
+    @Column(name = "appointment_id", length = 100, nullable = false)
+    private String appointmentId;
+    
+    @Id
+    @Column(name = "user_id", length = 100, nullable = false)
+    private String userId;
+    
+    @Column(name = "guest_id", length = 100)
+    private String guestId;
+    
+    @Column(name = "status", length = 20, nullable = false)
+    private String status;
+    
+    @Column(name = "start_time", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime startTime;
+    
+    @Column(name = "synced_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime syncedAt;
+    
+    @Column(name = "sync_token", length = 36)
+    private String syncToken; // 마지막으로 확인한 일괄 재동기화 실행 토큰 (웹훅 동기화는 null)
+}
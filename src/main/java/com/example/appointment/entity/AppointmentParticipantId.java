@@ -0,0 +1,19 @@
+package com.example.appointment.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 약속 참여자 복합 키 (약속 ID + 사용자 ID)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentParticipantId implements Serializable {
+    
+    private String appointmentId;
+    private String userId;
+}
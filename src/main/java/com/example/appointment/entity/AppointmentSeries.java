@@ -0,0 +1,64 @@
+package com.example.appointment.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 반복 약속 시리즈 엔티티 - 첫 발생과 반복 규칙(RRULE)만 저장하고 발생은 조회 구간에 대해 계산
+ */
+@Entity
+@Table(name = "appointment_series",
+       indexes = {
+           @Index(name = "idx_series_host_time", columnList = "host_id, start_time"),
+           @Index(name = "idx_series_last_end_time", columnList = "last_end_time")
+       })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentSeries {
+    
+    @Id
+    @Column(name = "series_id", length = 100, nullable = false)
+    private String seriesId;
+    
+    @Column(name = "host_id", length = 100, nullable = false)
+    private String hostId;
+    
+    @Column(name = "title", length = 200, nullable = false)
+    private String title;
+    
+    @Column(name = "description", columnDefinition = "TEXT CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci")
+    private String description;
+    
+    @Column(name = "location_id", length = 100, nullable = false)
+    private String locationId;
+    
+    // 첫 발생 (DTSTART) - 이후 발생의 시각/길이 기준
+    @Column(name = "start_time", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime startTime;
+    
+    @Column(name = "end_time", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime endTime;
+    
+    @Column(name = "recurrence_rule", length = 255, nullable = false)
+    private String recurrenceRule;
+    
+    // 마지막 발생 종료 시각 (null이면 무기한) - 구간 조회 시 끝난 시리즈 제외용
+    @Column(name = "last_end_time", columnDefinition = "DATETIME(6)")
+    private LocalDateTime lastEndTime;
+    
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime createdAt;
+    
+    /**
+     * 발생 1회 길이
+     */
+    public Duration occurrenceDuration() {
+        return Duration.between(startTime, endTime);
+    }
+}
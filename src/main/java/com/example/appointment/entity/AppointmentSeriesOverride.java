@@ -0,0 +1,63 @@
+package com.example.appointment.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시리즈 발생 예외 엔티티 - 규칙과 다르게 처리된 발생만 저장
+ * - CANCELLED: 해당 발생 취소 (약속 행 없음)
+ * - MATERIALIZED: 약속 행으로 생성됨 (이후 상태 변경/수정은 해당 약속에서 처리)
+ * - 생성 후 바뀌지 않으므로 save 는 항상 INSERT - 같은 발생의 행이 이미 있으면 덮어쓰지 않고 기본 키 중복으로 실패함 (발생 선점)
+ */
+@Entity
+@Table(name = "appointment_series_override",
+       indexes = {
+           @Index(name = "idx_series_override_appointment_id", columnList = "appointment_id")
+       })
+@IdClass(AppointmentSeriesOverrideId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentSeriesOverride implements Persistable<AppointmentSeriesOverrideId> {
+    
+    @Id
+    @Column(name = "series_id", length = 100, nullable = false)
+    private String seriesId;
+    
+    @Id
+    @Column(name = "original_start_time", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime originalStartTime;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "override_type", length = 20, nullable = false, columnDefinition = "VARCHAR(20)")
+    private OverrideType overrideType;
+    
+    @Column(name = "appointment_id", length = 100)
+    private String appointmentId;
+    
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime createdAt;
+    
+    @Override
+    public AppointmentSeriesOverrideId getId() {
+        return new AppointmentSeriesOverrideId(seriesId, originalStartTime);
+    }
+    
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+    
+    /**
+     * 발생 예외 종류
+     */
+    public enum OverrideType {
+        CANCELLED,      // 취소
+        MATERIALIZED    // 약속 행으로 생성
+    }
+}
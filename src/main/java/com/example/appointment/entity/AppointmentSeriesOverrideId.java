@@ -0,0 +1,20 @@
+package com.example.appointment.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 시리즈 발생 예외 복합 키 (시리즈 ID + 규칙상 발생 시작 시간)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentSeriesOverrideId implements Serializable {
+    
+    private String seriesId;
+    private LocalDateTime originalStartTime;
+}
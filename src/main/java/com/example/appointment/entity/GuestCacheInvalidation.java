@@ -0,0 +1,37 @@
+package com.example.appointment.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Guest 캐시 무효화 브로드캐스트 엔티티
+ * 웹훅을 받은 인스턴스가 기록하고, 모든 인스턴스가 id 순으로 읽어 자기 로컬 캐시를 무효화함
+ */
+@Entity
+@Table(name = "guest_cache_invalidation",
+       indexes = {
+           @Index(name = "idx_guest_invalidation_created_at", columnList = "created_at")
+       })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GuestCacheInvalidation {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+    
+    @Column(name = "user_ids", columnDefinition = "TEXT CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci")
+    private String userIds; // JSON 배열
+    
+    @Column(name = "appointment_ids", columnDefinition = "TEXT CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci")
+    private String appointmentIds; // JSON 배열
+    
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime createdAt;
+}
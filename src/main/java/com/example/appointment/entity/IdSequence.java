@@ -0,0 +1,24 @@
+package com.example.appointment.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ID 발급 시퀀스 엔티티 - 이름별 마지막 발급 번호
+ */
+@Entity
+@Table(name = "id_sequence")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdSequence {
+    
+    @Id
+    @Column(name = "sequence_name", length = 50, nullable = false)
+    private String sequenceName;
+    
+    @Column(name = "current_value", nullable = false)
+    private Long currentValue;
+}
@@ -0,0 +1,29 @@
+package com.example.appointment.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 리스 엔티티 - 여러 인스턴스 중 리스를 보유한 하나만 작업을 실행함
+ */
+@Entity
+@Table(name = "scheduler_lock")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerLockLease {
+    
+    @Id
+    @Column(name = "lock_name", length = 100, nullable = false)
+    private String lockName;
+    
+    @Column(name = "locked_by", length = 200)
+    private String lockedBy;
+    
+    @Column(name = "locked_until", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime lockedUntil;
+}
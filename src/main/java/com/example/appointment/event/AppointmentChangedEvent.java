@@ -0,0 +1,68 @@
+package com.example.appointment.event;
+
+import com.example.appointment.entity.Appointment;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * 약속 변경 이벤트 - 생성/상태 변경/피드백 완료/삭제/보관 이동 시 발행됨
+ * 엔티티는 트랜잭션 이후 변경될 수 있으므로 필요한 값만 복사해서 보관함
+ */
+@Value
+public class AppointmentChangedEvent {
+    
+    /**
+     * 변경 유형
+     */
+    public enum Type {
+        CREATED,
+        STATUS_CHANGED,
+        FEEDBACK_CHANGED,
+        DELETED,
+        ARCHIVED // 보관 테이블로 이동 - 운영 테이블 기준 인덱스에서는 삭제와 같고, 이력(참여/Guest)은 유지됨
+    }
+    
+    Type type;
+    String appointmentId;
+    String hostId;
+    String locationId;
+    LocalDateTime startTime;
+    LocalDateTime endTime;
+    Appointment.AppointmentStatus appointmentStatus;
+    Appointment.AppointmentStatus previousStatus; // CREATED인 경우 null
+    String feedback;
+    
+    public static AppointmentChangedEvent created(Appointment appointment) {
+        return of(Type.CREATED, appointment, null);
+    }
+    
+    public static AppointmentChangedEvent statusChanged(Appointment appointment, Appointment.AppointmentStatus previousStatus) {
+        return of(Type.STATUS_CHANGED, appointment, previousStatus);
+    }
+    
+    public static AppointmentChangedEvent feedbackChanged(Appointment appointment) {
+        return of(Type.FEEDBACK_CHANGED, appointment, appointment.getAppointmentStatus());
+    }
+    
+    public static AppointmentChangedEvent deleted(Appointment appointment) {
+        return of(Type.DELETED, appointment, appointment.getAppointmentStatus());
+    }
+    
+    public static AppointmentChangedEvent archived(Appointment appointment) {
+        return of(Type.ARCHIVED, appointment, appointment.getAppointmentStatus());
+    }
+    
+    private static AppointmentChangedEvent of(Type type, Appointment appointment, Appointment.AppointmentStatus previousStatus) {
+        return new AppointmentChangedEvent(
+                type,
+                appointment.getAppointmentId(),
+                appointment.getHostId(),
+                appointment.getLocationId(),
+                appointment.getStartTime(),
+                appointment.getEndTime(),
+                appointment.getAppointmentStatus(),
+                previousStatus,
+                appointment.getFeedback());
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.appointment.event;
+
+import com.example.appointment.entity.AppointmentOutboxEvent;
+import com.example.appointment.repository.AppointmentOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 약속 변경 이벤트를 아웃박스 테이블에 기록
+ * 동기 리스너이므로 약속 변경과 같은 트랜잭션에서 함께 커밋/롤백됨
+ */
+@Component
+@RequiredArgsConstructor
+public class AppointmentOutboxWriter {
+    
+    private final AppointmentOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        AppointmentOutboxEvent outboxEvent = new AppointmentOutboxEvent();
+        outboxEvent.setAppointmentId(event.getAppointmentId());
+        outboxEvent.setEventType(event.getType().name());
+        outboxEvent.setPayload(toJson(event));
+        outboxEvent.setCreatedAt(LocalDateTime.now());
+        outboxRepository.save(outboxEvent);
+    }
+    
+    private String toJson(AppointmentChangedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize appointment event: " + event.getAppointmentId(), e);
+        }
+    }
+}
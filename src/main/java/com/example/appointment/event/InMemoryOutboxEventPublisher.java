@@ -0,0 +1,27 @@
+package com.example.appointment.event;
+
+import com.example.appointment.entity.AppointmentOutboxEvent;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 메모리에 발행 이벤트를 쌓아두는 발행기 (테스트용)
+ */
+public class InMemoryOutboxEventPublisher implements OutboxEventPublisher {
+    
+    private final List<AppointmentOutboxEvent> published = new CopyOnWriteArrayList<>();
+    
+    @Override
+    public void publish(AppointmentOutboxEvent event) {
+        published.add(event);
+    }
+    
+    public List<AppointmentOutboxEvent> getPublished() {
+        return List.copyOf(published);
+    }
+    
+    public void clear() {
+        published.clear();
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.appointment.event;
+
+import com.example.appointment.entity.AppointmentOutboxEvent;
+
+/**
+ * 아웃박스 이벤트 발행기
+ * 발행 실패 시 예외를 던지면 릴레이가 같은 이벤트를 다시 발행함 (at-least-once)
+ */
+public interface OutboxEventPublisher {
+    
+    void publish(AppointmentOutboxEvent event);
+}
@@ -0,0 +1,143 @@
+package com.example.appointment.event;
+
+import com.example.appointment.entity.AppointmentOutboxEvent;
+import com.example.appointment.repository.AppointmentOutboxRepository;
+import com.example.appointment.scheduler.SchedulerLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 아웃박스 릴레이 - 미발행 이벤트를 배치로 읽어 등록된 발행기로 전달한 뒤 발행 완료(published_at)로 표시함
+ * - 리스를 획득한 한 인스턴스에서만 실행하며, 각 인스턴스의 SSE 구독자는 발행 완료 이벤트를 따라 읽어 받음 (SseOutboxEventStream)
+ * - 기록 순서(id)대로 발행하며, 발행에 실패한 약속의 이후 이벤트는 실패한 이벤트가 다시 시도될 때까지 건너뛰어 약속별 순서를 보장함
+ * - 실패한 이벤트는 지수 백오프로 다시 시도하고 max-attempts 에 도달하면 발행을 포기하므로 배치 앞자리를 막지 않음
+ * - 발행 성공 후에만 published_at을 기록하므로 중복 발행은 있어도 재시도 한도 안에서는 유실이 없음 (at-least-once)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+    
+    private final AppointmentOutboxRepository outboxRepository;
+    private final List<OutboxEventPublisher> publishers;
+    private final SchedulerLock schedulerLock;
+    
+    static final String RELAY_LOCK = "appointment-outbox-relay";
+    
+    @Value("${appointment.outbox.batch-size:200}")
+    private final int batchSize;
+    
+    @Value("${appointment.outbox.retention-days:7}")
+    private final int retentionDays;
+    
+    // 발행 실패 후 다음 시도까지의 대기 (실패할 때마다 두 배, max-retry-backoff-ms 까지)
+    @Value("${appointment.outbox.retry-backoff-ms:1000}")
+    private final long retryBackoffMillis;
+    
+    @Value("${appointment.outbox.max-retry-backoff-ms:300000}")
+    private final long maxRetryBackoffMillis;
+    
+    // 이 횟수만큼 실패하면 발행을 포기 (보관 기간 후 정리)
+    @Value("${appointment.outbox.max-attempts:10}")
+    private final int maxAttempts;
+    
+    // 한 번의 실행은 리스의 절반 안에 끝냄
+    @Value("${appointment.outbox.relay-lock-seconds:60}")
+    private final long relayLockSeconds;
+    
+    @Scheduled(fixedDelayString = "${appointment.outbox.relay-interval-ms:1000}")
+    public void relay() {
+        Duration lease = Duration.ofSeconds(relayLockSeconds);
+        if (!schedulerLock.tryAcquire(RELAY_LOCK, lease)) {
+            return;
+        }
+        try {
+            long deadline = System.nanoTime() + lease.toNanos() / 2;
+            int published;
+            do {
+                published = relayBatch();
+            } while (published == batchSize && System.nanoTime() < deadline);
+        } catch (Exception e) {
+            log.error("아웃박스 이벤트 발행 중 오류 발생", e);
+        } finally {
+            schedulerLock.release(RELAY_LOCK);
+        }
+    }
+    
+    /**
+     * 미발행 이벤트 한 배치 발행
+     * @return 발행 완료 처리된 이벤트 수
+     */
+    int relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<AppointmentOutboxEvent> batch = outboxRepository.findRelayable(now, maxAttempts, PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        
+        List<Long> publishedIds = new ArrayList<>(batch.size());
+        Set<String> blockedAppointments = new HashSet<>();
+        for (AppointmentOutboxEvent event : batch) {
+            if (blockedAppointments.contains(event.getAppointmentId())) {
+                continue;
+            }
+            try {
+                publishers.forEach(publisher -> publisher.publish(event));
+                publishedIds.add(event.getId());
+            } catch (RuntimeException e) {
+                blockedAppointments.add(event.getAppointmentId());
+                retryLater(event, now, e);
+            }
+        }
+        
+        if (!publishedIds.isEmpty()) {
+            outboxRepository.markPublished(publishedIds, LocalDateTime.now());
+        }
+        log.debug("아웃박스 이벤트 발행 완료: {}개 / 배치 {}개", publishedIds.size(), batch.size());
+        return publishedIds.size();
+    }
+    
+    /**
+     * 발행 실패 기록 - 실패 횟수에 따라 다음 시도 시각을 미루고, 한도에 도달하면 발행 포기
+     */
+    private void retryLater(AppointmentOutboxEvent event, LocalDateTime now, RuntimeException cause) {
+        int attempts = event.getAttempts() + 1;
+        long backoffMillis = Math.min(maxRetryBackoffMillis, retryBackoffMillis << Math.min(attempts - 1, 20));
+        outboxRepository.markFailed(event.getId(), now.plus(Duration.ofMillis(backoffMillis)));
+        if (attempts >= maxAttempts) {
+            log.error("아웃박스 이벤트 발행 재시도 한도 초과, 발행 포기 - id: {}, appointmentId: {}, attempts: {}",
+                    event.getId(), event.getAppointmentId(), attempts, cause);
+        } else {
+            log.warn("아웃박스 이벤트 발행 실패, {}ms 후 재시도 - id: {}, appointmentId: {}, attempts: {}",
+                    backoffMillis, event.getId(), event.getAppointmentId(), attempts, cause);
+        }
+    }
+    
+    /**
+     * 보관 기간이 지난 발행 완료/발행 포기 이벤트 정리 (매시 정각)
+     */
+    @Scheduled(cron = "${appointment.outbox.cleanup-cron:0 0 * * * *}")
+    public void cleanup() {
+        try {
+            LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+            int deleted = outboxRepository.deletePublishedBefore(before);
+            int abandoned = outboxRepository.deleteAbandonedBefore(maxAttempts, before);
+            if (deleted > 0 || abandoned > 0) {
+                log.info("아웃박스 이벤트 정리: 발행 완료 {}개, 발행 포기 {}개", deleted, abandoned);
+            }
+        } catch (Exception e) {
+            log.error("아웃박스 이벤트 정리 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.appointment.event;
+
+import com.example.appointment.entity.AppointmentOutboxEvent;
+import com.example.appointment.repository.AppointmentOutboxRepository;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 발행 완료 아웃박스 이벤트를 발행 순서(published_at, id)대로 따라 읽는 커서
+ * - id가 아니라 발행 순서로 읽으므로 재시도 끝에 늦게 발행된 이벤트나 id 순서와 다르게 커밋된 이벤트도 건너뛰지 않음
+ * - 조회마다 마지막 발행 시각에서 lookback 만큼 되돌아가 다시 읽고 이미 전달한 id는 건너뜀
+ *   (발행 표시가 늦게 커밋되거나 인스턴스 간 시계 차이로 앞선 시각에 기록돼도 lookback 안이면 전달됨)
+ * - 시작 위치는 첫 조회 때 마지막 발행 시각으로 정하므로 기동 중에는 DB를 조회하지 않음
+ * - 한 스레드(스케줄러)에서만 사용
+ */
+public class OutboxTail {
+    
+    // 발행 완료 이벤트가 하나도 없을 때의 시작 위치
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(2000, 1, 1, 0, 0);
+    
+    private final AppointmentOutboxRepository outboxRepository;
+    private final int batchSize;
+    private final Duration lookback;
+    
+    // lookback 구간 안에서 이미 전달한 이벤트 id → 발행 시각
+    private final Map<Long, LocalDateTime> delivered = new HashMap<>();
+    private LocalDateTime highWater;
+    
+    public OutboxTail(AppointmentOutboxRepository outboxRepository, int batchSize, Duration lookback) {
+        this.outboxRepository = outboxRepository;
+        this.batchSize = batchSize;
+        this.lookback = lookback;
+    }
+    
+    /**
+     * 새로 발행된 이벤트를 발행 순서대로 전달
+     * @return 전달한 이벤트 수
+     */
+    public int poll(Consumer<AppointmentOutboxEvent> consumer) {
+        if (highWater == null) {
+            LocalDateTime lastPublishedAt = outboxRepository.findMaxPublishedAt();
+            highWater = lastPublishedAt != null ? lastPublishedAt : BEGINNING;
+            // 시작 이전에 발행된 이벤트는 전달하지 않음
+            scan(event -> { });
+        }
+        return scan(consumer);
+    }
+    
+    private int scan(Consumer<AppointmentOutboxEvent> consumer) {
+        LocalDateTime cursorTime = highWater.minus(lookback);
+        long cursorId = 0;
+        int count = 0;
+        List<AppointmentOutboxEvent> events;
+        do {
+            events = outboxRepository.findPublishedAfter(cursorTime, cursorId, PageRequest.of(0, batchSize));
+            for (AppointmentOutboxEvent event : events) {
+                cursorTime = event.getPublishedAt();
+                cursorId = event.getId();
+                if (delivered.putIfAbsent(event.getId(), event.getPublishedAt()) == null) {
+                    consumer.accept(event);
+                    count++;
+                }
+            }
+        } while (events.size() == batchSize);
+        
+        if (cursorTime.isAfter(highWater)) {
+            highWater = cursorTime;
+        }
+        // 다음 조회 구간보다 앞선 id는 다시 읽히지 않으므로 정리
+        LocalDateTime horizon = highWater.minus(lookback);
+        delivered.values().removeIf(publishedAt -> publishedAt.isBefore(horizon));
+        return count;
+    }
+}
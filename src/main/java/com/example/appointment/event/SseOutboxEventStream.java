@@ -0,0 +1,146 @@
+package com.example.appointment.event;
+
+import com.example.appointment.entity.AppointmentOutboxEvent;
+import com.example.appointment.repository.AppointmentOutboxRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 약속 변경 이벤트 SSE 스트림 - 이 인스턴스에 연결된 구독자에게 발행 완료 아웃박스 이벤트를 전달함
+ * - 릴레이는 리스를 가진 한 인스턴스에서만 실행되므로, 인스턴스마다 발행 완료 이벤트를 발행 순서대로 따라 읽어 자기 구독자에게 보냄
+ * - 구독자가 없어도 계속 따라 읽어, 새 구독자가 연결 직후 발행된 이벤트를 놓치지 않게 함 (연결 이전 이벤트는 Last-Event-ID 재전송)
+ * - 구독자 전송 실패는 해당 구독만 정리함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SseOutboxEventStream {
+    
+    private static final int REPLAY_BATCH_SIZE = 500;
+    
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    
+    private final AppointmentOutboxRepository outboxRepository;
+    
+    @Value("${appointment.outbox.sse-timeout-ms:1800000}")
+    private final long timeoutMillis;
+    
+    @Value("${appointment.outbox.sse-batch-size:500}")
+    private final int batchSize;
+    
+    // 발행 표시의 커밋 지연/인스턴스 간 시계 차이보다 길어야 함
+    @Value("${appointment.outbox.sse-lookback-ms:5000}")
+    private final long lookbackMillis;
+    
+    private OutboxTail tail;
+    
+    @PostConstruct
+    void start() {
+        tail = new OutboxTail(outboxRepository, batchSize, Duration.ofMillis(lookbackMillis));
+    }
+    
+    /**
+     * 새 SSE 구독 등록
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+        emitters.add(emitter);
+        return emitter;
+    }
+    
+    /**
+     * 발행 완료 이벤트를 발행 순서대로 읽어 이 인스턴스의 구독자에게 전달
+     */
+    @Scheduled(fixedDelayString = "${appointment.outbox.sse-poll-interval-ms:500}")
+    public void pollOutbox() {
+        try {
+            tail.poll(this::broadcast);
+        } catch (Exception e) {
+            log.error("SSE 스트림용 아웃박스 이벤트 조회 중 오류 발생", e);
+        }
+    }
+    
+    /**
+     * Last-Event-ID 이후 발행된 이벤트 재전송 (중복 가능, id로 중복 제거)
+     * 기준 이벤트의 발행 시각에서 lookback 만큼 앞부터 발행 순서대로 보내고, 기준 이벤트가 이미 정리됐으면 id 순서로 보냄
+     */
+    public void replay(SseEmitter emitter, long lastEventId) {
+        LocalDateTime lastPublishedAt = outboxRepository.findById(lastEventId)
+                .map(AppointmentOutboxEvent::getPublishedAt)
+                .orElse(null);
+        if (lastPublishedAt == null) {
+            replayById(emitter, lastEventId);
+            return;
+        }
+        
+        LocalDateTime cursorTime = lastPublishedAt.minus(Duration.ofMillis(lookbackMillis));
+        long cursorId = 0;
+        List<AppointmentOutboxEvent> events;
+        do {
+            events = outboxRepository.findPublishedAfter(cursorTime, cursorId, PageRequest.of(0, REPLAY_BATCH_SIZE));
+            for (AppointmentOutboxEvent event : events) {
+                if (event.getId() != lastEventId && !send(emitter, event)) {
+                    return;
+                }
+                cursorTime = event.getPublishedAt();
+                cursorId = event.getId();
+            }
+        } while (events.size() == REPLAY_BATCH_SIZE);
+    }
+    
+    public int getSubscriberCount() {
+        return emitters.size();
+    }
+    
+    void broadcast(AppointmentOutboxEvent event) {
+        for (SseEmitter emitter : emitters) {
+            send(emitter, event);
+        }
+    }
+    
+    private void replayById(SseEmitter emitter, long lastEventId) {
+        long cursor = lastEventId;
+        List<AppointmentOutboxEvent> events;
+        do {
+            events = outboxRepository.findByIdGreaterThanAndPublishedAtIsNotNullOrderByIdAsc(
+                    cursor, PageRequest.of(0, REPLAY_BATCH_SIZE));
+            for (AppointmentOutboxEvent event : events) {
+                if (!send(emitter, event)) {
+                    return;
+                }
+                cursor = event.getId();
+            }
+        } while (events.size() == REPLAY_BATCH_SIZE);
+    }
+    
+    private boolean send(SseEmitter emitter, AppointmentOutboxEvent event) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(event.getId()))
+                    .name(event.getEventType())
+                    .data(event.getPayload(), MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 구독자 전송 실패, 구독 해제 - eventId: {}", event.getId());
+            emitters.remove(emitter);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.appointment.idempotency;
+
+import com.example.appointment.admission.ClientIdentityResolver;
+import com.example.appointment.dto.ErrorResponse;
+import com.example.appointment.entity.AppointmentIdempotencyKey;
+import com.example.appointment.entity.AppointmentIdempotencyKeyId;
+import com.example.appointment.repository.AppointmentIdempotencyKeyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 요청 결과 저장소 (약속 생성 / 상태 변경 재시도 중복 방지)
+ * - 키는 요청 클라이언트(ClientIdentityResolver Idempotency-Key 범위)별로 구분 - 다른 클라이언트가 같은 키를 보내도 서로의 응답을 받지 않음
+ *   등록된 API 키가 없는 클라이언트는 X-Installation-Id 가 있어야 키를 쓸 수 있음 (없으면 400)
+ * - 같은 키의 재시도는 요청(작업 + 본문) 해시가 같으면 처음 성공 응답을 그대로 반환하고, 검증/저장을 다시 실행하지 않음
+ * - 처리 시작 시 DB에 키를 선점(INSERT)하므로 다른 인스턴스로 들어온 재시도도 중복 실행되지 않음 (처리 중이면 409)
+ * - 완료된 응답은 크기 제한 인메모리 캐시에 두고, 캐시에 없으면 DB에서 읽음
+ * - 성공(2xx) 응답만 기록하고, 실패하면 키를 해제하여 재시도가 다시 실행되도록 함
+ * - 만료(ttl-hours)된 키는 주기적으로 삭제
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyStore {
+    
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    static final int MAX_KEY_LENGTH = 100;
+    
+    private final AppointmentIdempotencyKeyRepository repository;
+    private final ObjectMapper objectMapper;
+    
+    @Value("${appointment.idempotency.ttl-hours:24}")
+    private final long ttlHours;
+    
+    // 처리 중 키가 이 시간 넘게 완료되지 않으면 같은 요청의 재시도가 다시 선점할 수 있음 (처리 중 인스턴스 중단 대비)
+    @Value("${appointment.idempotency.lock-timeout-ms:60000}")
+    private final long lockTimeoutMillis;
+    
+    @Value("${appointment.idempotency.max-cached-keys:10000}")
+    private final long maxCachedKeys;
+    
+    private Cache<AppointmentIdempotencyKeyId, Completed> completed;
+    
+    /**
+     * 완료된 요청의 응답 (인메모리 캐시 값)
+     */
+    private static final class Completed {
+        
+        final String requestHash;
+        final int status;
+        final Object body;
+        
+        Completed(String requestHash, int status, Object body) {
+            this.requestHash = requestHash;
+            this.status = status;
+            this.body = body;
+        }
+    }
+    
+    @PostConstruct
+    void init() {
+        completed = Caffeine.newBuilder()
+                .maximumSize(maxCachedKeys)
+                .expireAfterWrite(Duration.ofHours(ttlHours))
+                .build();
+    }
+    
+    /**
+     * 키가 있으면 한 번만 실행하고 결과를 기록, 같은 클라이언트의 같은 키 재시도에는 기록된 응답을 반환 (키가 없으면 그대로 실행)
+     * @param clientId     요청 클라이언트의 키 범위 (ClientIdentityResolver, 키를 쓸 수 없는 클라이언트면 null) - 키는 클라이언트별로 구분됨
+     * @param operation    작업 구분 (예: "POST /appointments") - 요청 해시에 포함되어 다른 작업에 같은 키를 쓰면 거부됨
+     * @param request      요청 본문
+     * @param responseType 성공 응답 본문 타입 (DB에 기록된 응답 복원용)
+     */
+    public ResponseEntity<?> execute(String clientId, String idempotencyKey, String operation, Object request,
+                                     Class<?> responseType, Supplier<ResponseEntity<?>> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("InvalidRequest", HEADER + " must be 1.." + MAX_KEY_LENGTH + " characters"));
+        }
+        if (clientId == null) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("InvalidRequest", HEADER + " requires a registered " + ClientIdentityResolver.API_KEY_HEADER
+                        + " or an " + ClientIdentityResolver.INSTALLATION_ID_HEADER + " of 16..64 letters, digits, '-' or '_'"));
+        }
+        
+        AppointmentIdempotencyKeyId key = new AppointmentIdempotencyKeyId(clientId, idempotencyKey);
+        String requestHash = requestHash(operation, request);
+        Completed cached = completed.getIfPresent(key);
+        if (cached != null) {
+            return replay(key, cached, requestHash);
+        }
+        
+        if (!reserve(key, requestHash)) {
+            return existing(key, requestHash, responseType);
+        }
+        
+        ResponseEntity<?> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException | Error e) {
+            release(key);
+            throw e;
+        }
+        
+        if (response.getStatusCode().is2xxSuccessful()) {
+            recordResponse(key, requestHash, response);
+        } else {
+            release(key);
+        }
+        return response;
+    }
+    
+    /**
+     * 만료된 키 정리
+     */
+    @Scheduled(cron = "${appointment.idempotency.cleanup-cron:0 */10 * * * *}")
+    public void cleanup() {
+        try {
+            int deleted = repository.deleteExpired(LocalDateTime.now());
+            if (deleted > 0) {
+                log.info("만료된 Idempotency-Key 정리: {}개", deleted);
+            }
+        } catch (Exception e) {
+            log.error("Idempotency-Key 정리 중 오류 발생", e);
+        }
+    }
+    
+    private boolean reserve(AppointmentIdempotencyKeyId key, String requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusHours(ttlHours);
+        try {
+            repository.reserve(key.getClientId(), key.getIdempotencyKey(), requestHash, now, expiresAt);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return repository.reclaim(key.getClientId(), key.getIdempotencyKey(), requestHash, now, expiresAt,
+                    now.minusNanos(lockTimeoutMillis * 1_000_000L)) > 0;
+        }
+    }
+    
+    /**
+     * 이미 선점된 키 - 완료됐으면 기록된 응답, 처리 중이면 409
+     */
+    private ResponseEntity<?> existing(AppointmentIdempotencyKeyId key, String requestHash, Class<?> responseType) {
+        Optional<AppointmentIdempotencyKey> existing = repository.findById(key);
+        if (existing.isPresent() && existing.get().getCompletedAt() != null) {
+            AppointmentIdempotencyKey row = existing.get();
+            Completed stored = new Completed(row.getRequestHash(), row.getResponseStatus(),
+                    fromJson(row.getResponseBody(), responseType));
+            completed.put(key, stored);
+            return replay(key, stored, requestHash);
+        }
+        if (existing.isPresent() && !existing.get().getRequestHash().equals(requestHash)) {
+            return mismatch(key);
+        }
+        log.debug("Idempotency-Key still in progress: {}", key);
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(new ErrorResponse("Conflict", "A request with this " + HEADER + " is still in progress, please retry"));
+    }
+    
+    private ResponseEntity<?> replay(AppointmentIdempotencyKeyId key, Completed stored, String requestHash) {
+        if (!stored.requestHash.equals(requestHash)) {
+            return mismatch(key);
+        }
+        log.debug("Replaying stored response for Idempotency-Key: {}", key);
+        return ResponseEntity.status(stored.status)
+            .header(REPLAYED_HEADER, "true")
+            .body(stored.body);
+    }
+    
+    private ResponseEntity<?> mismatch(AppointmentIdempotencyKeyId key) {
+        log.warn("Idempotency-Key reused with a different request: {}", key);
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+            .body(new ErrorResponse("InvalidRequest", HEADER + " was already used with a different request"));
+    }
+    
+    private void recordResponse(AppointmentIdempotencyKeyId key, String requestHash, ResponseEntity<?> response) {
+        int status = response.getStatusCode().value();
+        completed.put(key, new Completed(requestHash, status, response.getBody()));
+        try {
+            repository.complete(key.getClientId(), key.getIdempotencyKey(), status, toJson(response.getBody()),
+                    LocalDateTime.now());
+        } catch (RuntimeException e) {
+            // 이 인스턴스의 캐시로는 재시도에 응답할 수 있으며, 다른 인스턴스는 선점 제한 시간 이후 다시 실행함
+            log.error("Failed to record response for Idempotency-Key: {}", key, e);
+        }
+    }
+    
+    private void release(AppointmentIdempotencyKeyId key) {
+        try {
+            repository.release(key.getClientId(), key.getIdempotencyKey());
+        } catch (RuntimeException e) {
+            log.error("Failed to release Idempotency-Key: {}", key, e);
+        }
+    }
+    
+    /**
+     * 작업 + 요청 본문 JSON 의 SHA-256 (hex)
+     */
+    String requestHash(String operation, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(operation.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Failed to hash idempotent request", e);
+        }
+    }
+    
+    private String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize idempotent response", e);
+        }
+    }
+    
+    private Object fromJson(String body, Class<?> responseType) {
+        try {
+            return objectMapper.readValue(body, responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize idempotent response", e);
+        }
+    }
+}
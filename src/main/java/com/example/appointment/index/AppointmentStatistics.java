@@ -0,0 +1,226 @@
+package com.example.appointment.index;
+
+import com.example.appointment.dto.AppointmentStatisticsDto;
+import com.example.appointment.entity.Appointment;
+import com.example.appointment.event.AppointmentChangedEvent;
+import com.example.appointment.repository.AppointmentArchiveRepository;
+import com.example.appointment.repository.AppointmentRepository;
+import com.example.appointment.repository.DateCountView;
+import com.example.appointment.repository.KeyCountView;
+import com.example.appointment.repository.StatusCountView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 약속 통계 인메모리 카운터 (상태별 / 장소별 / 호스트별 / 시작 날짜별, 보관된 약속 포함)
+ * - 약속 변경 이벤트(커밋 이후)마다 LongAdder 카운터를 증감하므로 갱신끼리 경합하지 않음
+ * - 주기적으로 GROUP BY 집계로 전체를 다시 계산하여 교체함 (다른 인스턴스의 변경 보정)
+ * - 집계는 한 읽기 트랜잭션의 스냅샷으로 실행하고, 집계 중 들어온 이벤트는 새 카운터에 다시 적용한 뒤 교체함
+ *   (집계 시작 직전에 커밋된 변경은 두 번 반영될 수 있으나 다음 재조정에서 보정됨)
+ * - 보관 테이블도 집계하므로 보관 작업으로 인한 이동은 통계에 영향 없음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentStatistics {
+    
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentArchiveRepository archiveRepository;
+    private final PlatformTransactionManager transactionManager;
+    
+    // 이벤트 반영은 읽기 잠금으로 서로 경합하지 않고, 재조정 시작/교체만 쓰기 잠금으로 이벤트 반영과 배타적으로 실행
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile Counters counters = new Counters();
+    private volatile Queue<AppointmentChangedEvent> pendingDuringReconcile; // 쓰기 잠금 안에서만 교체
+    private volatile boolean ready;
+    private volatile LocalDateTime reconciledAt;
+    
+    /**
+     * 약속 변경 이벤트 반영 (커밋된 변경만)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        Lock lock = swapLock.readLock();
+        lock.lock();
+        try {
+            counters.apply(event);
+            Queue<AppointmentChangedEvent> pending = pendingDuringReconcile;
+            if (pending != null) {
+                pending.add(event);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * DB 집계로 카운터 전체 재계산
+     * 집계 중 들어온 이벤트는 집계 결과에 다시 적용한 뒤 교체함
+     */
+    @Scheduled(initialDelayString = "${appointment.statistics.initial-delay-ms:0}",
+               fixedDelayString = "${appointment.statistics.reconcile-interval-ms:300000}")
+    public synchronized void reconcile() {
+        Queue<AppointmentChangedEvent> pending = new ConcurrentLinkedQueue<>();
+        underWriteLock(() -> pendingDuringReconcile = pending);
+        try {
+            // 여러 집계가 같은 시점을 보도록 한 트랜잭션에서 실행 (보관 이동 중인 약속의 중복/누락 방지)
+            TransactionTemplate snapshot = new TransactionTemplate(transactionManager);
+            snapshot.setReadOnly(true);
+            snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+            Counters rebuilt = snapshot.execute(status -> aggregate());
+            underWriteLock(() -> {
+                pending.forEach(rebuilt::apply);
+                pendingDuringReconcile = null;
+                counters = rebuilt;
+            });
+            reconciledAt = LocalDateTime.now();
+            ready = true;
+            log.debug("Reconciled appointment statistics: {} locations, {} hosts, {} days",
+                    rebuilt.byLocation.size(), rebuilt.byHost.size(), rebuilt.byDay.size());
+        } catch (RuntimeException e) {
+            underWriteLock(() -> pendingDuringReconcile = null);
+            log.error("Failed to reconcile appointment statistics", e);
+        }
+    }
+    
+    private Counters aggregate() {
+        Counters rebuilt = new Counters();
+        for (List<StatusCountView> rows : List.of(appointmentRepository.countByStatus(), archiveRepository.countByStatus())) {
+            rows.forEach(row -> rebuilt.byStatus.get(row.getAppointmentStatus()).add(row.getCount()));
+        }
+        for (List<KeyCountView> rows : List.of(appointmentRepository.countByLocation(), archiveRepository.countByLocation())) {
+            rows.forEach(row -> Counters.counter(rebuilt.byLocation, row.getBucketKey()).add(row.getCount()));
+        }
+        for (List<KeyCountView> rows : List.of(appointmentRepository.countByHost(), archiveRepository.countByHost())) {
+            rows.forEach(row -> Counters.counter(rebuilt.byHost, row.getBucketKey()).add(row.getCount()));
+        }
+        for (List<DateCountView> rows : List.of(appointmentRepository.countByStartDate(), archiveRepository.countByStartDate())) {
+            rows.forEach(row -> Counters.counter(rebuilt.byDay, row.getBucketDate()).add(row.getCount()));
+        }
+        return rebuilt;
+    }
+    
+    private void underWriteLock(Runnable action) {
+        Lock lock = swapLock.writeLock();
+        lock.lock();
+        try {
+            action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * 현재 통계 (첫 재조정 전이면 먼저 DB 집계)
+     * @param from byDay 시작 날짜 (포함, null 이면 제한 없음)
+     * @param to   byDay 종료 날짜 (포함, null 이면 제한 없음)
+     */
+    public AppointmentStatisticsDto snapshot(LocalDate from, LocalDate to) {
+        if (!ready) {
+            reconcile();
+        }
+        Counters current = counters;
+        
+        Map<Appointment.AppointmentStatus, Long> byStatus = new EnumMap<>(Appointment.AppointmentStatus.class);
+        long total = 0;
+        for (Map.Entry<Appointment.AppointmentStatus, LongAdder> entry : current.byStatus.entrySet()) {
+            long count = entry.getValue().sum();
+            byStatus.put(entry.getKey(), count);
+            total += count;
+        }
+        
+        Map<LocalDate, Long> byDay = new TreeMap<>();
+        current.byDay.forEach((day, counter) -> {
+            if ((from == null || !day.isBefore(from)) && (to == null || !day.isAfter(to))) {
+                putNonZero(byDay, day, counter);
+            }
+        });
+        
+        return new AppointmentStatisticsDto(total, byStatus, sorted(current.byLocation), sorted(current.byHost),
+                byDay, reconciledAt);
+    }
+    
+    private static Map<String, Long> sorted(Map<String, LongAdder> counters) {
+        Map<String, Long> result = new TreeMap<>();
+        counters.forEach((key, counter) -> putNonZero(result, key, counter));
+        return result;
+    }
+    
+    private static <K> void putNonZero(Map<K, Long> result, K key, LongAdder counter) {
+        long count = counter.sum();
+        if (count != 0) {
+            result.put(key, count);
+        }
+    }
+    
+    /**
+     * 카운터 묶음 - 재조정 시 통째로 교체
+     */
+    private static final class Counters {
+        
+        final Map<Appointment.AppointmentStatus, LongAdder> byStatus = new EnumMap<>(Appointment.AppointmentStatus.class);
+        final Map<String, LongAdder> byLocation = new ConcurrentHashMap<>();
+        final Map<String, LongAdder> byHost = new ConcurrentHashMap<>();
+        final Map<LocalDate, LongAdder> byDay = new ConcurrentHashMap<>();
+        
+        Counters() {
+            // 상태 키는 고정이므로 미리 만들어 두고 이후 맵 구조는 변경하지 않음
+            for (Appointment.AppointmentStatus status : Appointment.AppointmentStatus.values()) {
+                byStatus.put(status, new LongAdder());
+            }
+        }
+        
+        // 보관 이동(ARCHIVED)은 보관 테이블까지 함께 집계하므로 건수 변화 없음
+        void apply(AppointmentChangedEvent event) {
+            switch (event.getType()) {
+                case CREATED -> {
+                    byStatus.get(event.getAppointmentStatus()).increment();
+                    adjustKeys(event, 1);
+                }
+                case STATUS_CHANGED -> {
+                    if (event.getPreviousStatus() != null && event.getPreviousStatus() != event.getAppointmentStatus()) {
+                        byStatus.get(event.getPreviousStatus()).decrement();
+                        byStatus.get(event.getAppointmentStatus()).increment();
+                    }
+                }
+                case DELETED -> {
+                    byStatus.get(event.getAppointmentStatus()).decrement();
+                    adjustKeys(event, -1);
+                }
+            }
+        }
+        
+        private void adjustKeys(AppointmentChangedEvent event, long delta) {
+            counter(byLocation, event.getLocationId()).add(delta);
+            counter(byHost, event.getHostId()).add(delta);
+            counter(byDay, event.getStartTime().toLocalDate()).add(delta);
+        }
+        
+        static <K> LongAdder counter(Map<K, LongAdder> counters, K key) {
+            // 이미 있는 키는 잠금 없이 조회
+            LongAdder counter = counters.get(key);
+            return counter != null ? counter : counters.computeIfAbsent(key, k -> new LongAdder());
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.appointment.index;
+
+import com.example.appointment.dto.TimelineEntryDto;
+import com.example.appointment.entity.Appointment;
+import com.example.appointment.event.AppointmentChangedEvent;
+import com.example.appointment.repository.AppointmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 호스트별/장소별 인메모리 약속 타임라인 인덱스
+ * - 약속 변경 이벤트(커밋 이후)로 증분 갱신함
+ * - 주기적으로 DB에서 전체 재구성하여 다른 인스턴스의 변경도 반영함
+ * - 재구성 전에는 isReady()가 false이며, 호출 측은 DB 조회로 대체해야 함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentTimelineIndex {
+    
+    private static final int REBUILD_PAGE_SIZE = 1000;
+    private static final Appointment.AppointmentStatus[] STATUSES = Appointment.AppointmentStatus.values();
+    
+    private final AppointmentRepository appointmentRepository;
+    
+    private final Object lock = new Object();
+    private volatile State state = new State();
+    private volatile boolean ready;
+    private List<AppointmentChangedEvent> pendingDuringRebuild; // lock으로 보호
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * 약속 변경 이벤트 반영 (커밋된 변경만)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        synchronized (lock) {
+            state.apply(event);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+        }
+    }
+    
+    /**
+     * DB에서 인덱스 전체 재구성
+     * 재구성 중 들어온 이벤트는 새 인덱스에 다시 적용한 뒤 교체함
+     */
+    @Scheduled(initialDelayString = "${appointment.timeline.initial-delay-ms:0}",
+               fixedDelayString = "${appointment.timeline.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        synchronized (lock) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+        
+        State rebuilt = new State();
+        int count = 0;
+        try {
+            String lastId = "";
+            List<Appointment> page;
+            do {
+                page = appointmentRepository.findByAppointmentIdGreaterThanOrderByAppointmentIdAsc(
+                        lastId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+                for (Appointment appointment : page) {
+                    rebuilt.upsert(appointment.getAppointmentId(), appointment.getHostId(), appointment.getLocationId(),
+                            appointment.getStartTime(), appointment.getEndTime(), appointment.getAppointmentStatus());
+                    lastId = appointment.getAppointmentId();
+                }
+                count += page.size();
+            } while (page.size() == REBUILD_PAGE_SIZE);
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                pendingDuringRebuild = null;
+            }
+            log.error("Failed to rebuild appointment timeline index", e);
+            return;
+        }
+        
+        synchronized (lock) {
+            pendingDuringRebuild.forEach(rebuilt::apply);
+            pendingDuringRebuild = null;
+            state = rebuilt;
+        }
+        ready = true;
+        log.info("Rebuilt appointment timeline index: {} appointments, {} hosts, {} locations",
+                count, rebuilt.byHost.size(), rebuilt.byLocation.size());
+    }
+    
+    /**
+     * 호스트의 [from, to) 구간과 겹치는 약속 조회
+     */
+    public List<TimelineEntryDto> findByHost(String hostId, LocalDateTime from, LocalDateTime to) {
+        State current = state;
+        return query(current, current.byHost.get(hostId), toEpoch(from), toEpoch(to), false);
+    }
+    
+    /**
+     * 장소의 [from, to) 구간과 겹치는 약속 조회
+     */
+    public List<TimelineEntryDto> findByLocation(String locationId, LocalDateTime from, LocalDateTime to) {
+        State current = state;
+        return query(current, current.byLocation.get(locationId), toEpoch(from), toEpoch(to), false);
+    }
+    
+    /**
+     * 장소에서 특정 시각에 진행 중인 약속 조회 (취소 제외)
+     */
+    public List<TimelineEntryDto> findActiveAtLocation(String locationId, LocalDateTime at) {
+        State current = state;
+        long epoch = toEpoch(at);
+        return query(current, current.byLocation.get(locationId), epoch, epoch + 1, true);
+    }
+    
+    private List<TimelineEntryDto> query(State current, Timeline timeline, long from, long to, boolean excludeCancelled) {
+        if (timeline == null) {
+            return List.of();
+        }
+        Timeline.Snapshot snapshot = timeline.snapshot();
+        int end = snapshot.lowerBound(to);
+        List<TimelineEntryDto> result = new ArrayList<>();
+        for (int i = snapshot.firstCandidate(from); i < end; i++) {
+            if (snapshot.ends[i] <= from) {
+                continue;
+            }
+            Appointment.AppointmentStatus status = STATUSES[snapshot.statuses[i]];
+            if (excludeCancelled && status == Appointment.AppointmentStatus.CANCELLED) {
+                continue;
+            }
+            result.add(new TimelineEntryDto(
+                    current.ids.idOf(snapshot.ids[i]),
+                    fromEpoch(snapshot.starts[i]),
+                    fromEpoch(snapshot.ends[i]),
+                    status));
+        }
+        return result;
+    }
+    
+    private static long toEpoch(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+    
+    private static LocalDateTime fromEpoch(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+    
+    /**
+     * 인덱스 상태 (ID 인터너 + 호스트/장소별 타임라인)
+     */
+    private static final class State {
+        
+        final IdInterner ids = new IdInterner();
+        final Map<String, Timeline> byHost = new ConcurrentHashMap<>();
+        final Map<String, Timeline> byLocation = new ConcurrentHashMap<>();
+        
+        void apply(AppointmentChangedEvent event) {
+            if (event.getType() == AppointmentChangedEvent.Type.DELETED
+                    || event.getType() == AppointmentChangedEvent.Type.ARCHIVED) {
+                remove(event.getAppointmentId(), event.getHostId(), event.getLocationId());
+            } else {
+                upsert(event.getAppointmentId(), event.getHostId(), event.getLocationId(),
+                        event.getStartTime(), event.getEndTime(), event.getAppointmentStatus());
+            }
+        }
+        
+        void upsert(String appointmentId, String hostId, String locationId,
+                    LocalDateTime startTime, LocalDateTime endTime, Appointment.AppointmentStatus status) {
+            int code = ids.intern(appointmentId);
+            long start = toEpoch(startTime);
+            long end = toEpoch(endTime);
+            byte statusCode = (byte) status.ordinal();
+            byHost.computeIfAbsent(hostId, key -> new Timeline()).upsert(code, start, end, statusCode);
+            byLocation.computeIfAbsent(locationId, key -> new Timeline()).upsert(code, start, end, statusCode);
+        }
+        
+        void remove(String appointmentId, String hostId, String locationId) {
+            int code = ids.codeOf(appointmentId);
+            if (code < 0) {
+                return;
+            }
+            removeFrom(byHost, hostId, code);
+            removeFrom(byLocation, locationId, code);
+        }
+        
+        private static void removeFrom(Map<String, Timeline> timelines, String key, int code) {
+            Timeline timeline = timelines.get(key);
+            if (timeline == null) {
+                return;
+            }
+            timeline.remove(code);
+            if (timeline.isEmpty()) {
+                timelines.remove(key, timeline);
+            }
+        }
+    }
+}
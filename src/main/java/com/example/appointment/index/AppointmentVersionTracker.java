@@ -0,0 +1,80 @@
+package com.example.appointment.index;
+
+import com.example.appointment.repository.AggregateVersionView;
+import com.example.appointment.repository.AppointmentRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoField;
+
+/**
+ * 목록 조회 ETag용 집계 버전 관리
+ * - 범위(전체/호스트별/장소별)의 행 수와 마지막 변경 시각(MAX(updated_at))을 DB에서 읽어 버전을 만듦
+ * - 노드 로컬 상태가 없으므로 어느 인스턴스에서 계산해도 같은 DB 상태면 같은 ETag가 나옴
+ * - 행 수를 함께 쓰는 것은 삭제/보관 이동처럼 updated_at을 남기지 않는 변경을 반영하기 위함
+ */
+@Component
+@RequiredArgsConstructor
+public class AppointmentVersionTracker {
+    
+    /**
+     * 집계 범위
+     */
+    public enum Scope {
+        ALL,
+        HOST,
+        LOCATION
+    }
+    
+    private final AppointmentRepository appointmentRepository;
+    
+    /**
+     * 범위별 약한 ETag(예: W/"host-17-1741305600123456")와 마지막 변경 시각을 한 번의 조회로 계산
+     */
+    public Snapshot snapshot(Scope scope, String key) {
+        AggregateVersionView version = versionOf(scope, key);
+        return new Snapshot(etag(scope, version), lastModified(version));
+    }
+    
+    private AggregateVersionView versionOf(Scope scope, String key) {
+        return switch (scope) {
+            case ALL -> appointmentRepository.findAggregateVersion();
+            case HOST -> appointmentRepository.findAggregateVersionByHostId(key);
+            case LOCATION -> appointmentRepository.findAggregateVersionByLocationId(key);
+        };
+    }
+    
+    private static String etag(Scope scope, AggregateVersionView version) {
+        long count = version.getCount() != null ? version.getCount() : 0L;
+        return "W/\"" + scope.name().toLowerCase() + "-" + count + "-" + toEpochMicros(version.getUpdatedAt()) + "\"";
+    }
+    
+    private static long lastModified(AggregateVersionView version) {
+        return version.getUpdatedAt() != null
+                ? version.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1L;
+    }
+    
+    // DATETIME(6) 정밀도까지 반영 (같은 밀리초 안의 연속 변경 구분), 인스턴스 시간대와 무관하게 같은 값이 나오도록 UTC 기준
+    private static long toEpochMicros(LocalDateTime updatedAt) {
+        if (updatedAt == null) {
+            return 0L;
+        }
+        long epochSecond = updatedAt.toEpochSecond(ZoneOffset.UTC);
+        return epochSecond * 1_000_000L + updatedAt.get(ChronoField.MICRO_OF_SECOND);
+    }
+    
+    /**
+     * 범위별 조건부 요청 검증 값
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Snapshot {
+        private final String etag;
+        private final long lastModified; // epoch millis, 행이 없으면 -1
+    }
+}
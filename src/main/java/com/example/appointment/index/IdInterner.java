@@ -0,0 +1,40 @@
+package com.example.appointment.index;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 약속 ID 인터닝 - 타임라인에는 문자열 대신 int 코드만 저장함
+ * 쓰기는 인덱스 잠금 아래에서만 일어나고, 읽기는 잠금 없이 volatile 배열로 처리함
+ */
+final class IdInterner {
+    
+    private final Map<String, Integer> codes = new HashMap<>();
+    private volatile String[] table = new String[256];
+    private int size;
+    
+    synchronized int intern(String id) {
+        Integer code = codes.get(id);
+        if (code != null) {
+            return code;
+        }
+        String[] current = table;
+        if (size == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+        }
+        current[size] = id;
+        codes.put(id, size);
+        table = current; // volatile 쓰기로 새 슬롯 공개
+        return size++;
+    }
+    
+    synchronized int codeOf(String id) {
+        Integer code = codes.get(id);
+        return code != null ? code : -1;
+    }
+    
+    String idOf(int code) {
+        return table[code];
+    }
+}
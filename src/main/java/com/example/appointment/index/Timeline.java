@@ -0,0 +1,155 @@
+package com.example.appointment.index;
+
+/**
+ * 호스트 또는 장소 하나의 약속 타임라인
+ * - (시작, ID) 순으로 정렬된 원시 타입 배열(epoch 초)을 copy-on-write로 유지함
+ * - 읽기는 불변 스냅샷을 잠금 없이 이진 탐색함
+ */
+final class Timeline {
+    
+    private static final Snapshot EMPTY = new Snapshot(new long[0], new long[0], new int[0], new byte[0], 0L);
+    
+    private volatile Snapshot snapshot = EMPTY;
+    
+    Snapshot snapshot() {
+        return snapshot;
+    }
+    
+    boolean isEmpty() {
+        return snapshot.size() == 0;
+    }
+    
+    /**
+     * 항목 추가 또는 교체 (같은 ID가 있으면 기존 항목을 대체함)
+     */
+    synchronized void upsert(int id, long start, long end, byte status) {
+        Snapshot current = snapshot;
+        int n = current.size();
+        int existing = current.indexOf(id);
+        int newSize = existing >= 0 ? n : n + 1;
+        
+        long[] starts = new long[newSize];
+        long[] ends = new long[newSize];
+        int[] ids = new int[newSize];
+        byte[] statuses = new byte[newSize];
+        long maxDuration = end - start;
+        
+        int w = 0;
+        boolean inserted = false;
+        for (int r = 0; r < n; r++) {
+            if (r == existing) {
+                continue;
+            }
+            if (!inserted && (start < current.starts[r] || (start == current.starts[r] && id < current.ids[r]))) {
+                starts[w] = start;
+                ends[w] = end;
+                ids[w] = id;
+                statuses[w] = status;
+                w++;
+                inserted = true;
+            }
+            starts[w] = current.starts[r];
+            ends[w] = current.ends[r];
+            ids[w] = current.ids[r];
+            statuses[w] = current.statuses[r];
+            maxDuration = Math.max(maxDuration, ends[w] - starts[w]);
+            w++;
+        }
+        if (!inserted) {
+            starts[w] = start;
+            ends[w] = end;
+            ids[w] = id;
+            statuses[w] = status;
+        }
+        snapshot = new Snapshot(starts, ends, ids, statuses, maxDuration);
+    }
+    
+    /**
+     * 항목 제거
+     */
+    synchronized void remove(int id) {
+        Snapshot current = snapshot;
+        int existing = current.indexOf(id);
+        if (existing < 0) {
+            return;
+        }
+        int n = current.size() - 1;
+        long[] starts = new long[n];
+        long[] ends = new long[n];
+        int[] ids = new int[n];
+        byte[] statuses = new byte[n];
+        long maxDuration = 0L;
+        
+        int w = 0;
+        for (int r = 0; r <= n; r++) {
+            if (r == existing) {
+                continue;
+            }
+            starts[w] = current.starts[r];
+            ends[w] = current.ends[r];
+            ids[w] = current.ids[r];
+            statuses[w] = current.statuses[r];
+            maxDuration = Math.max(maxDuration, ends[w] - starts[w]);
+            w++;
+        }
+        snapshot = n == 0 ? EMPTY : new Snapshot(starts, ends, ids, statuses, maxDuration);
+    }
+    
+    /**
+     * 불변 스냅샷
+     */
+    static final class Snapshot {
+        
+        final long[] starts;
+        final long[] ends;
+        final int[] ids;
+        final byte[] statuses;
+        final long maxDuration;
+        
+        Snapshot(long[] starts, long[] ends, int[] ids, byte[] statuses, long maxDuration) {
+            this.starts = starts;
+            this.ends = ends;
+            this.ids = ids;
+            this.statuses = statuses;
+            this.maxDuration = maxDuration;
+        }
+        
+        int size() {
+            return ids.length;
+        }
+        
+        int indexOf(int id) {
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == id) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        
+        /**
+         * starts[i] >= value 를 만족하는 첫 위치
+         */
+        int lowerBound(long value) {
+            int lo = 0;
+            int hi = starts.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (starts[mid] < value) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+        
+        /**
+         * [from, to) 구간과 겹치는 항목의 시작 탐색 위치
+         * 최대 지속시간만큼 앞에서부터 보면 겹치는 항목을 놓치지 않음
+         */
+        int firstCandidate(long from) {
+            return lowerBound(from - maxDuration);
+        }
+    }
+}
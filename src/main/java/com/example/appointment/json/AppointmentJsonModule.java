@@ -0,0 +1,18 @@
+package com.example.appointment.json;
+
+import com.example.appointment.dto.AppointmentResponseDto;
+import com.example.appointment.dto.GuestInfo;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * 응답 DTO 전용 스트리밍 직렬화 모듈
+ * - Spring Boot가 자동 구성하는 ObjectMapper에 등록되어 목록 응답 등 모든 HTTP 응답에 적용됨
+ */
+public class AppointmentJsonModule extends SimpleModule {
+    
+    public AppointmentJsonModule() {
+        super("AppointmentJsonModule");
+        addSerializer(AppointmentResponseDto.class, new AppointmentResponseDtoSerializer());
+        addSerializer(GuestInfo.class, new GuestInfoSerializer());
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.appointment.json;
+
+import com.example.appointment.dto.AppointmentResponseDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * AppointmentResponseDto 스트리밍 직렬화
+ * - 필드명은 미리 인코딩된 SerializedString 사용, 날짜는 LocalDateTimeWriter로 직접 출력
+ * - 출력 형식(필드 순서, null 포함)은 기본 ObjectMapper 직렬화와 동일
+ */
+public class AppointmentResponseDtoSerializer extends StdSerializer<AppointmentResponseDto> {
+    
+    private static final SerializedString APPOINTMENT_ID = new SerializedString("appointmentId");
+    private static final SerializedString HOST_ID = new SerializedString("hostId");
+    private static final SerializedString HOST_USERNAME = new SerializedString("hostUsername");
+    private static final SerializedString HOST_NICKNAME = new SerializedString("hostNickname");
+    private static final SerializedString TITLE = new SerializedString("title");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString START_TIME = new SerializedString("startTime");
+    private static final SerializedString END_TIME = new SerializedString("endTime");
+    private static final SerializedString LOCATION_ID = new SerializedString("locationId");
+    private static final SerializedString APPOINTMENT_STATUS = new SerializedString("appointmentStatus");
+    private static final SerializedString FEEDBACK = new SerializedString("feedback");
+    
+    public AppointmentResponseDtoSerializer() {
+        super(AppointmentResponseDto.class);
+    }
+    
+    @Override
+    public void serialize(AppointmentResponseDto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        char[] buffer = new char[LocalDateTimeWriter.MAX_LENGTH];
+        
+        gen.writeStartObject(value);
+        writeString(gen, APPOINTMENT_ID, value.getAppointmentId());
+        writeString(gen, HOST_ID, value.getHostId());
+        writeString(gen, HOST_USERNAME, value.getHostUsername());
+        writeString(gen, HOST_NICKNAME, value.getHostNickname());
+        writeString(gen, TITLE, value.getTitle());
+        writeString(gen, DESCRIPTION, value.getDescription());
+        writeDateTime(gen, START_TIME, value.getStartTime(), buffer);
+        writeDateTime(gen, END_TIME, value.getEndTime(), buffer);
+        writeString(gen, LOCATION_ID, value.getLocationId());
+        writeString(gen, APPOINTMENT_STATUS,
+                value.getAppointmentStatus() != null ? value.getAppointmentStatus().name() : null);
+        writeString(gen, FEEDBACK, value.getFeedback());
+        gen.writeEndObject();
+    }
+    
+    static void writeString(JsonGenerator gen, SerializedString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+    
+    private static void writeDateTime(JsonGenerator gen, SerializedString name, LocalDateTime value,
+                                      char[] buffer) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            LocalDateTimeWriter.write(gen, value, buffer);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.appointment.json;
+
+import com.example.appointment.dto.GuestInfo;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * GuestInfo 스트리밍 직렬화 (출력 형식은 기본 ObjectMapper 직렬화와 동일)
+ */
+public class GuestInfoSerializer extends StdSerializer<GuestInfo> {
+    
+    private static final SerializedString GUEST_ID = new SerializedString("guestId");
+    private static final SerializedString USER_ID = new SerializedString("userId");
+    private static final SerializedString USERNAME = new SerializedString("username");
+    private static final SerializedString NICKNAME = new SerializedString("nickname");
+    
+    public GuestInfoSerializer() {
+        super(GuestInfo.class);
+    }
+    
+    @Override
+    public void serialize(GuestInfo value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        AppointmentResponseDtoSerializer.writeString(gen, GUEST_ID, value.getGuestId());
+        AppointmentResponseDtoSerializer.writeString(gen, USER_ID, value.getUserId());
+        AppointmentResponseDtoSerializer.writeString(gen, USERNAME, value.getUsername());
+        AppointmentResponseDtoSerializer.writeString(gen, NICKNAME, value.getNickname());
+        gen.writeEndObject();
+    }
+}
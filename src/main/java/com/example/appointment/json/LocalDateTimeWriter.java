@@ -0,0 +1,69 @@
+package com.example.appointment.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * LocalDateTime 고속 출력 - DateTimeFormatter.ISO_LOCAL_DATE_TIME 과 동일한 문자열을 중간 String 없이 출력
+ * (예: 2025-01-01T10:00:00, 2025-01-01T10:00:00.5)
+ */
+final class LocalDateTimeWriter {
+    
+    // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn
+    static final int MAX_LENGTH = 29;
+    
+    private LocalDateTimeWriter() {
+    }
+    
+    static void write(JsonGenerator gen, LocalDateTime value, char[] buffer) throws IOException {
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            // 4자리를 벗어나는 연도는 부호/자릿수 규칙이 달라 표준 포맷터 사용
+            gen.writeString(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            return;
+        }
+        gen.writeString(buffer, 0, format(value, buffer));
+    }
+    
+    /**
+     * buffer에 ISO 형식으로 기록하고 길이를 반환 (연도는 0~9999 범위여야 함)
+     */
+    static int format(LocalDateTime value, char[] buffer) {
+        int pos = 0;
+        pos = digits(buffer, pos, value.getYear(), 4);
+        buffer[pos++] = '-';
+        pos = digits(buffer, pos, value.getMonthValue(), 2);
+        buffer[pos++] = '-';
+        pos = digits(buffer, pos, value.getDayOfMonth(), 2);
+        buffer[pos++] = 'T';
+        pos = digits(buffer, pos, value.getHour(), 2);
+        buffer[pos++] = ':';
+        pos = digits(buffer, pos, value.getMinute(), 2);
+        buffer[pos++] = ':';
+        pos = digits(buffer, pos, value.getSecond(), 2);
+        
+        int nano = value.getNano();
+        if (nano > 0) {
+            // 소수부는 뒤쪽 0을 제외한 최소 자릿수로 출력 (ISO_LOCAL_TIME 규칙)
+            int width = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                width--;
+            }
+            buffer[pos++] = '.';
+            pos = digits(buffer, pos, nano, width);
+        }
+        return pos;
+    }
+    
+    private static int digits(char[] buffer, int pos, int value, int width) {
+        for (int i = pos + width - 1; i >= pos; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + width;
+    }
+}
@@ -0,0 +1,268 @@
+package com.example.appointment.push;
+
+import com.example.appointment.dto.AppointmentStatusPushDto;
+import com.example.appointment.entity.Appointment;
+import com.example.appointment.entity.AppointmentOutboxEvent;
+import com.example.appointment.event.AppointmentChangedEvent;
+import com.example.appointment.event.OutboxTail;
+import com.example.appointment.repository.AppointmentOutboxRepository;
+import com.example.appointment.repository.AppointmentRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 약속 상태 푸시 허브 - 약속 ID별 구독자에게 상태 변경을 SSE로 전달함
+ * - 약속 ID → 구독 목록 인덱스로 변경 1건당 해당 구독자에게만 팬아웃함
+ * - 구독마다 약속별 최신 상태만 보관(덮어쓰기)하므로 느린 클라이언트의 대기 데이터는 구독한 ID 수를 넘지 않음
+ * - 구독당 전송 작업은 동시에 하나만 실행되며 소수의 전송 스레드가 모든 연결을 처리함
+ * - 변경은 릴레이가 발행 완료한 아웃박스 이벤트를 인스턴스마다 발행 순서대로 따라 읽어 받으므로 (OutboxTail),
+ *   어느 인스턴스에서 커밋된 변경이든 모든 인스턴스의 구독자에게 전달됨
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentStatusHub {
+    
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${appointment.push.timeout-ms:3600000}")
+    private final long timeoutMillis;
+    
+    @Value("${appointment.push.sender-threads:4}")
+    private final int senderThreads;
+    
+    @Value("${appointment.push.outbox-batch-size:500}")
+    private final int outboxBatchSize;
+    
+    // 발행 표시의 커밋 지연/인스턴스 간 시계 차이보다 길어야 함
+    @Value("${appointment.push.outbox-lookback-ms:5000}")
+    private final long outboxLookbackMillis;
+    
+    private final Map<String, Set<Subscription>> subscriptionsByAppointment = new ConcurrentHashMap<>();
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private ExecutorService sender;
+    
+    // 폴링 스레드에서만 사용
+    private OutboxTail outboxTail;
+    
+    @PostConstruct
+    void start() {
+        ContextSnapshotFactory snapshotFactory = ContextSnapshotFactory.builder().build();
+        sender = ContextExecutorService.wrap(
+                Executors.newFixedThreadPool(senderThreads, new CustomizableThreadFactory("status-push-")),
+                snapshotFactory::captureAll);
+        // 시작 위치는 첫 폴링 때 정함 (기동 중 DB 조회 없음) - 구독 시 현재 상태를 먼저 보내므로 이후 변경만 따라가면 됨
+        outboxTail = new OutboxTail(outboxRepository, outboxBatchSize, Duration.ofMillis(outboxLookbackMillis));
+        meterRegistry.gauge("appointment.push.subscriptions", subscriptions, Set::size);
+    }
+    
+    @PreDestroy
+    void stop() {
+        sender.shutdownNow();
+        subscriptions.forEach(subscription -> subscription.emitter.complete());
+    }
+    
+    /**
+     * 약속 ID 목록 구독 - 현재 상태를 먼저 전송한 뒤 변경될 때마다 푸시함
+     */
+    public SseEmitter subscribe(Set<String> appointmentIds) {
+        SseEmitter emitter = createEmitter();
+        Subscription subscription = new Subscription(emitter, Set.copyOf(appointmentIds));
+        emitter.onCompletion(() -> unregister(subscription));
+        emitter.onTimeout(() -> unregister(subscription));
+        emitter.onError(e -> unregister(subscription));
+        register(subscription);
+        
+        appointmentRepository.findByAppointmentIdIn(new ArrayList<>(subscription.appointmentIds))
+                .forEach(appointment -> enqueue(subscription, toPush(appointment)));
+        return emitter;
+    }
+    
+    /**
+     * 새로 발행된 아웃박스 이벤트를 발행 순서대로 읽어 팬아웃
+     * 재시도 끝에 늦게 발행되거나 id 순서와 다르게 커밋된 이벤트도 lookback 구간 안이면 전달됨 (종료 상태 전이 포함)
+     */
+    @Scheduled(fixedDelayString = "${appointment.push.outbox-poll-interval-ms:500}")
+    public void pollOutbox() {
+        try {
+            outboxTail.poll(this::onOutboxEvent);
+        } catch (Exception e) {
+            log.error("상태 푸시용 아웃박스 이벤트 조회 중 오류 발생", e);
+        }
+    }
+    
+    /**
+     * 아웃박스 이벤트 1건 팬아웃 - 구독자가 없는 약속은 페이로드를 읽지 않음
+     */
+    void onOutboxEvent(AppointmentOutboxEvent event) {
+        // 보관 이동은 종료 상태 그대로이므로 구독자에게 알릴 변화가 없음
+        if (AppointmentChangedEvent.Type.ARCHIVED.name().equals(event.getEventType())) {
+            return;
+        }
+        Set<Subscription> targets = subscriptionsByAppointment.get(event.getAppointmentId());
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+        
+        AppointmentStatusPushDto push;
+        try {
+            push = toPush(event.getAppointmentId(), objectMapper.readTree(event.getPayload()));
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.warn("상태 푸시 페이로드 해석 실패 - eventId: {}, appointmentId: {}", event.getId(), event.getAppointmentId());
+            return;
+        }
+        targets.forEach(subscription -> enqueue(subscription, push));
+    }
+    
+    /**
+     * 연결 유지용 하트비트 (프록시 유휴 타임아웃 방지 및 끊긴 연결 정리)
+     */
+    @Scheduled(fixedRateString = "${appointment.push.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (Subscription subscription : subscriptions) {
+            subscription.heartbeatDue.set(true);
+            scheduleDrain(subscription);
+        }
+    }
+    
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeoutMillis);
+    }
+    
+    public int getSubscriptionCount() {
+        return subscriptions.size();
+    }
+    
+    private void register(Subscription subscription) {
+        subscriptions.add(subscription);
+        for (String appointmentId : subscription.appointmentIds) {
+            subscriptionsByAppointment.compute(appointmentId, (key, set) -> {
+                Set<Subscription> target = set != null ? set : ConcurrentHashMap.newKeySet();
+                target.add(subscription);
+                return target;
+            });
+        }
+    }
+    
+    private void unregister(Subscription subscription) {
+        if (!subscriptions.remove(subscription)) {
+            return;
+        }
+        subscription.pending.clear();
+        for (String appointmentId : subscription.appointmentIds) {
+            subscriptionsByAppointment.computeIfPresent(appointmentId, (key, set) -> {
+                set.remove(subscription);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+    
+    private void enqueue(Subscription subscription, AppointmentStatusPushDto push) {
+        subscription.pending.put(push.getAppointmentId(), push);
+        scheduleDrain(subscription);
+    }
+    
+    private void scheduleDrain(Subscription subscription) {
+        if (subscriptions.contains(subscription) && subscription.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscription));
+        }
+    }
+    
+    private void drain(Subscription subscription) {
+        try {
+            do {
+                if (subscription.heartbeatDue.getAndSet(false)) {
+                    subscription.emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+                for (String appointmentId : subscription.pending.keySet()) {
+                    AppointmentStatusPushDto push = subscription.pending.remove(appointmentId);
+                    if (push != null) {
+                        subscription.emitter.send(SseEmitter.event()
+                                .name("status")
+                                .data(push, MediaType.APPLICATION_JSON));
+                    }
+                }
+                subscription.draining.set(false);
+            } while (subscription.hasWork() && subscription.draining.compareAndSet(false, true));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("상태 푸시 전송 실패, 구독 해제 - ids: {}", subscription.appointmentIds.size());
+            unregister(subscription);
+            subscription.emitter.completeWithError(e);
+        }
+    }
+    
+    private static AppointmentStatusPushDto toPush(String appointmentId, JsonNode payload) {
+        boolean deleted = AppointmentChangedEvent.Type.DELETED.name().equals(payload.path("type").asText());
+        Appointment.AppointmentStatus status = payload.hasNonNull("appointmentStatus")
+                ? Appointment.AppointmentStatus.valueOf(payload.get("appointmentStatus").asText())
+                : null;
+        String feedback = payload.hasNonNull("feedback") ? payload.get("feedback").asText() : null;
+        return new AppointmentStatusPushDto(
+                appointmentId,
+                status,
+                feedback,
+                !deleted && isFeedbackPending(status, feedback),
+                deleted);
+    }
+    
+    private static AppointmentStatusPushDto toPush(Appointment appointment) {
+        return new AppointmentStatusPushDto(
+                appointment.getAppointmentId(),
+                appointment.getAppointmentStatus(),
+                appointment.getFeedback(),
+                isFeedbackPending(appointment.getAppointmentStatus(), appointment.getFeedback()),
+                false);
+    }
+    
+    private static boolean isFeedbackPending(Appointment.AppointmentStatus status, String feedback) {
+        return status == Appointment.AppointmentStatus.DONE && "F".equals(feedback);
+    }
+    
+    /**
+     * SSE 연결 하나의 구독 상태
+     */
+    private static final class Subscription {
+        
+        final SseEmitter emitter;
+        final Set<String> appointmentIds;
+        final Map<String, AppointmentStatusPushDto> pending = new ConcurrentHashMap<>();
+        final AtomicBoolean draining = new AtomicBoolean();
+        final AtomicBoolean heartbeatDue = new AtomicBoolean();
+        
+        Subscription(SseEmitter emitter, Set<String> appointmentIds) {
+            this.emitter = emitter;
+            this.appointmentIds = appointmentIds;
+        }
+        
+        boolean hasWork() {
+            return heartbeatDue.get() || !pending.isEmpty();
+        }
+    }
+}
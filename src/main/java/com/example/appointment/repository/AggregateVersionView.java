@@ -0,0 +1,13 @@
+package com.example.appointment.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 범위별 집계 버전 프로젝션 (목록 조건부 요청 처리용)
+ */
+public interface AggregateVersionView {
+    
+    Long getCount();
+    
+    LocalDateTime getUpdatedAt(); // 행이 없으면 null
+}
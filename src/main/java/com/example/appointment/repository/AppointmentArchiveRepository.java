@@ -0,0 +1,92 @@
+package com.example.appointment.repository;
+
+import com.example.appointment.entity.AppointmentArchive;
+import com.example.appointment.entity.AppointmentArchiveId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 보관 약속 Repository - 이력 조회 라우팅 및 보관 작업용
+ */
+@Repository
+public interface AppointmentArchiveRepository extends JpaRepository<AppointmentArchive, AppointmentArchiveId> {
+    
+    Optional<AppointmentArchive> findFirstByAppointmentId(String appointmentId);
+    
+    List<AppointmentArchive> findByAppointmentIdIn(List<String> appointmentIds);
+    
+    List<AppointmentArchive> findByHostId(String hostId);
+    
+    List<AppointmentArchive> findByLocationId(String locationId);
+    
+    // 호스트 보관 약속 시간 범위 조회 (구간 겹침 기준)
+    @Query("SELECT a FROM AppointmentArchive a WHERE a.hostId = :hostId " +
+           "AND a.startTime < :to AND a.endTime > :from ORDER BY a.startTime")
+    List<AppointmentArchive> findHostArchiveInRange(
+            @Param("hostId") String hostId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+    
+    // 호스트 보관 약속 시작 시간 순 keyset 페이지 조회
+    @Query("SELECT a FROM AppointmentArchive a WHERE a.hostId = :hostId " +
+           "AND a.startTime >= :afterTime AND a.startTime < :to " +
+           "AND (a.startTime > :afterTime OR a.appointmentId > :afterId) " +
+           "ORDER BY a.startTime, a.appointmentId")
+    List<AppointmentArchive> findHostPageAfter(
+            @Param("hostId") String hostId,
+            @Param("afterTime") LocalDateTime afterTime,
+            @Param("afterId") String afterId,
+            @Param("to") LocalDateTime to,
+            Pageable pageable
+    );
+    
+    // 보관 약속 버전 조회 (ETag 계산용)
+    @Query("SELECT a.version AS version, a.updatedAt AS updatedAt FROM AppointmentArchive a WHERE a.appointmentId = :appointmentId")
+    List<AppointmentVersionView> findVersionsByAppointmentId(@Param("appointmentId") String appointmentId);
+    
+    // 통계 재조정용 전체 집계 (상태별 / 장소별 / 호스트별 / 시작 날짜별)
+    @Query("SELECT a.appointmentStatus AS appointmentStatus, COUNT(a) AS count FROM AppointmentArchive a GROUP BY a.appointmentStatus")
+    List<StatusCountView> countByStatus();
+    
+    @Query("SELECT a.locationId AS bucketKey, COUNT(a) AS count FROM AppointmentArchive a GROUP BY a.locationId")
+    List<KeyCountView> countByLocation();
+    
+    @Query("SELECT a.hostId AS bucketKey, COUNT(a) AS count FROM AppointmentArchive a GROUP BY a.hostId")
+    List<KeyCountView> countByHost();
+    
+    @Query("SELECT extract(date from a.startTime) AS bucketDate, COUNT(a) AS count FROM AppointmentArchive a " +
+           "GROUP BY extract(date from a.startTime)")
+    List<DateCountView> countByStartDate();
+    
+    // 보관된 약속 피드백 완료 일괄 처리 (F -> T)
+    @Modifying
+    @Query("UPDATE AppointmentArchive a SET a.feedback = 'T', a.version = a.version + 1, a.updatedAt = :updatedAt " +
+           "WHERE a.appointmentId IN :appointmentIds AND a.appointmentStatus = 'DONE' AND a.feedback = 'F'")
+    int completeFeedback(
+            @Param("appointmentIds") Collection<String> appointmentIds,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+    
+    // 종료 상태 약속을 보관 테이블로 복사 (INSERT ... SELECT 단일 문장)
+    @Modifying
+    @Query("INSERT INTO AppointmentArchive (appointmentId, startTime, hostId, title, description, endTime, " +
+           "locationId, appointmentStatus, feedback, version, updatedAt, archivedAt) " +
+           "SELECT a.appointmentId, a.startTime, a.hostId, a.title, a.description, a.endTime, " +
+           "a.locationId, a.appointmentStatus, a.feedback, a.version, a.updatedAt, :archivedAt " +
+           "FROM Appointment a WHERE a.appointmentId IN :appointmentIds " +
+           "AND a.appointmentStatus IN ('DONE', 'CANCELLED')")
+    int copyFromAppointments(
+            @Param("appointmentIds") List<String> appointmentIds,
+            @Param("archivedAt") LocalDateTime archivedAt
+    );
+}
@@ -0,0 +1,76 @@
+package com.example.appointment.repository;
+
+import com.example.appointment.entity.AppointmentIdempotencyKey;
+import com.example.appointment.entity.AppointmentIdempotencyKeyId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 약속 요청 Idempotency-Key Repository
+ */
+@Repository
+public interface AppointmentIdempotencyKeyRepository extends JpaRepository<AppointmentIdempotencyKey, AppointmentIdempotencyKeyId> {
+    
+    // 키 선점 - 이미 있는 키면 기본 키 중복으로 DataIntegrityViolationException (save 는 기존 행을 덮어쓰므로 사용하지 않음)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO appointment_idempotency_key (client_id, idempotency_key, request_hash, created_at, expires_at) " +
+                   "VALUES (:clientId, :idempotencyKey, :requestHash, :createdAt, :expiresAt)",
+           nativeQuery = true)
+    int reserve(
+            @Param("clientId") String clientId,
+            @Param("idempotencyKey") String idempotencyKey,
+            @Param("requestHash") String requestHash,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("expiresAt") LocalDateTime expiresAt
+    );
+    
+    // 만료된 키 또는 오래 처리 중으로 남은 같은 요청의 키(처리 중 인스턴스 중단 등)를 다시 선점
+    @Transactional
+    @Modifying
+    @Query("UPDATE AppointmentIdempotencyKey k SET k.requestHash = :requestHash, k.responseStatus = NULL, " +
+           "k.responseBody = NULL, k.completedAt = NULL, k.createdAt = :createdAt, k.expiresAt = :expiresAt " +
+           "WHERE k.clientId = :clientId AND k.idempotencyKey = :idempotencyKey AND (k.expiresAt < :createdAt " +
+           "OR (k.completedAt IS NULL AND k.createdAt < :staleBefore AND k.requestHash = :requestHash))")
+    int reclaim(
+            @Param("clientId") String clientId,
+            @Param("idempotencyKey") String idempotencyKey,
+            @Param("requestHash") String requestHash,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("expiresAt") LocalDateTime expiresAt,
+            @Param("staleBefore") LocalDateTime staleBefore
+    );
+    
+    // 처리 완료 - 응답 기록
+    @Transactional
+    @Modifying
+    @Query("UPDATE AppointmentIdempotencyKey k SET k.responseStatus = :responseStatus, k.responseBody = :responseBody, " +
+           "k.completedAt = :completedAt " +
+           "WHERE k.clientId = :clientId AND k.idempotencyKey = :idempotencyKey AND k.completedAt IS NULL")
+    int complete(
+            @Param("clientId") String clientId,
+            @Param("idempotencyKey") String idempotencyKey,
+            @Param("responseStatus") int responseStatus,
+            @Param("responseBody") String responseBody,
+            @Param("completedAt") LocalDateTime completedAt
+    );
+    
+    // 처리 실패 - 재시도가 다시 실행되도록 처리 중인 키 해제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AppointmentIdempotencyKey k " +
+           "WHERE k.clientId = :clientId AND k.idempotencyKey = :idempotencyKey AND k.completedAt IS NULL")
+    int release(@Param("clientId") String clientId, @Param("idempotencyKey") String idempotencyKey);
+    
+    // 만료된 키 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AppointmentIdempotencyKey k WHERE k.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,15 @@
+package com.example.appointment.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 약속 구간 프로젝션 (가용성 계산용 - 엔티티 전체를 읽지 않음)
+ */
+public interface AppointmentIntervalView {
+    
+    String getLocationId();
+    
+    LocalDateTime getStartTime();
+    
+    LocalDateTime getEndTime();
+}
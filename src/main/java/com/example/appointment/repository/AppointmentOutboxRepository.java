@@ -0,0 +1,78 @@
+package com.example.appointment.repository;
+
+import com.example.appointment.entity.AppointmentOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 약속 아웃박스 Repository
+ */
+@Repository
+public interface AppointmentOutboxRepository extends JpaRepository<AppointmentOutboxEvent, Long> {
+    
+    // 지금 발행할 미발행 이벤트를 기록 순서대로 조회
+    // 재시도 대기 중이거나 발행을 포기한 이벤트, 재시도 대기 중인 이벤트가 앞에 있는 같은 약속의 이벤트는 제외
+    @Query("SELECT e FROM AppointmentOutboxEvent e " +
+           "WHERE e.publishedAt IS NULL AND e.attempts < :maxAttempts " +
+           "AND (e.nextAttemptAt IS NULL OR e.nextAttemptAt <= :now) " +
+           "AND NOT EXISTS (SELECT b.id FROM AppointmentOutboxEvent b " +
+           "WHERE b.appointmentId = e.appointmentId AND b.publishedAt IS NULL AND b.id < e.id " +
+           "AND b.attempts < :maxAttempts AND b.nextAttemptAt > :now) " +
+           "ORDER BY e.id")
+    List<AppointmentOutboxEvent> findRelayable(
+            @Param("now") LocalDateTime now,
+            @Param("maxAttempts") int maxAttempts,
+            Pageable pageable
+    );
+    
+    // 발행 순서(published_at, id)로 특정 위치 이후의 발행 완료 이벤트 조회
+    @Query("SELECT e FROM AppointmentOutboxEvent e " +
+           "WHERE e.publishedAt > :publishedAt OR (e.publishedAt = :publishedAt AND e.id > :id) " +
+           "ORDER BY e.publishedAt, e.id")
+    List<AppointmentOutboxEvent> findPublishedAfter(
+            @Param("publishedAt") LocalDateTime publishedAt,
+            @Param("id") long id,
+            Pageable pageable
+    );
+    
+    // 마지막 발행 시각 (발행 이벤트가 없으면 null)
+    @Query("SELECT MAX(e.publishedAt) FROM AppointmentOutboxEvent e")
+    LocalDateTime findMaxPublishedAt();
+    
+    // 특정 이벤트 이후의 발행 완료 이벤트를 id 순서로 조회 (기준 이벤트가 이미 정리된 SSE 재연결 시 재전송용)
+    List<AppointmentOutboxEvent> findByIdGreaterThanAndPublishedAtIsNotNullOrderByIdAsc(Long id, Pageable pageable);
+    
+    // 발행 완료 표시
+    @Transactional
+    @Modifying
+    @Query("UPDATE AppointmentOutboxEvent e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(@Param("ids") List<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+    
+    // 발행 실패 기록 - 실패 횟수를 올리고 다음 시도 시각까지 릴레이 대상에서 제외
+    @Transactional
+    @Modifying
+    @Query("UPDATE AppointmentOutboxEvent e SET e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt " +
+           "WHERE e.id = :id")
+    int markFailed(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+    
+    // 보관 기간이 지난 발행 포기 이벤트 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AppointmentOutboxEvent e " +
+           "WHERE e.publishedAt IS NULL AND e.attempts >= :maxAttempts AND e.createdAt < :before")
+    int deleteAbandonedBefore(@Param("maxAttempts") int maxAttempts, @Param("before") LocalDateTime before);
+    
+    // 보관 기간이 지난 발행 완료 이벤트 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AppointmentOutboxEvent e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
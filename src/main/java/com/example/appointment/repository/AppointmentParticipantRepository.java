@@ -0,0 +1,104 @@
+package com.example.appointment.repository;
+
+import com.example.appointment.entity.AppointmentParticipant;
+import com.example.appointment.entity.AppointmentParticipantId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 약속 참여자 Repository - 참여 약속 조회 및 Guest 참여 정보 동기화용
+ */
+@Repository
+public interface AppointmentParticipantRepository extends JpaRepository<AppointmentParticipant, AppointmentParticipantId> {
+    
+    // 사용자 참여 약속 조회 - (user_id, status, start_time) 인덱스 범위 스캔 후 약속/보관 약속을 기본 키로 조인
+    @Query("SELECT a AS appointment, ar AS archived FROM AppointmentParticipant p " +
+           "LEFT JOIN Appointment a ON a.appointmentId = p.appointmentId " +
+           "LEFT JOIN AppointmentArchive ar ON ar.appointmentId = p.appointmentId AND ar.startTime = p.startTime " +
+           "WHERE p.userId = :userId AND p.status = :status " +
+           "AND p.startTime >= :from AND p.startTime < :to " +
+           "ORDER BY p.startTime, p.appointmentId")
+    List<ParticipatingAppointmentView> findParticipatingAppointments(
+            @Param("userId") String userId,
+            @Param("status") String status,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Pageable pageable
+    );
+    
+    // 사용자 참여 약속 keyset 페이지 조회 - (start_time, appointment_id)가 커서 이후인 약속
+    @Query("SELECT a AS appointment, ar AS archived FROM AppointmentParticipant p " +
+           "LEFT JOIN Appointment a ON a.appointmentId = p.appointmentId " +
+           "LEFT JOIN AppointmentArchive ar ON ar.appointmentId = p.appointmentId AND ar.startTime = p.startTime " +
+           "WHERE p.userId = :userId AND p.status = :status " +
+           "AND p.startTime >= :afterTime AND p.startTime < :to " +
+           "AND (p.startTime > :afterTime OR p.appointmentId > :afterId) " +
+           "ORDER BY p.startTime, p.appointmentId")
+    List<ParticipatingAppointmentView> findParticipatingAppointmentsAfter(
+            @Param("userId") String userId,
+            @Param("status") String status,
+            @Param("afterTime") LocalDateTime afterTime,
+            @Param("afterId") String afterId,
+            @Param("to") LocalDateTime to,
+            Pageable pageable
+    );
+    
+    List<AppointmentParticipant> findByAppointmentId(String appointmentId);
+    
+    // 참여 행 삽입 또는 갱신 - 같은 사용자를 동시에 동기화해도 기본 키 중복 없이 마지막 값으로 수렴
+    @Modifying
+    @Query(value = "INSERT INTO appointment_participant " +
+                   "(appointment_id, user_id, guest_id, status, start_time, synced_at, sync_token) " +
+                   "VALUES (:appointmentId, :userId, :guestId, :status, :startTime, :syncedAt, :syncToken) " +
+                   "ON DUPLICATE KEY UPDATE guest_id = VALUES(guest_id), status = VALUES(status), " +
+                   "start_time = VALUES(start_time), synced_at = VALUES(synced_at), sync_token = VALUES(sync_token)",
+           nativeQuery = true)
+    int upsert(
+            @Param("appointmentId") String appointmentId,
+            @Param("userId") String userId,
+            @Param("guestId") String guestId,
+            @Param("status") String status,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("syncedAt") LocalDateTime syncedAt,
+            @Param("syncToken") String syncToken
+    );
+    
+    // 사용자의 특정 상태 참여 행 전체 삭제 (현재 참여 약속이 없을 때)
+    @Modifying
+    @Query("DELETE FROM AppointmentParticipant p WHERE p.userId = :userId AND p.status = :status")
+    int deleteByUserIdAndStatus(@Param("userId") String userId, @Param("status") String status);
+    
+    // 사용자의 특정 상태 참여 행 중 현재 참여 약속에 없는 행 삭제
+    @Modifying
+    @Query("DELETE FROM AppointmentParticipant p WHERE p.userId = :userId AND p.status = :status " +
+           "AND p.appointmentId NOT IN :appointmentIds")
+    int deleteByUserIdAndStatusAndAppointmentIdNotIn(
+            @Param("userId") String userId,
+            @Param("status") String status,
+            @Param("appointmentIds") Collection<String> appointmentIds
+    );
+    
+    @Modifying
+    @Query("DELETE FROM AppointmentParticipant p WHERE p.appointmentId = :appointmentId")
+    int deleteByAppointmentId(@Param("appointmentId") String appointmentId);
+    
+    // 일괄 재동기화에서 이번 실행 토큰으로 확인되지 않은 행의 사용자 (user_id keyset 페이지)
+    @Query("SELECT DISTINCT p.userId FROM AppointmentParticipant p " +
+           "WHERE p.status = :status AND p.userId > :afterUserId " +
+           "AND (p.syncToken IS NULL OR p.syncToken <> :syncToken) " +
+           "ORDER BY p.userId")
+    List<String> findUnconfirmedUserIds(
+            @Param("status") String status,
+            @Param("syncToken") String syncToken,
+            @Param("afterUserId") String afterUserId,
+            Pageable pageable
+    );
+}
@@ -1,12 +1,17 @@
 package com.example.appointment.repository;
 
 import com.example.appointment.entity.Appointment;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +35,65 @@ public interface AppointmentRepository extends JpaRepository<Appointment, String
     // 종료 시간별 약속 목록 조회
     List<Appointment> findByEndTime(LocalDateTime endTime);
     
+    // 시작 시간 범위 [from, to) 약속 목록 조회 (idx_start_time 범위 스캔)
+    @Query("SELECT a FROM Appointment a WHERE a.startTime >= :from AND a.startTime < :to ORDER BY a.startTime")
+    List<Appointment> findByStartTimeRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+    
+    // 종료 시간 범위 [from, to) 약속 목록 조회 (idx_end_time 범위 스캔)
+    @Query("SELECT a FROM Appointment a WHERE a.endTime >= :from AND a.endTime < :to ORDER BY a.endTime")
+    List<Appointment> findByEndTimeRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+    
+    // 시작 시간 기준 시간별 건수 집계
+    @Query("SELECT extract(date from a.startTime) AS bucketDate, extract(hour from a.startTime) AS bucketHour, " +
+           "COUNT(a) AS count FROM Appointment a " +
+           "WHERE a.startTime >= :from AND a.startTime < :to " +
+           "GROUP BY extract(date from a.startTime), extract(hour from a.startTime) " +
+           "ORDER BY extract(date from a.startTime), extract(hour from a.startTime)")
+    List<TimeBucketCountView> countByStartTimeHour(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+    
+    // 종료 시간 기준 시간별 건수 집계
+    @Query("SELECT extract(date from a.endTime) AS bucketDate, extract(hour from a.endTime) AS bucketHour, " +
+           "COUNT(a) AS count FROM Appointment a " +
+           "WHERE a.endTime >= :from AND a.endTime < :to " +
+           "GROUP BY extract(date from a.endTime), extract(hour from a.endTime) " +
+           "ORDER BY extract(date from a.endTime), extract(hour from a.endTime)")
+    List<TimeBucketCountView> countByEndTimeHour(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+    
+    // 제목/설명 전문 검색 (MySQL FULLTEXT ngram, BOOLEAN MODE) - 관련도 순, 필터는 null 이면 미적용
+    @Query(value = "SELECT a.* FROM appointment a " +
+                   "WHERE MATCH(a.title, a.description) AGAINST (:query IN BOOLEAN MODE) " +
+                   "AND (:locationId IS NULL OR a.location_id = :locationId) " +
+                   "AND (:status IS NULL OR a.appointment_status = :status) " +
+                   "AND (:from IS NULL OR a.start_time >= :from) " +
+                   "AND (:to IS NULL OR a.start_time < :to) " +
+                   "ORDER BY MATCH(a.title, a.description) AGAINST (:query IN BOOLEAN MODE) DESC, " +
+                   "a.start_time DESC, a.appointment_id " +
+                   "LIMIT :limit OFFSET :offset",
+           nativeQuery = true)
+    List<Appointment> searchFullText(
+            @Param("query") String query,
+            @Param("locationId") String locationId,
+            @Param("status") String status,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("limit") int limit,
+            @Param("offset") int offset
+    );
+    
+    // 통계 재조정용 전체 집계 (상태별 / 장소별 / 호스트별 / 시작 날짜별)
+    @Query("SELECT a.appointmentStatus AS appointmentStatus, COUNT(a) AS count FROM Appointment a GROUP BY a.appointmentStatus")
+    List<StatusCountView> countByStatus();
+    
+    @Query("SELECT a.locationId AS bucketKey, COUNT(a) AS count FROM Appointment a GROUP BY a.locationId")
+    List<KeyCountView> countByLocation();
+    
+    @Query("SELECT a.hostId AS bucketKey, COUNT(a) AS count FROM Appointment a GROUP BY a.hostId")
+    List<KeyCountView> countByHost();
+    
+    @Query("SELECT extract(date from a.startTime) AS bucketDate, COUNT(a) AS count FROM Appointment a " +
+           "GROUP BY extract(date from a.startTime)")
+    List<DateCountView> countByStartDate();
+    
     // 상태별 약속 목록 조회
     List<Appointment> findByAppointmentStatus(Appointment.AppointmentStatus status);
     
@@ -57,12 +121,140 @@ public interface AppointmentRepository extends JpaRepository<Appointment, String
             @Param("endTime") LocalDateTime endTime
     );
     
-    // 다음 시퀀스 번호 조회 (appo001 형태 생성용) - 최대 ID + 1 방식으로 수정
-    @Query("SELECT COUNT(a) + 1 FROM Appointment a")
-    Long getNextSequenceNumber();
+    // 호스트의 특정 구간과 겹치는 약속 조회 (타임라인 인덱스 준비 전 대체 조회용)
+    @Query("SELECT a FROM Appointment a WHERE a.hostId = :hostId AND " +
+           "a.startTime < :to AND a.endTime > :from ORDER BY a.startTime")
+    List<Appointment> findHostAppointmentsInRange(
+            @Param("hostId") String hostId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+    
+    // 호스트 약속 시작 시간 순 keyset 페이지 조회 - (start_time, appointment_id)가 커서 이후이고 to 이전인 약속
+    @Query("SELECT a FROM Appointment a WHERE a.hostId = :hostId " +
+           "AND a.startTime >= :afterTime AND a.startTime < :to " +
+           "AND (a.startTime > :afterTime OR a.appointmentId > :afterId) " +
+           "ORDER BY a.startTime, a.appointmentId")
+    List<Appointment> findHostPageAfter(
+            @Param("hostId") String hostId,
+            @Param("afterTime") LocalDateTime afterTime,
+            @Param("afterId") String afterId,
+            @Param("to") LocalDateTime to,
+            Pageable pageable
+    );
+    
+    // 장소의 특정 구간과 겹치는 약속 조회 (타임라인 인덱스 준비 전 대체 조회용)
+    @Query("SELECT a FROM Appointment a WHERE a.locationId = :locationId AND " +
+           "a.startTime < :to AND a.endTime > :from ORDER BY a.startTime")
+    List<Appointment> findLocationAppointmentsInRange(
+            @Param("locationId") String locationId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+    
+    // 여러 장소의 특정 구간과 겹치는 약속 구간 조회 (취소 제외, idx_location_time 사용)
+    @Query("SELECT a.locationId AS locationId, a.startTime AS startTime, a.endTime AS endTime " +
+           "FROM Appointment a WHERE a.locationId IN :locationIds AND " +
+           "a.startTime < :to AND a.endTime > :from AND " +
+           "a.appointmentStatus <> 'CANCELLED' " +
+           "ORDER BY a.locationId, a.startTime")
+    List<AppointmentIntervalView> findActiveIntervalsByLocations(
+            @Param("locationIds") List<String> locationIds,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+    
+    // ID 순 키셋 페이징 조회 (인덱스 재구성용)
+    List<Appointment> findByAppointmentIdGreaterThanOrderByAppointmentIdAsc(String appointmentId, Pageable pageable);
+    
+    // 약속 버전 조회 (ETag 계산용 - 엔티티 전체를 읽지 않음)
+    @Query("SELECT a.version AS version, a.updatedAt AS updatedAt FROM Appointment a WHERE a.appointmentId = :appointmentId")
+    Optional<AppointmentVersionView> findVersionById(@Param("appointmentId") String appointmentId);
+    
+    // 범위별 집계 버전 조회 (목록 ETag 계산용 - 행 수 + 마지막 변경 시각)
+    @Query("SELECT COUNT(a) AS count, MAX(a.updatedAt) AS updatedAt FROM Appointment a")
+    AggregateVersionView findAggregateVersion();
+    
+    @Query("SELECT COUNT(a) AS count, MAX(a.updatedAt) AS updatedAt FROM Appointment a WHERE a.hostId = :hostId")
+    AggregateVersionView findAggregateVersionByHostId(@Param("hostId") String hostId);
+    
+    @Query("SELECT COUNT(a) AS count, MAX(a.updatedAt) AS updatedAt FROM Appointment a WHERE a.locationId = :locationId")
+    AggregateVersionView findAggregateVersionByLocationId(@Param("locationId") String locationId);
+    
+    // 보관 대상 약속 ID 조회 - 종료 시간이 기준 시각 이전인 DONE/CANCELLED 약속 (종료 시간 순)
+    @Query("SELECT a.appointmentId FROM Appointment a " +
+           "WHERE a.appointmentStatus IN ('DONE', 'CANCELLED') AND a.endTime < :before " +
+           "ORDER BY a.endTime")
+    List<String> findArchivableIds(@Param("before") LocalDateTime before, Pageable pageable);
+    
+    // 보관 테이블로 복사된 약속 삭제 (종료 상태만)
+    @Modifying
+    @Query("DELETE FROM Appointment a WHERE a.appointmentId IN :appointmentIds " +
+           "AND a.appointmentStatus IN ('DONE', 'CANCELLED')")
+    int deleteArchived(@Param("appointmentIds") List<String> appointmentIds);
+    
+    // 사용자 피드백 대기 약속 조회 - 주최했거나 참여("coming") 중인 DONE/F 약속 (종료 시간 순)
+    // 전체 대기 약속을 훑지 않도록 사용자 기준으로 후보를 먼저 모음
+    //   주최 약속: idx_host_status_feedback_end_time, 참여 약속: appointment_participant 의 idx_participant_user_status_time
+    @Query(value = "SELECT a.* FROM (" +
+                   "SELECT h.appointment_id FROM appointment h " +
+                   "WHERE h.host_id = :userId AND h.appointment_status = 'DONE' AND h.feedback = 'F' " +
+                   "UNION " +
+                   "SELECT p.appointment_id FROM appointment_participant p " +
+                   "WHERE p.user_id = :userId AND p.status = :participantStatus" +
+                   ") u JOIN appointment a ON a.appointment_id = u.appointment_id " +
+                   "WHERE a.appointment_status = 'DONE' AND a.feedback = 'F' " +
+                   "ORDER BY a.end_time, a.appointment_id " +
+                   "LIMIT :limit OFFSET :offset",
+           nativeQuery = true)
+    List<Appointment> findFeedbackPendingForUser(
+            @Param("userId") String userId,
+            @Param("participantStatus") String participantStatus,
+            @Param("limit") int limit,
+            @Param("offset") int offset
+    );
+    
+    // 호스트의 피드백 대기 약속 조회 (참여자 인덱스 미사용 시 대체 조회용)
+    @Query("SELECT a FROM Appointment a WHERE a.hostId = :hostId " +
+           "AND a.appointmentStatus = 'DONE' AND a.feedback = 'F'")
+    List<Appointment> findFeedbackPendingByHostId(@Param("hostId") String hostId);
+    
+    // 지정한 약속 중 피드백 대기 약속 조회
+    @Query("SELECT a FROM Appointment a WHERE a.appointmentId IN :appointmentIds " +
+           "AND a.appointmentStatus = 'DONE' AND a.feedback = 'F'")
+    List<Appointment> findFeedbackPendingByIds(@Param("appointmentIds") Collection<String> appointmentIds);
+    
+    // 지정한 약속 중 피드백 대기 약속을 잠그고 조회 (SELECT ... FOR UPDATE)
+    // 완료 처리 트랜잭션이 끝날 때까지 다른 요청이 같은 약속을 완료하지 못하므로 읽은 약속이 곧 UPDATE 대상이 됨
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Appointment a WHERE a.appointmentId IN :appointmentIds " +
+           "AND a.appointmentStatus = 'DONE' AND a.feedback = 'F'")
+    List<Appointment> lockFeedbackPendingByIds(@Param("appointmentIds") Collection<String> appointmentIds);
+    
+    // 피드백 완료 일괄 처리 (F -> T) - 대기 상태인 약속만 단일 UPDATE로 변경함
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Appointment a SET a.feedback = 'T', a.version = a.version + 1, a.updatedAt = :updatedAt " +
+           "WHERE a.appointmentId IN :appointmentIds AND a.appointmentStatus = 'DONE' AND a.feedback = 'F'")
+    int completeFeedback(
+            @Param("appointmentIds") Collection<String> appointmentIds,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
     
     // 실시간 상태 변경을 위한 메서드들
     
+    // 조건부 상태 변경 - 현재 상태가 허용된 이전 상태일 때만 단일 UPDATE로 변경함 (읽기-수정-쓰기 없음)
+    // 반환값이 0이면 그 사이 다른 요청이 상태를 변경한 것임
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Appointment a SET a.appointmentStatus = :newStatus, a.version = a.version + 1, " +
+           "a.updatedAt = :updatedAt " +
+           "WHERE a.appointmentId = :appointmentId AND a.appointmentStatus IN :allowedStatuses")
+    int transitionStatus(
+            @Param("appointmentId") String appointmentId,
+            @Param("allowedStatuses") Collection<Appointment.AppointmentStatus> allowedStatuses,
+            @Param("newStatus") Appointment.AppointmentStatus newStatus,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+    
     // 시작 시간이 된 PLANNED 약속들 조회
     @Query("SELECT a FROM Appointment a WHERE " +
            "a.appointmentStatus = 'PLANNED' AND " +
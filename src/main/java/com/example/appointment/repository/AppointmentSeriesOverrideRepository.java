@@ -0,0 +1,34 @@
+package com.example.appointment.repository;
+
+import com.example.appointment.entity.AppointmentSeriesOverride;
+import com.example.appointment.entity.AppointmentSeriesOverrideId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 시리즈 발생 예외 Repository
+ */
+@Repository
+public interface AppointmentSeriesOverrideRepository
+        extends JpaRepository<AppointmentSeriesOverride, AppointmentSeriesOverrideId> {
+    
+    // 시리즈들의 [from, to) 구간 발생 예외 (발생 계산 시 제외/대체용)
+    @Query("SELECT o FROM AppointmentSeriesOverride o WHERE o.seriesId IN :seriesIds " +
+           "AND o.originalStartTime >= :from AND o.originalStartTime < :to")
+    List<AppointmentSeriesOverride> findInRange(
+            @Param("seriesIds") Collection<String> seriesIds,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+    
+    @Modifying
+    @Query("DELETE FROM AppointmentSeriesOverride o WHERE o.seriesId = :seriesId")
+    int deleteBySeriesId(@Param("seriesId") String seriesId);
+}
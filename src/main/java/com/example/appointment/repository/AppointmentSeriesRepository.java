@@ -0,0 +1,38 @@
+package com.example.appointment.repository;
+
+import com.example.appointment.entity.AppointmentSeries;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 반복 약속 시리즈 Repository
+ */
+@Repository
+public interface AppointmentSeriesRepository extends JpaRepository<AppointmentSeries, String> {
+    
+    // 호스트 시리즈 중 발생 기간이 [from, to) 구간과 겹칠 수 있는 시리즈 (중복 검증/발생 조회용)
+    @Query("SELECT s FROM AppointmentSeries s WHERE s.hostId = :hostId " +
+           "AND s.startTime < :to AND (s.lastEndTime IS NULL OR s.lastEndTime > :from)")
+    List<AppointmentSeries> findHostSeriesInRange(
+            @Param("hostId") String hostId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+    
+    // 발생 기간이 [from, to) 구간과 겹칠 수 있는 전체 시리즈 (발생 약속 생성 스케줄러용)
+    @Query("SELECT s FROM AppointmentSeries s " +
+           "WHERE s.startTime < :to AND (s.lastEndTime IS NULL OR s.lastEndTime > :from)")
+    List<AppointmentSeries> findSeriesInRange(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+    
+    // 다음 시퀀스 번호 조회 (seri001 형태 생성용) - 최대 ID + 1 방식
+    @Query("SELECT COALESCE(MAX(CAST(SUBSTRING(s.seriesId, 5) AS Long)), 0) + 1 FROM AppointmentSeries s")
+    Long getNextSequenceNumber();
+}
@@ -0,0 +1,13 @@
+package com.example.appointment.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 약속 버전 프로젝션 (조건부 요청 처리용)
+ */
+public interface AppointmentVersionView {
+    
+    Long getVersion();
+    
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,13 @@
+package com.example.appointment.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 날짜별 집계 프로젝션
+ */
+public interface DateCountView {
+    
+    LocalDate getBucketDate();
+    
+    Long getCount();
+}
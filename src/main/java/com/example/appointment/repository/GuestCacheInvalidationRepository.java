@@ -0,0 +1,40 @@
+package com.example.appointment.repository;
+
+import com.example.appointment.entity.GuestCacheInvalidation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Guest 캐시 무효화 브로드캐스트 Repository
+ */
+@Repository
+public interface GuestCacheInvalidationRepository extends JpaRepository<GuestCacheInvalidation, Long> {
+    
+    // 기록 순서(created_at, id)로 특정 위치 이후의 무효화 요청 조회 (idx_guest_invalidation_created_at)
+    @Query("SELECT i FROM GuestCacheInvalidation i " +
+           "WHERE i.createdAt > :createdAt OR (i.createdAt = :createdAt AND i.id > :id) " +
+           "ORDER BY i.createdAt, i.id")
+    List<GuestCacheInvalidation> findCreatedAfter(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") long id,
+            Pageable pageable
+    );
+    
+    // 마지막 요청 기록 시각 (요청이 없으면 null) - 인스턴스 시작 위치
+    @Query("SELECT MAX(i.createdAt) FROM GuestCacheInvalidation i")
+    LocalDateTime findMaxCreatedAt();
+    
+    // 보관 기간이 지난 요청 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM GuestCacheInvalidation i WHERE i.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,36 @@
+package com.example.appointment.repository;
+
+import com.example.appointment.entity.IdSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * ID 발급 시퀀스 Repository
+ */
+@Repository
+public interface IdSequenceRepository extends JpaRepository<IdSequence, String> {
+    
+    /**
+     * 다음 번호 발급 - 행 잠금으로 증가시키므로 동시 발급에도 번호가 겹치지 않고, 발급한 번호는 다시 나오지 않음
+     * (증가와 LAST_INSERT_ID() 조회가 같은 연결에서 실행되도록 한 트랜잭션으로 묶음)
+     */
+    @Transactional
+    default long next(String sequenceName) {
+        if (increment(sequenceName) == 0) {
+            throw new IllegalStateException("Unknown id sequence: " + sequenceName);
+        }
+        return lastInsertId();
+    }
+    
+    @Modifying
+    @Query(value = "UPDATE id_sequence SET current_value = LAST_INSERT_ID(current_value + 1) WHERE sequence_name = :sequenceName",
+           nativeQuery = true)
+    int increment(@Param("sequenceName") String sequenceName);
+    
+    @Query(value = "SELECT LAST_INSERT_ID()", nativeQuery = true)
+    long lastInsertId();
+}
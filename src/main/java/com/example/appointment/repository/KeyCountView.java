@@ -0,0 +1,11 @@
+package com.example.appointment.repository;
+
+/**
+ * 키(호스트/장소 ID)별 집계 프로젝션
+ */
+public interface KeyCountView {
+    
+    String getBucketKey();
+    
+    Long getCount();
+}
@@ -0,0 +1,14 @@
+package com.example.appointment.repository;
+
+import com.example.appointment.entity.Appointment;
+import com.example.appointment.entity.AppointmentArchive;
+
+/**
+ * 참여 약속 조회 결과 - 약속이 보관된 경우 appointment 는 null, archived 에 값이 있음
+ */
+public interface ParticipatingAppointmentView {
+    
+    Appointment getAppointment();
+    
+    AppointmentArchive getArchived();
+}
@@ -0,0 +1,43 @@
+package com.example.appointment.repository;
+
+import com.example.appointment.entity.SchedulerLockLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 리스 Repository
+ */
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLockLease, String> {
+    
+    // 리스 행이 없으면 만료된 상태로 생성 (이미 있으면 무시)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO scheduler_lock (lock_name, locked_by, locked_until) VALUES (:lockName, NULL, :expiredAt)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("lockName") String lockName, @Param("expiredAt") LocalDateTime expiredAt);
+    
+    // 만료된 리스만 획득 - 1이면 획득 성공
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLockLease l SET l.lockedBy = :owner, l.lockedUntil = :lockedUntil " +
+           "WHERE l.lockName = :lockName AND l.lockedUntil <= :now")
+    int tryAcquire(
+            @Param("lockName") String lockName,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now,
+            @Param("lockedUntil") LocalDateTime lockedUntil
+    );
+    
+    // 보유 중인 리스만 즉시 만료 처리
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLockLease l SET l.lockedUntil = :now WHERE l.lockName = :lockName AND l.lockedBy = :owner")
+    int release(@Param("lockName") String lockName, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
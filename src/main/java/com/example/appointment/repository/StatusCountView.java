@@ -0,0 +1,13 @@
+package com.example.appointment.repository;
+
+import com.example.appointment.entity.Appointment;
+
+/**
+ * 상태별 집계 프로젝션
+ */
+public interface StatusCountView {
+    
+    Appointment.AppointmentStatus getAppointmentStatus();
+    
+    Long getCount();
+}
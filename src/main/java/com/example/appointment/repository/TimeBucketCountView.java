@@ -0,0 +1,15 @@
+package com.example.appointment.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 시간 단위 집계 프로젝션 (날짜 + 시각별 건수)
+ */
+public interface TimeBucketCountView {
+    
+    LocalDate getBucketDate();
+    
+    Integer getBucketHour();
+    
+    Long getCount();
+}
@@ -0,0 +1,113 @@
+package com.example.appointment.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 보관 테이블 월 단위 파티션 관리 (MySQL 전용, 다른 DB에서는 아무 것도 하지 않음)
+ * - 최초 분할(start_time 기준 RANGE COLUMNS)은 V9 마이그레이션이 담당하고, 여기서는 롤오버만 처리함
+ * - 매일 p_future를 나눠 앞으로 months-ahead 개월의 월 파티션을 미리 추가 (비어 있는 파티션 재구성이므로 빠름)
+ * - 여러 인스턴스가 같은 테이블을 동시에 재구성하지 않도록 리스를 얻은 하나만 실행함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentArchivePartitionManager {
+    
+    static final String TABLE_NAME = "appointment_archive";
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final SchedulerLock schedulerLock;
+    
+    static final String PARTITION_LOCK = "appointment-archive-partition";
+    
+    @Value("${appointment.archive.partition.enabled:true}")
+    private final boolean enabled;
+    
+    @Value("${appointment.archive.partition.months-ahead:3}")
+    private final int monthsAhead;
+    
+    @Value("${appointment.archive.partition.lock-minutes:10}")
+    private final long lockMinutes;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        ensurePartitions();
+    }
+    
+    /**
+     * 매일 다가올 월 파티션 확인/추가
+     */
+    @Scheduled(cron = "${appointment.archive.partition.cron:0 0 4 * * *}")
+    public void ensurePartitions() {
+        if (!enabled) {
+            return;
+        }
+        if (!schedulerLock.tryAcquire(PARTITION_LOCK, Duration.ofMinutes(lockMinutes))) {
+            return;
+        }
+        try {
+            if (!isMySql()) {
+                log.debug("MySQL이 아니므로 보관 테이블 파티션 관리를 건너뜀");
+                return;
+            }
+            
+            List<String> partitions = jdbcTemplate.queryForList(
+                    "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                    "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+                    "ORDER BY PARTITION_ORDINAL_POSITION",
+                    String.class, TABLE_NAME);
+            
+            if (!partitions.contains(FUTURE_PARTITION)) {
+                log.warn("보관 테이블이 분할되어 있지 않아 파티션 추가를 건너뜀 (V9 마이그레이션 확인 필요)");
+                return;
+            }
+            
+            YearMonth current = YearMonth.now();
+            for (int i = 0; i <= monthsAhead; i++) {
+                YearMonth month = current.plusMonths(i);
+                if (!partitions.contains(partitionName(month))) {
+                    jdbcTemplate.execute(addMonthDdl(month));
+                    log.info("보관 테이블 파티션 추가: {}", partitionName(month));
+                }
+            }
+        } catch (Exception e) {
+            log.error("보관 테이블 파티션 관리 중 오류 발생", e);
+        } finally {
+            schedulerLock.release(PARTITION_LOCK);
+        }
+    }
+    
+    static String addMonthDdl(YearMonth month) {
+        return "ALTER TABLE " + TABLE_NAME + " REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO (" +
+                monthPartition(month) + ", PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE))";
+    }
+    
+    static String partitionName(YearMonth month) {
+        return "p" + month.format(PARTITION_SUFFIX);
+    }
+    
+    private static String monthPartition(YearMonth month) {
+        return "PARTITION " + partitionName(month) + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')";
+    }
+    
+    private boolean isMySql() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return product != null && product.toLowerCase().contains("mysql");
+    }
+}
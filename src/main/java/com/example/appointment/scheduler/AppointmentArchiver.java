@@ -0,0 +1,129 @@
+package com.example.appointment.scheduler;
+
+import com.example.appointment.entity.Appointment;
+import com.example.appointment.event.AppointmentChangedEvent;
+import com.example.appointment.repository.AppointmentArchiveRepository;
+import com.example.appointment.repository.AppointmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 약속 이력 보관 작업
+ * - 종료 후 보관 기준 기간(horizon)이 지난 DONE/CANCELLED 약속을 appointment_archive로 이동
+ * - 청크 단위의 짧은 트랜잭션(INSERT ... SELECT + DELETE)으로 처리하고 청크 사이에 쉬어 긴 잠금을 피함
+ * - 이동한 약속마다 ARCHIVED 이벤트를 같은 트랜잭션에서 발행하여 운영 테이블 기준 인덱스/아웃박스 구독자가 반영하도록 함
+ * - 여러 인스턴스 중 리스를 얻은 하나만 실행함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentArchiver {
+    
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentArchiveRepository archiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SchedulerLock schedulerLock;
+    
+    static final String ARCHIVE_LOCK = "appointment-archive";
+    
+    @Value("${appointment.archive.horizon-days:30}")
+    private final int horizonDays;
+    
+    @Value("${appointment.archive.chunk-size:500}")
+    private final int chunkSize;
+    
+    @Value("${appointment.archive.chunk-pause-ms:100}")
+    private final long chunkPauseMillis;
+    
+    @Value("${appointment.archive.max-chunks-per-run:200}")
+    private final int maxChunksPerRun;
+    
+    // 보관 작업 최대 실행 시간보다 길어야 함 (지나면 다른 인스턴스가 리스를 가져갈 수 있음)
+    @Value("${appointment.archive.lock-minutes:60}")
+    private final long lockMinutes;
+    
+    /**
+     * 매일 새벽 보관 작업 실행
+     */
+    @Scheduled(cron = "${appointment.archive.cron:0 30 3 * * *}")
+    public void archive() {
+        if (!schedulerLock.tryAcquire(ARCHIVE_LOCK, Duration.ofMinutes(lockMinutes))) {
+            return;
+        }
+        try {
+            LocalDateTime before = LocalDateTime.now().minusDays(horizonDays);
+            int archived = archiveEndedBefore(before);
+            if (archived > 0) {
+                log.info("약속 보관 완료: {}개 (종료 시각 기준 {} 이전)", archived, before);
+            }
+        } catch (Exception e) {
+            log.error("약속 보관 중 오류 발생", e);
+        } finally {
+            schedulerLock.release(ARCHIVE_LOCK);
+        }
+    }
+    
+    /**
+     * 기준 시각 이전에 종료된 종료 상태 약속을 청크 단위로 보관
+     * @return 보관된 약속 수
+     */
+    int archiveEndedBefore(LocalDateTime before) {
+        int total = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            List<String> appointmentIds = appointmentRepository.findArchivableIds(before, PageRequest.of(0, chunkSize));
+            if (appointmentIds.isEmpty()) {
+                break;
+            }
+            
+            Integer moved = transactionTemplate.execute(status -> {
+                // 이벤트 내용(호스트/장소/시간)은 삭제 전에 읽어 둠 - 종료 상태는 더 바뀌지 않음
+                List<Appointment> appointments = appointmentRepository.findByAppointmentIdIn(appointmentIds);
+                int copied = archiveRepository.copyFromAppointments(appointmentIds, LocalDateTime.now());
+                int deleted = appointmentRepository.deleteArchived(appointmentIds);
+                if (copied != deleted || deleted != appointments.size()) {
+                    // 복사/삭제 건수가 다르면 이 청크는 되돌리고 중단 (다음 실행에서 재시도)
+                    log.warn("약속 보관 건수 불일치 - 조회: {}, 복사: {}, 삭제: {} (청크 롤백)",
+                            appointments.size(), copied, deleted);
+                    status.setRollbackOnly();
+                    return 0;
+                }
+                appointments.forEach(appointment -> eventPublisher.publishEvent(AppointmentChangedEvent.archived(appointment)));
+                return deleted;
+            });
+            
+            if (moved == null || moved == 0) {
+                break;
+            }
+            total += moved;
+            
+            if (!pause()) {
+                break;
+            }
+        }
+        return total;
+    }
+    
+    private boolean pause() {
+        if (chunkPauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(chunkPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.appointment.scheduler;
+
+import com.example.appointment.service.AppointmentSeriesService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반복 약속 발생 생성 작업
+ * - 곧 시작할(lead-minutes 이내) 발생을 약속 행으로 생성하여 상태 스케줄러/Guest 참여 대상이 되도록 함
+ * - 중단 등으로 놓친 발생은 catch-up-hours 이내면 다음 실행에서 생성 (이미 생성된 발생은 예외 행으로 건너뜀)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentSeriesMaterializer {
+    
+    private final AppointmentSeriesService seriesService;
+    
+    @Value("${appointment.series.materialize-lead-minutes:15}")
+    private final long leadMinutes;
+    
+    @Value("${appointment.series.materialize-catch-up-hours:24}")
+    private final long catchUpHours;
+    
+    @Scheduled(fixedDelayString = "${appointment.series.materialize-interval-ms:60000}")
+    public void materialize() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int materialized = seriesService.materializeStartingBetween(
+                    now.minusHours(catchUpHours), now.plusMinutes(leadMinutes));
+            if (materialized > 0) {
+                log.info("반복 약속 발생 생성 완료: {}개", materialized);
+            }
+        } catch (Exception e) {
+            log.error("반복 약속 발생 생성 중 오류 발생", e);
+        }
+    }
+}
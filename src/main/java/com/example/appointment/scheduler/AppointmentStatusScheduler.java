@@ -1,33 +1,47 @@
 package com.example.appointment.scheduler;
 
 import com.example.appointment.entity.Appointment;
+import com.example.appointment.event.AppointmentChangedEvent;
 import com.example.appointment.repository.AppointmentRepository;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * 약속 상태 실시간 변경 스케줄러
  * - PLANNED → ONGOING: 시작 시간 도달 시
  * - ONGOING → DONE: 종료 시간 도달 시
+ * - 상태 변경은 조건부 UPDATE(현재 상태가 예상 상태일 때만)로 처리하여 동시에 취소된 약속을 덮어쓰지 않음
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class AppointmentStatusScheduler {
     
+    // 한 트랜잭션에서 변경할 최대 약속 수 (행 잠금 유지 시간 제한)
+    private static final int TRANSITION_CHUNK_SIZE = 50;
+    
+    // 요약 로그에 함께 남길 약속 ID 수
+    private static final int SUMMARY_SAMPLE_SIZE = 5;
+    
     private final AppointmentRepository appointmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ObservationRegistry observationRegistry;
     
     /**
      * 매 1분마다 약속 상태를 실시간으로 확인하고 업데이트
      */
     @Scheduled(fixedRate = 60000) // 60초(1분)마다 실행
-    @Transactional
     public void updateAppointmentStatuses() {
         try {
             LocalDateTime now = LocalDateTime.now();
@@ -35,13 +49,13 @@ public class AppointmentStatusScheduler {
             log.debug("실시간 약속 상태 체크 시작: {}", now);
             
             // 1. PLANNED → ONGOING 변경
-            updatePlannedToOngoing(now);
+            step("planned-to-ongoing", () -> updatePlannedToOngoing(now));
             
             // 2. ONGOING → DONE 변경  
-            updateOngoingToDone(now);
+            step("ongoing-to-done", () -> updateOngoingToDone(now));
             
             // 3. PLANNED에서 바로 DONE으로 변경 (늦게 확인된 경우)
-            updatePlannedToDone(now);
+            step("planned-to-done", () -> updatePlannedToDone(now));
             
             log.debug("실시간 약속 상태 체크 완료");
         } catch (Exception e) {
@@ -49,6 +63,16 @@ public class AppointmentStatusScheduler {
         }
     }
     
+    /**
+     * 단계별 관측 (span: appointment.scheduler.step{step})
+     */
+    private void step(String name, Runnable body) {
+        Observation.createNotStarted("appointment.scheduler.step", observationRegistry)
+                .contextualName("scheduler " + name)
+                .lowCardinalityKeyValue("step", name)
+                .observe(body);
+    }
+    
     /**
      * PLANNED → ONGOING 상태 변경
      * 현재 시간이 시작 시간 이후이고 종료 시간 이전인 약속들
@@ -57,18 +81,9 @@ public class AppointmentStatusScheduler {
         List<Appointment> appointmentsToStart = appointmentRepository.findAppointmentsToStartNow(now);
         
         if (!appointmentsToStart.isEmpty()) {
-            // 배치 업데이트: 메모리에서 상태 변경 후 한 번에 저장
-            appointmentsToStart.forEach(appointment -> 
-                appointment.setAppointmentStatus(Appointment.AppointmentStatus.ONGOING));
-            appointmentRepository.saveAll(appointmentsToStart);
-            
-            // 로깅
-            appointmentsToStart.forEach(appointment -> 
-                log.info("실시간 상태 변경: {} - PLANNED → ONGOING (시작: {})", 
-                        appointment.getAppointmentId(), 
-                        appointment.getStartTime()));
-            
-            log.info("PLANNED → ONGOING 배치 변경 완료: {}개 약속", appointmentsToStart.size());
+            List<Appointment> started = transition(appointmentsToStart,
+                    Appointment.AppointmentStatus.PLANNED, Appointment.AppointmentStatus.ONGOING, now);
+            logTransitionSummary("PLANNED → ONGOING", appointmentsToStart.size(), started);
         }
     }
     
@@ -80,18 +95,9 @@ public class AppointmentStatusScheduler {
         List<Appointment> appointmentsToEnd = appointmentRepository.findAppointmentsToEndNow(now);
         
         if (!appointmentsToEnd.isEmpty()) {
-            // 배치 업데이트: 메모리에서 상태 변경 후 한 번에 저장
-            appointmentsToEnd.forEach(appointment -> 
-                appointment.setAppointmentStatus(Appointment.AppointmentStatus.DONE));
-            appointmentRepository.saveAll(appointmentsToEnd);
-            
-            // 로깅
-            appointmentsToEnd.forEach(appointment -> 
-                log.info("실시간 상태 변경: {} - ONGOING → DONE (종료: {})", 
-                        appointment.getAppointmentId(), 
-                        appointment.getEndTime()));
-            
-            log.info("ONGOING → DONE 배치 변경 완료: {}개 약속", appointmentsToEnd.size());
+            List<Appointment> ended = transition(appointmentsToEnd,
+                    Appointment.AppointmentStatus.ONGOING, Appointment.AppointmentStatus.DONE, now);
+            logTransitionSummary("ONGOING → DONE", appointmentsToEnd.size(), ended);
         }
     }
     
@@ -103,19 +109,55 @@ public class AppointmentStatusScheduler {
         List<Appointment> plannedPastEndTime = appointmentRepository.findPlannedAppointmentsPastEndTime(now);
         
         if (!plannedPastEndTime.isEmpty()) {
-            // 배치 업데이트: 메모리에서 상태 변경 후 한 번에 저장
-            plannedPastEndTime.forEach(appointment -> 
-                appointment.setAppointmentStatus(Appointment.AppointmentStatus.DONE));
-            appointmentRepository.saveAll(plannedPastEndTime);
-            
-            // 로깅
-            plannedPastEndTime.forEach(appointment -> 
-                log.info("실시간 상태 변경: {} - PLANNED → DONE (종료시간 지남: {})", 
-                        appointment.getAppointmentId(), 
-                        appointment.getEndTime()));
-            
-            log.info("PLANNED → DONE 배치 변경 완료: {}개 약속 (늦은 처리)", plannedPastEndTime.size());
+            List<Appointment> ended = transition(plannedPastEndTime,
+                    Appointment.AppointmentStatus.PLANNED, Appointment.AppointmentStatus.DONE, now);
+            logTransitionSummary("PLANNED → DONE", plannedPastEndTime.size(), ended);
+        }
+    }
+    
+    /**
+     * 배치 변경 요약 로그 - 약속마다 한 줄씩 남기지 않고 건수와 일부 ID만 기록 (전체 ID는 DEBUG)
+     */
+    private void logTransitionSummary(String transition, int candidateCount, List<Appointment> transitioned) {
+        log.info("{} 배치 변경 완료: {}개 약속 (대상 {}개, 예: {})", transition, transitioned.size(), candidateCount,
+                appointmentIds(transitioned, SUMMARY_SAMPLE_SIZE));
+        if (log.isDebugEnabled()) {
+            log.debug("{} 변경된 약속: {}", transition, appointmentIds(transitioned, transitioned.size()));
+        }
+    }
+    
+    private static List<String> appointmentIds(List<Appointment> appointments, int limit) {
+        return appointments.stream()
+                .limit(limit)
+                .map(Appointment::getAppointmentId)
+                .toList();
+    }
+    
+    /**
+     * 조건부 상태 변경 - 청크 단위의 짧은 트랜잭션으로 처리함
+     * 조회 이후 다른 요청(취소 등)이 먼저 상태를 바꾼 약속은 UPDATE 0건이 되어 건너뜀
+     * @return 실제로 변경된 약속 목록
+     */
+    private List<Appointment> transition(List<Appointment> candidates,
+                                         Appointment.AppointmentStatus from,
+                                         Appointment.AppointmentStatus to,
+                                         LocalDateTime now) {
+        List<Appointment> transitioned = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i += TRANSITION_CHUNK_SIZE) {
+            List<Appointment> chunk = candidates.subList(i, Math.min(i + TRANSITION_CHUNK_SIZE, candidates.size()));
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Appointment appointment : chunk) {
+                    int updated = appointmentRepository.transitionStatus(
+                            appointment.getAppointmentId(), List.of(from), to, now);
+                    if (updated == 1) {
+                        appointment.setAppointmentStatus(to);
+                        eventPublisher.publishEvent(AppointmentChangedEvent.statusChanged(appointment, from));
+                        transitioned.add(appointment);
+                    }
+                }
+            });
         }
+        return transitioned;
     }
     
     /**
@@ -0,0 +1,54 @@
+package com.example.appointment.scheduler;
+
+import com.example.appointment.repository.SchedulerLockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 스케줄 작업 DB 리스 - 여러 인스턴스 중 하나만 작업을 실행하도록 함
+ * - 만료된 리스만 조건부 UPDATE로 획득하므로 인스턴스가 중단돼도 리스 시간이 지나면 다른 인스턴스가 이어받음
+ * - 리스 시간은 작업의 최대 실행 시간보다 길게 잡아야 함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SchedulerLock {
+    
+    private static final LocalDateTime EXPIRED = LocalDateTime.of(2000, 1, 1, 0, 0);
+    
+    private final SchedulerLockRepository lockRepository;
+    
+    private final String owner = hostName() + "-" + UUID.randomUUID();
+    
+    /**
+     * 리스 획득 시도 - 다른 인스턴스(또는 같은 인스턴스의 다른 실행)가 보유 중이면 false
+     */
+    public boolean tryAcquire(String lockName, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        lockRepository.insertIfAbsent(lockName, EXPIRED);
+        boolean acquired = lockRepository.tryAcquire(lockName, owner, now, now.plus(lease)) > 0;
+        if (!acquired) {
+            log.debug("스케줄 작업 리스 획득 실패 (다른 실행이 보유 중) - lock: {}", lockName);
+        }
+        return acquired;
+    }
+    
+    public void release(String lockName) {
+        lockRepository.release(lockName, owner, LocalDateTime.now());
+    }
+    
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
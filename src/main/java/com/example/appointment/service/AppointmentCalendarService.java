@@ -0,0 +1,230 @@
+package com.example.appointment.service;
+
+import com.example.appointment.dto.AppointmentResponseDto;
+import com.example.appointment.dto.CalendarPageDto;
+import com.example.appointment.dto.UserResponse;
+import com.example.appointment.entity.Appointment;
+import com.example.appointment.entity.AppointmentArchive;
+import com.example.appointment.repository.AppointmentArchiveRepository;
+import com.example.appointment.repository.AppointmentParticipantRepository;
+import com.example.appointment.repository.AppointmentRepository;
+import com.example.appointment.support.KWayMerge;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 캘린더 조회 (주최 약속 + 참여 약속)
+ * - 주최(약속/보관 테이블)와 참여(로컬 참여자 인덱스) 조회를 동시에 실행하고, 시작 시간 순 k-way 병합 후 중복 제거
+ * - 페이지의 호스트 정보는 호스트별로 한 번만 동시 조회
+ * - (start_time, appointment_id) keyset 커서로 다음 페이지 조회 (OFFSET 없음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentCalendarService {
+    
+    // 캘린더 조회 구간 미지정 시 경계 (MySQL DATETIME 범위)
+    private static final LocalDateTime CALENDAR_MIN_TIME = LocalDateTime.of(1000, 1, 1, 0, 0);
+    private static final LocalDateTime CALENDAR_MAX_TIME = LocalDateTime.of(9999, 12, 31, 0, 0);
+    
+    private static final Comparator<Appointment> CALENDAR_ORDER =
+            Comparator.comparing(Appointment::getStartTime).thenComparing(Appointment::getAppointmentId);
+    
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentArchiveRepository archiveRepository;
+    private final AppointmentParticipantRepository participantRepository;
+    private final GuestMembershipCache guestMembershipCache;
+    private final HostLookup hostLookup;
+    
+    @Value("${appointment.calendar.executor-threads:8}")
+    private final int executorThreads;
+    
+    @Value("${appointment.calendar.timeout-ms:5000}")
+    private final long timeoutMillis;
+    
+    @Value("${appointment.archive.horizon-days:30}")
+    private final int archiveHorizonDays;
+    
+    @Value("${appointment.participants.local-index-enabled:false}")
+    private final boolean participantIndexEnabled;
+    
+    private ExecutorService executor;
+    
+    /**
+     * keyset 커서 - 이 위치 이후의 약속부터 조회
+     */
+    static final class Cursor {
+        final LocalDateTime startTime;
+        final String appointmentId;
+        
+        Cursor(LocalDateTime startTime, String appointmentId) {
+            this.startTime = startTime;
+            this.appointmentId = appointmentId;
+        }
+    }
+    
+    @PostConstruct
+    void start() {
+        // 요청 스레드의 관측(trace) 컨텍스트를 조회 스레드로 전달
+        ContextSnapshotFactory snapshotFactory = ContextSnapshotFactory.builder().build();
+        executor = ContextExecutorService.wrap(
+                Executors.newFixedThreadPool(executorThreads, new CustomizableThreadFactory("appointment-calendar-")),
+                snapshotFactory::captureAll);
+    }
+    
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+    
+    /**
+     * 사용자 캘린더 한 페이지 조회
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    public CalendarPageDto getCalendar(String userId, LocalDateTime from, LocalDateTime to, String cursor, int size) {
+        log.debug("Retrieving calendar for user: {}", userId);
+        
+        Cursor after = cursor != null ? decodeCursor(cursor)
+                : new Cursor(from != null ? from : CALENDAR_MIN_TIME, "");
+        if (from != null && after.startTime.isBefore(from)) {
+            after = new Cursor(from, "");
+        }
+        LocalDateTime upper = to != null ? to : CALENDAR_MAX_TIME;
+        
+        // 각 소스에서 size + 1개씩 읽으면 병합 결과의 앞 size + 1개는 항상 정확함 (다음 페이지 존재 여부 판단용 1개 포함)
+        int fetchSize = size + 1;
+        Cursor position = after;
+        List<CompletableFuture<List<Appointment>>> sources = new ArrayList<>();
+        sources.add(supply(() -> appointmentRepository.findHostPageAfter(
+                userId, position.startTime, position.appointmentId, upper, PageRequest.of(0, fetchSize))));
+        if (position.startTime.isBefore(LocalDateTime.now().minusDays(archiveHorizonDays))) {
+            sources.add(supply(() -> archiveRepository.findHostPageAfter(
+                            userId, position.startTime, position.appointmentId, upper, PageRequest.of(0, fetchSize)).stream()
+                    .map(AppointmentArchive::toAppointment)
+                    .toList()));
+        }
+        sources.add(supply(() -> participatingAfter(userId, position, upper, fetchSize)));
+        
+        List<Appointment> merged = KWayMerge.mergeDistinct(await(sources), CALENDAR_ORDER,
+                Appointment::getAppointmentId, fetchSize);
+        
+        String nextCursor = null;
+        if (merged.size() > size) {
+            merged = merged.subList(0, size);
+            Appointment last = merged.get(size - 1);
+            nextCursor = encodeCursor(new Cursor(last.getStartTime(), last.getAppointmentId()));
+        }
+        
+        Map<String, UserResponse> hosts = hostLookup.fetch(merged, timeoutMillis);
+        List<AppointmentResponseDto> appointments = merged.stream()
+                .map(appointment -> AppointmentService.convertToResponseDto(appointment, hosts.get(appointment.getHostId())))
+                .toList();
+        return new CalendarPageDto(appointments, nextCursor);
+    }
+    
+    /**
+     * 참여 약속 - 로컬 참여자 인덱스 조회 (비활성화 시 Guest 참여 정보 캐시 기준으로 같은 정렬/범위 적용)
+     */
+    private List<Appointment> participatingAfter(String userId, Cursor after, LocalDateTime to, int limit) {
+        if (participantIndexEnabled) {
+            return participantRepository.findParticipatingAppointmentsAfter(userId,
+                            GuestMembershipCache.PARTICIPATING_STATUS, after.startTime, after.appointmentId, to,
+                            PageRequest.of(0, limit)).stream()
+                    .map(view -> view.getAppointment() != null ? view.getAppointment()
+                            : view.getArchived() != null ? view.getArchived().toAppointment() : null)
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
+        
+        List<String> appointmentIds = guestMembershipCache.getParticipatingAppointmentIds(userId);
+        if (appointmentIds.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Appointment> appointments = new LinkedHashMap<>();
+        appointmentRepository.findByAppointmentIdIn(appointmentIds)
+                .forEach(appointment -> appointments.put(appointment.getAppointmentId(), appointment));
+        archiveRepository.findByAppointmentIdIn(appointmentIds)
+                .forEach(archived -> appointments.putIfAbsent(archived.getAppointmentId(), archived.toAppointment()));
+        Appointment position = new Appointment();
+        position.setStartTime(after.startTime);
+        position.setAppointmentId(after.appointmentId);
+        return appointments.values().stream()
+                .filter(appointment -> CALENDAR_ORDER.compare(appointment, position) > 0
+                        && appointment.getStartTime().isBefore(to))
+                .sorted(CALENDAR_ORDER)
+                .limit(limit)
+                .toList();
+    }
+    
+    private CompletableFuture<List<Appointment>> supply(Supplier<List<Appointment>> query) {
+        return CompletableFuture.supplyAsync(query, executor);
+    }
+    
+    private List<List<Appointment>> await(List<CompletableFuture<List<Appointment>>> sources) {
+        try {
+            CompletableFuture.allOf(sources.toArray(CompletableFuture[]::new)).get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            sources.forEach(source -> source.cancel(true));
+            throw new IllegalStateException("Calendar query timed out after " + timeoutMillis + "ms", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sources.forEach(source -> source.cancel(true));
+            throw new IllegalStateException("Calendar query interrupted", e);
+        } catch (ExecutionException e) {
+            sources.forEach(source -> source.cancel(true));
+            Throwable cause = e.getCause() instanceof CompletionException && e.getCause().getCause() != null
+                    ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Calendar query failed", cause);
+        }
+        return sources.stream().map(CompletableFuture::join).toList();
+    }
+    
+    static String encodeCursor(Cursor cursor) {
+        String raw = cursor.startTime + "|" + cursor.appointmentId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    static Cursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.appointment.service;
+
+import com.example.appointment.client.UserServiceClient;
+import com.example.appointment.dto.AppointmentRequestDto;
+import com.example.appointment.dto.UserResponse;
+import com.example.appointment.entity.Appointment;
+import com.example.appointment.repository.AppointmentRepository;
+import com.example.appointment.repository.IdSequenceRepository;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 약속 생성 사전 단계 파이프라인
+ * - 호스트 검증(원격 호출), 중복 시간대 검증(DB), ID 할당(DB)을 동시에 실행하여 지연 시간을 단계 합이 아닌 최댓값 수준으로 줄임
+ * - 한 단계라도 실패하면 나머지 단계를 취소하고 즉시 실패함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentCreationPipeline {
+    
+    static final String APPOINTMENT_ID_SEQUENCE = "appointment";
+    
+    private final UserServiceClient userServiceClient;
+    private final AppointmentRepository appointmentRepository;
+    private final IdSequenceRepository idSequenceRepository;
+    private final AppointmentSeriesExpander seriesExpander;
+    
+    @Value("${appointment.creation.executor-threads:8}")
+    private final int executorThreads;
+    
+    @Value("${appointment.creation.timeout-ms:10000}")
+    private final long timeoutMillis;
+    
+    private ExecutorService executor;
+    
+    /**
+     * 사전 단계 결과 - 검증된 호스트 정보와 할당된 약속 ID
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class PreparedCreation {
+        private final UserResponse host;
+        private final String appointmentId;
+    }
+    
+    @PostConstruct
+    void start() {
+        // 요청 스레드의 관측(trace) 컨텍스트를 작업 스레드로 전달하여 단계별 span이 요청 span 아래에 기록되도록 함
+        ContextSnapshotFactory snapshotFactory = ContextSnapshotFactory.builder().build();
+        executor = ContextExecutorService.wrap(
+                Executors.newFixedThreadPool(executorThreads, new CustomizableThreadFactory("appointment-create-")),
+                snapshotFactory::captureAll);
+    }
+    
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+    
+    /**
+     * 사전 단계 동시 실행 - 모두 성공해야 결과를 반환함
+     */
+    public PreparedCreation prepare(AppointmentRequestDto requestDto) {
+        String hostId = requestDto.getHostId();
+        
+        CompletableFuture<UserResponse> hostLookup = lookupHost(hostId);
+        CompletableFuture<UserResponse> hostValidation = hostLookup.handle((user, e) -> validateHost(hostId, user, e));
+        // 검증 단계가 취소되면 진행 중인 원격 호출도 취소
+        hostValidation.whenComplete((user, e) -> {
+            if (e instanceof CancellationException) {
+                hostLookup.cancel(true);
+            }
+        });
+        
+        // 중복 시간대 약속 검증 (INV-A008)
+        CompletableFuture<Void> conflictCheck = CompletableFuture.runAsync(() ->
+                validateTimeConflict(hostId, requestDto.getStartTime(), requestDto.getEndTime()), executor);
+        
+        CompletableFuture<String> idAllocation = CompletableFuture.supplyAsync(this::allocateAppointmentId, executor);
+        
+        awaitAll(List.of(hostValidation, conflictCheck, idAllocation));
+        return new PreparedCreation(hostValidation.join(), idAllocation.join());
+    }
+    
+    /**
+     * appo001 형태로 ID 할당 - 시퀀스에서 발급하므로 삭제/보관된 약속의 ID나 동시 생성과 겹치지 않음
+     */
+    public String allocateAppointmentId() {
+        return String.format("appo%03d", idSequenceRepository.next(APPOINTMENT_ID_SEQUENCE));
+    }
+    
+    private CompletableFuture<UserResponse> lookupHost(String hostId) {
+        try {
+            return userServiceClient.getUserByIdAsync(hostId);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+    
+    /**
+     * 호스트 존재 여부 검증
+     */
+    private UserResponse validateHost(String hostId, UserResponse user, Throwable error) {
+        if (error != null || user == null) {
+            log.error("Host validation failed for ID: {}", hostId, error);
+            throw new IllegalArgumentException("Invalid host ID: " + hostId);
+        }
+        log.info("Host validation successful: {}", user.getUsername());
+        return user;
+    }
+    
+    /**
+     * 동일 시간대 중복 약속 검증 (INV-A008) - 약속 행과 반복 시리즈 발생(약속 행 없이 규칙으로 계산) 모두 검사
+     */
+    private void validateTimeConflict(String hostId, LocalDateTime startTime, LocalDateTime endTime) {
+        List<Appointment> overlappingAppointments = appointmentRepository.findOverlappingAppointments(
+                hostId, startTime, endTime);
+        
+        if (!overlappingAppointments.isEmpty()) {
+            throw new IllegalArgumentException(
+                    String.format("Host already has an appointment during this time period (INV-A008). " +
+                            "Conflicting appointment ID: %s", overlappingAppointments.get(0).getAppointmentId()));
+        }
+        
+        seriesExpander.findHostConflict(hostId, startTime, endTime, null, null).ifPresent(occurrence -> {
+            throw new IllegalArgumentException(
+                    String.format("Host already has a recurring appointment during this time period (INV-A008). " +
+                            "Conflicting series ID: %s, occurrence: %s",
+                            occurrence.getSeries().getSeriesId(), occurrence.getStartTime()));
+        });
+    }
+    
+    /**
+     * 모든 단계 완료 대기 - 첫 실패 시 나머지 단계를 취소하고 해당 예외를 그대로 던짐
+     * (원격 호출은 취소 시 요청이 중단되며, 이미 실행 중인 DB 조회는 결과만 버려짐)
+     */
+    private void awaitAll(List<CompletableFuture<?>> stages) {
+        CompletableFuture<Void> allCompleted = CompletableFuture.allOf(stages.toArray(new CompletableFuture[0]));
+        CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+        stages.forEach(stage -> stage.whenComplete((result, e) -> {
+            if (e != null) {
+                firstFailure.completeExceptionally(e);
+            }
+        }));
+        
+        try {
+            CompletableFuture.anyOf(allCompleted, firstFailure).get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            cancelAll(stages);
+            throw unwrap(e.getCause());
+        } catch (TimeoutException e) {
+            cancelAll(stages);
+            throw new IllegalStateException("Appointment creation timed out after " + timeoutMillis + "ms");
+        } catch (InterruptedException e) {
+            cancelAll(stages);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while creating appointment", e);
+        }
+    }
+    
+    private void cancelAll(List<CompletableFuture<?>> stages) {
+        stages.forEach(stage -> stage.cancel(true));
+    }
+    
+    private RuntimeException unwrap(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException("Appointment creation failed", cause);
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.appointment.service;
+
+import com.example.appointment.dto.FeedbackCompleteResponseDto;
+import com.example.appointment.dto.FeedbackPendingDto;
+import com.example.appointment.dto.GuestInfo;
+import com.example.appointment.dto.GuestResponse;
+import com.example.appointment.dto.UserResponse;
+import com.example.appointment.entity.Appointment;
+import com.example.appointment.event.AppointmentChangedEvent;
+import com.example.appointment.repository.AppointmentArchiveRepository;
+import com.example.appointment.repository.AppointmentRepository;
+import com.example.appointment.support.LogSampler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 피드백 대기 큐 (appointmentStatus = DONE AND feedback = F)
+ * - 사용자가 주최했거나 참여("coming") 중인 대기 약속을 사용자 기준 인덱스로 모아 종료 시간 순으로 조회 (전체 대기 약속을 훑지 않음)
+ * - 페이지 약속들의 Guest 목록은 캐시에 없는 약속만 약속별로 동시에 조회하며, 실패하면 빈 목록 대신 예외를 전파함
+ * - 피드백 완료는 대기 약속을 잠근 뒤 그 약속만 단일 UPDATE로 F -> T 처리하고, 실제로 바뀐 약속에만 변경 이벤트를 발행함
+ * - 보관된 약속(종료 후 보관 기간 경과)은 대기 목록에 나오지 않지만 완료 처리는 가능
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentFeedbackService {
+    
+    private static final LogSampler PARTICIPATION_FAILURE_LOG = LogSampler.perSecond(5);
+    
+    private static final Comparator<Appointment> QUEUE_ORDER =
+            Comparator.comparing(Appointment::getEndTime).thenComparing(Appointment::getAppointmentId);
+    
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentArchiveRepository archiveRepository;
+    private final GuestMembershipCache guestMembershipCache;
+    private final HostLookup hostLookup;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Value("${appointment.participants.local-index-enabled:false}")
+    private final boolean participantIndexEnabled;
+    
+    @Value("${appointment.feedback.host-timeout-ms:3000}")
+    private final long hostTimeoutMillis;
+    
+    /**
+     * 사용자의 피드백 대기 약속 (종료 시간이 이른 순, Guest 정보 포함)
+     */
+    @Transactional(readOnly = true)
+    public List<FeedbackPendingDto> getPendingFeedback(String userId, int page, int size) {
+        log.debug("Retrieving feedback-pending appointments - user: {}, page: {}, size: {}", userId, page, size);
+        
+        List<Appointment> appointments = participantIndexEnabled
+                ? appointmentRepository.findFeedbackPendingForUser(userId, GuestMembershipCache.PARTICIPATING_STATUS,
+                        size, page * size)
+                : findPendingFromGuestService(userId, page, size);
+        if (appointments.isEmpty()) {
+            return List.of();
+        }
+        
+        // 호스트 조회를 먼저 시작해 두고 Guest 일괄 조회와 겹치게 함
+        Map<String, CompletableFuture<UserResponse>> hosts = hostLookup.request(appointments, hostTimeoutMillis);
+        Map<String, List<GuestInfo>> guests = fetchGuests(appointments.stream().map(Appointment::getAppointmentId).toList());
+        
+        return appointments.stream()
+                .map(appointment -> new FeedbackPendingDto(
+                        AppointmentService.convertToResponseDto(appointment, hosts.get(appointment.getHostId()).join()),
+                        guests.getOrDefault(appointment.getAppointmentId(), List.of())))
+                .toList();
+    }
+    
+    /**
+     * 피드백 완료 일괄 처리 (F -> T) - 대기 상태가 아닌 약속(이미 완료, DONE 아님, 없음)은 건너뜀
+     */
+    @Transactional
+    public FeedbackCompleteResponseDto completeFeedback(Collection<String> appointmentIds) {
+        Set<String> ids = new LinkedHashSet<>(appointmentIds);
+        
+        // 대기 약속을 잠그고 읽어, 그 사이 다른 요청이 완료한 약속에 이벤트를 중복 발행하지 않도록 UPDATE 대상을 고정
+        List<Appointment> pending = appointmentRepository.lockFeedbackPendingByIds(ids);
+        Set<String> pendingIds = new LinkedHashSet<>();
+        pending.forEach(appointment -> pendingIds.add(appointment.getAppointmentId()));
+        
+        LocalDateTime now = LocalDateTime.now();
+        int completed = pendingIds.isEmpty() ? 0 : appointmentRepository.completeFeedback(pendingIds, now);
+        // 약속 테이블에 대기 상태로 없는 나머지는 보관된 약속일 수 있음
+        Set<String> remaining = new LinkedHashSet<>(ids);
+        remaining.removeAll(pendingIds);
+        if (!remaining.isEmpty()) {
+            completed += archiveRepository.completeFeedback(remaining, now);
+        }
+        
+        for (Appointment appointment : pending) {
+            appointment.setFeedback("T");
+            eventPublisher.publishEvent(AppointmentChangedEvent.feedbackChanged(appointment));
+        }
+        
+        log.info("Feedback completed - requested: {}, completed: {}", ids.size(), completed);
+        return new FeedbackCompleteResponseDto(ids.size(), completed);
+    }
+    
+    /**
+     * 참여자 인덱스 미사용 시 - 주최 대기 약속 + Guest 서비스(캐시) 기준 참여 약속 중 대기 약속을 병합
+     */
+    private List<Appointment> findPendingFromGuestService(String userId, int page, int size) {
+        Map<String, Appointment> pending = new LinkedHashMap<>();
+        appointmentRepository.findFeedbackPendingByHostId(userId)
+                .forEach(appointment -> pending.put(appointment.getAppointmentId(), appointment));
+        
+        List<String> participating = participatingAppointmentIds(userId);
+        if (!participating.isEmpty()) {
+            appointmentRepository.findFeedbackPendingByIds(participating)
+                    .forEach(appointment -> pending.putIfAbsent(appointment.getAppointmentId(), appointment));
+        }
+        
+        return pending.values().stream()
+                .sorted(QUEUE_ORDER)
+                .skip((long) page * size)
+                .limit(size)
+                .toList();
+    }
+    
+    private List<String> participatingAppointmentIds(String userId) {
+        try {
+            return guestMembershipCache.getParticipatingAppointmentIds(userId);
+        } catch (Exception e) {
+            if (PARTICIPATION_FAILURE_LOG.tryAcquire()) {
+                log.error("Failed to retrieve participating appointments for user: {} (suppressed {} similar)",
+                        userId, PARTICIPATION_FAILURE_LOG.drainSuppressed(), e);
+            }
+            return List.of();
+        }
+    }
+    
+    /**
+     * 페이지 약속들의 Guest 목록 - 조회 실패 시 예외 전파 (빈 Guest 목록으로 응답하지 않음)
+     */
+    private Map<String, List<GuestInfo>> fetchGuests(List<String> appointmentIds) {
+        Map<String, List<GuestInfo>> guests = new HashMap<>();
+        for (Map.Entry<String, List<GuestResponse>> entry : guestMembershipCache.getGuests(appointmentIds).entrySet()) {
+            guests.put(entry.getKey(), entry.getValue().stream().map(AppointmentService::convertToGuestInfo).toList());
+        }
+        return guests;
+    }
+}
@@ -0,0 +1,301 @@
+package com.example.appointment.service;
+
+import com.example.appointment.client.GuestServiceClient;
+import com.example.appointment.dto.GuestResponse;
+import com.example.appointment.entity.Appointment;
+import com.example.appointment.entity.AppointmentArchive;
+import com.example.appointment.entity.AppointmentParticipant;
+import com.example.appointment.event.AppointmentChangedEvent;
+import com.example.appointment.repository.AppointmentArchiveRepository;
+import com.example.appointment.repository.AppointmentParticipantRepository;
+import com.example.appointment.repository.AppointmentRepository;
+import com.example.appointment.scheduler.SchedulerLock;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 약속 참여자 로컬 인덱스(appointment_participant) 동기화
+ * - Guest 서비스 변경 웹훅으로 받은 사용자/약속의 참여("coming") 정보를 백그라운드에서 다시 읽어 사용자 단위로 교체
+ * - 주기적으로 Guest 서비스 전체 참여 목록을 페이지 단위로 읽어 실행 토큰을 기록하고, 토큰이 없는 행의 사용자는 사용자 단위로 다시 확인 (mark-and-sweep)
+ * - 일괄 재동기화는 DB 리스를 획득한 인스턴스 하나만 실행
+ * - 행 쓰기는 upsert 라서 웹훅 동기화와 재동기화가 같은 행을 동시에 써도 기본 키 충돌이 없음
+ * - 약속 삭제 시 참여 행 제거 (보관된 약속의 참여 행은 유지)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentParticipantSync {
+    
+    private final GuestServiceClient guestServiceClient;
+    private final AppointmentParticipantRepository participantRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentArchiveRepository archiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SchedulerLock schedulerLock;
+    
+    static final String RECONCILE_LOCK = "appointment-participant-reconcile";
+    
+    @Value("${appointment.participants.sync-threads:2}")
+    private final int syncThreads;
+    
+    @Value("${appointment.participants.reconcile-page-size:500}")
+    private final int reconcilePageSize;
+    
+    @Value("${appointment.participants.reconcile-max-pages:10000}")
+    private final int reconcileMaxPages;
+    
+    // 재동기화 최대 실행 시간보다 길어야 함 (지나면 다른 인스턴스가 리스를 가져갈 수 있음)
+    @Value("${appointment.participants.reconcile-lock-minutes:120}")
+    private final long reconcileLockMinutes;
+    
+    private ExecutorService executor;
+    
+    @PostConstruct
+    void start() {
+        // 비동기 동기화의 Guest 서비스 호출/DB 쿼리가 요청(웹훅, 이벤트)의 trace 아래에 기록되도록 관측 컨텍스트 전달
+        ContextSnapshotFactory snapshotFactory = ContextSnapshotFactory.builder().build();
+        executor = ContextExecutorService.wrap(
+                Executors.newFixedThreadPool(syncThreads, new CustomizableThreadFactory("participant-sync-")),
+                snapshotFactory::captureAll);
+    }
+    
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+    
+    /**
+     * 참여 정보가 바뀐 사용자/약속 동기화 요청 (비동기)
+     */
+    public void requestSync(Collection<String> userIds, Collection<String> appointmentIds) {
+        if (userIds != null) {
+            userIds.forEach(userId -> submit(() -> syncUser(userId)));
+        }
+        if (appointmentIds != null) {
+            appointmentIds.forEach(appointmentId -> submit(() -> syncAppointment(appointmentId)));
+        }
+    }
+    
+    /**
+     * 기동 시 인덱스가 비어 있으면 전체 재동기화 (신규 배포 직후 초기 적재)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        submit(() -> {
+            if (participantRepository.count() == 0) {
+                reconcile();
+            }
+        });
+    }
+    
+    /**
+     * 매일 새벽 전체 재동기화 - 웹훅 유실 등으로 어긋난 행 보정
+     */
+    @Scheduled(cron = "${appointment.participants.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        try {
+            reconcileAll();
+        } catch (Exception e) {
+            log.error("참여자 인덱스 재동기화 중 오류 발생 (미확인 행 정리는 생략)", e);
+        }
+    }
+    
+    /**
+     * 삭제된 약속의 참여 행 제거
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        if (event.getType() == AppointmentChangedEvent.Type.DELETED) {
+            String appointmentId = event.getAppointmentId();
+            submit(() -> transactionTemplate.executeWithoutResult(
+                    status -> participantRepository.deleteByAppointmentId(appointmentId)));
+        }
+    }
+    
+    /**
+     * 사용자의 참여 행을 Guest 서비스 현재 값으로 교체 (현재 참여 약속은 upsert, 나머지는 삭제)
+     */
+    void syncUser(String userId) {
+        List<GuestResponse> guests = guestServiceClient.fetchGuestsByUserIdAndStatus(
+                userId, GuestMembershipCache.PARTICIPATING_STATUS);
+        List<AppointmentParticipant> participants = toParticipants(guests, LocalDateTime.now(), null);
+        List<String> appointmentIds = participants.stream().map(AppointmentParticipant::getAppointmentId).toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            upsertAll(participants);
+            if (appointmentIds.isEmpty()) {
+                participantRepository.deleteByUserIdAndStatus(userId, GuestMembershipCache.PARTICIPATING_STATUS);
+            } else {
+                participantRepository.deleteByUserIdAndStatusAndAppointmentIdNotIn(
+                        userId, GuestMembershipCache.PARTICIPATING_STATUS, appointmentIds);
+            }
+        });
+        log.debug("참여자 인덱스 사용자 동기화 - userId: {}, count: {}", userId, participants.size());
+    }
+    
+    /**
+     * 약속의 기존 참여자와 현재 Guest 목록에 있는 사용자를 모두 다시 동기화 (참여 취소/추가 모두 반영)
+     */
+    void syncAppointment(String appointmentId) {
+        Set<String> userIds = new LinkedHashSet<>();
+        participantRepository.findByAppointmentId(appointmentId)
+                .forEach(participant -> userIds.add(participant.getUserId()));
+        guestServiceClient.fetchGuestsByAppointmentId(appointmentId).stream()
+                .map(GuestResponse::getUserId)
+                .filter(Objects::nonNull)
+                .forEach(userIds::add);
+        userIds.forEach(this::syncUser);
+    }
+    
+    /**
+     * Guest 서비스 참여 목록 전체를 페이지 단위로 반영하고, 모든 페이지를 읽은 경우에만 이번 실행에서 확인되지 않은 행의 사용자를 다시 확인
+     * - 오프셋 페이지는 실행 중 변경으로 행을 건너뛸 수 있으므로 미확인 행을 바로 지우지 않고 사용자 단위 조회로 판정함
+     * @return 반영된 참여 행 수 (리스를 얻지 못하면 0)
+     */
+    int reconcileAll() {
+        if (!schedulerLock.tryAcquire(RECONCILE_LOCK, Duration.ofMinutes(reconcileLockMinutes))) {
+            return 0;
+        }
+        try {
+            String runToken = UUID.randomUUID().toString();
+            LocalDateTime syncedAt = LocalDateTime.now();
+            int total = 0;
+            boolean complete = false;
+            for (int page = 0; page < reconcileMaxPages; page++) {
+                List<GuestResponse> guests = guestServiceClient.fetchGuestsPageByStatus(
+                        GuestMembershipCache.PARTICIPATING_STATUS, page, reconcilePageSize);
+                List<AppointmentParticipant> participants = toParticipants(guests, syncedAt, runToken);
+                transactionTemplate.executeWithoutResult(status -> upsertAll(participants));
+                total += participants.size();
+                if (guests.size() < reconcilePageSize) {
+                    complete = true;
+                    break;
+                }
+            }
+            
+            if (!complete) {
+                log.warn("참여자 인덱스 재동기화가 최대 페이지 수({})에 도달 - 미확인 행 정리 생략", reconcileMaxPages);
+                return total;
+            }
+            int rechecked = sweep(runToken);
+            log.info("참여자 인덱스 재동기화 완료 - 반영: {}개, 재확인 사용자: {}명", total, rechecked);
+            return total;
+        } finally {
+            schedulerLock.release(RECONCILE_LOCK);
+        }
+    }
+    
+    /**
+     * 이번 실행 토큰이 없는 행(목록에서 빠졌거나 실행 중 웹훅으로 갱신된 행)의 사용자를 사용자 단위로 다시 동기화
+     * @return 다시 확인한 사용자 수
+     */
+    private int sweep(String runToken) {
+        int rechecked = 0;
+        String afterUserId = "";
+        List<String> userIds;
+        do {
+            userIds = participantRepository.findUnconfirmedUserIds(GuestMembershipCache.PARTICIPATING_STATUS,
+                    runToken, afterUserId, PageRequest.of(0, reconcilePageSize));
+            for (String userId : userIds) {
+                try {
+                    syncUser(userId);
+                    rechecked++;
+                } catch (Exception e) {
+                    log.warn("참여자 인덱스 사용자 재확인 실패 (다음 재동기화에서 보정) - userId: {}", userId, e);
+                }
+            }
+            if (!userIds.isEmpty()) {
+                afterUserId = userIds.get(userIds.size() - 1);
+            }
+        } while (userIds.size() == reconcilePageSize);
+        return rechecked;
+    }
+    
+    private void upsertAll(List<AppointmentParticipant> participants) {
+        for (AppointmentParticipant participant : participants) {
+            participantRepository.upsert(participant.getAppointmentId(), participant.getUserId(),
+                    participant.getGuestId(), participant.getStatus(), participant.getStartTime(),
+                    participant.getSyncedAt(), participant.getSyncToken());
+        }
+    }
+    
+    // 로컬에 없는 약속의 참여 정보는 시작 시간을 알 수 없으므로 제외 (생성 전/삭제 후 도착한 변경)
+    private List<AppointmentParticipant> toParticipants(List<GuestResponse> guests, LocalDateTime syncedAt, String syncToken) {
+        List<String> appointmentIds = guests.stream()
+                .map(GuestResponse::getAppointmentId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (appointmentIds.isEmpty()) {
+            return List.of();
+        }
+        Map<String, LocalDateTime> startTimes = startTimes(appointmentIds);
+        
+        Map<String, AppointmentParticipant> participants = new HashMap<>();
+        for (GuestResponse guest : guests) {
+            LocalDateTime startTime = startTimes.get(guest.getAppointmentId());
+            if (startTime == null || guest.getUserId() == null) {
+                continue;
+            }
+            participants.putIfAbsent(guest.getAppointmentId() + "\u0000" + guest.getUserId(),
+                    new AppointmentParticipant(guest.getAppointmentId(), guest.getUserId(), guest.getGuestId(),
+                            GuestMembershipCache.PARTICIPATING_STATUS, startTime, syncedAt, syncToken));
+        }
+        return new ArrayList<>(participants.values());
+    }
+    
+    private Map<String, LocalDateTime> startTimes(List<String> appointmentIds) {
+        Map<String, LocalDateTime> startTimes = new HashMap<>();
+        for (Appointment appointment : appointmentRepository.findByAppointmentIdIn(appointmentIds)) {
+            startTimes.put(appointment.getAppointmentId(), appointment.getStartTime());
+        }
+        if (startTimes.size() < appointmentIds.size()) {
+            for (AppointmentArchive archived : archiveRepository.findByAppointmentIdIn(appointmentIds)) {
+                startTimes.putIfAbsent(archived.getAppointmentId(), archived.getStartTime());
+            }
+        }
+        return startTimes;
+    }
+    
+    private void submit(Runnable task) {
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.warn("참여자 인덱스 동기화 실패 (다음 재동기화에서 보정)", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("참여자 인덱스 동기화 요청 무시 - 종료 중");
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.appointment.service;
+
+import com.example.appointment.entity.Appointment;
+import com.example.appointment.repository.AppointmentRepository;
+import com.example.appointment.support.MicroBatcher;
+import com.example.appointment.support.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * 동시 조회 병합기
+ * - 동일 요청(작업 + 키)은 진행 중인 하나의 계산으로 병합 (single-flight)
+ * - 서로 다른 ID의 단건 조회는 짧은 시간 창 단위로 모아 findByAppointmentIdIn 한 번으로 처리 (micro-batching)
+ * - 병합된 호출자는 결과의 복사본을 받음 (엔티티/DTO는 가변 객체이므로)
+ */
+@Component
+@RequiredArgsConstructor
+public class AppointmentReadCoalescer {
+    
+    private final AppointmentRepository appointmentRepository;
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${appointment.coalescing.batch-window-ms:2}")
+    private final long batchWindowMillis;
+    
+    @Value("${appointment.coalescing.max-batch-size:100}")
+    private final int maxBatchSize;
+    
+    @Value("${appointment.coalescing.batch-threads:2}")
+    private final int batchThreads;
+    
+    @Value("${appointment.coalescing.timeout-ms:5000}")
+    private final long timeoutMillis;
+    
+    private final Map<String, SingleFlight<String, Object>> flights = new ConcurrentHashMap<>();
+    private MicroBatcher<String, Appointment> appointmentBatcher;
+    
+    @PostConstruct
+    void start() {
+        appointmentBatcher = new MicroBatcher<>("appointment-by-id", this::loadAppointments, Appointment::copy,
+                batchWindowMillis, maxBatchSize, timeoutMillis, batchThreads, meterRegistry);
+    }
+    
+    @PreDestroy
+    void stop() {
+        appointmentBatcher.close();
+    }
+    
+    /**
+     * 동일 작업/키의 동시 호출을 하나의 계산으로 병합
+     * 병합된 호출자에게는 copier로 만든 복사본을 돌려주므로 결과가 가변 객체여도 호출자 간 공유되지 않음
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T coalesce(String operation, String key, Supplier<T> computation, UnaryOperator<T> copier) {
+        SingleFlight<String, Object> flight = flights.computeIfAbsent(operation,
+                name -> new SingleFlight<>(name, meterRegistry));
+        return (T) flight.execute(key, computation::get, value -> copier.apply((T) value));
+    }
+    
+    /**
+     * 약속 단건 조회 (다른 ID 조회와 함께 배치 처리)
+     */
+    public Optional<Appointment> findById(String appointmentId) {
+        return Optional.ofNullable(appointmentBatcher.load(appointmentId));
+    }
+    
+    private Map<String, Appointment> loadAppointments(List<String> appointmentIds) {
+        return appointmentRepository.findByAppointmentIdIn(appointmentIds).stream()
+                .collect(Collectors.toMap(Appointment::getAppointmentId, Function.identity()));
+    }
+}
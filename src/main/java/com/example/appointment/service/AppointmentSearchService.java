@@ -0,0 +1,99 @@
+package com.example.appointment.service;
+
+import com.example.appointment.dto.AppointmentResponseDto;
+import com.example.appointment.dto.UserResponse;
+import com.example.appointment.entity.Appointment;
+import com.example.appointment.repository.AppointmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 약속 제목/설명 키워드 검색
+ * - MySQL FULLTEXT ngram 인덱스(V5) BOOLEAN MODE 검색 (모든 검색어 필수, 관련도 순)
+ * - 장소/상태/시작 시간 필터와 페이지 조회를 함께 적용하며, 결과 정렬은 관련도 > 시작 시간 최신 순 > 약속 ID
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentSearchService {
+    
+    static final int MAX_KEYWORDS = 10;
+    // ngram_token_size 와 같은 검색어 최소 길이
+    static final int MIN_KEYWORD_LENGTH = 2;
+    
+    private final AppointmentRepository appointmentRepository;
+    private final HostLookup hostLookup;
+    
+    @Value("${appointment.search.host-timeout-ms:3000}")
+    private final long hostTimeoutMillis;
+    
+    /**
+     * 키워드 검색 (필터는 null 이면 미적용, 시작 시간 [from, to))
+     * @throws IllegalArgumentException 검색어가 없거나 너무 짧은 경우
+     */
+    @Transactional(readOnly = true)
+    public List<AppointmentResponseDto> search(String query, String locationId, Appointment.AppointmentStatus status,
+                                               LocalDateTime from, LocalDateTime to, int page, int size) {
+        List<String> keywords = keywords(query);
+        log.debug("Searching appointments - keywords: {}, location: {}, status: {}", keywords, locationId, status);
+        
+        List<Appointment> appointments = appointmentRepository.searchFullText(toBooleanQuery(keywords), locationId,
+                status != null ? status.name() : null, from, to, size, page * size);
+        
+        Map<String, UserResponse> hosts = hostLookup.fetch(appointments, hostTimeoutMillis);
+        return appointments.stream()
+                .map(appointment -> AppointmentService.convertToResponseDto(appointment, hosts.get(appointment.getHostId())))
+                .toList();
+    }
+    
+    /**
+     * 검색어 분리 - 공백 기준, 중복 제거, BOOLEAN MODE 구문에 쓰이는 큰따옴표 제거
+     */
+    static List<String> keywords(String query) {
+        Set<String> keywords = new LinkedHashSet<>();
+        if (query != null) {
+            for (String word : query.replace("\"", " ").trim().split("\\s+")) {
+                if (word.isEmpty()) {
+                    continue;
+                }
+                // ngram 인덱스는 2글자 조각 단위이므로 1글자 검색어는 찾을 수 없음
+                if (word.length() < MIN_KEYWORD_LENGTH) {
+                    throw new IllegalArgumentException(
+                            "Search keywords must be at least " + MIN_KEYWORD_LENGTH + " characters");
+                }
+                keywords.add(word);
+            }
+        }
+        if (keywords.isEmpty()) {
+            throw new IllegalArgumentException("Search query cannot be empty");
+        }
+        if (keywords.size() > MAX_KEYWORDS) {
+            throw new IllegalArgumentException("Search query cannot have more than " + MAX_KEYWORDS + " keywords");
+        }
+        return new ArrayList<>(keywords);
+    }
+    
+    /**
+     * 모든 검색어를 필수 구문으로 검색 (예: +"회의" +"주간")
+     */
+    static String toBooleanQuery(List<String> keywords) {
+        StringBuilder query = new StringBuilder();
+        for (String keyword : keywords) {
+            if (query.length() > 0) {
+                query.append(' ');
+            }
+            query.append("+\"").append(keyword).append('"');
+        }
+        return query.toString();
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.appointment.service;
+
+import com.example.appointment.entity.AppointmentSeries;
+import com.example.appointment.entity.AppointmentSeriesOverride;
+import com.example.appointment.entity.AppointmentSeriesOverrideId;
+import com.example.appointment.repository.AppointmentSeriesOverrideRepository;
+import com.example.appointment.repository.AppointmentSeriesRepository;
+import com.example.appointment.support.RecurrenceRule;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 반복 약속 시리즈 발생 계산
+ * - 요청 구간과 겹치는 발생만 규칙으로 계산하며, 예외 행(취소/약속 행으로 생성)이 있는 발생은 제외
+ * - 약속 생성 시 중복 시간대 검증(INV-A008)에서 시리즈 발생을 약속 행 없이 검사하는 데 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class AppointmentSeriesExpander {
+    
+    private final AppointmentSeriesRepository seriesRepository;
+    private final AppointmentSeriesOverrideRepository overrideRepository;
+    
+    // 시리즈 1개에서 한 번에 계산하는 최대 발생 수
+    @Value("${appointment.series.max-occurrences-per-query:1000}")
+    private final int maxOccurrencesPerQuery;
+    
+    /**
+     * 아직 약속 행이 없는 발생 1회
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Occurrence {
+        private final AppointmentSeries series;
+        private final LocalDateTime startTime;
+        private final LocalDateTime endTime;
+    }
+    
+    /**
+     * 시리즈들의 발생 중 [from, to) 구간과 겹치는 발생 (예외 행이 있는 발생 제외, 시작 시간 순)
+     */
+    public List<Occurrence> expand(List<AppointmentSeries> seriesList, LocalDateTime from, LocalDateTime to) {
+        if (seriesList.isEmpty() || !from.isBefore(to)) {
+            return List.of();
+        }
+        
+        // 구간 시작 전에 시작해 걸쳐 있는 발생도 포함하도록 발생 길이만큼 앞에서부터 계산
+        Duration longest = seriesList.stream()
+                .map(AppointmentSeries::occurrenceDuration)
+                .max(Comparator.naturalOrder())
+                .orElse(Duration.ZERO);
+        Set<String> overridden = new HashSet<>();
+        overrideRepository.findInRange(seriesList.stream().map(AppointmentSeries::getSeriesId).toList(),
+                        from.minus(longest), to)
+                .forEach(override -> overridden.add(key(override.getSeriesId(), override.getOriginalStartTime())));
+        
+        List<Occurrence> occurrences = new ArrayList<>();
+        for (AppointmentSeries series : seriesList) {
+            Duration duration = series.occurrenceDuration();
+            RecurrenceRule rule = RecurrenceRule.parse(series.getRecurrenceRule());
+            for (LocalDateTime start : rule.occurrences(series.getStartTime(), from.minus(duration), to, maxOccurrencesPerQuery)) {
+                LocalDateTime end = start.plus(duration);
+                if (end.isAfter(from) && !overridden.contains(key(series.getSeriesId(), start))) {
+                    occurrences.add(new Occurrence(series, start, end));
+                }
+            }
+        }
+        occurrences.sort(Comparator.comparing(Occurrence::getStartTime)
+                .thenComparing(occurrence -> occurrence.getSeries().getSeriesId()));
+        return occurrences;
+    }
+    
+    /**
+     * 호스트 시리즈 발생 중 [startTime, endTime) 구간과 겹치는 첫 발생 (INV-A008 검증용)
+     * @param excludedSeriesId 제외할 발생의 시리즈 ID (발생 자체를 수정하는 경우, 없으면 null)
+     */
+    public Optional<Occurrence> findHostConflict(String hostId, LocalDateTime startTime, LocalDateTime endTime,
+                                                 String excludedSeriesId, LocalDateTime excludedStartTime) {
+        List<AppointmentSeries> seriesList = seriesRepository.findHostSeriesInRange(hostId, startTime, endTime);
+        return expand(seriesList, startTime, endTime).stream()
+                .filter(occurrence -> !(occurrence.getSeries().getSeriesId().equals(excludedSeriesId)
+                        && occurrence.getStartTime().equals(excludedStartTime)))
+                .findFirst();
+    }
+    
+    /**
+     * 규칙상 실제 발생 시각인지 확인
+     */
+    public boolean isOccurrence(AppointmentSeries series, LocalDateTime startTime) {
+        return RecurrenceRule.parse(series.getRecurrenceRule())
+                .occurrences(series.getStartTime(), startTime, startTime.plusNanos(1), 1)
+                .contains(startTime);
+    }
+    
+    /**
+     * 발생 예외 조회
+     */
+    public Optional<AppointmentSeriesOverride> findOverride(String seriesId, LocalDateTime originalStartTime) {
+        return overrideRepository.findById(new AppointmentSeriesOverrideId(seriesId, originalStartTime));
+    }
+    
+    private static String key(String seriesId, LocalDateTime startTime) {
+        return seriesId + "|" + startTime;
+    }
+}
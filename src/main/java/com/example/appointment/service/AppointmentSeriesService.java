@@ -0,0 +1,481 @@
+package com.example.appointment.service;
+
+import com.example.appointment.client.UserServiceClient;
+import com.example.appointment.dto.AppointmentRequestDto;
+import com.example.appointment.dto.AppointmentResponseDto;
+import com.example.appointment.dto.AppointmentSeriesRequestDto;
+import com.example.appointment.dto.AppointmentSeriesResponseDto;
+import com.example.appointment.dto.AppointmentStatusUpdateDto;
+import com.example.appointment.dto.SeriesOccurrenceDto;
+import com.example.appointment.dto.UserResponse;
+import com.example.appointment.entity.Appointment;
+import com.example.appointment.entity.AppointmentArchive;
+import com.example.appointment.entity.AppointmentSeries;
+import com.example.appointment.entity.AppointmentSeriesOverride;
+import com.example.appointment.event.AppointmentChangedEvent;
+import com.example.appointment.repository.AppointmentArchiveRepository;
+import com.example.appointment.repository.AppointmentRepository;
+import com.example.appointment.repository.AppointmentSeriesOverrideRepository;
+import com.example.appointment.repository.AppointmentSeriesRepository;
+import com.example.appointment.support.RecurrenceRule;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 반복 약속 시리즈 Service
+ * - 시리즈는 첫 발생 + RRULE 한 행으로 저장하고, 발생은 조회 구간에 대해서만 계산
+ * - 규칙과 다른 발생(취소, 개별 수정)만 예외 행으로 저장하며, 수정된 발생과 곧 시작할 발생은 약속 행으로 생성(materialize)
+ * - 생성된 발생은 일반 약속과 같이 상태 스케줄러/Guest 참여/조회 API 대상이 됨
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentSeriesService {
+    
+    // 발생 생성 시 약속 ID 충돌 재시도 횟수
+    private static final int MAX_ID_ATTEMPTS = 3;
+    
+    private final AppointmentSeriesRepository seriesRepository;
+    private final AppointmentSeriesOverrideRepository overrideRepository;
+    private final AppointmentSeriesExpander seriesExpander;
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentArchiveRepository archiveRepository;
+    private final AppointmentCreationPipeline appointmentCreationPipeline;
+    private final AppointmentService appointmentService;
+    private final UserServiceClient userServiceClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    
+    // 시리즈 생성 시 기존 약속/시리즈와의 중복 시간대 검증 기간 (무기한 시리즈는 이 기간까지만 검사)
+    @Value("${appointment.series.conflict-check-days:365}")
+    private final int conflictCheckDays;
+    
+    // 발생 조회 최대 구간
+    @Value("${appointment.series.max-window-days:366}")
+    private final int maxWindowDays;
+    
+    /**
+     * 시리즈 생성 - 호스트 검증, 규칙 검증, 검증 기간 내 발생의 중복 시간대 검증(INV-A008) 후 저장
+     */
+    public AppointmentSeriesResponseDto createSeries(AppointmentSeriesRequestDto requestDto) {
+        log.info("Creating appointment series for host: {}", requestDto.getHostId());
+        
+        if (!requestDto.getStartTime().isBefore(requestDto.getEndTime())) {
+            throw new IllegalArgumentException("Start time must be before end time (INV-A001)");
+        }
+        RecurrenceRule rule = RecurrenceRule.parse(requestDto.getRecurrenceRule());
+        validateHost(requestDto.getHostId());
+        
+        AppointmentSeries series = new AppointmentSeries();
+        series.setHostId(requestDto.getHostId());
+        series.setTitle(requestDto.getTitle());
+        series.setDescription(requestDto.getDescription());
+        series.setLocationId(requestDto.getLocationId());
+        series.setStartTime(requestDto.getStartTime());
+        series.setEndTime(requestDto.getEndTime());
+        series.setRecurrenceRule(rule.toString());
+        LocalDateTime lastStart = rule.lastOccurrence(series.getStartTime());
+        series.setLastEndTime(lastStart != null ? lastStart.plus(series.occurrenceDuration()) : null);
+        series.setCreatedAt(LocalDateTime.now());
+        
+        validateSeriesConflicts(series, rule);
+        
+        AppointmentSeries saved = transactionTemplate.execute(status -> {
+            series.setSeriesId(String.format("seri%03d", seriesRepository.getNextSequenceNumber()));
+            return seriesRepository.save(series);
+        });
+        log.info("Successfully created appointment series with ID: {}", saved.getSeriesId());
+        return convertToResponseDto(saved);
+    }
+    
+    public AppointmentSeriesResponseDto getSeries(String seriesId) {
+        return seriesRepository.findById(seriesId).map(this::convertToResponseDto).orElse(null);
+    }
+    
+    /**
+     * 시리즈 삭제 - 이후 발생은 더 이상 계산되지 않으며, 이미 약속 행으로 생성된 발생은 유지
+     * @return 삭제 여부 (없으면 false)
+     */
+    public boolean deleteSeries(String seriesId) {
+        Boolean deleted = transactionTemplate.execute(status -> {
+            if (!seriesRepository.existsById(seriesId)) {
+                return false;
+            }
+            overrideRepository.deleteBySeriesId(seriesId);
+            seriesRepository.deleteById(seriesId);
+            return true;
+        });
+        return Boolean.TRUE.equals(deleted);
+    }
+    
+    /**
+     * 시리즈의 [from, to) 구간 발생 (약속 행으로 생성된 발생 포함, 시작 시간 순)
+     * @return 시리즈가 없으면 null
+     */
+    public List<SeriesOccurrenceDto> getOccurrences(String seriesId, LocalDateTime from, LocalDateTime to) {
+        validateWindow(from, to);
+        return seriesRepository.findById(seriesId)
+                .map(series -> occurrences(List.of(series), from, to))
+                .orElse(null);
+    }
+    
+    /**
+     * 호스트의 모든 시리즈의 [from, to) 구간 발생
+     */
+    public List<SeriesOccurrenceDto> getHostOccurrences(String hostId, LocalDateTime from, LocalDateTime to) {
+        validateWindow(from, to);
+        return occurrences(seriesRepository.findHostSeriesInRange(hostId, from, to), from, to);
+    }
+    
+    /**
+     * 발생 1회 취소 - 약속 행으로 생성된 발생은 해당 약속을 취소, 아니면 취소 예외 행만 저장
+     * @return 시리즈/발생이 없거나 생성된 약속이 없으면 false
+     * @throws IllegalArgumentException 생성된 약속이 이미 종료된 경우 (INV-A007)
+     */
+    public boolean cancelOccurrence(String seriesId, LocalDateTime originalStartTime) {
+        Optional<AppointmentSeries> series = seriesRepository.findById(seriesId);
+        if (series.isEmpty() || !seriesExpander.isOccurrence(series.get(), originalStartTime)) {
+            return false;
+        }
+        
+        Optional<AppointmentSeriesOverride> existing = seriesExpander.findOverride(seriesId, originalStartTime);
+        if (existing.isPresent()) {
+            AppointmentSeriesOverride override = existing.get();
+            return override.getOverrideType() != AppointmentSeriesOverride.OverrideType.MATERIALIZED
+                    || cancelMaterialized(override.getAppointmentId());
+        }
+        
+        try {
+            transactionTemplate.executeWithoutResult(status -> overrideRepository.saveAndFlush(new AppointmentSeriesOverride(
+                    seriesId, originalStartTime, AppointmentSeriesOverride.OverrideType.CANCELLED, null, LocalDateTime.now())));
+        } catch (DataIntegrityViolationException e) {
+            // 그 사이 다른 요청이 같은 발생을 취소/생성함 - 저장된 예외 행 기준으로 다시 처리
+            if (seriesExpander.findOverride(seriesId, originalStartTime).isEmpty()) {
+                throw e;
+            }
+            log.debug("Occurrence {} of series {} overridden concurrently", originalStartTime, seriesId, e);
+            return cancelOccurrence(seriesId, originalStartTime);
+        }
+        log.info("Cancelled occurrence {} of series {}", originalStartTime, seriesId);
+        return true;
+    }
+    
+    /**
+     * 약속 행으로 생성된 발생 취소 - 이미 취소된 약속은 성공으로 처리
+     * @return 약속이 삭제(또는 보관)되어 없으면 false
+     * @throws IllegalArgumentException 종료된 약속 (INV-A007)
+     */
+    private boolean cancelMaterialized(String appointmentId) {
+        try {
+            return appointmentService.updateAppointmentStatus(appointmentId,
+                    new AppointmentStatusUpdateDto(Appointment.AppointmentStatus.CANCELLED)) != null;
+        } catch (IllegalArgumentException e) {
+            boolean alreadyCancelled = appointmentRepository.findById(appointmentId)
+                    .map(appointment -> appointment.getAppointmentStatus() == Appointment.AppointmentStatus.CANCELLED)
+                    .orElse(false);
+            if (alreadyCancelled) {
+                return true;
+            }
+            throw e;
+        }
+    }
+    
+    /**
+     * 발생 1회 수정 - 변경 값을 반영한 약속 행으로 생성 (null 인 항목은 시리즈 값 사용)
+     * @return 시리즈/발생이 없으면 null
+     * @throws IllegalStateException 이미 취소되었거나 약속 행으로 생성된 발생
+     */
+    public AppointmentResponseDto overrideOccurrence(String seriesId, LocalDateTime originalStartTime,
+                                                     AppointmentRequestDto changes) {
+        Optional<AppointmentSeries> found = seriesRepository.findById(seriesId);
+        if (found.isEmpty() || !seriesExpander.isOccurrence(found.get(), originalStartTime)) {
+            return null;
+        }
+        AppointmentSeries series = found.get();
+        if (seriesExpander.findOverride(seriesId, originalStartTime).isPresent()) {
+            throw new IllegalStateException("Occurrence already cancelled or materialized: " + originalStartTime);
+        }
+        
+        Appointment appointment = occurrenceAppointment(series, originalStartTime);
+        if (changes != null) {
+            Optional.ofNullable(changes.getTitle()).ifPresent(appointment::setTitle);
+            Optional.ofNullable(changes.getDescription()).ifPresent(appointment::setDescription);
+            Optional.ofNullable(changes.getLocationId()).ifPresent(appointment::setLocationId);
+            Optional.ofNullable(changes.getStartTime()).ifPresent(appointment::setStartTime);
+            Optional.ofNullable(changes.getEndTime()).ifPresent(appointment::setEndTime);
+        }
+        if (!appointment.getStartTime().isBefore(appointment.getEndTime())) {
+            throw new IllegalArgumentException("Start time must be before end time (INV-A001)");
+        }
+        
+        // 변경된 시간대가 다른 약속/발생과 겹치는지 검증 (원래 발생 자체는 제외)
+        List<Appointment> overlapping = appointmentRepository.findOverlappingAppointments(
+                series.getHostId(), appointment.getStartTime(), appointment.getEndTime());
+        if (!overlapping.isEmpty()) {
+            throw new IllegalArgumentException(String.format(
+                    "Host already has an appointment during this time period (INV-A008). Conflicting appointment ID: %s",
+                    overlapping.get(0).getAppointmentId()));
+        }
+        seriesExpander.findHostConflict(series.getHostId(), appointment.getStartTime(), appointment.getEndTime(),
+                seriesId, originalStartTime).ifPresent(occurrence -> {
+            throw new IllegalArgumentException(String.format(
+                    "Host already has a recurring appointment during this time period (INV-A008). " +
+                            "Conflicting series ID: %s, occurrence: %s",
+                    occurrence.getSeries().getSeriesId(), occurrence.getStartTime()));
+        });
+        
+        Appointment saved = materialize(series, originalStartTime, appointment);
+        if (saved == null) {
+            throw new IllegalStateException("Occurrence already cancelled or materialized: " + originalStartTime);
+        }
+        return AppointmentService.convertToResponseDto(saved, fetchHost(saved.getHostId()));
+    }
+    
+    /**
+     * [from, to) 구간에 시작하는 발생을 약속 행으로 생성 (스케줄러용 - 시작 직전에 생성하여 상태 전이 대상이 되도록 함)
+     * @return 생성된 약속 수
+     */
+    public int materializeStartingBetween(LocalDateTime from, LocalDateTime to) {
+        List<AppointmentSeries> seriesList = seriesRepository.findSeriesInRange(from, to);
+        int materialized = 0;
+        for (AppointmentSeriesExpander.Occurrence occurrence : seriesExpander.expand(seriesList, from, to)) {
+            if (occurrence.getStartTime().isBefore(from)) {
+                continue;
+            }
+            Appointment appointment = occurrenceAppointment(occurrence.getSeries(), occurrence.getStartTime());
+            if (materialize(occurrence.getSeries(), occurrence.getStartTime(), appointment) != null) {
+                materialized++;
+            }
+        }
+        return materialized;
+    }
+    
+    /**
+     * 발생을 MATERIALIZED 예외 행 + 약속 행으로 저장 (같은 발생이 이미 취소/생성되었으면 null)
+     * - 예외 행을 먼저 INSERT 해 발생을 선점하고, 기본 키 중복이면 이미 처리된 발생으로 판단
+     * - 할당한 약속 ID가 이미 있는 약속과 겹치면 새 ID로 재시도
+     * - template 은 값만 제공하고, 시도마다 새 엔티티를 만들어 persist 함 (실패한 persist 가 버전을 채운 엔티티는 다시 persist 할 수 없음)
+     */
+    private Appointment materialize(AppointmentSeries series, LocalDateTime originalStartTime, Appointment template) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> insertOccurrence(series, originalStartTime, template));
+            } catch (OccurrenceTakenException e) {
+                log.debug("Occurrence {} of series {} already cancelled or materialized",
+                        originalStartTime, series.getSeriesId(), e.getCause());
+                return null;
+            } catch (DataIntegrityViolationException | PersistenceException e) {
+                if (attempt >= MAX_ID_ATTEMPTS) {
+                    throw new IllegalStateException("Failed to allocate appointment ID for occurrence " + originalStartTime
+                            + " of series " + series.getSeriesId(), e);
+                }
+                log.debug("Appointment ID collision while materializing occurrence {} of series {} - retrying",
+                        originalStartTime, series.getSeriesId(), e);
+            }
+        }
+    }
+    
+    private Appointment insertOccurrence(AppointmentSeries series, LocalDateTime originalStartTime, Appointment template) {
+        String appointmentId = appointmentCreationPipeline.allocateAppointmentId();
+        try {
+            overrideRepository.saveAndFlush(new AppointmentSeriesOverride(series.getSeriesId(), originalStartTime,
+                    AppointmentSeriesOverride.OverrideType.MATERIALIZED, appointmentId, LocalDateTime.now()));
+        } catch (DataIntegrityViolationException e) {
+            throw new OccurrenceTakenException(e);
+        }
+        
+        // save 는 같은 ID의 기존 약속을 덮어쓰므로 persist 로 INSERT 만 허용 (ID 중복 시 예외)
+        Appointment appointment = template.copy();
+        appointment.setAppointmentId(appointmentId);
+        entityManager.persist(appointment);
+        entityManager.flush();
+        eventPublisher.publishEvent(AppointmentChangedEvent.created(appointment));
+        return appointment;
+    }
+    
+    /**
+     * 발생의 예외 행이 이미 있음 (다른 요청/인스턴스가 먼저 취소 또는 생성)
+     */
+    private static final class OccurrenceTakenException extends RuntimeException {
+        private OccurrenceTakenException(Throwable cause) {
+            super(cause);
+        }
+    }
+    
+    private List<SeriesOccurrenceDto> occurrences(List<AppointmentSeries> seriesList, LocalDateTime from, LocalDateTime to) {
+        if (seriesList.isEmpty()) {
+            return List.of();
+        }
+        List<SeriesOccurrenceDto> occurrences = new ArrayList<>();
+        for (AppointmentSeriesExpander.Occurrence occurrence : seriesExpander.expand(seriesList, from, to)) {
+            AppointmentSeries series = occurrence.getSeries();
+            occurrences.add(new SeriesOccurrenceDto(series.getSeriesId(), occurrence.getStartTime(), null, false,
+                    series.getTitle(), occurrence.getStartTime(), occurrence.getEndTime(), series.getLocationId(),
+                    Appointment.AppointmentStatus.PLANNED));
+        }
+        occurrences.addAll(materializedOccurrences(seriesList, from, to));
+        occurrences.sort(Comparator.comparing(SeriesOccurrenceDto::getStartTime)
+                .thenComparing(SeriesOccurrenceDto::getSeriesId));
+        return occurrences;
+    }
+    
+    // 약속 행으로 생성된 발생 - 수정/상태 변경이 반영된 약속 값 사용
+    private List<SeriesOccurrenceDto> materializedOccurrences(List<AppointmentSeries> seriesList,
+                                                              LocalDateTime from, LocalDateTime to) {
+        Duration longest = seriesList.stream()
+                .map(AppointmentSeries::occurrenceDuration)
+                .max(Comparator.naturalOrder())
+                .orElse(Duration.ZERO);
+        List<AppointmentSeriesOverride> overrides = overrideRepository.findInRange(
+                        seriesList.stream().map(AppointmentSeries::getSeriesId).toList(), from.minus(longest), to).stream()
+                .filter(override -> override.getOverrideType() == AppointmentSeriesOverride.OverrideType.MATERIALIZED)
+                .toList();
+        if (overrides.isEmpty()) {
+            return List.of();
+        }
+        
+        List<String> appointmentIds = overrides.stream().map(AppointmentSeriesOverride::getAppointmentId).toList();
+        Map<String, Appointment> appointments = new HashMap<>();
+        appointmentRepository.findByAppointmentIdIn(appointmentIds)
+                .forEach(appointment -> appointments.put(appointment.getAppointmentId(), appointment));
+        if (appointments.size() < appointmentIds.size()) {
+            archiveRepository.findByAppointmentIdIn(appointmentIds).stream()
+                    .map(AppointmentArchive::toAppointment)
+                    .forEach(appointment -> appointments.putIfAbsent(appointment.getAppointmentId(), appointment));
+        }
+        
+        List<SeriesOccurrenceDto> occurrences = new ArrayList<>();
+        for (AppointmentSeriesOverride override : overrides) {
+            Appointment appointment = appointments.get(override.getAppointmentId());
+            if (appointment == null) {
+                continue; // 약속이 삭제된 발생
+            }
+            occurrences.add(new SeriesOccurrenceDto(override.getSeriesId(), override.getOriginalStartTime(),
+                    appointment.getAppointmentId(), true, appointment.getTitle(), appointment.getStartTime(),
+                    appointment.getEndTime(), appointment.getLocationId(), appointment.getAppointmentStatus()));
+        }
+        return occurrences;
+    }
+    
+    /**
+     * 새 시리즈의 검증 기간 내 발생이 기존 약속, 다른 시리즈 발생, 자신의 다른 발생과 겹치는지 검사 (INV-A008)
+     * 모든 구간을 시작 시간 순으로 훑으며 지금까지의 최대 종료 시각과 비교 (기존 구간끼리의 겹침은 무시)
+     */
+    private void validateSeriesConflicts(AppointmentSeries series, RecurrenceRule rule) {
+        LocalDateTime from = series.getStartTime();
+        LocalDateTime horizon = from.plusDays(conflictCheckDays);
+        LocalDateTime to = series.getLastEndTime() != null && series.getLastEndTime().isBefore(horizon)
+                ? series.getLastEndTime() : horizon;
+        Duration duration = series.occurrenceDuration();
+        
+        List<TimeSlot> slots = new ArrayList<>();
+        for (LocalDateTime start : rule.occurrences(from, from, to, Integer.MAX_VALUE)) {
+            slots.add(new TimeSlot(start, start.plus(duration), true, "occurrence " + start));
+        }
+        appointmentRepository.findHostAppointmentsInRange(series.getHostId(), from, to).forEach(appointment ->
+                slots.add(new TimeSlot(appointment.getStartTime(), appointment.getEndTime(), false,
+                        "appointment " + appointment.getAppointmentId())));
+        seriesExpander.expand(seriesRepository.findHostSeriesInRange(series.getHostId(), from, to), from, to)
+                .forEach(occurrence -> slots.add(new TimeSlot(occurrence.getStartTime(), occurrence.getEndTime(), false,
+                        "series " + occurrence.getSeries().getSeriesId() + " occurrence " + occurrence.getStartTime())));
+        slots.sort(Comparator.comparing((TimeSlot slot) -> slot.start));
+        
+        TimeSlot latestEnding = null;
+        TimeSlot latestEndingNew = null;
+        for (TimeSlot slot : slots) {
+            TimeSlot overlapping = slot.isNew ? latestEnding : latestEndingNew;
+            if (overlapping != null && slot.start.isBefore(overlapping.end)) {
+                throw new IllegalArgumentException(String.format(
+                        "Series occurrences conflict with existing schedule (INV-A008): %s overlaps %s",
+                        slot.isNew ? slot.label : overlapping.label, slot.isNew ? overlapping.label : slot.label));
+            }
+            if (latestEnding == null || slot.end.isAfter(latestEnding.end)) {
+                latestEnding = slot;
+            }
+            if (slot.isNew && (latestEndingNew == null || slot.end.isAfter(latestEndingNew.end))) {
+                latestEndingNew = slot;
+            }
+        }
+    }
+    
+    private static final class TimeSlot {
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final boolean isNew;
+        private final String label;
+        
+        private TimeSlot(LocalDateTime start, LocalDateTime end, boolean isNew, String label) {
+            this.start = start;
+            this.end = end;
+            this.isNew = isNew;
+            this.label = label;
+        }
+    }
+    
+    private void validateHost(String hostId) {
+        UserResponse host;
+        try {
+            host = userServiceClient.getUserById(hostId);
+        } catch (Exception e) {
+            log.error("Host validation failed for ID: {}", hostId, e);
+            host = null;
+        }
+        if (host == null) {
+            throw new IllegalArgumentException("Invalid host ID: " + hostId);
+        }
+    }
+    
+    private void validateWindow(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        if (Duration.between(from, to).toDays() > maxWindowDays) {
+            throw new IllegalArgumentException("Occurrence window cannot exceed " + maxWindowDays + " days");
+        }
+    }
+    
+    private UserResponse fetchHost(String hostId) {
+        try {
+            return userServiceClient.getUserById(hostId);
+        } catch (Exception e) {
+            log.warn("Failed to fetch host info for host: {}", hostId);
+            return null;
+        }
+    }
+    
+    private static Appointment occurrenceAppointment(AppointmentSeries series, LocalDateTime startTime) {
+        Appointment appointment = new Appointment();
+        appointment.setHostId(series.getHostId());
+        appointment.setTitle(series.getTitle());
+        appointment.setDescription(series.getDescription());
+        appointment.setStartTime(startTime);
+        appointment.setEndTime(startTime.plus(series.occurrenceDuration()));
+        appointment.setLocationId(series.getLocationId());
+        appointment.setAppointmentStatus(Appointment.AppointmentStatus.PLANNED);
+        appointment.setFeedback("F");
+        return appointment;
+    }
+    
+    private AppointmentSeriesResponseDto convertToResponseDto(AppointmentSeries series) {
+        return new AppointmentSeriesResponseDto(series.getSeriesId(), series.getHostId(), series.getTitle(),
+                series.getDescription(), series.getStartTime(), series.getEndTime(), series.getLocationId(),
+                series.getRecurrenceRule(), series.getLastEndTime());
+    }
+}
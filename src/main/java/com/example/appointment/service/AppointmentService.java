@@ -1,6 +1,5 @@
 package com.example.appointment.service;
 
-import com.example.appointment.client.GuestServiceClient;
 import com.example.appointment.client.UserServiceClient;
 import com.example.appointment.dto.AppointmentRequestDto;
 import com.example.appointment.dto.AppointmentResponseDto;
@@ -8,17 +7,36 @@ import com.example.appointment.dto.AppointmentStatusFeedbackDto;
 import com.example.appointment.dto.AppointmentStatusUpdateDto;
 import com.example.appointment.dto.GuestInfo;
 import com.example.appointment.dto.GuestResponse;
+import com.example.appointment.dto.TimeBucketCountDto;
+import com.example.appointment.dto.TimelineEntryDto;
 import com.example.appointment.dto.UserResponse;
 import com.example.appointment.entity.Appointment;
+import com.example.appointment.entity.AppointmentArchive;
+import com.example.appointment.event.AppointmentChangedEvent;
+import com.example.appointment.index.AppointmentTimelineIndex;
+import com.example.appointment.repository.AppointmentArchiveRepository;
+import com.example.appointment.repository.AppointmentParticipantRepository;
 import com.example.appointment.repository.AppointmentRepository;
+import com.example.appointment.repository.AppointmentVersionView;
+import com.example.appointment.repository.TimeBucketCountView;
+import com.example.appointment.support.LogSampler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -30,35 +48,87 @@ import java.util.stream.Collectors;
 @Transactional
 public class AppointmentService {
     
+    /**
+     * 범위/집계 조회 기준 시간 필드
+     */
+    public enum TimeField {
+        START_TIME,
+        END_TIME
+    }
+    
+    /**
+     * 히스토그램 구간 단위
+     */
+    public enum HistogramBucket {
+        HOUR,
+        DAY
+    }
+    
+    // 수동 취소가 가능한 이전 상태 (상태 진행 순서)
+    private static final List<Appointment.AppointmentStatus> CANCELLABLE_STATUSES =
+            List.of(Appointment.AppointmentStatus.PLANNED, Appointment.AppointmentStatus.ONGOING);
+    
+    // 목록 변환/조회 경로에서 행·요청마다 반복될 수 있는 로그는 호출 위치별로 초당 건수 제한
+    private static final LogSampler HOST_FETCH_FAILURE_LOG = LogSampler.perSecond(5);
+    private static final LogSampler HOST_TIMELINE_FALLBACK_LOG = LogSampler.perSecond(1);
+    private static final LogSampler LOCATION_TIMELINE_FALLBACK_LOG = LogSampler.perSecond(1);
+    private static final LogSampler PARTICIPATION_FAILURE_LOG = LogSampler.perSecond(5);
+    
+    // 참여 약속 조회 구간 미지정 시 경계 (MySQL DATETIME 범위)
+    private static final LocalDateTime PARTICIPATION_MIN_TIME = LocalDateTime.of(1000, 1, 1, 0, 0);
+    private static final LocalDateTime PARTICIPATION_MAX_TIME = LocalDateTime.of(9999, 12, 31, 0, 0);
+    
     private final AppointmentRepository appointmentRepository;
     private final UserServiceClient userServiceClient;
-    private final GuestServiceClient guestServiceClient;
+    private final GuestMembershipCache guestMembershipCache;
+    private final AppointmentTimelineIndex appointmentTimelineIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final AppointmentCreationPipeline appointmentCreationPipeline;
+    private final AppointmentReadCoalescer readCoalescer;
+    private final AppointmentArchiveRepository archiveRepository;
+    private final AppointmentParticipantRepository participantRepository;
     
+    // false면 참여 약속 조회에 로컬 참여자 인덱스 대신 Guest 서비스(캐시) 사용
+    @Value("${appointment.participants.local-index-enabled:false}")
+    private final boolean participantIndexEnabled;
+    
+    // 보관 기준 기간 - 이보다 오래된 구간 조회 시에만 보관 테이블을 함께 조회
+    @Value("${appointment.archive.horizon-days:30}")
+    private final int archiveHorizonDays;
+    
+    /**
+     * 약속 생성
+     * - 호스트 검증, 중복 시간대 검증, ID 할당은 파이프라인에서 동시 실행하고 모두 성공한 경우에만 저장함
+     * - 원격 호출 동안 DB 커넥션/트랜잭션을 점유하지 않도록 저장만 짧은 트랜잭션으로 실행
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AppointmentResponseDto createAppointment(AppointmentRequestDto requestDto) {
         log.info("Creating appointment for host: {}", requestDto.getHostId());
         
-        // 호스트 유효성 검증
-        validateHostExists(requestDto.getHostId());
-        
-        // 불변식 검증
+        // 불변식 검증 (원격 호출 전에 빠르게 실패)
         validateAppointmentInvariants(requestDto);
         
-        // 중복 시간대 약속 검증 (INV-A008)
-        validateTimeConflict(requestDto.getHostId(), requestDto.getStartTime(), requestDto.getEndTime());
+        // 호스트 유효성 검증 + 중복 시간대 약속 검증 (INV-A008) + ID 할당
+        AppointmentCreationPipeline.PreparedCreation prepared = appointmentCreationPipeline.prepare(requestDto);
         
         // Entity 생성
-        Appointment appointment = createAppointmentEntity(requestDto);
+        Appointment appointment = createAppointmentEntity(requestDto, prepared.getAppointmentId());
         
         // 저장
-        Appointment savedAppointment = appointmentRepository.save(appointment);
+        Appointment savedAppointment = transactionTemplate.execute(status -> {
+            Appointment saved = appointmentRepository.save(appointment);
+            eventPublisher.publishEvent(AppointmentChangedEvent.created(saved));
+            return saved;
+        });
         
         log.info("Successfully created appointment with ID: {}", savedAppointment.getAppointmentId());
-        return convertToResponseDto(savedAppointment);
+        return convertToResponseDto(savedAppointment, prepared.getHost());
     }
     
     @Transactional(readOnly = true)
     public List<AppointmentResponseDto> getAllAppointments() {
-        log.info("Retrieving all appointments");
+        log.debug("Retrieving all appointments");
         
         List<Appointment> appointments = appointmentRepository.findAll();
         
@@ -69,55 +139,91 @@ public class AppointmentService {
                 .collect(Collectors.toList());
     }
     
-    @Transactional(readOnly = true)
+    /**
+     * 약속 단건 조회 - 동일 ID 동시 요청은 하나로 병합하고, DB 조회는 다른 ID와 함께 배치 처리
+     * (병합된 호출자가 커넥션을 점유한 채 대기하지 않도록 트랜잭션을 열지 않음)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public AppointmentResponseDto getAppointmentById(String appointmentId) {
-        log.info("Retrieving appointment with ID: {}", appointmentId);
-        
-        Optional<Appointment> appointmentOpt = appointmentRepository.findById(appointmentId);
-        if (appointmentOpt.isEmpty()) {
-            log.warn("Appointment not found with ID: {}", appointmentId);
-            return null;
-        }
-        
-        Appointment appointment = appointmentOpt.get();
-        
-        // 실시간 스케줄러가 처리하므로 lazy update 제거
-        
-        return convertToResponseDto(appointment);
+        log.debug("Retrieving appointment with ID: {}", appointmentId);
+        
+        return readCoalescer.coalesce("appointment-by-id", appointmentId, () -> {
+            Optional<Appointment> appointmentOpt = readCoalescer.findById(appointmentId)
+                    .or(() -> findArchived(appointmentId));
+            if (appointmentOpt.isEmpty()) {
+                log.debug("Appointment not found with ID: {}", appointmentId);
+                return null;
+            }
+            
+            Appointment appointment = appointmentOpt.get();
+            
+            // 실시간 스케줄러가 처리하므로 lazy update 제거
+            
+            return convertToResponseDto(appointment);
+        }, AppointmentResponseDto::copy);
     }
     
+    /**
+     * 약속 버전 조회 (조건부 요청 처리용 - 호스트 정보 조회 없음)
+     */
     @Transactional(readOnly = true)
+    public AppointmentVersionView getAppointmentVersion(String appointmentId) {
+        return appointmentRepository.findVersionById(appointmentId)
+                .or(() -> archiveRepository.findVersionsByAppointmentId(appointmentId).stream().findFirst())
+                .orElse(null);
+    }
+    
+    /**
+     * 호스트별 약속 목록 조회 - 동일 호스트 동시 요청은 하나의 조회로 병합
+     * 모든 약속의 호스트가 같으므로 호스트 정보는 한 번만 조회함
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<AppointmentResponseDto> getAppointmentsByHostId(String hostId) {
-        log.info("Retrieving appointments for host: {}", hostId);
-        
-        List<Appointment> appointments = appointmentRepository.findByHostId(hostId);
-        
-        // 실시간 스케줄러가 처리하므로 lazy update 제거
-        // updateAppointmentStatuses(appointments);
+        log.debug("Retrieving appointments for host: {}", hostId);
         
-        return appointments.stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        List<AppointmentResponseDto> shared = readCoalescer.coalesce("appointments-by-host", hostId, () -> {
+            List<Appointment> appointments = withArchived(appointmentRepository.findByHostId(hostId),
+                    archiveRepository.findByHostId(hostId));
+            
+            // 실시간 스케줄러가 처리하므로 lazy update 제거
+            // updateAppointmentStatuses(appointments);
+            
+            if (appointments.isEmpty()) {
+                return List.of();
+            }
+            UserResponse host = fetchHost(hostId);
+            return appointments.stream()
+                    .map(appointment -> convertToResponseDto(appointment, host))
+                    .collect(Collectors.toList());
+        }, list -> list.stream().map(AppointmentResponseDto::copy).collect(Collectors.toList()));
+        // 병합된 호출자 간 목록 공유 방지 (follower는 항목까지 복사본을 받음)
+        return new ArrayList<>(shared);
     }
     
+    /**
+     * 사용자가 참여("coming") 중인 약속 목록 - 시작 시간 순, 구간 필터 및 페이지 단위
+     * 로컬 참여자 인덱스를 조회하며, 인덱스가 비활성화되면 Guest 참여 정보 캐시를 사용
+     */
     @Transactional(readOnly = true)
-    public List<AppointmentResponseDto> getParticipatingAppointments(String userId) {
-        log.info("Retrieving participating appointments for user: {}", userId);
-        
-        // Guest Service에서 해당 사용자의 "coming" 상태 게스트 목록 조회
-        List<GuestResponse> participatingGuests = guestServiceClient.getGuestsByUserIdAndStatus(userId, "coming");
-        
-        // 각 게스트의 appointment_id로 약속 정보 조회
-        List<String> appointmentIds = participatingGuests.stream()
-                .map(GuestResponse::getAppointmentId)
-                .collect(Collectors.toList());
-        
-        if (appointmentIds.isEmpty()) {
-            return List.of();
+    public List<AppointmentResponseDto> getParticipatingAppointments(String userId, LocalDateTime from, LocalDateTime to,
+                                                                     int page, int size) {
+        log.debug("Retrieving participating appointments for user: {}", userId);
+        
+        LocalDateTime lower = from != null ? from : PARTICIPATION_MIN_TIME;
+        LocalDateTime upper = to != null ? to : PARTICIPATION_MAX_TIME;
+        
+        List<Appointment> appointments;
+        if (participantIndexEnabled) {
+            appointments = participantRepository.findParticipatingAppointments(userId,
+                            GuestMembershipCache.PARTICIPATING_STATUS, lower, upper, PageRequest.of(page, size)).stream()
+                    .map(view -> view.getAppointment() != null ? view.getAppointment()
+                            : view.getArchived() != null ? view.getArchived().toAppointment() : null)
+                    .filter(Objects::nonNull)
+                    .toList();
+        } else {
+            appointments = getParticipatingAppointmentsFromGuestService(userId, lower, upper, page, size);
         }
         
-        List<Appointment> appointments = appointmentRepository.findByAppointmentIdIn(appointmentIds);
-        
         return appointments.stream()
                 .map(this::convertToResponseDto)
                 .collect(Collectors.toList());
@@ -125,9 +231,10 @@ public class AppointmentService {
     
     @Transactional(readOnly = true)
     public List<AppointmentResponseDto> getAppointmentsByLocationId(String locationId) {
-        log.info("Retrieving appointments for location: {}", locationId);
+        log.debug("Retrieving appointments for location: {}", locationId);
         
-        List<Appointment> appointments = appointmentRepository.findByLocationId(locationId);
+        List<Appointment> appointments = withArchived(appointmentRepository.findByLocationId(locationId),
+                archiveRepository.findByLocationId(locationId));
         
         // 실시간 스케줄러가 처리하므로 lazy update 제거
         // updateAppointmentStatuses(appointments);
@@ -139,7 +246,7 @@ public class AppointmentService {
     
     @Transactional(readOnly = true)
     public List<AppointmentResponseDto> getAppointmentsByStartTime(LocalDateTime startTime) {
-        log.info("Retrieving appointments for start time: {}", startTime);
+        log.debug("Retrieving appointments for start time: {}", startTime);
         
         List<Appointment> appointments = appointmentRepository.findByStartTime(startTime);
         
@@ -153,7 +260,7 @@ public class AppointmentService {
     
     @Transactional(readOnly = true)
     public List<AppointmentResponseDto> getAppointmentsByEndTime(LocalDateTime endTime) {
-        log.info("Retrieving appointments for end time: {}", endTime);
+        log.debug("Retrieving appointments for end time: {}", endTime);
         
         List<Appointment> appointments = appointmentRepository.findByEndTime(endTime);
         
@@ -166,12 +273,55 @@ public class AppointmentService {
     }
     
     @Transactional(readOnly = true)
+    public List<AppointmentResponseDto> getAppointmentsInTimeRange(TimeField field, LocalDateTime from, LocalDateTime to) {
+        log.debug("Retrieving appointments by {} in range [{}, {})", field, from, to);
+        
+        List<Appointment> appointments = field == TimeField.START_TIME
+                ? appointmentRepository.findByStartTimeRange(from, to)
+                : appointmentRepository.findByEndTimeRange(from, to);
+        
+        return appointments.stream()
+                .map(this::convertToResponseDto)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 시간 구간별 약속 건수 집계
+     * DB에서 시간 단위로 GROUP BY 한 뒤, 일 단위 요청이면 같은 날짜끼리 합산함
+     */
+    @Transactional(readOnly = true)
+    public List<TimeBucketCountDto> getTimeHistogram(TimeField field, HistogramBucket bucket,
+                                                     LocalDateTime from, LocalDateTime to) {
+        log.debug("Calculating {} histogram by {} in range [{}, {})", bucket, field, from, to);
+        
+        List<TimeBucketCountView> hourlyCounts = field == TimeField.START_TIME
+                ? appointmentRepository.countByStartTimeHour(from, to)
+                : appointmentRepository.countByEndTimeHour(from, to);
+        
+        List<TimeBucketCountDto> histogram = new ArrayList<>(hourlyCounts.size());
+        for (TimeBucketCountView hourly : hourlyCounts) {
+            LocalDateTime bucketStart = bucket == HistogramBucket.DAY
+                    ? hourly.getBucketDate().atStartOfDay()
+                    : hourly.getBucketDate().atTime(hourly.getBucketHour(), 0);
+            
+            TimeBucketCountDto last = histogram.isEmpty() ? null : histogram.get(histogram.size() - 1);
+            if (last != null && last.getBucketStart().equals(bucketStart)) {
+                last.setCount(last.getCount() + hourly.getCount());
+            } else {
+                histogram.add(new TimeBucketCountDto(bucketStart, hourly.getCount()));
+            }
+        }
+        return histogram;
+    }
+    
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Appointment.AppointmentStatus getAppointmentStatus(String appointmentId) {
-        log.info("Retrieving status for appointment: {}", appointmentId);
+        log.debug("Retrieving status for appointment: {}", appointmentId);
         
-        Optional<Appointment> appointmentOpt = appointmentRepository.findById(appointmentId);
+        Optional<Appointment> appointmentOpt = readCoalescer.findById(appointmentId)
+                .or(() -> findArchived(appointmentId));
         if (appointmentOpt.isEmpty()) {
-            log.warn("Appointment not found with ID: {}", appointmentId);
+            log.debug("Appointment not found with ID: {}", appointmentId);
             return null;
         }
         
@@ -182,30 +332,60 @@ public class AppointmentService {
         return appointment.getAppointmentStatus();
     }
     
+    /**
+     * 약속 상태 변경 (조건부 UPDATE)
+     * - 취소 가능한 이전 상태(PLANNED, ONGOING)마다 그 상태일 때만 바꾸는 UPDATE를 진행 순서대로 실행하여 스케줄러의 동시 변경을 덮어쓰지 않음
+     * - 한 트랜잭션에서 재시도 없이 끝남 - 어느 조건에도 맞지 않으면 없는 약속(null)이거나 이미 종료 상태(예외)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AppointmentResponseDto updateAppointmentStatus(String appointmentId, AppointmentStatusUpdateDto statusUpdateDto) {
         log.info("Updating status for appointment: {} to {}", appointmentId, statusUpdateDto.getAppointmentStatus());
         
-        Optional<Appointment> appointmentOpt = appointmentRepository.findById(appointmentId);
-        if (appointmentOpt.isEmpty()) {
-            log.warn("Appointment not found with ID: {}", appointmentId);
+        Appointment savedAppointment = transactionTemplate.execute(
+                status -> transitionStatus(appointmentId, statusUpdateDto.getAppointmentStatus()));
+        if (savedAppointment == null) {
+            log.debug("Appointment not found with ID: {}", appointmentId);
             return null;
         }
         
-        Appointment appointment = appointmentOpt.get();
-        
-        // 상태 변경 불변식 검증 (INV-A006, INV-A007)
-        validateStatusTransition(appointment, statusUpdateDto.getAppointmentStatus());
-        
+        log.info("Successfully updated appointment status: {}", appointmentId);
+        return convertToResponseDto(savedAppointment);
+    }
+    
+    /**
+     * 조건부 UPDATE로 상태 변경 - 조회/검증 없이 허용된 이전 상태일 때만 변경되고 영향받은 행 수로 결과를 판단함
+     * 상태는 PLANNED → ONGOING → (DONE | CANCELLED) 한 방향으로만 바뀌므로 허용 상태를 진행 순서대로 하나씩 조건으로 걸면
+     * 재시도 없이 실제 이전 상태를 알 수 있음 (이벤트의 previousStatus로 사용)
+     * @return 변경된 약속, 없으면 null
+     */
+    private Appointment transitionStatus(String appointmentId, Appointment.AppointmentStatus newStatus) {
         // 수동 상태 변경은 CANCELLED만 허용 (시간 기반 상태는 자동 변경)
-        if (statusUpdateDto.getAppointmentStatus() != Appointment.AppointmentStatus.CANCELLED) {
+        if (newStatus != Appointment.AppointmentStatus.CANCELLED) {
+            if (!appointmentRepository.existsById(appointmentId)) {
+                return null;
+            }
             throw new IllegalArgumentException("Manual status change is only allowed for CANCELLED status");
         }
         
-        appointment.setAppointmentStatus(statusUpdateDto.getAppointmentStatus());
-        Appointment savedAppointment = appointmentRepository.save(appointment);
+        LocalDateTime now = LocalDateTime.now();
+        for (Appointment.AppointmentStatus previousStatus : CANCELLABLE_STATUSES) {
+            if (appointmentRepository.transitionStatus(appointmentId, List.of(previousStatus), newStatus, now) > 0) {
+                // 조건부 UPDATE 후 영속성 컨텍스트가 비워지므로 최신 상태(버전 포함)를 다시 조회
+                Appointment savedAppointment = appointmentRepository.findById(appointmentId).orElseThrow();
+                eventPublisher.publishEvent(AppointmentChangedEvent.statusChanged(savedAppointment, previousStatus));
+                return savedAppointment;
+            }
+        }
         
-        log.info("Successfully updated appointment status: {}", savedAppointment.getAppointmentId());
-        return convertToResponseDto(savedAppointment);
+        // 어느 조건에도 맞지 않으면 없는 약속이거나 이미 종료 상태(DONE/CANCELLED)
+        Optional<Appointment> appointmentOpt = appointmentRepository.findById(appointmentId);
+        if (appointmentOpt.isEmpty()) {
+            return null;
+        }
+        // 상태 변경 불변식 검증 (INV-A006, INV-A007) - 종료 상태이므로 예외 발생
+        validateStatusTransition(appointmentOpt.get(), newStatus);
+        throw new IllegalStateException(String.format("Appointment %s could not be changed from %s to %s",
+                appointmentId, appointmentOpt.get().getAppointmentStatus(), newStatus));
     }
     
     @Transactional(readOnly = true)
@@ -213,7 +393,7 @@ public class AppointmentService {
                                                                  Appointment.AppointmentStatus appointmentStatus,
                                                                  LocalDateTime startTime, 
                                                                  LocalDateTime endTime) {
-        log.info("Retrieving appointments with filters - location: {}, status: {}, startTime: {}, endTime: {}", 
+        log.debug("Retrieving appointments with filters - location: {}, status: {}, startTime: {}, endTime: {}", 
                 locationId, appointmentStatus, startTime, endTime);
         
         List<Appointment> appointments = appointmentRepository.findAppointmentsWithFilters(
@@ -232,28 +412,89 @@ public class AppointmentService {
         
         Optional<Appointment> appointmentOpt = appointmentRepository.findById(appointmentId);
         if (appointmentOpt.isEmpty()) {
-            log.warn("Appointment not found with ID: {}", appointmentId);
+            log.debug("Appointment not found with ID: {}", appointmentId);
             return;
         }
         
         appointmentRepository.deleteById(appointmentId);
+        eventPublisher.publishEvent(AppointmentChangedEvent.deleted(appointmentOpt.get()));
         log.info("Successfully deleted appointment: {}", appointmentId);
     }
     
     /**
-     * 호스트 존재 여부 검증
+     * 호스트의 구간별 약속 타임라인 조회
+     * 인메모리 인덱스에서 처리하고, 인덱스 준비 전에는 DB에서 조회함
      */
-    private void validateHostExists(String hostId) {
-        try {
-            UserResponse user = userServiceClient.getUserById(hostId);
-            if (user == null) {
-                throw new IllegalArgumentException("Host user not found: " + hostId);
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<TimelineEntryDto> getHostTimeline(String hostId, LocalDateTime from, LocalDateTime to) {
+        List<TimelineEntryDto> timeline;
+        if (appointmentTimelineIndex.isReady()) {
+            timeline = appointmentTimelineIndex.findByHost(hostId, from, to);
+        } else {
+            if (HOST_TIMELINE_FALLBACK_LOG.tryAcquire()) {
+                log.info("Timeline index not ready, falling back to DB for host: {} (suppressed {} similar)",
+                        hostId, HOST_TIMELINE_FALLBACK_LOG.drainSuppressed());
             }
-            log.info("Host validation successful: {}", user.getUsername());
-        } catch (Exception e) {
-            log.error("Host validation failed for ID: {}", hostId, e);
-            throw new IllegalArgumentException("Invalid host ID: " + hostId);
+            timeline = appointmentRepository.findHostAppointmentsInRange(hostId, from, to).stream()
+                    .map(this::convertToTimelineEntry)
+                    .collect(Collectors.toList());
+        }
+        
+        // 보관 기준 이전 구간이 포함되면 보관 테이블도 조회하여 병합
+        if (!from.isBefore(LocalDateTime.now().minusDays(archiveHorizonDays))) {
+            return timeline;
+        }
+        Set<String> seen = timeline.stream().map(TimelineEntryDto::getAppointmentId).collect(Collectors.toSet());
+        List<TimelineEntryDto> merged = new ArrayList<>(timeline);
+        archiveRepository.findHostArchiveInRange(hostId, from, to).stream()
+                .filter(archived -> !seen.contains(archived.getAppointmentId()))
+                .map(archived -> convertToTimelineEntry(archived.toAppointment()))
+                .forEach(merged::add);
+        merged.sort(Comparator.comparing(TimelineEntryDto::getStartTime));
+        return merged;
+    }
+    
+    /**
+     * 장소에서 현재 진행 중인 약속 조회 (취소 제외)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<TimelineEntryDto> getActiveAppointmentsAtLocation(String locationId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (appointmentTimelineIndex.isReady()) {
+            return appointmentTimelineIndex.findActiveAtLocation(locationId, now);
+        }
+        
+        if (LOCATION_TIMELINE_FALLBACK_LOG.tryAcquire()) {
+            log.info("Timeline index not ready, falling back to DB for location: {} (suppressed {} similar)",
+                    locationId, LOCATION_TIMELINE_FALLBACK_LOG.drainSuppressed());
         }
+        return appointmentRepository.findLocationAppointmentsInRange(locationId, now, now.plusSeconds(1)).stream()
+                .filter(appointment -> appointment.getAppointmentStatus() != Appointment.AppointmentStatus.CANCELLED)
+                .map(this::convertToTimelineEntry)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 보관 테이블에서 약속 조회 (운영 테이블에 없을 때의 이력 조회용)
+     */
+    private Optional<Appointment> findArchived(String appointmentId) {
+        return archiveRepository.findFirstByAppointmentId(appointmentId).map(AppointmentArchive::toAppointment);
+    }
+    
+    /**
+     * 운영 테이블 조회 결과에 보관 약속을 합침 (보관 중 이동한 약속은 운영 테이블 결과 우선)
+     */
+    private List<Appointment> withArchived(List<Appointment> appointments, List<AppointmentArchive> archived) {
+        if (archived.isEmpty()) {
+            return appointments;
+        }
+        Set<String> seen = appointments.stream().map(Appointment::getAppointmentId).collect(Collectors.toSet());
+        List<Appointment> merged = new ArrayList<>(appointments);
+        archived.stream()
+                .filter(archive -> !seen.contains(archive.getAppointmentId()))
+                .map(AppointmentArchive::toAppointment)
+                .forEach(merged::add);
+        return merged;
     }
     
     /**
@@ -288,20 +529,6 @@ public class AppointmentService {
         }
     }
     
-    /**
-     * 동일 시간대 중복 약속 검증 (INV-A008)
-     */
-    private void validateTimeConflict(String hostId, LocalDateTime startTime, LocalDateTime endTime) {
-        List<Appointment> overlappingAppointments = appointmentRepository.findOverlappingAppointments(
-                hostId, startTime, endTime);
-        
-        if (!overlappingAppointments.isEmpty()) {
-            throw new IllegalArgumentException(
-                    String.format("Host already has an appointment during this time period (INV-A008). " +
-                            "Conflicting appointment ID: %s", overlappingAppointments.get(0).getAppointmentId()));
-        }
-    }
-    
     /**
      * 상태 변경 불변식 검증 (INV-A006, INV-A007)
      */
@@ -373,11 +600,8 @@ public class AppointmentService {
     /**
      * Appointment Entity 생성
      */
-    private Appointment createAppointmentEntity(AppointmentRequestDto requestDto) {
+    private Appointment createAppointmentEntity(AppointmentRequestDto requestDto, String appointmentId) {
         Appointment appointment = new Appointment();
-        // appo001 형태로 ID 생성
-        Long sequenceNumber = appointmentRepository.getNextSequenceNumber();
-        String appointmentId = String.format("appo%03d", sequenceNumber);
         appointment.setAppointmentId(appointmentId);
         appointment.setHostId(requestDto.getHostId());
         appointment.setTitle(requestDto.getTitle());
@@ -395,20 +619,33 @@ public class AppointmentService {
      * Entity를 ResponseDto로 변환
      */
     private AppointmentResponseDto convertToResponseDto(Appointment appointment) {
-        AppointmentResponseDto responseDto = new AppointmentResponseDto();
-        responseDto.setAppointmentId(appointment.getAppointmentId());
-        responseDto.setHostId(appointment.getHostId());
-        
-        // 호스트 정보 조회
+        return convertToResponseDto(appointment, fetchHost(appointment.getHostId()));
+    }
+    
+    /**
+     * 호스트 정보 조회 (실패 시 null)
+     */
+    private UserResponse fetchHost(String hostId) {
         try {
-            UserResponse host = userServiceClient.getUserById(appointment.getHostId());
-            responseDto.setHostUsername(host.getUsername());
-            responseDto.setHostNickname(host.getNickname());
+            return userServiceClient.getUserById(hostId);
         } catch (Exception e) {
-            log.warn("Failed to fetch host info for appointment: {}", appointment.getAppointmentId());
-            responseDto.setHostUsername("Unknown");
-            responseDto.setHostNickname("Unknown");
+            if (HOST_FETCH_FAILURE_LOG.tryAcquire()) {
+                log.warn("Failed to fetch host info for host: {} (suppressed {} similar)",
+                        hostId, HOST_FETCH_FAILURE_LOG.drainSuppressed());
+            }
+            return null;
         }
+    }
+    
+    /**
+     * Entity를 ResponseDto로 변환 (이미 조회한 호스트 정보 사용 - 캘린더 조회에서도 사용)
+     */
+    static AppointmentResponseDto convertToResponseDto(Appointment appointment, UserResponse host) {
+        AppointmentResponseDto responseDto = new AppointmentResponseDto();
+        responseDto.setAppointmentId(appointment.getAppointmentId());
+        responseDto.setHostId(appointment.getHostId());
+        responseDto.setHostUsername(host != null ? host.getUsername() : "Unknown");
+        responseDto.setHostNickname(host != null ? host.getNickname() : "Unknown");
         
         responseDto.setTitle(appointment.getTitle());
         responseDto.setDescription(appointment.getDescription());
@@ -421,17 +658,29 @@ public class AppointmentService {
         return responseDto;
     }
     
+    /**
+     * Entity를 TimelineEntryDto로 변환
+     */
+    private TimelineEntryDto convertToTimelineEntry(Appointment appointment) {
+        return new TimelineEntryDto(
+                appointment.getAppointmentId(),
+                appointment.getStartTime(),
+                appointment.getEndTime(),
+                appointment.getAppointmentStatus());
+    }
+    
     /**
      * 약속 상태 및 피드백 정보 조회 (프론트 요청용)
      * 조건: appointmentStatus = DONE AND feedback = F
      */
     @Transactional(readOnly = true)
     public AppointmentStatusFeedbackDto getAppointmentStatusFeedback(String appointmentId) {
-        log.info("Retrieving appointment status and feedback for ID: {}", appointmentId);
+        log.debug("Retrieving appointment status and feedback for ID: {}", appointmentId);
         
-        Optional<Appointment> appointmentOpt = appointmentRepository.findById(appointmentId);
+        Optional<Appointment> appointmentOpt = appointmentRepository.findById(appointmentId)
+                .or(() -> findArchived(appointmentId));
         if (appointmentOpt.isEmpty()) {
-            log.warn("Appointment not found with ID: {}", appointmentId);
+            log.debug("Appointment not found with ID: {}", appointmentId);
             return null;
         }
         
@@ -440,7 +689,7 @@ public class AppointmentService {
         // 조건 확인: DONE 상태이고 피드백이 F인 경우만 응답
         if (appointment.getAppointmentStatus() != Appointment.AppointmentStatus.DONE || 
             !"F".equals(appointment.getFeedback())) {
-            log.info("Appointment does not meet criteria - status: {}, feedback: {}", 
+            log.debug("Appointment does not meet criteria - status: {}, feedback: {}", 
                     appointment.getAppointmentStatus(), appointment.getFeedback());
             return null;
         }
@@ -454,22 +703,58 @@ public class AppointmentService {
         statusFeedbackDto.setFeedback(appointment.getFeedback());
         statusFeedbackDto.setGuests(guests);
         
-        log.info("Successfully retrieved status and feedback for appointment: {} with {} guests", 
+        log.debug("Successfully retrieved status and feedback for appointment: {} with {} guests", 
                 appointmentId, guests.size());
         return statusFeedbackDto;
     }
     
+    /**
+     * Guest 서비스(캐시) 기준 참여 약속 조회 - 로컬 인덱스와 같은 정렬/필터/페이지 적용
+     */
+    private List<Appointment> getParticipatingAppointmentsFromGuestService(String userId, LocalDateTime from,
+                                                                           LocalDateTime to, int page, int size) {
+        // 해당 사용자가 "coming" 상태로 참여 중인 약속 ID 목록 (Guest 참여 정보 캐시)
+        List<String> appointmentIds = participatingAppointmentIds(userId);
+        
+        if (appointmentIds.isEmpty()) {
+            return List.of();
+        }
+        
+        return withArchived(appointmentRepository.findByAppointmentIdIn(appointmentIds),
+                archiveRepository.findByAppointmentIdIn(appointmentIds)).stream()
+                .filter(appointment -> !appointment.getStartTime().isBefore(from) && appointment.getStartTime().isBefore(to))
+                .sorted(Comparator.comparing(Appointment::getStartTime).thenComparing(Appointment::getAppointmentId))
+                .skip((long) page * size)
+                .limit(size)
+                .toList();
+    }
+    
+    /**
+     * 사용자가 참여 중인 약속 ID 목록 (Guest 서비스 조회 실패 시 빈 목록)
+     */
+    private List<String> participatingAppointmentIds(String userId) {
+        try {
+            return guestMembershipCache.getParticipatingAppointmentIds(userId);
+        } catch (Exception e) {
+            if (PARTICIPATION_FAILURE_LOG.tryAcquire()) {
+                log.error("Failed to retrieve participating appointments for user: {} (suppressed {} similar)",
+                        userId, PARTICIPATION_FAILURE_LOG.drainSuppressed(), e);
+            }
+            return List.of();
+        }
+    }
+    
     /**
      * 약속 ID로 Guest 정보 조회
      */
     private List<GuestInfo> getGuestInfoForAppointment(String appointmentId) {
         try {
-            // Guest 서비스에서 Guest 목록 조회
-            List<GuestResponse> guestResponses = guestServiceClient.getGuestsByAppointmentId(appointmentId);
+            // Guest 목록 조회 (Guest 참여 정보 캐시)
+            List<GuestResponse> guestResponses = guestMembershipCache.getGuests(appointmentId);
             
             // GuestResponse를 GuestInfo로 변환
             return guestResponses.stream()
-                    .map(this::convertToGuestInfo)
+                    .map(AppointmentService::convertToGuestInfo)
                     .collect(Collectors.toList());
                     
         } catch (Exception e) {
@@ -481,7 +766,7 @@ public class AppointmentService {
     /**
      * GuestResponse를 GuestInfo로 변환
      */
-    private GuestInfo convertToGuestInfo(GuestResponse guestResponse) {
+    static GuestInfo convertToGuestInfo(GuestResponse guestResponse) {
         GuestInfo guestInfo = new GuestInfo();
         guestInfo.setGuestId(guestResponse.getGuestId());
         guestInfo.setUserId(guestResponse.getUserId());
@@ -0,0 +1,135 @@
+package com.example.appointment.service;
+
+import com.example.appointment.entity.GuestCacheInvalidation;
+import com.example.appointment.repository.GuestCacheInvalidationRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Guest 캐시 무효화 브로드캐스트
+ * - 웹훅을 받은 인스턴스는 자기 캐시를 바로 무효화하고 요청을 DB에 기록함
+ * - 모든 인스턴스가 기록을 (created_at, id) 순으로 따라 읽어 자기 로컬 캐시를 무효화하므로 다른 인스턴스도 폴링 주기 안에 반영됨
+ * - 조회마다 마지막 기록 시각에서 lookback 만큼 되돌아가 다시 읽으므로, id 순서와 다르게 늦게 커밋된 요청도 lookback 안이면 반영됨
+ * - lookback을 넘겨 커밋되거나 폴링이 계속 실패한 요청은 캐시 TTL이 지나야 반영되므로 TTL이 최대 지연의 상한임
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GuestCacheInvalidationBroadcaster {
+    
+    private static final TypeReference<List<String>> ID_LIST = new TypeReference<>() {};
+    
+    // 무효화 요청이 하나도 없을 때의 시작 위치
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(2000, 1, 1, 0, 0);
+    
+    private final GuestCacheInvalidationRepository invalidationRepository;
+    private final GuestMembershipCache guestMembershipCache;
+    private final ObjectMapper objectMapper;
+    
+    @Value("${appointment.guest-cache.broadcast-batch-size:500}")
+    private final int batchSize;
+    
+    @Value("${appointment.guest-cache.broadcast-retention-hours:1}")
+    private final int retentionHours;
+    
+    // 요청 저장의 커밋 지연/인스턴스 간 시계 차이보다 길어야 함
+    @Value("${appointment.guest-cache.broadcast-lookback-ms:5000}")
+    private final long lookbackMillis;
+    
+    // 반영한 가장 늦은 기록 시각과 lookback 구간 안에서 반영한 요청 id (폴링 스레드에서만 사용)
+    private final Map<Long, LocalDateTime> applied = new HashMap<>();
+    private LocalDateTime highWater;
+    
+    /**
+     * 로컬 캐시를 즉시 무효화하고 다른 인스턴스에 전파할 요청 기록
+     */
+    public void broadcast(Collection<String> userIds, Collection<String> appointmentIds) {
+        guestMembershipCache.invalidate(userIds, appointmentIds);
+        
+        GuestCacheInvalidation invalidation = new GuestCacheInvalidation();
+        invalidation.setUserIds(toJson(userIds));
+        invalidation.setAppointmentIds(toJson(appointmentIds));
+        invalidation.setCreatedAt(LocalDateTime.now());
+        invalidationRepository.save(invalidation);
+    }
+    
+    /**
+     * 다른 인스턴스가 기록한 무효화 요청 반영 (자기 요청도 다시 반영되지만 무효화는 멱등이므로 무해함)
+     */
+    @Scheduled(fixedDelayString = "${appointment.guest-cache.broadcast-poll-interval-ms:1000}")
+    public void poll() {
+        try {
+            if (highWater == null) {
+                // 시작 위치는 첫 폴링 때 정함 (기동 중 DB 조회 없음) - 기동 시점의 캐시는 비어 있으므로 이전 요청은 반영할 필요 없음
+                LocalDateTime lastCreatedAt = invalidationRepository.findMaxCreatedAt();
+                highWater = lastCreatedAt != null ? lastCreatedAt : BEGINNING;
+            }
+            Duration lookback = Duration.ofMillis(lookbackMillis);
+            LocalDateTime cursorTime = highWater.minus(lookback);
+            long cursorId = 0;
+            List<GuestCacheInvalidation> batch;
+            do {
+                batch = invalidationRepository.findCreatedAfter(cursorTime, cursorId, PageRequest.of(0, batchSize));
+                for (GuestCacheInvalidation invalidation : batch) {
+                    cursorTime = invalidation.getCreatedAt();
+                    cursorId = invalidation.getId();
+                    if (applied.putIfAbsent(invalidation.getId(), invalidation.getCreatedAt()) == null) {
+                        guestMembershipCache.invalidate(fromJson(invalidation.getUserIds()), fromJson(invalidation.getAppointmentIds()));
+                    }
+                }
+            } while (batch.size() == batchSize);
+            
+            if (cursorTime.isAfter(highWater)) {
+                highWater = cursorTime;
+            }
+            LocalDateTime horizon = highWater.minus(lookback);
+            applied.values().removeIf(createdAt -> createdAt.isBefore(horizon));
+        } catch (Exception e) {
+            log.error("Guest 캐시 무효화 요청 조회 중 오류 발생", e);
+        }
+    }
+    
+    /**
+     * 보관 기간이 지난 무효화 요청 정리 (매시 정각)
+     */
+    @Scheduled(cron = "${appointment.guest-cache.broadcast-cleanup-cron:0 0 * * * *}")
+    public void cleanup() {
+        try {
+            int deleted = invalidationRepository.deleteCreatedBefore(LocalDateTime.now().minusHours(retentionHours));
+            if (deleted > 0) {
+                log.info("Guest 캐시 무효화 요청 정리: {}개", deleted);
+            }
+        } catch (Exception e) {
+            log.error("Guest 캐시 무효화 요청 정리 중 오류 발생", e);
+        }
+    }
+    
+    private String toJson(Collection<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(ids);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Guest 캐시 무효화 요청 직렬화 실패", e);
+        }
+    }
+    
+    private List<String> fromJson(String json) throws JsonProcessingException {
+        return json == null ? List.of() : objectMapper.readValue(json, ID_LIST);
+    }
+}
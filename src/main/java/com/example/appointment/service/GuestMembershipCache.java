@@ -0,0 +1,192 @@
+package com.example.appointment.service;
+
+import com.example.appointment.client.GuestServiceClient;
+import com.example.appointment.dto.GuestResponse;
+import com.example.appointment.event.AppointmentChangedEvent;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Guest 참여 정보 캐시
+ * - 사용자 ID → 참여("coming") 약속 ID 목록, 약속 ID → Guest 목록
+ * - TTL(expire-after-write)과 최대 크기로 제한하고, refresh-after 이후 첫 조회는 기존 값을 바로 반환하면서 백그라운드에서 갱신 (stale-while-revalidate)
+ * - 조회 실패는 캐시하지 않으며, 백그라운드 갱신이 실패하면 TTL까지 기존 값을 계속 사용
+ * - Guest 서비스의 RSVP 변경 웹훅 또는 약속 삭제 이벤트로 즉시 무효화 (웹훅은 GuestCacheInvalidationBroadcaster가 다른 인스턴스로 전파)
+ * - 여러 약속의 Guest 목록은 캐시에 없는 약속만 약속별로 동시에 불러오며, 하나라도 실패하면 예외 (빈 목록으로 대신하지 않음)
+ */
+@Component
+@Slf4j
+public class GuestMembershipCache {
+    
+    static final String PARTICIPATING_STATUS = "coming";
+    
+    private final GuestServiceClient guestServiceClient;
+    private final MeterRegistry meterRegistry;
+    private final long ttlSeconds;
+    private final long refreshAfterSeconds;
+    private final long maxUsers;
+    private final long maxAppointments;
+    private final int refreshThreads;
+    private final Ticker ticker;
+    
+    private ExecutorService refresher;
+    private LoadingCache<String, List<String>> participationByUser;
+    private LoadingCache<String, List<GuestResponse>> guestsByAppointment;
+    
+    @Autowired
+    public GuestMembershipCache(GuestServiceClient guestServiceClient, MeterRegistry meterRegistry,
+                                @Value("${appointment.guest-cache.ttl-seconds:300}") long ttlSeconds,
+                                @Value("${appointment.guest-cache.refresh-after-seconds:30}") long refreshAfterSeconds,
+                                @Value("${appointment.guest-cache.max-users:10000}") long maxUsers,
+                                @Value("${appointment.guest-cache.max-appointments:10000}") long maxAppointments,
+                                @Value("${appointment.guest-cache.refresh-threads:2}") int refreshThreads) {
+        this(guestServiceClient, meterRegistry, ttlSeconds, refreshAfterSeconds, maxUsers, maxAppointments,
+                refreshThreads, Ticker.systemTicker());
+    }
+    
+    /**
+     * 시간 소스 지정 (테스트에서 만료/갱신 시점을 직접 진행)
+     */
+    GuestMembershipCache(GuestServiceClient guestServiceClient, MeterRegistry meterRegistry, long ttlSeconds,
+                         long refreshAfterSeconds, long maxUsers, long maxAppointments, int refreshThreads,
+                         Ticker ticker) {
+        this.guestServiceClient = guestServiceClient;
+        this.meterRegistry = meterRegistry;
+        this.ttlSeconds = ttlSeconds;
+        this.refreshAfterSeconds = refreshAfterSeconds;
+        this.maxUsers = maxUsers;
+        this.maxAppointments = maxAppointments;
+        this.refreshThreads = refreshThreads;
+        this.ticker = ticker;
+    }
+    
+    @PostConstruct
+    void start() {
+        // 백그라운드 갱신의 Guest 서비스 호출이 갱신을 일으킨 요청의 trace 아래에 기록되도록 관측 컨텍스트 전달
+        ContextSnapshotFactory snapshotFactory = ContextSnapshotFactory.builder().build();
+        refresher = ContextExecutorService.wrap(
+                Executors.newFixedThreadPool(refreshThreads, new CustomizableThreadFactory("guest-cache-refresh-")),
+                snapshotFactory::captureAll);
+        participationByUser = newCache(maxUsers).build(this::loadParticipation);
+        guestsByAppointment = newCache(maxAppointments).build(new CacheLoader<String, List<GuestResponse>>() {
+            @Override
+            public List<GuestResponse> load(String appointmentId) {
+                return loadGuests(appointmentId);
+            }
+            
+            @Override
+            public Map<String, List<GuestResponse>> loadAll(Set<? extends String> appointmentIds) {
+                return loadAllGuests(appointmentIds);
+            }
+        });
+        CaffeineCacheMetrics.monitor(meterRegistry, participationByUser, "guest.participation");
+        CaffeineCacheMetrics.monitor(meterRegistry, guestsByAppointment, "guest.by-appointment");
+    }
+    
+    @PreDestroy
+    void stop() {
+        refresher.shutdownNow();
+    }
+    
+    /**
+     * 사용자가 참여 중인 약속 ID 목록 (읽기 전용)
+     * 캐시에 없고 Guest 서비스 조회도 실패하면 예외 발생
+     */
+    public List<String> getParticipatingAppointmentIds(String userId) {
+        return participationByUser.get(userId);
+    }
+    
+    /**
+     * 약속의 Guest 목록 (읽기 전용)
+     * 캐시에 없고 Guest 서비스 조회도 실패하면 예외 발생
+     */
+    public List<GuestResponse> getGuests(String appointmentId) {
+        return guestsByAppointment.get(appointmentId);
+    }
+    
+    /**
+     * 여러 약속의 Guest 목록 (약속 ID → Guest 목록, 읽기 전용)
+     * 캐시에 없는 약속은 Guest 서비스에 약속별로 동시에 조회하며, 하나라도 실패하면 예외 발생 (실패 결과는 캐시하지 않음)
+     */
+    public Map<String, List<GuestResponse>> getGuests(Collection<String> appointmentIds) {
+        return guestsByAppointment.getAll(appointmentIds);
+    }
+    
+    /**
+     * RSVP 변경 등으로 바뀐 사용자/약속 항목 무효화 - 다음 조회 시 다시 불러옴
+     */
+    public void invalidate(Collection<String> userIds, Collection<String> appointmentIds) {
+        if (userIds != null && !userIds.isEmpty()) {
+            participationByUser.invalidateAll(userIds);
+        }
+        if (appointmentIds != null && !appointmentIds.isEmpty()) {
+            guestsByAppointment.invalidateAll(appointmentIds);
+        }
+        log.debug("Guest cache invalidated - users: {}, appointments: {}", userIds, appointmentIds);
+    }
+    
+    /**
+     * 삭제된 약속의 Guest 목록 제거
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        if (event.getType() == AppointmentChangedEvent.Type.DELETED) {
+            guestsByAppointment.invalidate(event.getAppointmentId());
+        }
+    }
+    
+    private Caffeine<Object, Object> newCache(long maximumSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .refreshAfterWrite(Duration.ofSeconds(refreshAfterSeconds))
+                .executor(refresher)
+                .ticker(ticker)
+                .recordStats();
+    }
+    
+    private List<String> loadParticipation(String userId) {
+        return guestServiceClient.fetchGuestsByUserIdAndStatus(userId, PARTICIPATING_STATUS).stream()
+                .map(GuestResponse::getAppointmentId)
+                .toList();
+    }
+    
+    private List<GuestResponse> loadGuests(String appointmentId) {
+        return List.copyOf(guestServiceClient.fetchGuestsByAppointmentId(appointmentId));
+    }
+    
+    private Map<String, List<GuestResponse>> loadAllGuests(Set<? extends String> appointmentIds) {
+        // 약속별 조회를 모두 먼저 시작한 뒤 기다려 전체 지연을 가장 느린 한 건 수준으로 유지
+        Map<String, CompletableFuture<List<GuestResponse>>> pending = new HashMap<>();
+        appointmentIds.forEach(appointmentId ->
+                pending.put(appointmentId, guestServiceClient.fetchGuestsByAppointmentIdAsync(appointmentId)));
+        Map<String, List<GuestResponse>> guests = new HashMap<>();
+        pending.forEach((appointmentId, future) -> guests.put(appointmentId, List.copyOf(future.join())));
+        return guests;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.appointment.service;
+
+import com.example.appointment.client.UserServiceClient;
+import com.example.appointment.dto.UserResponse;
+import com.example.appointment.entity.Appointment;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 약속 목록의 주최자 정보 동시 조회 (목록 응답 공용)
+ * - 주최자 ID별로 한 번만 비동기 요청하고, 실패/시간 초과한 주최자는 null (주최자 정보 없이 응답)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HostLookup {
+    
+    private final UserServiceClient userServiceClient;
+    
+    /**
+     * 주최자 조회 요청만 시작 - 다른 조회와 겹쳐 기다릴 때 사용 (future는 예외 없이 완료됨)
+     */
+    public Map<String, CompletableFuture<UserResponse>> request(Collection<Appointment> appointments, long timeoutMillis) {
+        Map<String, CompletableFuture<UserResponse>> pending = new LinkedHashMap<>();
+        for (Appointment appointment : appointments) {
+            pending.computeIfAbsent(appointment.getHostId(), hostId -> userServiceClient.getUserByIdAsync(hostId)
+                    .exceptionally(e -> {
+                        log.debug("Failed to fetch host info for host: {}", hostId, e);
+                        return null;
+                    })
+                    .completeOnTimeout(null, timeoutMillis, TimeUnit.MILLISECONDS));
+        }
+        return pending;
+    }
+    
+    /**
+     * 주최자 ID → 주최자 정보 (조회 실패 시 값이 null)
+     */
+    public Map<String, UserResponse> fetch(Collection<Appointment> appointments, long timeoutMillis) {
+        Map<String, UserResponse> hosts = new LinkedHashMap<>();
+        request(appointments, timeoutMillis).forEach((hostId, future) -> hosts.put(hostId, future.join()));
+        return hosts;
+    }
+}
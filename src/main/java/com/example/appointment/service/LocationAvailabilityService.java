@@ -0,0 +1,119 @@
+package com.example.appointment.service;
+
+import com.example.appointment.dto.LocationAvailabilityDto;
+import com.example.appointment.dto.TimeIntervalDto;
+import com.example.appointment.repository.AppointmentIntervalView;
+import com.example.appointment.repository.AppointmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 장소 가용성(빈 시간대/사용률) 계산 Service
+ * - 요청된 모든 장소의 구간을 한 번의 쿼리로 읽고 장소별로 스윕라인 계산함
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class LocationAvailabilityService {
+    
+    private final AppointmentRepository appointmentRepository;
+    
+    public List<LocationAvailabilityDto> getAvailability(List<String> locationIds, LocalDateTime from, LocalDateTime to) {
+        log.info("Calculating availability for {} locations between {} and {}", locationIds.size(), from, to);
+        
+        List<String> distinctLocationIds = locationIds.stream().distinct().collect(Collectors.toList());
+        
+        // 장소, 시작 시간 순으로 정렬된 결과를 장소별로 묶음
+        Map<String, List<AppointmentIntervalView>> intervalsByLocation = new LinkedHashMap<>();
+        distinctLocationIds.forEach(locationId -> intervalsByLocation.put(locationId, new ArrayList<>()));
+        for (AppointmentIntervalView interval : appointmentRepository.findActiveIntervalsByLocations(distinctLocationIds, from, to)) {
+            intervalsByLocation.get(interval.getLocationId()).add(interval);
+        }
+        
+        long windowStart = toEpoch(from);
+        long windowEnd = toEpoch(to);
+        List<LocationAvailabilityDto> result = new ArrayList<>(intervalsByLocation.size());
+        intervalsByLocation.forEach((locationId, intervals) -> {
+            long[] starts = new long[intervals.size()];
+            long[] ends = new long[intervals.size()];
+            for (int i = 0; i < intervals.size(); i++) {
+                starts[i] = toEpoch(intervals.get(i).getStartTime());
+                ends[i] = toEpoch(intervals.get(i).getEndTime());
+            }
+            result.add(sweep(locationId, starts, ends, windowStart, windowEnd));
+        });
+        return result;
+    }
+    
+    /**
+     * 스윕라인으로 빈 시간대와 사용 시간 계산
+     * - 구간을 조회 범위로 자른 뒤 시작/종료 이벤트를 각각 정렬하여 순서대로 처리함
+     * - 시작과 종료가 같은 시각이면 시작을 먼저 처리하여 맞닿은 약속 사이에 빈 구간이 생기지 않게 함
+     */
+    static LocationAvailabilityDto sweep(String locationId, long[] starts, long[] ends, long windowStart, long windowEnd) {
+        int n = 0;
+        for (int i = 0; i < starts.length; i++) {
+            long start = Math.max(starts[i], windowStart);
+            long end = Math.min(ends[i], windowEnd);
+            if (start < end) {
+                starts[n] = start;
+                ends[n] = end;
+                n++;
+            }
+        }
+        Arrays.sort(starts, 0, n);
+        Arrays.sort(ends, 0, n);
+        
+        List<TimeIntervalDto> freeIntervals = new ArrayList<>();
+        long freeFrom = windowStart;
+        long busyFrom = windowStart;
+        long busySeconds = 0L;
+        int active = 0;
+        int i = 0;
+        int j = 0;
+        while (j < n) {
+            if (i < n && starts[i] <= ends[j]) {
+                long time = starts[i++];
+                if (active++ == 0) {
+                    if (time > freeFrom) {
+                        freeIntervals.add(new TimeIntervalDto(fromEpoch(freeFrom), fromEpoch(time)));
+                    }
+                    busyFrom = time;
+                }
+            } else {
+                long time = ends[j++];
+                if (--active == 0) {
+                    busySeconds += time - busyFrom;
+                    freeFrom = time;
+                }
+            }
+        }
+        if (freeFrom < windowEnd) {
+            freeIntervals.add(new TimeIntervalDto(fromEpoch(freeFrom), fromEpoch(windowEnd)));
+        }
+        
+        long windowSeconds = windowEnd - windowStart;
+        double utilization = windowSeconds > 0 ? Math.round(busySeconds * 10000.0 / windowSeconds) / 100.0 : 0.0;
+        return new LocationAvailabilityDto(locationId, freeIntervals, busySeconds, utilization);
+    }
+    
+    private static long toEpoch(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+    
+    private static LocalDateTime fromEpoch(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.appointment.support;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * AIMD 기반 적응형 동시 처리 제한
+ * - 응답 지연이 목표 이하이고 제한 가까이 사용 중이면 제한을 천천히 증가 (요청마다 +1/limit, 약 한 창마다 +1)
+ * - 목표 지연을 넘는 응답이 나오면 제한을 backoffRatio 배로 감소 (목표 지연 한 주기에 최대 한 번)
+ * - 상태는 AtomicInteger/AtomicLong CAS로만 갱신
+ */
+public class AdaptiveConcurrencyLimiter {
+    
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+    private final double backoffRatio;
+    private final LongSupplier clock;
+    
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong limitBits;
+    private final AtomicLong lastDecrease;
+    
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      long targetLatencyNanos, double backoffRatio) {
+        this(initialLimit, minLimit, maxLimit, targetLatencyNanos, backoffRatio, System::nanoTime);
+    }
+    
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      long targetLatencyNanos, double backoffRatio, LongSupplier clock) {
+        if (minLimit < 1 || minLimit > maxLimit || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Invalid concurrency limit settings");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = targetLatencyNanos;
+        this.backoffRatio = backoffRatio;
+        this.clock = clock;
+        this.limitBits = new AtomicLong(Double.doubleToLongBits(Math.min(Math.max(initialLimit, minLimit), maxLimit)));
+        this.lastDecrease = new AtomicLong(clock.getAsLong() - targetLatencyNanos);
+    }
+    
+    /**
+     * 처리 슬롯 획득 시도 - 성공하면 반드시 release 호출
+     */
+    public boolean tryAcquire() {
+        if (inFlight.incrementAndGet() > getLimit()) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+    
+    /**
+     * 처리 슬롯 반환 및 응답 지연 반영
+     */
+    public void release(long latencyNanos) {
+        int inFlightBeforeRelease = inFlight.getAndDecrement();
+        if (latencyNanos > targetLatencyNanos) {
+            decrease();
+        } else if (inFlightBeforeRelease * 2 >= getLimit()) {
+            increase();
+        }
+    }
+    
+    public int getLimit() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+    
+    public int getInFlight() {
+        return inFlight.get();
+    }
+    
+    private void increase() {
+        while (true) {
+            long bits = limitBits.get();
+            double limit = Double.longBitsToDouble(bits);
+            double next = Math.min(maxLimit, limit + 1.0 / limit);
+            if (next == limit || limitBits.compareAndSet(bits, Double.doubleToLongBits(next))) {
+                return;
+            }
+        }
+    }
+    
+    private void decrease() {
+        // 같은 혼잡 구간에서 끝난 느린 응답들이 제한을 연쇄적으로 깎지 않도록 한 주기에 한 번만 감소
+        long now = clock.getAsLong();
+        long last = lastDecrease.get();
+        if (now - last < targetLatencyNanos || !lastDecrease.compareAndSet(last, now)) {
+            return;
+        }
+        while (true) {
+            long bits = limitBits.get();
+            double limit = Double.longBitsToDouble(bits);
+            double next = Math.max(minLimit, limit * backoffRatio);
+            if (next == limit || limitBits.compareAndSet(bits, Double.doubleToLongBits(next))) {
+                return;
+            }
+        }
+    }
+}
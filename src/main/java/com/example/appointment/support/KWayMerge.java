@@ -0,0 +1,61 @@
+package com.example.appointment.support;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 정렬된 목록 k개 병합 (k-way merge)
+ * - 각 목록의 현재 원소만 힙에 두고 가장 작은 원소부터 꺼내므로 O(n log k)
+ * - 같은 키의 원소는 처음 나온 것만 남김 (여러 목록에 같은 항목이 있을 때)
+ */
+public final class KWayMerge {
+    
+    private KWayMerge() {
+    }
+    
+    /**
+     * 정렬된 목록들을 하나의 정렬된 목록으로 병합 (중복 키 제거, 최대 limit개)
+     * 각 목록은 order 기준으로 이미 정렬되어 있어야 함
+     */
+    public static <T, K> List<T> mergeDistinct(List<? extends List<? extends T>> sortedRuns, Comparator<? super T> order,
+                                               Function<? super T, K> key, int limit) {
+        PriorityQueue<Head<T>> heap = new PriorityQueue<>(Math.max(1, sortedRuns.size()),
+                (left, right) -> order.compare(left.value, right.value));
+        for (List<? extends T> run : sortedRuns) {
+            advance(heap, run.iterator());
+        }
+        
+        List<T> merged = new ArrayList<>(Math.min(limit, 256));
+        Set<K> seen = new HashSet<>();
+        while (merged.size() < limit && !heap.isEmpty()) {
+            Head<T> head = heap.poll();
+            if (seen.add(key.apply(head.value))) {
+                merged.add(head.value);
+            }
+            advance(heap, head.rest);
+        }
+        return merged;
+    }
+    
+    private static <T> void advance(PriorityQueue<Head<T>> heap, Iterator<? extends T> iterator) {
+        if (iterator.hasNext()) {
+            heap.add(new Head<>(iterator.next(), iterator));
+        }
+    }
+    
+    private static final class Head<T> {
+        private final T value;
+        private final Iterator<? extends T> rest;
+        
+        private Head(T value, Iterator<? extends T> rest) {
+            this.value = value;
+            this.rest = rest;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.appointment.support;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 호출 위치별 반복 로그 제한
+ * - 호출 위치마다 static 인스턴스를 두고, 허용량(초당)을 넘는 로그는 출력하지 않고 개수만 셈
+ * - 다음에 허용된 로그에 그동안 생략된 개수를 함께 남김
+ *
+ * <pre>
+ * if (FETCH_FAILURE_LOG.tryAcquire()) {
+ *     log.warn("... (suppressed {} similar)", ..., FETCH_FAILURE_LOG.drainSuppressed());
+ * }
+ * </pre>
+ */
+public class LogSampler {
+    
+    private final TokenBucket bucket;
+    private final AtomicLong suppressed = new AtomicLong();
+    
+    private LogSampler(TokenBucket bucket) {
+        this.bucket = bucket;
+    }
+    
+    /**
+     * 초당 permitsPerSecond 건까지 허용 (같은 수만큼 버스트 허용)
+     */
+    public static LogSampler perSecond(double permitsPerSecond) {
+        return new LogSampler(new TokenBucket(permitsPerSecond, Math.max(1, (long) permitsPerSecond)));
+    }
+    
+    /**
+     * 이번 로그를 출력해도 되는지 - false면 생략 개수에 포함됨
+     */
+    public boolean tryAcquire() {
+        if (bucket.tryAcquire(1) == 0) {
+            return true;
+        }
+        suppressed.incrementAndGet();
+        return false;
+    }
+    
+    /**
+     * 마지막으로 출력된 이후 생략된 로그 수 (읽으면서 초기화)
+     */
+    public long drainSuppressed() {
+        return suppressed.getAndSet(0);
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.appointment.support;
+
+import io.micrometer.context.ContextScheduledExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * 단건 조회 마이크로 배칭
+ * - 짧은 시간 창 동안 들어온 키를 모아 한 번의 다건 조회로 처리함
+ * - 진행 중인 배치 조회가 없으면 기다리지 않고 바로 조회함 (부하가 없을 때 시간 창만큼 지연되지 않음)
+ * - 배치 조회가 진행 중일 때 들어온 키만 시간 창 동안 모으며, 창이 끝나거나 최대 배치 크기에 도달하면 조회함
+ * - 같은 키는 한 번만 조회하고, 합류한 호출자에게는 복사본을 돌려주어 가변 객체를 공유하지 않음
+ * - 메트릭: appointment.batch.requests / appointment.batch.queries / appointment.batch.size {operation}
+ */
+public class MicroBatcher<K, V> implements AutoCloseable {
+    
+    private final Function<List<K>, Map<K, V>> loader;
+    private final UnaryOperator<V> copier;
+    private final long windowMillis;
+    private final int maxBatchSize;
+    private final long timeoutMillis;
+    private final ScheduledExecutorService flusher;
+    
+    private final Counter requests;
+    private final Counter queries;
+    private final DistributionSummary batchSize;
+    
+    private final Object lock = new Object();
+    private Map<K, CompletableFuture<V>> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+    private int inFlight; // 진행 중인 배치 조회 수
+    
+    public MicroBatcher(String operation, Function<List<K>, Map<K, V>> loader,
+                        long windowMillis, int maxBatchSize, long timeoutMillis, int flushThreads,
+                        MeterRegistry meterRegistry) {
+        this(operation, loader, UnaryOperator.identity(), windowMillis, maxBatchSize, timeoutMillis, flushThreads,
+                meterRegistry);
+    }
+    
+    /**
+     * @param copier 같은 키에 합류한 호출자에게 돌려줄 값 복사 함수 (불변 값이면 identity)
+     */
+    public MicroBatcher(String operation, Function<List<K>, Map<K, V>> loader, UnaryOperator<V> copier,
+                        long windowMillis, int maxBatchSize, long timeoutMillis, int flushThreads,
+                        MeterRegistry meterRegistry) {
+        this.loader = loader;
+        this.copier = copier;
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.timeoutMillis = timeoutMillis;
+        // 창 만료 조회는 배치를 연 호출자의 관측(trace) 컨텍스트에서 실행되어 조회 span이 그 요청 아래에 기록됨
+        ContextSnapshotFactory snapshotFactory = ContextSnapshotFactory.builder().build();
+        this.flusher = ContextScheduledExecutorService.wrap(
+                Executors.newScheduledThreadPool(flushThreads, new CustomizableThreadFactory("batch-" + operation + "-")),
+                snapshotFactory::captureAll);
+        this.requests = Counter.builder("appointment.batch.requests").tag("operation", operation).register(meterRegistry);
+        this.queries = Counter.builder("appointment.batch.queries").tag("operation", operation).register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("appointment.batch.size").tag("operation", operation).register(meterRegistry);
+    }
+    
+    /**
+     * 키 조회 - 현재 배치에 합류한 뒤 배치 조회 결과를 기다림 (없는 키는 null)
+     */
+    public V load(K key) {
+        requests.increment();
+        CompletableFuture<V> future;
+        boolean joined;
+        Map<K, CompletableFuture<V>> immediateBatch = null;
+        synchronized (lock) {
+            future = pending.get(key);
+            joined = future != null;
+            if (!joined) {
+                future = new CompletableFuture<>();
+                pending.put(key, future);
+            }
+            if (inFlight == 0 || pending.size() >= maxBatchSize) {
+                immediateBatch = takePending();
+                inFlight++;
+            } else if (scheduledFlush == null) {
+                scheduledFlush = flusher.schedule(this::flushScheduled, windowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        
+        // 진행 중인 조회가 없거나 배치가 가득 찼으면 대기 없이 호출 스레드에서 바로 조회
+        if (immediateBatch != null) {
+            flush(immediateBatch);
+        }
+        V value = await(future);
+        return joined && value != null ? copier.apply(value) : value;
+    }
+    
+    @Override
+    public void close() {
+        flusher.shutdownNow();
+        Map<K, CompletableFuture<V>> remaining;
+        synchronized (lock) {
+            remaining = takePending();
+        }
+        remaining.values().forEach(future -> future.completeExceptionally(new IllegalStateException("Batcher closed")));
+    }
+    
+    private Map<K, CompletableFuture<V>> takePending() {
+        Map<K, CompletableFuture<V>> batch = pending;
+        pending = new LinkedHashMap<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+    
+    private void flushScheduled() {
+        Map<K, CompletableFuture<V>> batch;
+        synchronized (lock) {
+            batch = takePending();
+            if (batch.isEmpty()) {
+                return;
+            }
+            inFlight++;
+        }
+        flush(batch);
+    }
+    
+    private void flush(Map<K, CompletableFuture<V>> batch) {
+        queries.increment();
+        batchSize.record(batch.size());
+        try {
+            Map<K, V> loaded = loader.apply(new ArrayList<>(batch.keySet()));
+            batch.forEach((key, future) -> future.complete(loaded.get(key)));
+        } catch (RuntimeException e) {
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        } finally {
+            synchronized (lock) {
+                inFlight--;
+            }
+        }
+    }
+    
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Batch load failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Batch load timed out after " + timeoutMillis + "ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for batch load", e);
+        }
+    }
+}
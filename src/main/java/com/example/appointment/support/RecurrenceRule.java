@@ -0,0 +1,252 @@
+package com.example.appointment.support;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 반복 규칙 (RFC 5545 RRULE 일부)
+ * - FREQ=DAILY|WEEKLY|MONTHLY, INTERVAL, BYDAY(WEEKLY 전용, 예: MO,WE), COUNT 또는 UNTIL(yyyyMMdd'T'HHmmss, 포함)
+ * - 발생 시각은 요청 구간에 대해서만 계산 (COUNT가 없으면 구간 시작이 속한 주기로 바로 이동)
+ * - MONTHLY는 시작일과 같은 날짜가 없는 달은 건너뜀 (예: 31일)
+ */
+public final class RecurrenceRule {
+    
+    public enum Frequency {
+        DAILY,
+        WEEKLY,
+        MONTHLY
+    }
+    
+    private static final DateTimeFormatter UNTIL_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final String[] DAY_CODES = {"MO", "TU", "WE", "TH", "FR", "SA", "SU"};
+    
+    // 잘못된 규칙으로 무한히 돌지 않도록 한 번의 계산에서 확인하는 최대 주기 수
+    private static final int MAX_PERIODS = 100_000;
+    
+    private final Frequency frequency;
+    private final int interval;
+    private final Set<DayOfWeek> byDay;
+    private final Integer count;
+    private final LocalDateTime until;
+    
+    private RecurrenceRule(Frequency frequency, int interval, Set<DayOfWeek> byDay, Integer count, LocalDateTime until) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.byDay = byDay;
+        this.count = count;
+        this.until = until;
+    }
+    
+    /**
+     * RRULE 문자열 파싱 ("RRULE:" 접두어 허용)
+     * @throws IllegalArgumentException 지원하지 않거나 잘못된 규칙
+     */
+    public static RecurrenceRule parse(String rule) {
+        if (rule == null || rule.isBlank()) {
+            throw new IllegalArgumentException("Recurrence rule cannot be empty");
+        }
+        String body = rule.trim();
+        if (body.regionMatches(true, 0, "RRULE:", 0, 6)) {
+            body = body.substring(6);
+        }
+        
+        Frequency frequency = null;
+        int interval = 1;
+        Set<DayOfWeek> byDay = EnumSet.noneOf(DayOfWeek.class);
+        Integer count = null;
+        LocalDateTime until = null;
+        for (String part : body.split(";")) {
+            int separator = part.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid recurrence rule part: " + part);
+            }
+            String name = part.substring(0, separator).trim().toUpperCase(Locale.ROOT);
+            String value = part.substring(separator + 1).trim().toUpperCase(Locale.ROOT);
+            try {
+                switch (name) {
+                    case "FREQ" -> frequency = frequencyOf(value);
+                    case "INTERVAL" -> interval = Integer.parseInt(value);
+                    case "COUNT" -> count = Integer.parseInt(value);
+                    case "UNTIL" -> until = LocalDateTime.parse(value.endsWith("Z") ? value.substring(0, value.length() - 1) : value,
+                            UNTIL_FORMAT);
+                    case "BYDAY" -> {
+                        for (String day : value.split(",")) {
+                            byDay.add(dayOf(day.trim()));
+                        }
+                    }
+                    default -> throw new IllegalArgumentException("Unsupported recurrence rule part: " + name);
+                }
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid recurrence rule value: " + part, e);
+            }
+        }
+        
+        if (frequency == null) {
+            throw new IllegalArgumentException("Recurrence rule requires FREQ");
+        }
+        if (interval < 1) {
+            throw new IllegalArgumentException("INTERVAL must be positive");
+        }
+        if (count != null && count < 1) {
+            throw new IllegalArgumentException("COUNT must be positive");
+        }
+        if (count != null && until != null) {
+            throw new IllegalArgumentException("COUNT and UNTIL cannot be used together");
+        }
+        if (!byDay.isEmpty() && frequency != Frequency.WEEKLY) {
+            throw new IllegalArgumentException("BYDAY is only supported with FREQ=WEEKLY");
+        }
+        return new RecurrenceRule(frequency, interval, byDay, count, until);
+    }
+    
+    /**
+     * 시작 시각이 [from, to) 구간에 있는 발생 시각 (시간 순, 최대 limit개)
+     * @param dtstart 첫 발생 시각 (규칙과 맞지 않아도 항상 첫 발생으로 포함)
+     */
+    public List<LocalDateTime> occurrences(LocalDateTime dtstart, LocalDateTime from, LocalDateTime to, int limit) {
+        List<LocalDateTime> result = new ArrayList<>();
+        if (limit <= 0 || !from.isBefore(to)) {
+            return result;
+        }
+        
+        int emitted = 0;
+        // COUNT는 첫 발생부터 세어야 하므로 건너뛸 수 없음
+        long period = count == null ? firstPeriodNear(dtstart, from) : 0;
+        if (period == 0) {
+            emitted++;
+            if (!dtstart.isBefore(from) && dtstart.isBefore(to)) {
+                result.add(dtstart);
+            }
+        }
+        
+        for (long checked = 0; checked < MAX_PERIODS && result.size() < limit; checked++, period++) {
+            for (LocalDateTime candidate : candidates(dtstart, period)) {
+                if (!candidate.isAfter(dtstart)) {
+                    continue;
+                }
+                if (!candidate.isBefore(to) || (until != null && candidate.isAfter(until))
+                        || (count != null && emitted >= count)) {
+                    return result;
+                }
+                emitted++;
+                if (!candidate.isBefore(from)) {
+                    result.add(candidate);
+                    if (result.size() >= limit) {
+                        return result;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * 마지막 발생 시각 (COUNT/UNTIL이 없으면 null - 무기한 반복)
+     */
+    public LocalDateTime lastOccurrence(LocalDateTime dtstart) {
+        if (count == null && until == null) {
+            return null;
+        }
+        LocalDateTime upper = until != null ? until.plusNanos(1) : LocalDateTime.MAX;
+        LocalDateTime last = dtstart;
+        LocalDateTime from = dtstart;
+        while (true) {
+            List<LocalDateTime> page = occurrences(dtstart, from, upper, 1000);
+            if (page.isEmpty()) {
+                return last;
+            }
+            last = page.get(page.size() - 1);
+            if (page.size() < 1000) {
+                return last;
+            }
+            from = last.plusNanos(1);
+        }
+    }
+    
+    /**
+     * 정규화된 RRULE 문자열
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("FREQ=").append(frequency);
+        if (interval != 1) {
+            builder.append(";INTERVAL=").append(interval);
+        }
+        if (!byDay.isEmpty()) {
+            builder.append(";BYDAY=").append(byDay.stream()
+                    .map(day -> DAY_CODES[day.getValue() - 1])
+                    .collect(Collectors.joining(",")));
+        }
+        if (count != null) {
+            builder.append(";COUNT=").append(count);
+        }
+        if (until != null) {
+            builder.append(";UNTIL=").append(UNTIL_FORMAT.format(until));
+        }
+        return builder.toString();
+    }
+    
+    // 주기 번호별 후보 시각 (시간 순)
+    private List<LocalDateTime> candidates(LocalDateTime dtstart, long period) {
+        long step = period * interval;
+        return switch (frequency) {
+            case DAILY -> List.of(dtstart.plusDays(step));
+            case MONTHLY -> {
+                LocalDateTime candidate = dtstart.plusMonths(step);
+                yield candidate.getDayOfMonth() == dtstart.getDayOfMonth() ? List.of(candidate) : List.of();
+            }
+            case WEEKLY -> {
+                if (byDay.isEmpty()) {
+                    yield List.of(dtstart.plusWeeks(step));
+                }
+                LocalDateTime weekStart = dtstart.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).plusWeeks(step);
+                List<LocalDateTime> days = new ArrayList<>(byDay.size());
+                for (DayOfWeek day : byDay) {
+                    days.add(weekStart.plusDays(day.getValue() - 1L));
+                }
+                yield days;
+            }
+        };
+    }
+    
+    // from 직전 주기 번호 (첫 발생 처리를 위해 0 이상)
+    private long firstPeriodNear(LocalDateTime dtstart, LocalDateTime from) {
+        if (!from.isAfter(dtstart)) {
+            return 0;
+        }
+        long units = switch (frequency) {
+            case DAILY -> ChronoUnit.DAYS.between(dtstart, from);
+            case WEEKLY -> ChronoUnit.WEEKS.between(dtstart.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)), from);
+            case MONTHLY -> ChronoUnit.MONTHS.between(dtstart, from);
+        };
+        return Math.max(0, units / interval - 1);
+    }
+    
+    private static Frequency frequencyOf(String value) {
+        for (Frequency frequency : Frequency.values()) {
+            if (frequency.name().equals(value)) {
+                return frequency;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported FREQ: " + value);
+    }
+    
+    private static DayOfWeek dayOf(String code) {
+        for (int i = 0; i < DAY_CODES.length; i++) {
+            if (DAY_CODES[i].equals(code)) {
+                return DayOfWeek.of(i + 1);
+            }
+        }
+        throw new IllegalArgumentException("Invalid BYDAY value: " + code);
+    }
+}
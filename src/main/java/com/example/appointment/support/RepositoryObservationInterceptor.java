@@ -0,0 +1,45 @@
+package com.example.appointment.support;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * 리포지토리 메서드 호출마다 Observation(트레이싱 span + 타이머) 생성
+ * - 이름: appointment.repository, span 이름: {리포지토리}.{메서드}
+ * - 태그: repository, method (낮은 카디널리티)
+ */
+public class RepositoryObservationInterceptor implements MethodInterceptor {
+    
+    public static final String OBSERVATION_NAME = "appointment.repository";
+    
+    private final ObservationRegistry observationRegistry;
+    private final String repositoryName;
+    
+    public RepositoryObservationInterceptor(ObservationRegistry observationRegistry, String repositoryName) {
+        this.observationRegistry = observationRegistry;
+        this.repositoryName = repositoryName;
+    }
+    
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (observationRegistry.isNoop()) {
+            return invocation.proceed();
+        }
+        String methodName = invocation.getMethod().getName();
+        Observation observation = Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                .contextualName(repositoryName + "." + methodName)
+                .lowCardinalityKeyValue("repository", repositoryName)
+                .lowCardinalityKeyValue("method", methodName)
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.appointment.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 동일 키 동시 요청 병합 (single-flight)
+ * - 같은 키로 진행 중인 계산이 있으면 새로 계산하지 않고 그 결과를 함께 받음
+ * - 계산이 끝나면 키를 제거하므로 결과를 캐시하지 않음 (완료 이후 요청은 다시 계산)
+ * - 메트릭: appointment.coalesce.calls{operation, role=leader|follower}, appointment.coalesce.ratio{operation}
+ */
+public class SingleFlight<K, V> {
+    
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaderCalls;
+    private final Counter followerCalls;
+    
+    public SingleFlight(String operation, MeterRegistry meterRegistry) {
+        this.leaderCalls = Counter.builder("appointment.coalesce.calls")
+                .tag("operation", operation)
+                .tag("role", "leader")
+                .register(meterRegistry);
+        this.followerCalls = Counter.builder("appointment.coalesce.calls")
+                .tag("operation", operation)
+                .tag("role", "follower")
+                .register(meterRegistry);
+        Gauge.builder("appointment.coalesce.ratio", this, SingleFlight::coalescingRatio)
+                .tag("operation", operation)
+                .description("병합된 요청 비율 (follower / 전체)")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 키별 계산 실행 - 진행 중인 동일 키 계산이 있으면 그 결과를 기다림
+     * 계산 중 발생한 예외는 병합된 모든 호출자에게 그대로 전달됨
+     */
+    public V execute(K key, Supplier<V> computation) {
+        return execute(key, computation, UnaryOperator.identity());
+    }
+    
+    /**
+     * 키별 계산 실행 - 병합된 호출자(follower)에게는 결과의 복사본을 돌려주어 가변 결과를 공유하지 않음
+     */
+    public V execute(K key, Supplier<V> computation, UnaryOperator<V> followerCopy) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            followerCalls.increment();
+            V value = await(existing);
+            return value != null ? followerCopy.apply(value) : null;
+        }
+        
+        leaderCalls.increment();
+        try {
+            V value = computation.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+    
+    int inFlightCount() {
+        return inFlight.size();
+    }
+    
+    private double coalescingRatio() {
+        double followers = followerCalls.count();
+        double total = leaderCalls.count() + followers;
+        return total == 0 ? 0 : followers / total;
+    }
+    
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.appointment.support;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 잠금 없는 토큰 버킷 (GCRA 방식)
+ * - 남은 토큰 수 대신 "버킷이 다시 가득 차는 이론적 시각" 하나만 AtomicLong으로 유지하고 CAS로 갱신
+ * - 초당 refill 속도만큼 토큰이 채워지고 capacity까지 버스트 허용
+ */
+public class TokenBucket {
+    
+    private final long nanosPerToken;
+    private final long capacity;
+    private final long burstNanos;
+    private final LongSupplier clock;
+    private final AtomicLong theoreticalArrival;
+    
+    public TokenBucket(double tokensPerSecond, long capacity) {
+        this(tokensPerSecond, capacity, System::nanoTime);
+    }
+    
+    public TokenBucket(double tokensPerSecond, long capacity, LongSupplier clock) {
+        if (tokensPerSecond <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("tokensPerSecond and capacity must be positive");
+        }
+        this.nanosPerToken = Math.max(1, (long) (1_000_000_000L / tokensPerSecond));
+        this.capacity = capacity;
+        this.burstNanos = nanosPerToken * capacity;
+        this.clock = clock;
+        this.theoreticalArrival = new AtomicLong(clock.getAsLong());
+    }
+    
+    /**
+     * cost 만큼 토큰 사용 시도
+     * @return 0이면 허용, 양수면 다시 시도할 수 있을 때까지 남은 시간(ns)
+     */
+    public long tryAcquire(long cost) {
+        long increment = Math.min(Math.max(cost, 1), capacity) * nanosPerToken;
+        while (true) {
+            long now = clock.getAsLong();
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + increment;
+            long waitNanos = next - now - burstNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+    
+    /**
+     * 버킷이 가득 찬 상태인지 (오래 사용되지 않아 제거해도 동작이 같은 상태)
+     */
+    public boolean isFull() {
+        return theoreticalArrival.get() <= clock.getAsLong();
+    }
+}
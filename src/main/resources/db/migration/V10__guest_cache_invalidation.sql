@@ -0,0 +1,10 @@
+-- Guest 캐시 무효화 브로드캐스트 - 웹훅을 받은 인스턴스가 기록하고 모든 인스턴스가 id 순으로 따라 읽어 로컬 캐시를 무효화
+--   각 인스턴스는 기동 시점의 최대 id부터 읽으므로 행은 짧게만 보관하면 됨 (created_at 기준 정리)
+CREATE TABLE IF NOT EXISTS guest_cache_invalidation (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_ids TEXT CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci NULL COMMENT '무효화할 사용자 ID JSON 배열',
+    appointment_ids TEXT CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci NULL COMMENT '무효화할 약속 ID JSON 배열',
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_guest_invalidation_created_at (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='Guest 캐시 무효화 브로드캐스트';
@@ -0,0 +1,13 @@
+-- 참여자 인덱스 일괄 재동기화를 실행 토큰 기반 mark-and-sweep 으로 전환
+--   재동기화가 읽은 행에 실행 토큰을 기록하고, 토큰이 다른 행의 사용자만 사용자 단위로 다시 확인 (시각 비교 제거)
+ALTER TABLE appointment_participant
+    ADD COLUMN sync_token VARCHAR(36) NULL COMMENT '마지막으로 확인한 일괄 재동기화 실행 토큰 (웹훅 동기화는 NULL)' AFTER synced_at,
+    DROP INDEX idx_participant_synced_at;
+
+-- 여러 인스턴스 중 하나만 실행해야 하는 스케줄 작업의 리스 (locked_until 이 지나면 다른 인스턴스가 획득 가능)
+CREATE TABLE IF NOT EXISTS scheduler_lock (
+    lock_name VARCHAR(100) NOT NULL,
+    locked_by VARCHAR(200) NULL COMMENT '리스를 보유한 인스턴스',
+    locked_until DATETIME(6) NOT NULL COMMENT '리스 만료 시각',
+    PRIMARY KEY (lock_name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='스케줄 작업 리스';
@@ -0,0 +1,7 @@
+-- 사용자별 피드백 대기 약속 조회용 (호스트 + 상태 + 피드백 + 종료 시간) 복합 인덱스
+--   findFeedbackPendingForUser : host_id = ? AND status = 'DONE' AND feedback = 'F' 범위만 읽어 전체 대기 약속을 훑지 않음
+--   참여 약속 쪽은 appointment_participant 의 idx_participant_user_status_time 사용
+-- 온라인 DDL - INPLACE/LOCK=NONE 을 지원하지 못하는 환경이면 테이블을 잠그지 않고 실패함
+ALTER TABLE appointment
+    ADD INDEX idx_host_status_feedback_end_time (host_id, appointment_status, feedback, end_time),
+    ALGORITHM=INPLACE, LOCK=NONE;
@@ -0,0 +1,7 @@
+-- Idempotency-Key 를 클라이언트별로 구분 - 다른 클라이언트가 같은 키를 보내도 서로의 응답을 받거나 409/422 로 막히지 않음
+--   client_id : ClientIdentityResolver 식별자 (client-{이름} 또는 ip-{원격 주소})
+--   기존 행은 client_id 가 빈 값이라 어떤 요청과도 일치하지 않으며 ttl-hours 이후 정리됨
+ALTER TABLE appointment_idempotency_key
+    ADD COLUMN client_id VARCHAR(100) NOT NULL DEFAULT '' COMMENT '요청 클라이언트 식별자' FIRST,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (client_id, idempotency_key);
@@ -0,0 +1,6 @@
+-- 아웃박스 릴레이 재시도 상태 - 발행에 실패한 이벤트가 배치 앞자리를 계속 차지하지 않도록 다음 시도 시각까지 제외
+--   attempts        : 발행 실패 횟수 (appointment.outbox.max-attempts 에 도달하면 발행 포기, 보관 기간 후 정리)
+--   next_attempt_at : 다음 발행 시도 시각 (NULL 이면 즉시)
+ALTER TABLE appointment_outbox
+    ADD COLUMN attempts INT NOT NULL DEFAULT 0 COMMENT '발행 실패 횟수' AFTER published_at,
+    ADD COLUMN next_attempt_at DATETIME(6) NULL COMMENT '다음 발행 시도 시각' AFTER attempts;
@@ -0,0 +1,15 @@
+-- 약속 ID 시퀀스 - 최대 ID + 1 방식은 가장 큰 ID의 약속이 삭제되면 같은 ID를 다시 발급하고 동시 생성 시 PK가 충돌함
+--   current_value 를 LAST_INSERT_ID(current_value + 1) 로 증가시켜 발급하므로 발급한 값은 다시 나오지 않음
+CREATE TABLE IF NOT EXISTS id_sequence (
+    sequence_name VARCHAR(50) NOT NULL,
+    current_value BIGINT NOT NULL COMMENT '마지막으로 발급한 번호',
+    PRIMARY KEY (sequence_name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='ID 발급 시퀀스';
+
+-- 기존 약속/보관 약속 ID(appo001 형태)의 최댓값부터 이어서 발급
+INSERT INTO id_sequence (sequence_name, current_value)
+SELECT 'appointment', GREATEST(
+    COALESCE((SELECT MAX(CAST(SUBSTRING(appointment_id, 5) AS UNSIGNED)) FROM appointment
+              WHERE appointment_id LIKE 'appo%'), 0),
+    COALESCE((SELECT MAX(CAST(SUBSTRING(appointment_id, 5) AS UNSIGNED)) FROM appointment_archive
+              WHERE appointment_id LIKE 'appo%'), 0));
@@ -0,0 +1,57 @@
+-- 기준 스키마 (ddl-auto=update 로 생성되던 기존 스키마와 동일)
+-- 기존 DB는 baseline-on-migrate 로 이 버전이 적용된 것으로 기록되고, 신규 DB에서만 실행됨
+
+CREATE TABLE IF NOT EXISTS appointment (
+    appointment_id VARCHAR(100) NOT NULL COMMENT '약속 고유 ID',
+    host_id VARCHAR(100) NOT NULL COMMENT '호스트 ID (FK to user_service.user_id)',
+    title VARCHAR(200) NOT NULL COMMENT '약속 제목',
+    description TEXT CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci COMMENT '약속 설명',
+    start_time DATETIME(6) NOT NULL COMMENT '약속 시작 시간',
+    end_time DATETIME(6) NOT NULL COMMENT '약속 종료 시간',
+    location_id VARCHAR(100) NOT NULL COMMENT '장소 ID (FK to location_service.location_id)',
+    appointment_status VARCHAR(20) NOT NULL DEFAULT 'PLANNED' COMMENT '약속 상태: PLANNED, ONGOING, DONE, CANCELLED',
+    feedback CHAR(1) NOT NULL DEFAULT 'F' COMMENT '피드백 완료 여부: T, F',
+    version BIGINT NOT NULL DEFAULT 0 COMMENT '낙관적 잠금 / ETag 버전',
+    updated_at DATETIME(6) NULL COMMENT '마지막 수정 시각',
+    PRIMARY KEY (appointment_id),
+    INDEX idx_host_id (host_id),
+    INDEX idx_location_id (location_id),
+    INDEX idx_start_time (start_time),
+    INDEX idx_end_time (end_time),
+    INDEX idx_appointment_status (appointment_status),
+    INDEX idx_feedback (feedback),
+    INDEX idx_host_time (host_id, start_time, end_time),
+    INDEX idx_location_time (location_id, start_time, end_time)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='약속 관리 테이블';
+
+CREATE TABLE IF NOT EXISTS appointment_outbox (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    appointment_id VARCHAR(100) NOT NULL,
+    event_type VARCHAR(30) NOT NULL,
+    payload TEXT CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci NOT NULL COMMENT 'AppointmentChangedEvent JSON',
+    created_at DATETIME(6) NOT NULL,
+    published_at DATETIME(6) NULL,
+    PRIMARY KEY (id),
+    INDEX idx_outbox_published (published_at, id),
+    INDEX idx_outbox_appointment_id (appointment_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='약속 변경 아웃박스';
+
+-- 월 단위 RANGE 파티션은 AppointmentArchivePartitionManager가 기동 시 적용 (파티션 키가 PK에 포함되어야 하므로 start_time 복합 PK)
+CREATE TABLE IF NOT EXISTS appointment_archive (
+    appointment_id VARCHAR(100) NOT NULL,
+    start_time DATETIME(6) NOT NULL,
+    host_id VARCHAR(100) NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    description TEXT CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci,
+    end_time DATETIME(6) NOT NULL,
+    location_id VARCHAR(100) NOT NULL,
+    appointment_status VARCHAR(20) NOT NULL,
+    feedback CHAR(1) NOT NULL DEFAULT 'F',
+    version BIGINT NOT NULL,
+    updated_at DATETIME(6) NULL,
+    archived_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (appointment_id, start_time),
+    INDEX idx_archive_appointment_id (appointment_id),
+    INDEX idx_archive_host_time (host_id, start_time),
+    INDEX idx_archive_location_time (location_id, start_time)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='보관 약속 이력';
@@ -0,0 +1,8 @@
+-- 스케줄러 상태 전이 / 보관 대상 조회용 (상태 + 시간) 복합 인덱스
+--   findAppointmentsToStartNow      : status = 'PLANNED' AND start_time <= ?
+--   findAppointmentsToEndNow 등     : status IN (...) AND end_time <= ?
+-- 온라인 DDL - INPLACE/LOCK=NONE 을 지원하지 못하는 환경이면 테이블을 잠그지 않고 실패함
+ALTER TABLE appointment
+    ADD INDEX idx_status_start_time (appointment_status, start_time),
+    ADD INDEX idx_status_end_time (appointment_status, end_time),
+    ALGORITHM=INPLACE, LOCK=NONE;
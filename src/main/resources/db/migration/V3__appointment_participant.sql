@@ -0,0 +1,14 @@
+-- 사용자별 참여 약속 조회용 로컬 비정규화 인덱스 (Guest 서비스 참여 정보 사본)
+--   getParticipatingAppointments : user_id = ? AND status = 'coming' AND start_time 범위 ORDER BY start_time
+-- start_time 은 약속 생성 후 바뀌지 않으므로 동기화 시점에 복사해 둠
+CREATE TABLE IF NOT EXISTS appointment_participant (
+    appointment_id VARCHAR(100) NOT NULL,
+    user_id VARCHAR(100) NOT NULL,
+    guest_id VARCHAR(100) NULL COMMENT 'Guest 서비스의 guest_id',
+    status VARCHAR(20) NOT NULL COMMENT 'Guest 참여 상태 (coming 등)',
+    start_time DATETIME(6) NOT NULL COMMENT '약속 시작 시간 (appointment.start_time 사본)',
+    synced_at DATETIME(6) NOT NULL COMMENT '마지막 동기화 시각 (일괄 재동기화 시 미확인 행 정리 기준)',
+    PRIMARY KEY (appointment_id, user_id),
+    INDEX idx_participant_user_status_time (user_id, status, start_time),
+    INDEX idx_participant_synced_at (synced_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='약속 참여자 로컬 인덱스';
@@ -0,0 +1,28 @@
+-- 반복 약속 시리즈 - 발생(occurrence)은 조회 시 규칙으로 계산하고, 행은 시리즈 1개만 저장
+--   last_end_time : 마지막 발생 종료 시각 (COUNT/UNTIL 이 없으면 NULL = 무기한)
+CREATE TABLE IF NOT EXISTS appointment_series (
+    series_id VARCHAR(100) NOT NULL COMMENT '시리즈 고유 ID',
+    host_id VARCHAR(100) NOT NULL COMMENT '호스트 ID',
+    title VARCHAR(200) NOT NULL,
+    description TEXT CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci,
+    location_id VARCHAR(100) NOT NULL,
+    start_time DATETIME(6) NOT NULL COMMENT '첫 발생 시작 시간 (DTSTART)',
+    end_time DATETIME(6) NOT NULL COMMENT '첫 발생 종료 시간 (발생 길이 기준)',
+    recurrence_rule VARCHAR(255) NOT NULL COMMENT 'RRULE (FREQ/INTERVAL/BYDAY/COUNT/UNTIL)',
+    last_end_time DATETIME(6) NULL COMMENT '마지막 발생 종료 시간 (NULL 이면 무기한)',
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (series_id),
+    INDEX idx_series_host_time (host_id, start_time),
+    INDEX idx_series_last_end_time (last_end_time)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='반복 약속 시리즈';
+
+-- 규칙과 다른 발생만 저장 (취소된 발생, 약속 행으로 생성된 발생)
+CREATE TABLE IF NOT EXISTS appointment_series_override (
+    series_id VARCHAR(100) NOT NULL,
+    original_start_time DATETIME(6) NOT NULL COMMENT '규칙상 발생 시작 시간',
+    override_type VARCHAR(20) NOT NULL COMMENT 'CANCELLED, MATERIALIZED',
+    appointment_id VARCHAR(100) NULL COMMENT 'MATERIALIZED 인 경우 생성된 약속 ID',
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (series_id, original_start_time),
+    INDEX idx_series_override_appointment_id (appointment_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='반복 약속 발생 예외';
@@ -0,0 +1,6 @@
+-- 약속 제목/설명 전문 검색용 FULLTEXT 인덱스 (ngram 파서 - 공백으로 구분되지 않는 한글 검색, ngram_token_size 기본값 2)
+--   searchFullText : MATCH(title, description) AGAINST (? IN BOOLEAN MODE)
+-- 첫 FULLTEXT 인덱스 추가는 테이블 재구성(FTS_DOC_ID 추가)이 필요하여 INPLACE 라도 동시 쓰기를 막음 (LOCK=SHARED)
+ALTER TABLE appointment
+    ADD FULLTEXT INDEX ft_appointment_title_description (title, description) WITH PARSER ngram,
+    ALGORITHM=INPLACE, LOCK=SHARED;
@@ -0,0 +1,7 @@
+-- 피드백 대기 큐 조회용 (상태 + 피드백 + 종료 시간) 복합 인덱스
+--   findFeedbackPendingForUser : status = 'DONE' AND feedback = 'F' ORDER BY end_time
+--   idx_feedback 단독으로는 DONE 조건과 종료 시간 정렬을 처리하지 못해 정렬/필터 비용이 큼
+-- 온라인 DDL - INPLACE/LOCK=NONE 을 지원하지 못하는 환경이면 테이블을 잠그지 않고 실패함
+ALTER TABLE appointment
+    ADD INDEX idx_status_feedback_end_time (appointment_status, feedback, end_time),
+    ALGORITHM=INPLACE, LOCK=NONE;
@@ -0,0 +1,14 @@
+-- 약속 생성/상태 변경 Idempotency-Key - 재시도 요청에 처음 성공 응답을 그대로 반환
+--   처리 시작 시 키 행을 INSERT 로 선점하고 (completed_at NULL = 처리 중), 성공하면 응답을 기록함
+--   expires_at 이 지난 행은 주기적으로 삭제
+CREATE TABLE IF NOT EXISTS appointment_idempotency_key (
+    idempotency_key VARCHAR(100) NOT NULL COMMENT '클라이언트가 보낸 Idempotency-Key',
+    request_hash CHAR(64) NOT NULL COMMENT '작업 + 요청 본문 SHA-256 (hex)',
+    response_status INT NULL,
+    response_body TEXT CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci NULL COMMENT '응답 본문 JSON',
+    created_at DATETIME(6) NOT NULL,
+    completed_at DATETIME(6) NULL,
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (idempotency_key),
+    INDEX idx_idempotency_expires_at (expires_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='약속 요청 Idempotency-Key';
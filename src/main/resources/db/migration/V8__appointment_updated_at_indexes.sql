@@ -0,0 +1,10 @@
+-- 목록 ETag 계산용 (범위별 COUNT + MAX(updated_at)) 인덱스
+--   findAggregateVersion            : MAX(updated_at) 를 인덱스 끝에서 바로 읽음
+--   findAggregateVersionByHostId     : host_id = ? 범위만 커버링 인덱스로 집계
+--   findAggregateVersionByLocationId : location_id = ? 범위만 커버링 인덱스로 집계
+-- 온라인 DDL - INPLACE/LOCK=NONE 을 지원하지 못하는 환경이면 테이블을 잠그지 않고 실패함
+ALTER TABLE appointment
+    ADD INDEX idx_updated_at (updated_at),
+    ADD INDEX idx_host_updated_at (host_id, updated_at),
+    ADD INDEX idx_location_updated_at (location_id, updated_at),
+    ALGORITHM=INPLACE, LOCK=NONE;
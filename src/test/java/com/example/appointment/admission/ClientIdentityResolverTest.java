@@ -0,0 +1,69 @@
+package com.example.appointment.admission;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientIdentityResolverTest {
+
+	private final ClientIdentityResolver resolver = new ClientIdentityResolver(
+			List.of("web:web-secret", "batch: batch-secret ", "malformed"));
+
+	@Test
+	void registeredApiKeyResolvesToClientName() {
+		assertThat(resolver.resolve(request("10.0.0.1", "web-secret", null))).isEqualTo("client-web");
+		assertThat(resolver.resolve(request("10.0.0.2", "batch-secret", null))).isEqualTo("client-batch");
+	}
+
+	@Test
+	void unknownApiKeyAndClientIdHeaderFallBackToRemoteAddress() {
+		String first = resolver.resolve(request("10.0.0.1", "random-1", "spoofed-1"));
+		String second = resolver.resolve(request("10.0.0.1", "random-2", "spoofed-2"));
+
+		assertThat(first).isEqualTo("ip-10.0.0.1").isEqualTo(second);
+		assertThat(ClientIdentityResolver.isAnonymous(first)).isTrue();
+	}
+
+	@Test
+	void requestWithoutHeadersUsesRemoteAddress() {
+		assertThat(resolver.resolve(request("192.168.1.7", null, null))).isEqualTo("ip-192.168.1.7");
+	}
+
+	@Test
+	void idempotencyScopeUsesInstallationIdInsteadOfRemoteAddress() {
+		MockHttpServletRequest first = request("10.0.0.1", null, null);
+		first.addHeader(ClientIdentityResolver.INSTALLATION_ID_HEADER, "3f2b8c1e-7a4d-4e0b-9c55-1d2e3f4a5b6c");
+		// 같은 설치가 다른 주소에서 재시도
+		MockHttpServletRequest retry = request("172.16.0.9", null, null);
+		retry.addHeader(ClientIdentityResolver.INSTALLATION_ID_HEADER, "3f2b8c1e-7a4d-4e0b-9c55-1d2e3f4a5b6c");
+
+		assertThat(resolver.resolveIdempotencyScope(first))
+				.isEqualTo("install-3f2b8c1e-7a4d-4e0b-9c55-1d2e3f4a5b6c")
+				.isEqualTo(resolver.resolveIdempotencyScope(retry));
+		assertThat(resolver.resolveIdempotencyScope(request("10.0.0.1", "web-secret", null))).isEqualTo("client-web");
+	}
+
+	@Test
+	void idempotencyScopeIsAbsentWithoutRegisteredKeyOrValidInstallationId() {
+		MockHttpServletRequest tooShort = request("10.0.0.1", null, null);
+		tooShort.addHeader(ClientIdentityResolver.INSTALLATION_ID_HEADER, "abc");
+
+		assertThat(resolver.resolveIdempotencyScope(request("10.0.0.1", "random-1", null))).isNull();
+		assertThat(resolver.resolveIdempotencyScope(tooShort)).isNull();
+	}
+
+	private static MockHttpServletRequest request(String remoteAddr, String apiKey, String clientId) {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setRemoteAddr(remoteAddr);
+		if (apiKey != null) {
+			request.addHeader("X-API-Key", apiKey);
+		}
+		if (clientId != null) {
+			request.addHeader("X-Client-Id", clientId);
+		}
+		return request;
+	}
+}
@@ -0,0 +1,61 @@
+package com.example.appointment.config;
+
+import com.example.appointment.dto.AppointmentResponseDto;
+import com.example.appointment.entity.Appointment;
+import com.example.appointment.json.AppointmentJsonModule;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BinaryFormatConfigTest {
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void binaryConvertersAreAppendedAfterJsonAndRoundTripDto() throws Exception {
+		ObjectProvider<Jackson2ObjectMapperBuilder> provider = mock(ObjectProvider.class);
+		when(provider.getIfAvailable(any())).thenAnswer(invocation -> Jackson2ObjectMapperBuilder.json()
+				.modules(new JavaTimeModule(), new AppointmentJsonModule())
+				.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+		List<HttpMessageConverter<?>> converters = new ArrayList<>(List.of(
+				new StringHttpMessageConverter(),
+				new MappingJackson2HttpMessageConverter(),
+				new MappingJackson2CborHttpMessageConverter()));
+
+		new BinaryFormatConfig(provider).extendMessageConverters(converters);
+
+		// 와일드카드 Accept 요청이 JSON으로 응답되도록 바이너리 형식은 JSON 뒤에 위치
+		assertThat(converters).hasSize(4);
+		assertThat(converters.get(1)).isInstanceOf(MappingJackson2HttpMessageConverter.class);
+		assertThat(converters.get(2)).isInstanceOf(MappingJackson2CborHttpMessageConverter.class);
+		assertThat(converters.get(3)).isInstanceOf(MappingJackson2SmileHttpMessageConverter.class);
+
+		MappingJackson2CborHttpMessageConverter cbor = (MappingJackson2CborHttpMessageConverter) converters.get(2);
+		AppointmentResponseDto dto = new AppointmentResponseDto("appo001", "user1", "kim", "철수", "회의", null,
+				LocalDateTime.of(2025, 1, 1, 10, 0), LocalDateTime.of(2025, 1, 1, 11, 0),
+				"loc1", Appointment.AppointmentStatus.PLANNED, "F");
+		MockHttpOutputMessage output = new MockHttpOutputMessage();
+		cbor.write(dto, MediaType.APPLICATION_CBOR, output);
+
+		Object decoded = cbor.read(AppointmentResponseDto.class, new MockHttpInputMessage(output.getBodyAsBytes()));
+		assertThat(decoded).isEqualTo(dto);
+	}
+}
@@ -0,0 +1,120 @@
+package com.example.appointment.event;
+
+import com.example.appointment.entity.AppointmentOutboxEvent;
+import com.example.appointment.repository.AppointmentOutboxRepository;
+import com.example.appointment.scheduler.SchedulerLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTest {
+
+	private AppointmentOutboxRepository outboxRepository;
+	private SchedulerLock schedulerLock;
+	private InMemoryOutboxEventPublisher inMemoryPublisher;
+
+	@BeforeEach
+	void setUp() {
+		outboxRepository = mock(AppointmentOutboxRepository.class);
+		schedulerLock = mock(SchedulerLock.class);
+		when(schedulerLock.tryAcquire(eq(OutboxRelay.RELAY_LOCK), any())).thenReturn(true);
+		inMemoryPublisher = new InMemoryOutboxEventPublisher();
+	}
+
+	@Test
+	void publishesInOrderAndMarksPublished() {
+		when(outboxRepository.findRelayable(any(), eq(3), any()))
+				.thenReturn(List.of(event(1L, "appo001", 0), event(2L, "appo002", 0), event(3L, "appo001", 0)));
+
+		OutboxRelay relay = relay(List.of(inMemoryPublisher));
+		int published = relay.relayBatch();
+
+		assertThat(published).isEqualTo(3);
+		assertThat(ids(inMemoryPublisher.getPublished())).containsExactly(1L, 2L, 3L);
+		verify(outboxRepository).markPublished(eq(List.of(1L, 2L, 3L)), any(LocalDateTime.class));
+	}
+
+	@Test
+	void failedEventBlocksLaterEventsOfSameAppointmentOnly() {
+		when(outboxRepository.findRelayable(any(), eq(3), any()))
+				.thenReturn(List.of(event(1L, "appo001", 0), event(2L, "appo002", 0), event(3L, "appo001", 0)));
+		OutboxEventPublisher failingOnFirst = event -> {
+			if (event.getId() == 1L) {
+				throw new IllegalStateException("broker unavailable");
+			}
+		};
+
+		OutboxRelay relay = relay(List.of(failingOnFirst, inMemoryPublisher));
+		int published = relay.relayBatch();
+
+		assertThat(published).isEqualTo(1);
+		assertThat(ids(inMemoryPublisher.getPublished())).containsExactly(2L);
+		verify(outboxRepository).markPublished(eq(List.of(2L)), any(LocalDateTime.class));
+	}
+
+	@Test
+	void failedEventIsRescheduledWithGrowingBackoff() {
+		when(outboxRepository.findRelayable(any(), eq(3), any())).thenReturn(List.of(event(1L, "appo001", 1)));
+		OutboxEventPublisher failing = event -> {
+			throw new IllegalStateException("broker unavailable");
+		};
+
+		LocalDateTime before = LocalDateTime.now();
+		relay(List.of(failing)).relayBatch();
+
+		// 두 번째 실패 - 1초의 두 배만큼 다음 시도를 미룸 (그동안 배치 조회에서 제외)
+		ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+		verify(outboxRepository).markFailed(eq(1L), nextAttemptAt.capture());
+		assertThat(Duration.between(before, nextAttemptAt.getValue())).isBetween(
+				Duration.ofMillis(2000), Duration.ofMillis(3000));
+		verify(outboxRepository, never()).markPublished(any(), any());
+	}
+
+	@Test
+	void relayRunsOnlyWhileHoldingTheLease() {
+		when(outboxRepository.findRelayable(any(), anyInt(), any())).thenReturn(List.of(event(1L, "appo001", 0)));
+
+		relay(List.of(inMemoryPublisher)).relay();
+
+		assertThat(ids(inMemoryPublisher.getPublished())).containsExactly(1L);
+		verify(schedulerLock).release(OutboxRelay.RELAY_LOCK);
+	}
+
+	@Test
+	void relaySkipsWhenAnotherInstanceHoldsTheLease() {
+		when(schedulerLock.tryAcquire(eq(OutboxRelay.RELAY_LOCK), any())).thenReturn(false);
+
+		relay(List.of(inMemoryPublisher)).relay();
+
+		verifyNoInteractions(outboxRepository);
+		verify(schedulerLock, never()).release(any());
+	}
+
+	private OutboxRelay relay(List<OutboxEventPublisher> publishers) {
+		return new OutboxRelay(outboxRepository, publishers, schedulerLock, 100, 7, 1000L, 300000L, 3, 60L);
+	}
+
+	private static List<Long> ids(List<AppointmentOutboxEvent> events) {
+		return events.stream().map(AppointmentOutboxEvent::getId).collect(Collectors.toList());
+	}
+
+	private static AppointmentOutboxEvent event(Long id, String appointmentId, int attempts) {
+		return new AppointmentOutboxEvent(id, appointmentId, "STATUS_CHANGED", "{}", LocalDateTime.now(), null,
+				attempts, null);
+	}
+}
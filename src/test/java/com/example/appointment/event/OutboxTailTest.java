@@ -0,0 +1,84 @@
+package com.example.appointment.event;
+
+import com.example.appointment.entity.AppointmentOutboxEvent;
+import com.example.appointment.repository.AppointmentOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class OutboxTailTest {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+	private AppointmentOutboxRepository outboxRepository;
+	private OutboxTail tail;
+	private List<Long> delivered;
+
+	@BeforeEach
+	void setUp() {
+		outboxRepository = mock(AppointmentOutboxRepository.class);
+		tail = new OutboxTail(outboxRepository, 100, Duration.ofSeconds(5));
+		delivered = new ArrayList<>();
+	}
+
+	@Test
+	void startsFromLastPublishedEventOnFirstPollWithoutReplayingIt() {
+		verifyNoInteractions(outboxRepository);
+		when(outboxRepository.findMaxPublishedAt()).thenReturn(BASE);
+		when(outboxRepository.findPublishedAfter(any(), anyLong(), any()))
+				.thenReturn(List.of(published(7L, BASE)))
+				.thenReturn(List.of(published(7L, BASE), published(8L, BASE.plusSeconds(1))));
+
+		tail.poll(event -> delivered.add(event.getId()));
+
+		assertThat(delivered).containsExactly(8L);
+		verify(outboxRepository).findMaxPublishedAt();
+	}
+
+	@Test
+	void deliversEventPublishedLateWithLowerIdInsideLookback() {
+		when(outboxRepository.findMaxPublishedAt()).thenReturn(null);
+		when(outboxRepository.findPublishedAfter(any(), anyLong(), any()))
+				.thenReturn(List.of())
+				.thenReturn(List.of(published(11L, BASE)))
+				// 재시도 끝에 id 10이 더 늦게 발행됨 - id 커서였다면 건너뛰었을 이벤트
+				.thenReturn(List.of(published(11L, BASE), published(10L, BASE.plusSeconds(2))));
+
+		tail.poll(event -> delivered.add(event.getId()));
+		tail.poll(event -> delivered.add(event.getId()));
+
+		assertThat(delivered).containsExactly(11L, 10L);
+	}
+
+	@Test
+	void rescansFromLookbackBeforeHighestPublishedAt() {
+		when(outboxRepository.findMaxPublishedAt()).thenReturn(BASE);
+		when(outboxRepository.findPublishedAfter(any(), anyLong(), any()))
+				.thenReturn(List.of())
+				.thenReturn(List.of(published(1L, BASE.plusSeconds(30))))
+				.thenReturn(List.of());
+
+		tail.poll(event -> delivered.add(event.getId()));
+		tail.poll(event -> delivered.add(event.getId()));
+
+		verify(outboxRepository).findPublishedAfter(eq(BASE.plusSeconds(25)), eq(0L), any());
+	}
+
+	private static AppointmentOutboxEvent published(long id, LocalDateTime publishedAt) {
+		return new AppointmentOutboxEvent(id, "appo001", "STATUS_CHANGED", "{}", publishedAt.minusSeconds(1),
+				publishedAt, 0, null);
+	}
+}
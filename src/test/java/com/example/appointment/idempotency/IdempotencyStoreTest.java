@@ -0,0 +1,184 @@
+package com.example.appointment.idempotency;
+
+import com.example.appointment.dto.AppointmentRequestDto;
+import com.example.appointment.dto.AppointmentResponseDto;
+import com.example.appointment.dto.ErrorResponse;
+import com.example.appointment.entity.Appointment;
+import com.example.appointment.entity.AppointmentIdempotencyKey;
+import com.example.appointment.entity.AppointmentIdempotencyKeyId;
+import com.example.appointment.repository.AppointmentIdempotencyKeyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Idempotency-Key 저장소 테스트 (재시도 응답 재사용, 다른 요청 거부, 클라이언트별 키 구분, 실패 시 키 해제, 다른 인스턴스 기록 재사용)
+ */
+class IdempotencyStoreTest {
+
+	private static final String OPERATION = "POST /appointments";
+	private static final String CLIENT = "client-web";
+	private static final LocalDateTime BASE = LocalDateTime.of(2025, 12, 1, 9, 0);
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+	private final AtomicInteger executions = new AtomicInteger();
+	private AppointmentIdempotencyKeyRepository repository;
+	private IdempotencyStore store;
+
+	@BeforeEach
+	void setUp() {
+		repository = mock(AppointmentIdempotencyKeyRepository.class);
+		store = new IdempotencyStore(repository, objectMapper, 24L, 60000L, 100L);
+		store.init();
+	}
+
+	@Test
+	void requestWithoutKeyRunsActionDirectly() {
+		ResponseEntity<?> response = execute(null, request("회의"), created("appo001"));
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(executions).hasValue(1);
+		verifyNoInteractions(repository);
+	}
+
+	@Test
+	void retryReturnsRecordedResponseWithoutRunningAgain() {
+		ResponseEntity<?> first = execute("key-1", request("회의"), created("appo001"));
+		ResponseEntity<?> retry = execute("key-1", request("회의"), created("appo002"));
+
+		assertThat(executions).hasValue(1);
+		assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(retry.getBody()).isSameAs(first.getBody());
+		assertThat(retry.getHeaders().getFirst(IdempotencyStore.REPLAYED_HEADER)).isEqualTo("true");
+		verify(repository, times(1)).reserve(eq(CLIENT), eq("key-1"), anyString(), any(), any());
+		verify(repository).complete(eq(CLIENT), eq("key-1"), eq(201), anyString(), any());
+	}
+
+	@Test
+	void sameKeyWithDifferentRequestIsRejected() {
+		execute("key-1", request("회의"), created("appo001"));
+
+		ResponseEntity<?> response = execute("key-1", request("점심"), created("appo002"));
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+		assertThat(executions).hasValue(1);
+	}
+
+	@Test
+	void sameKeyFromDifferentClientsIsIndependent() {
+		execute("client-web", "key-1", request("회의"), created("appo001"));
+
+		// 다른 클라이언트가 같은 키로 다른 요청을 보내도 422가 아니라 새로 실행됨
+		ResponseEntity<?> other = execute("install-3f2b8c1e7a4d4e0b", "key-1", request("점심"), created("appo002"));
+
+		assertThat(other.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(((AppointmentResponseDto) other.getBody()).getAppointmentId()).isEqualTo("appo002");
+		assertThat(executions).hasValue(2);
+		verify(repository).reserve(eq("client-web"), eq("key-1"), anyString(), any(), any());
+		verify(repository).reserve(eq("install-3f2b8c1e7a4d4e0b"), eq("key-1"), anyString(), any(), any());
+	}
+
+	@Test
+	void keyWithoutClientScopeIsRejected() {
+		ResponseEntity<?> response = execute(null, "key-1", request("회의"), created("appo001"));
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+		assertThat(executions).hasValue(0);
+		verifyNoInteractions(repository);
+	}
+
+	@Test
+	void failedResponseReleasesKeySoRetryRunsAgain() {
+		execute("key-1", request("회의"), ResponseEntity.badRequest().body(new ErrorResponse("InvalidRequest", "bad")));
+		ResponseEntity<?> retry = execute("key-1", request("회의"), created("appo001"));
+
+		assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(executions).hasValue(2);
+		verify(repository, times(1)).release(CLIENT, "key-1");
+		verify(repository, times(1)).complete(eq(CLIENT), eq("key-1"), anyInt(), anyString(), any());
+	}
+
+	@Test
+	void keyCompletedOnAnotherInstanceReplaysStoredResponse() throws Exception {
+		AppointmentRequestDto request = request("회의");
+		AppointmentIdempotencyKey row = new AppointmentIdempotencyKey(CLIENT, "key-1",
+				store.requestHash(OPERATION, request), 201, objectMapper.writeValueAsString(response("appo001")),
+				BASE, BASE, BASE.plusDays(1));
+		when(repository.reserve(eq(CLIENT), eq("key-1"), anyString(), any(), any()))
+				.thenThrow(new DataIntegrityViolationException("duplicate key"));
+		when(repository.findById(new AppointmentIdempotencyKeyId(CLIENT, "key-1"))).thenReturn(Optional.of(row));
+
+		ResponseEntity<?> response = execute("key-1", request, created("appo002"));
+
+		assertThat(executions).hasValue(0);
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(((AppointmentResponseDto) response.getBody()).getAppointmentId()).isEqualTo("appo001");
+	}
+
+	@Test
+	void keyInProgressElsewhereReturnsConflict() {
+		AppointmentRequestDto request = request("회의");
+		AppointmentIdempotencyKey row = new AppointmentIdempotencyKey(CLIENT, "key-1",
+				store.requestHash(OPERATION, request), null, null, BASE, null, BASE.plusDays(1));
+		when(repository.reserve(eq(CLIENT), eq("key-1"), anyString(), any(), any()))
+				.thenThrow(new DataIntegrityViolationException("duplicate key"));
+		when(repository.findById(new AppointmentIdempotencyKeyId(CLIENT, "key-1"))).thenReturn(Optional.of(row));
+
+		ResponseEntity<?> response = execute("key-1", request, created("appo001"));
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+		assertThat(executions).hasValue(0);
+		verify(repository, never()).release(anyString(), anyString());
+	}
+
+	private ResponseEntity<?> execute(String key, AppointmentRequestDto request, ResponseEntity<?> result) {
+		return execute(CLIENT, key, request, result);
+	}
+
+	private ResponseEntity<?> execute(String client, String key, AppointmentRequestDto request, ResponseEntity<?> result) {
+		Supplier<ResponseEntity<?>> action = () -> {
+			executions.incrementAndGet();
+			return result;
+		};
+		return store.execute(client, key, OPERATION, request, AppointmentResponseDto.class, action);
+	}
+
+	private static ResponseEntity<?> created(String appointmentId) {
+		return ResponseEntity.status(HttpStatus.CREATED).body(response(appointmentId));
+	}
+
+	private static AppointmentResponseDto response(String appointmentId) {
+		return new AppointmentResponseDto(appointmentId, "user1", "user1", "user1", "회의", null,
+				BASE, BASE.plusHours(1), "room1", Appointment.AppointmentStatus.PLANNED, "F");
+	}
+
+	private static AppointmentRequestDto request(String title) {
+		AppointmentRequestDto request = new AppointmentRequestDto();
+		request.setHostId("user1");
+		request.setTitle(title);
+		request.setLocationId("room1");
+		request.setStartTime(BASE);
+		request.setEndTime(BASE.plusHours(1));
+		return request;
+	}
+}
@@ -0,0 +1,144 @@
+package com.example.appointment.index;
+
+import com.example.appointment.dto.AppointmentStatisticsDto;
+import com.example.appointment.entity.Appointment;
+import com.example.appointment.event.AppointmentChangedEvent;
+import com.example.appointment.repository.AppointmentArchiveRepository;
+import com.example.appointment.repository.AppointmentRepository;
+import com.example.appointment.repository.KeyCountView;
+import com.example.appointment.repository.StatusCountView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.appointment.support.TestAppointments.appointment;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AppointmentStatisticsTest {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2025, 12, 1, 9, 0);
+
+	private AppointmentRepository appointmentRepository;
+	private AppointmentArchiveRepository archiveRepository;
+	private AppointmentStatistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		appointmentRepository = mock(AppointmentRepository.class);
+		archiveRepository = mock(AppointmentArchiveRepository.class);
+		statistics = new AppointmentStatistics(appointmentRepository, archiveRepository,
+				mock(PlatformTransactionManager.class));
+	}
+
+	@Test
+	void reconcileSumsHotAndArchiveGroupCounts() {
+		// 프로젝션 mock은 stubbing 밖에서 미리 생성
+		List<StatusCountView> hotStatuses = List.of(statusCount(Appointment.AppointmentStatus.PLANNED, 3));
+		List<StatusCountView> archivedStatuses = List.of(statusCount(Appointment.AppointmentStatus.DONE, 5));
+		List<KeyCountView> hotHosts = List.of(keyCount("user1", 3));
+		List<KeyCountView> archivedHosts = List.of(keyCount("user1", 4), keyCount("user2", 1));
+		when(appointmentRepository.countByStatus()).thenReturn(hotStatuses);
+		when(archiveRepository.countByStatus()).thenReturn(archivedStatuses);
+		when(appointmentRepository.countByHost()).thenReturn(hotHosts);
+		when(archiveRepository.countByHost()).thenReturn(archivedHosts);
+
+		statistics.reconcile();
+		AppointmentStatisticsDto snapshot = statistics.snapshot(null, null);
+
+		assertThat(snapshot.getTotal()).isEqualTo(8);
+		assertThat(snapshot.getByStatus())
+				.containsEntry(Appointment.AppointmentStatus.PLANNED, 3L)
+				.containsEntry(Appointment.AppointmentStatus.DONE, 5L)
+				.containsEntry(Appointment.AppointmentStatus.CANCELLED, 0L);
+		assertThat(snapshot.getByHost()).isEqualTo(Map.of("user1", 7L, "user2", 1L));
+		assertThat(snapshot.getReconciledAt()).isNotNull();
+	}
+
+	@Test
+	void eventsAdjustCountersIncrementally() {
+		statistics.reconcile();
+		Appointment first = appointment("appo001").host("user1").location("room1").start(BASE).build();
+		Appointment second = appointment("appo002").host("user1").location("room2").start(BASE.plusDays(1)).build();
+
+		statistics.onAppointmentChanged(AppointmentChangedEvent.created(first));
+		statistics.onAppointmentChanged(AppointmentChangedEvent.created(second));
+		first.setAppointmentStatus(Appointment.AppointmentStatus.CANCELLED);
+		statistics.onAppointmentChanged(AppointmentChangedEvent.statusChanged(first, Appointment.AppointmentStatus.PLANNED));
+		statistics.onAppointmentChanged(AppointmentChangedEvent.deleted(second));
+
+		AppointmentStatisticsDto snapshot = statistics.snapshot(null, null);
+		assertThat(snapshot.getTotal()).isEqualTo(1);
+		assertThat(snapshot.getByStatus())
+				.containsEntry(Appointment.AppointmentStatus.PLANNED, 0L)
+				.containsEntry(Appointment.AppointmentStatus.CANCELLED, 1L);
+		assertThat(snapshot.getByLocation()).isEqualTo(Map.of("room1", 1L));
+		assertThat(snapshot.getByHost()).isEqualTo(Map.of("user1", 1L));
+		assertThat(snapshot.getByDay()).isEqualTo(Map.of(BASE.toLocalDate(), 1L));
+	}
+
+	@Test
+	void snapshotFiltersDaysByRange() {
+		statistics.reconcile();
+		for (int day = 0; day < 5; day++) {
+			statistics.onAppointmentChanged(AppointmentChangedEvent.created(
+					appointment("appo00" + day).host("user1").location("room1").start(BASE.plusDays(day)).build()));
+		}
+
+		LocalDate from = BASE.toLocalDate().plusDays(1);
+		LocalDate to = BASE.toLocalDate().plusDays(2);
+		assertThat(statistics.snapshot(from, to).getByDay()).containsOnlyKeys(from, to);
+		assertThat(statistics.snapshot(null, null).getTotal()).isEqualTo(5);
+	}
+
+	@Test
+	void reconcileReplacesDriftedCounters() {
+		statistics.reconcile();
+		statistics.onAppointmentChanged(AppointmentChangedEvent.created(
+				appointment("appo001").host("user1").location("room1").start(BASE).build()));
+		assertThat(statistics.snapshot(null, null).getTotal()).isEqualTo(1);
+
+		// 다른 인스턴스에서 삭제되어 DB에는 없는 경우
+		statistics.reconcile();
+
+		assertThat(statistics.snapshot(null, null).getTotal()).isZero();
+		assertThat(statistics.snapshot(null, null).getByHost()).isEmpty();
+	}
+
+	@Test
+	void eventsCommittedWhileAggregatingAreReplayedOntoRebuiltCounters() {
+		Appointment created = appointment("appo001").host("user1").location("room1").start(BASE).build();
+		// 마지막 집계 중 커밋된 생성 - 앞선 집계에는 포함되지 않음
+		when(appointmentRepository.countByStartDate()).thenAnswer(invocation -> {
+			statistics.onAppointmentChanged(AppointmentChangedEvent.created(created));
+			return List.of();
+		});
+
+		statistics.reconcile();
+
+		AppointmentStatisticsDto snapshot = statistics.snapshot(null, null);
+		assertThat(snapshot.getTotal()).isEqualTo(1);
+		assertThat(snapshot.getByHost()).isEqualTo(Map.of("user1", 1L));
+		assertThat(snapshot.getByLocation()).isEqualTo(Map.of("room1", 1L));
+	}
+
+	private static StatusCountView statusCount(Appointment.AppointmentStatus status, long count) {
+		StatusCountView view = mock(StatusCountView.class);
+		when(view.getAppointmentStatus()).thenReturn(status);
+		when(view.getCount()).thenReturn(count);
+		return view;
+	}
+
+	private static KeyCountView keyCount(String key, long count) {
+		KeyCountView view = mock(KeyCountView.class);
+		when(view.getBucketKey()).thenReturn(key);
+		when(view.getCount()).thenReturn(count);
+		return view;
+	}
+}
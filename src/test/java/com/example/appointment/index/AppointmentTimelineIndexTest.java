@@ -0,0 +1,89 @@
+package com.example.appointment.index;
+
+import com.example.appointment.dto.TimelineEntryDto;
+import com.example.appointment.entity.Appointment;
+import com.example.appointment.event.AppointmentChangedEvent;
+import com.example.appointment.repository.AppointmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.example.appointment.support.TestAppointments.appointment;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AppointmentTimelineIndexTest {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2025, 12, 1, 9, 0);
+
+	private AppointmentRepository appointmentRepository;
+	private AppointmentTimelineIndex index;
+
+	@BeforeEach
+	void setUp() {
+		appointmentRepository = mock(AppointmentRepository.class);
+		index = new AppointmentTimelineIndex(appointmentRepository);
+	}
+
+	@Test
+	void rebuildLoadsAppointmentsAndAnswersHostRangeQueries() {
+		when(appointmentRepository.findByAppointmentIdGreaterThanOrderByAppointmentIdAsc(eq(""), any()))
+				.thenReturn(List.of(
+						scheduled("appo001", "user1", "room1", 0, 60),
+						scheduled("appo002", "user1", "room2", 120, 180),
+						scheduled("appo003", "user2", "room1", 60, 120)));
+
+		index.rebuild();
+
+		assertThat(index.isReady()).isTrue();
+		assertThat(ids(index.findByHost("user1", BASE.plusMinutes(30), BASE.plusMinutes(150))))
+				.containsExactly("appo001", "appo002");
+		assertThat(ids(index.findByHost("user1", BASE.plusMinutes(60), BASE.plusMinutes(120)))).isEmpty();
+		assertThat(ids(index.findByLocation("room1", BASE, BASE.plusDays(1))))
+				.containsExactly("appo001", "appo003");
+	}
+
+	@Test
+	void longAppointmentsAreFoundThroughMaxDurationLookBehind() {
+		index.onAppointmentChanged(AppointmentChangedEvent.created(
+				scheduled("appo001", "user1", "room1", 0, 600)));
+		index.onAppointmentChanged(AppointmentChangedEvent.created(
+				scheduled("appo002", "user1", "room1", 500, 510)));
+
+		assertThat(ids(index.findByHost("user1", BASE.plusMinutes(520), BASE.plusMinutes(530))))
+				.containsExactly("appo001");
+	}
+
+	@Test
+	void incrementalEventsUpdateStatusAndRemoveDeletedAppointments() {
+		Appointment first = scheduled("appo001", "user1", "room1", 0, 60);
+		Appointment second = scheduled("appo002", "user2", "room1", 0, 60);
+		index.onAppointmentChanged(AppointmentChangedEvent.created(first));
+		index.onAppointmentChanged(AppointmentChangedEvent.created(second));
+
+		first.setAppointmentStatus(Appointment.AppointmentStatus.CANCELLED);
+		index.onAppointmentChanged(AppointmentChangedEvent.statusChanged(first, Appointment.AppointmentStatus.PLANNED));
+		index.onAppointmentChanged(AppointmentChangedEvent.deleted(second));
+
+		List<TimelineEntryDto> hostEntries = index.findByHost("user1", BASE, BASE.plusHours(1));
+		assertThat(hostEntries).hasSize(1);
+		assertThat(hostEntries.get(0).getAppointmentStatus()).isEqualTo(Appointment.AppointmentStatus.CANCELLED);
+		assertThat(index.findByHost("user2", BASE, BASE.plusHours(1))).isEmpty();
+		assertThat(index.findActiveAtLocation("room1", BASE.plusMinutes(30))).isEmpty();
+	}
+
+	private static List<String> ids(List<TimelineEntryDto> entries) {
+		return entries.stream().map(TimelineEntryDto::getAppointmentId).collect(Collectors.toList());
+	}
+
+	private static Appointment scheduled(String id, String hostId, String locationId, int startMinutes, int endMinutes) {
+		return appointment(id).host(hostId).location(locationId)
+				.start(BASE.plusMinutes(startMinutes)).end(BASE.plusMinutes(endMinutes)).build();
+	}
+}
@@ -0,0 +1,86 @@
+package com.example.appointment.index;
+
+import com.example.appointment.repository.AggregateVersionView;
+import com.example.appointment.repository.AppointmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 목록 ETag가 DB 상태로만 결정되는지 검증 (인스턴스 간 일치, 변경/삭제 반영)
+ */
+class AppointmentVersionTrackerTest {
+
+	private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 3, 1, 9, 30, 0, 123_456_000);
+
+	private AppointmentRepository appointmentRepository;
+
+	@BeforeEach
+	void setUp() {
+		appointmentRepository = mock(AppointmentRepository.class);
+	}
+
+	@Test
+	void sameDatabaseStateGivesSameEtagOnEveryInstance() {
+		AggregateVersionView version = version(3L, UPDATED_AT);
+		when(appointmentRepository.findAggregateVersionByHostId("user001")).thenReturn(version);
+
+		AppointmentVersionTracker.Snapshot first = new AppointmentVersionTracker(appointmentRepository)
+				.snapshot(AppointmentVersionTracker.Scope.HOST, "user001");
+		AppointmentVersionTracker.Snapshot second = new AppointmentVersionTracker(appointmentRepository)
+				.snapshot(AppointmentVersionTracker.Scope.HOST, "user001");
+
+		assertThat(first.getEtag()).isEqualTo(second.getEtag()).startsWith("W/\"host-3-");
+		assertThat(first.getLastModified()).isEqualTo(second.getLastModified()).isPositive();
+	}
+
+	@Test
+	void updateWithinSameMillisecondChangesEtag() {
+		AggregateVersionView before = version(3L, UPDATED_AT);
+		AggregateVersionView after = version(3L, UPDATED_AT.plusNanos(1_000));
+		when(appointmentRepository.findAggregateVersion()).thenReturn(before, after);
+		AppointmentVersionTracker tracker = new AppointmentVersionTracker(appointmentRepository);
+
+		String beforeEtag = tracker.snapshot(AppointmentVersionTracker.Scope.ALL, null).getEtag();
+		String afterEtag = tracker.snapshot(AppointmentVersionTracker.Scope.ALL, null).getEtag();
+
+		assertThat(afterEtag).isNotEqualTo(beforeEtag);
+	}
+
+	@Test
+	void deletionWithoutNewerUpdateChangesEtag() {
+		AggregateVersionView before = version(3L, UPDATED_AT);
+		AggregateVersionView after = version(2L, UPDATED_AT);
+		when(appointmentRepository.findAggregateVersionByLocationId("loc001")).thenReturn(before, after);
+		AppointmentVersionTracker tracker = new AppointmentVersionTracker(appointmentRepository);
+
+		String beforeEtag = tracker.snapshot(AppointmentVersionTracker.Scope.LOCATION, "loc001").getEtag();
+		String afterEtag = tracker.snapshot(AppointmentVersionTracker.Scope.LOCATION, "loc001").getEtag();
+
+		assertThat(afterEtag).isNotEqualTo(beforeEtag);
+	}
+
+	@Test
+	void emptyScopeHasStableEtagAndNoLastModified() {
+		AggregateVersionView empty = version(0L, null);
+		when(appointmentRepository.findAggregateVersionByHostId("user404")).thenReturn(empty);
+		AppointmentVersionTracker tracker = new AppointmentVersionTracker(appointmentRepository);
+
+		AppointmentVersionTracker.Snapshot snapshot = tracker.snapshot(AppointmentVersionTracker.Scope.HOST, "user404");
+
+		assertThat(snapshot.getEtag()).isEqualTo("W/\"host-0-0\"");
+		assertThat(snapshot.getLastModified()).isEqualTo(-1L);
+	}
+
+	private static AggregateVersionView version(Long count, LocalDateTime updatedAt) {
+		AggregateVersionView view = mock(AggregateVersionView.class);
+		when(view.getCount()).thenReturn(count);
+		when(view.getUpdatedAt()).thenReturn(updatedAt);
+		return view;
+	}
+}
@@ -0,0 +1,63 @@
+package com.example.appointment.json;
+
+import com.example.appointment.dto.AppointmentResponseDto;
+import com.example.appointment.dto.GuestInfo;
+import com.example.appointment.entity.Appointment;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스트리밍 직렬화 결과가 기본 ObjectMapper 직렬화 결과와 바이트 단위로 같은지 검증
+ */
+class AppointmentJsonModuleTest {
+
+	private final ObjectMapper databind = JsonMapper.builder()
+			.addModule(new JavaTimeModule())
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+			.build();
+	private final ObjectMapper streaming = JsonMapper.builder()
+			.addModule(new JavaTimeModule())
+			.addModule(new AppointmentJsonModule())
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+			.build();
+
+	@Test
+	void appointmentListMatchesDefaultSerialization() throws Exception {
+		List<AppointmentResponseDto> appointments = List.of(
+				new AppointmentResponseDto("appo001", "user1", "kim", "김\"철수\"", "회의\n1", null,
+						LocalDateTime.of(2025, 1, 1, 10, 0), LocalDateTime.of(2025, 1, 1, 11, 30, 15, 500_000_000),
+						"loc1", Appointment.AppointmentStatus.PLANNED, "F"),
+				new AppointmentResponseDto("appo002", "user2", null, null, "t", "d",
+						LocalDateTime.of(999, 12, 31, 23, 59, 59, 1), null,
+						"loc2", null, null));
+
+		assertThat(streaming.writeValueAsString(appointments)).isEqualTo(databind.writeValueAsString(appointments));
+	}
+
+	@Test
+	void guestInfoMatchesDefaultSerialization() throws Exception {
+		List<GuestInfo> guests = List.of(new GuestInfo("g1", "user1", "kim", "철수"), new GuestInfo("g2", null, null, null));
+
+		assertThat(streaming.writeValueAsString(guests)).isEqualTo(databind.writeValueAsString(guests));
+	}
+
+	@Test
+	void dateTimeWriterMatchesIsoFormatter() {
+		char[] buffer = new char[LocalDateTimeWriter.MAX_LENGTH];
+		int[] nanos = {0, 1, 10, 120, 1_000, 123_456, 1_000_000, 987_654_321, 100_000_000};
+		for (int nano : nanos) {
+			LocalDateTime value = LocalDateTime.of(2025, 7, 9, 3, 4, 5, nano);
+			int length = LocalDateTimeWriter.format(value, buffer);
+			assertThat(new String(buffer, 0, length)).isEqualTo(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+		}
+	}
+}
@@ -0,0 +1,222 @@
+package com.example.appointment.push;
+
+import com.example.appointment.dto.AppointmentStatusPushDto;
+import com.example.appointment.entity.Appointment;
+import com.example.appointment.entity.AppointmentOutboxEvent;
+import com.example.appointment.repository.AppointmentOutboxRepository;
+import com.example.appointment.repository.AppointmentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static com.example.appointment.support.TestAppointments.appointment;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 상태 푸시 허브 구독 / 아웃박스 팬아웃 / 연결 해제 검증
+ */
+class AppointmentStatusHubTest {
+
+	private AppointmentRepository appointmentRepository;
+	private AppointmentOutboxRepository outboxRepository;
+	private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+	private AppointmentStatusHub hub;
+
+	@BeforeEach
+	void setUp() {
+		appointmentRepository = mock(AppointmentRepository.class);
+		outboxRepository = mock(AppointmentOutboxRepository.class);
+		when(appointmentRepository.findByAppointmentIdIn(any())).thenReturn(List.of());
+
+		hub = new AppointmentStatusHub(appointmentRepository, outboxRepository, new ObjectMapper(),
+				new SimpleMeterRegistry(), 3600000L, 2, 100, 5000L) {
+			@Override
+			SseEmitter createEmitter() {
+				RecordingEmitter emitter = new RecordingEmitter();
+				emitters.add(emitter);
+				return emitter;
+			}
+		};
+		hub.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		hub.stop();
+	}
+
+	@Test
+	void startDoesNotQueryOutbox() {
+		// 시작 위치는 첫 폴링 때 정함 - DB 없이 컨텍스트만 띄우는 실행(CDS 학습)에서도 기동 가능
+		verifyNoInteractions(outboxRepository);
+	}
+
+	@Test
+	void subscribeSendsCurrentStateFirst() {
+		Appointment appointment = appointment("appo001").status(Appointment.AppointmentStatus.DONE).build();
+		when(appointmentRepository.findByAppointmentIdIn(any())).thenReturn(List.of(appointment));
+
+		hub.subscribe(Set.of("appo001"));
+
+		RecordingEmitter emitter = emitters.get(0);
+		await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertThat(emitter.pushes()).hasSize(1));
+		AppointmentStatusPushDto push = emitter.pushes().get(0);
+		assertThat(push.getAppointmentStatus()).isEqualTo(Appointment.AppointmentStatus.DONE);
+		assertThat(push.isFeedbackPending()).isTrue();
+	}
+
+	@Test
+	void publishedOutboxEventsReachOnlySubscribersOfThatAppointment() {
+		hub.pollOutbox();
+		hub.subscribe(Set.of("appo001"));
+		hub.subscribe(Set.of("appo002"));
+		when(outboxRepository.findPublishedAfter(any(), anyLong(), any()))
+				.thenReturn(List.of(
+						outboxEvent(11L, "appo001", "{\"type\":\"STATUS_CHANGED\",\"appointmentId\":\"appo001\","
+								+ "\"appointmentStatus\":\"CANCELLED\",\"feedback\":\"F\"}"),
+						outboxEvent(12L, "appo003", "{\"type\":\"CREATED\",\"appointmentId\":\"appo003\","
+								+ "\"appointmentStatus\":\"PLANNED\",\"feedback\":\"F\"}")));
+
+		hub.pollOutbox();
+
+		await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertThat(emitters.get(0).pushes()).hasSize(1));
+		AppointmentStatusPushDto push = emitters.get(0).pushes().get(0);
+		assertThat(push.getAppointmentId()).isEqualTo("appo001");
+		assertThat(push.getAppointmentStatus()).isEqualTo(Appointment.AppointmentStatus.CANCELLED);
+		assertThat(push.isDeleted()).isFalse();
+		assertThat(emitters.get(1).pushes()).isEmpty();
+	}
+
+	@Test
+	void deletedEventIsPushedAsDeleted() {
+		hub.pollOutbox();
+		hub.subscribe(Set.of("appo001"));
+		when(outboxRepository.findPublishedAfter(any(), anyLong(), any()))
+				.thenReturn(List.of(outboxEvent(11L, "appo001", "{\"type\":\"DELETED\",\"appointmentId\":\"appo001\","
+						+ "\"appointmentStatus\":\"DONE\",\"feedback\":\"F\"}")));
+
+		hub.pollOutbox();
+
+		await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertThat(emitters.get(0).pushes()).hasSize(1));
+		AppointmentStatusPushDto push = emitters.get(0).pushes().get(0);
+		assertThat(push.isDeleted()).isTrue();
+		assertThat(push.isFeedbackPending()).isFalse();
+	}
+
+	@Test
+	void terminalTransitionPublishedLateWithLowerIdIsStillPushed() {
+		hub.pollOutbox();
+		hub.subscribe(Set.of("appo001", "appo002"));
+		AppointmentOutboxEvent later = outboxEvent(12L, "appo002", "{\"type\":\"STATUS_CHANGED\","
+				+ "\"appointmentId\":\"appo002\",\"appointmentStatus\":\"ONGOING\",\"feedback\":\"F\"}");
+		// id 11은 재시도 끝에 id 12보다 늦게 발행됨
+		AppointmentOutboxEvent retried = outboxEvent(11L, "appo001", "{\"type\":\"STATUS_CHANGED\","
+				+ "\"appointmentId\":\"appo001\",\"appointmentStatus\":\"CANCELLED\",\"feedback\":\"F\"}");
+		when(outboxRepository.findPublishedAfter(any(), anyLong(), any()))
+				.thenReturn(List.of(later))
+				.thenReturn(List.of(later, retried));
+
+		hub.pollOutbox();
+		hub.pollOutbox();
+
+		await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertThat(emitters.get(0).pushes())
+				.extracting(AppointmentStatusPushDto::getAppointmentId)
+				.containsExactlyInAnyOrder("appo002", "appo001"));
+		assertThat(emitters.get(0).pushes())
+				.filteredOn(push -> push.getAppointmentId().equals("appo001"))
+				.extracting(AppointmentStatusPushDto::getAppointmentStatus)
+				.containsExactly(Appointment.AppointmentStatus.CANCELLED);
+	}
+
+	@Test
+	void disconnectedSubscriptionIsRemovedAndReceivesNothing() {
+		hub.subscribe(Set.of("appo001"));
+		assertThat(hub.getSubscriptionCount()).isEqualTo(1);
+
+		emitters.get(0).completionCallback.run();
+		assertThat(hub.getSubscriptionCount()).isZero();
+
+		hub.pollOutbox();
+		when(outboxRepository.findPublishedAfter(any(), anyLong(), any()))
+				.thenReturn(List.of(outboxEvent(11L, "appo001", "{\"type\":\"STATUS_CHANGED\","
+						+ "\"appointmentId\":\"appo001\",\"appointmentStatus\":\"ONGOING\",\"feedback\":\"F\"}")));
+		hub.pollOutbox();
+		hub.heartbeat();
+
+		assertThat(emitters.get(0).sendCount).isZero();
+	}
+
+	@Test
+	void failedSendUnsubscribes() {
+		hub.subscribe(Set.of("appo001"));
+		emitters.get(0).failing = true;
+
+		hub.heartbeat();
+
+		await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertThat(hub.getSubscriptionCount()).isZero());
+	}
+
+	private static AppointmentOutboxEvent outboxEvent(long id, String appointmentId, String payload) {
+		return new AppointmentOutboxEvent(id, appointmentId, "STATUS_CHANGED", payload,
+				LocalDateTime.now(), LocalDateTime.now(), 0, null);
+	}
+
+	/**
+	 * 전송 내용을 기록하는 SSE 연결 (서블릿 응답 없이 동작)
+	 */
+	private static final class RecordingEmitter extends SseEmitter {
+
+		private final List<AppointmentStatusPushDto> pushes = new CopyOnWriteArrayList<>();
+		private volatile int sendCount;
+		private volatile boolean failing;
+		private Runnable completionCallback;
+
+		@Override
+		public synchronized void send(SseEventBuilder builder) throws IOException {
+			if (failing) {
+				throw new IOException("connection closed");
+			}
+			sendCount++;
+			for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+				if (data.getData() instanceof AppointmentStatusPushDto push) {
+					pushes.add(push);
+				}
+			}
+		}
+
+		@Override
+		public void onCompletion(Runnable callback) {
+			this.completionCallback = callback;
+		}
+
+		@Override
+		public void onTimeout(Runnable callback) {
+		}
+
+		@Override
+		public void onError(Consumer<Throwable> callback) {
+		}
+
+		List<AppointmentStatusPushDto> pushes() {
+			return List.copyOf(pushes);
+		}
+	}
+}
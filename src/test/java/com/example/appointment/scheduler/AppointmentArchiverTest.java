@@ -0,0 +1,138 @@
+package com.example.appointment.scheduler;
+
+import com.example.appointment.entity.Appointment;
+import com.example.appointment.event.AppointmentChangedEvent;
+import com.example.appointment.repository.AppointmentArchiveRepository;
+import com.example.appointment.repository.AppointmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.example.appointment.support.TestAppointments.appointment;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class AppointmentArchiverTest {
+
+	private AppointmentRepository appointmentRepository;
+	private AppointmentArchiveRepository archiveRepository;
+	private SchedulerLock schedulerLock;
+	private AppointmentArchiver archiver;
+	private final List<AppointmentChangedEvent> events = new CopyOnWriteArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		appointmentRepository = mock(AppointmentRepository.class);
+		archiveRepository = mock(AppointmentArchiveRepository.class);
+		schedulerLock = mock(SchedulerLock.class);
+		PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+		archiver = new AppointmentArchiver(appointmentRepository, archiveRepository,
+				new TransactionTemplate(transactionManager), event -> events.add((AppointmentChangedEvent) event),
+				schedulerLock, 30, 2, 0L, 10, 60L);
+	}
+
+	@Test
+	void movesRowsChunkByChunkUntilNothingIsLeft() {
+		LocalDateTime before = LocalDateTime.of(2025, 1, 1, 0, 0);
+		when(appointmentRepository.findArchivableIds(eq(before), any(Pageable.class)))
+				.thenReturn(List.of("appo001", "appo002"), List.of("appo003"), List.of());
+		when(archiveRepository.copyFromAppointments(any(), any())).thenReturn(2, 1);
+		when(appointmentRepository.deleteArchived(any())).thenReturn(2, 1);
+		when(appointmentRepository.findByAppointmentIdIn(any())).thenReturn(
+				List.of(archivable("appo001"), archivable("appo002")), List.of(archivable("appo003")));
+
+		int archived = archiver.archiveEndedBefore(before);
+
+		assertThat(archived).isEqualTo(3);
+		verify(archiveRepository).copyFromAppointments(eq(List.of("appo001", "appo002")), any());
+		verify(appointmentRepository).deleteArchived(List.of("appo003"));
+		assertThat(events).extracting(AppointmentChangedEvent::getAppointmentId)
+				.containsExactly("appo001", "appo002", "appo003");
+		assertThat(events).extracting(AppointmentChangedEvent::getType)
+				.containsOnly(AppointmentChangedEvent.Type.ARCHIVED);
+	}
+
+	@Test
+	void stopsWhenCopyAndDeleteCountsDiffer() {
+		when(appointmentRepository.findArchivableIds(any(), any(Pageable.class)))
+				.thenReturn(List.of("appo001", "appo002"));
+		when(archiveRepository.copyFromAppointments(any(), any())).thenReturn(2);
+		when(appointmentRepository.deleteArchived(any())).thenReturn(1);
+		when(appointmentRepository.findByAppointmentIdIn(any()))
+				.thenReturn(List.of(archivable("appo001"), archivable("appo002")));
+
+		assertThat(archiver.archiveEndedBefore(LocalDateTime.now())).isZero();
+		verify(appointmentRepository, times(1)).findArchivableIds(any(), any(Pageable.class));
+		assertThat(events).isEmpty();
+	}
+
+	@Test
+	void doesNothingWhenNoRowsQualify() {
+		when(appointmentRepository.findArchivableIds(any(), any(Pageable.class))).thenReturn(List.of());
+
+		assertThat(archiver.archiveEndedBefore(LocalDateTime.now())).isZero();
+		verify(archiveRepository, never()).copyFromAppointments(any(), any());
+	}
+
+	@Test
+	void archiveRunsOnlyWhileHoldingTheLease() {
+		when(schedulerLock.tryAcquire(eq(AppointmentArchiver.ARCHIVE_LOCK), any())).thenReturn(true);
+		when(appointmentRepository.findArchivableIds(any(), any(Pageable.class))).thenReturn(List.of());
+
+		archiver.archive();
+
+		verify(appointmentRepository).findArchivableIds(any(), any(Pageable.class));
+		verify(schedulerLock).release(AppointmentArchiver.ARCHIVE_LOCK);
+	}
+
+	@Test
+	void archiveSkipsWhenAnotherInstanceHoldsTheLease() {
+		when(schedulerLock.tryAcquire(eq(AppointmentArchiver.ARCHIVE_LOCK), any())).thenReturn(false);
+
+		archiver.archive();
+
+		verifyNoInteractions(appointmentRepository, archiveRepository);
+		verify(schedulerLock, never()).release(any());
+	}
+
+	@Test
+	void partitionRolloverSkipsWhenAnotherInstanceHoldsTheLease() {
+		JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+		when(schedulerLock.tryAcquire(eq(AppointmentArchivePartitionManager.PARTITION_LOCK), any())).thenReturn(false);
+
+		new AppointmentArchivePartitionManager(jdbcTemplate, schedulerLock, true, 3, 10L).ensurePartitions();
+
+		verifyNoInteractions(jdbcTemplate);
+		verify(schedulerLock, never()).release(any());
+	}
+
+	@Test
+	void rolloverDdlSplitsFuturePartition() {
+		assertThat(AppointmentArchivePartitionManager.partitionName(YearMonth.of(2025, 2))).isEqualTo("p202502");
+		assertThat(AppointmentArchivePartitionManager.addMonthDdl(YearMonth.of(2025, 2))).isEqualTo(
+				"ALTER TABLE appointment_archive REORGANIZE PARTITION p_future INTO ("
+						+ "PARTITION p202502 VALUES LESS THAN ('2025-03-01'), PARTITION p_future VALUES LESS THAN (MAXVALUE))");
+	}
+
+	private static Appointment archivable(String id) {
+		return appointment(id).start(LocalDateTime.of(2024, 11, 1, 10, 0))
+				.status(Appointment.AppointmentStatus.DONE).feedback("T").build();
+	}
+}
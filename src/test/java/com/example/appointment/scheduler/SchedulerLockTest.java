@@ -0,0 +1,63 @@
+package com.example.appointment.scheduler;
+
+import com.example.appointment.repository.SchedulerLockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SchedulerLockTest {
+
+	private SchedulerLockRepository lockRepository;
+	private SchedulerLock schedulerLock;
+
+	@BeforeEach
+	void setUp() {
+		lockRepository = mock(SchedulerLockRepository.class);
+		schedulerLock = new SchedulerLock(lockRepository);
+	}
+
+	@Test
+	void acquiresExpiredLeaseForRequestedDuration() {
+		when(lockRepository.tryAcquire(eq("job"), anyString(), any(), any())).thenReturn(1);
+
+		assertThat(schedulerLock.tryAcquire("job", Duration.ofMinutes(30))).isTrue();
+
+		verify(lockRepository).insertIfAbsent(eq("job"), any());
+		ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+		ArgumentCaptor<LocalDateTime> until = ArgumentCaptor.forClass(LocalDateTime.class);
+		verify(lockRepository).tryAcquire(eq("job"), anyString(), now.capture(), until.capture());
+		assertThat(until.getValue()).isEqualTo(now.getValue().plusMinutes(30));
+	}
+
+	@Test
+	void heldLeaseIsNotAcquired() {
+		when(lockRepository.tryAcquire(eq("job"), anyString(), any(), any())).thenReturn(0);
+
+		assertThat(schedulerLock.tryAcquire("job", Duration.ofMinutes(30))).isFalse();
+	}
+
+	@Test
+	void releaseOnlyExpiresOwnLease() {
+		when(lockRepository.tryAcquire(eq("job"), anyString(), any(), any())).thenReturn(1);
+		schedulerLock.tryAcquire("job", Duration.ofMinutes(30));
+
+		schedulerLock.release("job");
+
+		ArgumentCaptor<String> acquiredBy = ArgumentCaptor.forClass(String.class);
+		ArgumentCaptor<String> releasedBy = ArgumentCaptor.forClass(String.class);
+		verify(lockRepository).tryAcquire(eq("job"), acquiredBy.capture(), any(), any());
+		verify(lockRepository).release(eq("job"), releasedBy.capture(), any());
+		assertThat(releasedBy.getValue()).isEqualTo(acquiredBy.getValue());
+	}
+}
@@ -0,0 +1,131 @@
+package com.example.appointment.service;
+
+import com.example.appointment.client.UserServiceClient;
+import com.example.appointment.dto.AppointmentResponseDto;
+import com.example.appointment.dto.CalendarPageDto;
+import com.example.appointment.dto.UserResponse;
+import com.example.appointment.entity.Appointment;
+import com.example.appointment.entity.AppointmentArchive;
+import com.example.appointment.repository.AppointmentArchiveRepository;
+import com.example.appointment.repository.AppointmentParticipantRepository;
+import com.example.appointment.repository.AppointmentRepository;
+import com.example.appointment.repository.ParticipatingAppointmentView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.example.appointment.support.TestAppointments.appointment;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 사용자 캘린더 조회 테스트 (주최/참여 병합, 중복 제거, keyset 커서, 호스트 정보 일괄 조회)
+ */
+class AppointmentCalendarServiceTest {
+
+	private static final LocalDateTime BASE = LocalDateTime.now().plusDays(1).withNano(0);
+
+	private AppointmentRepository appointmentRepository;
+	private AppointmentArchiveRepository archiveRepository;
+	private AppointmentParticipantRepository participantRepository;
+	private UserServiceClient userServiceClient;
+	private AppointmentCalendarService calendarService;
+
+	@BeforeEach
+	void setUp() {
+		appointmentRepository = mock(AppointmentRepository.class);
+		archiveRepository = mock(AppointmentArchiveRepository.class);
+		participantRepository = mock(AppointmentParticipantRepository.class);
+		userServiceClient = mock(UserServiceClient.class);
+		calendarService = new AppointmentCalendarService(appointmentRepository, archiveRepository, participantRepository,
+				mock(GuestMembershipCache.class), new HostLookup(userServiceClient), 4, 5000L, 30, true);
+		calendarService.start();
+
+		when(userServiceClient.getUserByIdAsync(anyString())).thenAnswer(invocation -> {
+			UserResponse user = new UserResponse();
+			user.setUsername(invocation.getArgument(0));
+			return CompletableFuture.completedFuture(user);
+		});
+	}
+
+	@AfterEach
+	void tearDown() {
+		calendarService.stop();
+	}
+
+	@Test
+	void mergesHostedAndParticipatingInStartTimeOrderWithoutDuplicates() {
+		when(appointmentRepository.findHostPageAfter(eq("user1"), any(), any(), any(), any())).thenReturn(List.of(
+				appointment("appo001").host("user1").start(BASE.plusHours(1)).build(),
+				appointment("appo004").host("user1").start(BASE.plusHours(4)).build()));
+		// appo004 는 주최 + 참여 모두에 포함
+		when(participantRepository.findParticipatingAppointmentsAfter(eq("user1"), eq("coming"), any(), any(), any(), any()))
+				.thenReturn(List.of(
+						view(appointment("appo002").host("host2").start(BASE.plusHours(2)).build()),
+						view(appointment("appo003").host("host2").start(BASE.plusHours(3)).build()),
+						view(appointment("appo004").host("user1").start(BASE.plusHours(4)).build())));
+
+		CalendarPageDto page = calendarService.getCalendar("user1", BASE, null, null, 10);
+
+		assertThat(page.getAppointments()).extracting(AppointmentResponseDto::getAppointmentId)
+				.containsExactly("appo001", "appo002", "appo003", "appo004");
+		assertThat(page.getAppointments()).extracting(AppointmentResponseDto::getHostUsername)
+				.containsExactly("user1", "host2", "host2", "user1");
+		assertThat(page.getNextCursor()).isNull();
+		// 호스트별 한 번만 조회
+		verify(userServiceClient, times(1)).getUserByIdAsync("user1");
+		verify(userServiceClient, times(1)).getUserByIdAsync("host2");
+	}
+
+	@Test
+	void nextCursorResumesAfterLastReturnedAppointment() {
+		when(appointmentRepository.findHostPageAfter(eq("user1"), any(), any(), any(), any())).thenReturn(List.of(
+				appointment("appo001").host("user1").start(BASE.plusHours(1)).build(),
+				appointment("appo003").host("user1").start(BASE.plusHours(3)).build()));
+		when(participantRepository.findParticipatingAppointmentsAfter(eq("user1"), eq("coming"), any(), any(), any(), any()))
+				.thenReturn(List.of(view(appointment("appo002").host("host2").start(BASE.plusHours(2)).build())));
+
+		CalendarPageDto first = calendarService.getCalendar("user1", BASE, null, null, 2);
+
+		assertThat(first.getAppointments()).extracting(AppointmentResponseDto::getAppointmentId)
+				.containsExactly("appo001", "appo002");
+		assertThat(first.getNextCursor()).isNotNull();
+
+		calendarService.getCalendar("user1", BASE, null, first.getNextCursor(), 2);
+
+		verify(appointmentRepository).findHostPageAfter(eq("user1"), eq(BASE.plusHours(2)), eq("appo002"), any(), any());
+		verify(participantRepository).findParticipatingAppointmentsAfter(eq("user1"), eq("coming"),
+				eq(BASE.plusHours(2)), eq("appo002"), any(), any());
+	}
+
+	@Test
+	void invalidCursorIsRejected() {
+		assertThatThrownBy(() -> calendarService.getCalendar("user1", null, null, "not-a-cursor", 10))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static ParticipatingAppointmentView view(Appointment appointment) {
+		return new ParticipatingAppointmentView() {
+			@Override
+			public Appointment getAppointment() {
+				return appointment;
+			}
+
+			@Override
+			public AppointmentArchive getArchived() {
+				return null;
+			}
+		};
+	}
+}
@@ -0,0 +1,125 @@
+package com.example.appointment.service;
+
+import com.example.appointment.client.UserServiceClient;
+import com.example.appointment.dto.AppointmentRequestDto;
+import com.example.appointment.dto.UserResponse;
+import com.example.appointment.entity.Appointment;
+import com.example.appointment.repository.AppointmentRepository;
+import com.example.appointment.repository.IdSequenceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.appointment.support.TestAppointments.appointment;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 약속 생성 사전 단계 병렬 실행 지연 시간 테스트 (지연 주입 스텁 사용)
+ */
+class AppointmentCreationPipelineTest {
+
+	private static final long STAGE_DELAY_MS = 300;
+
+	private UserServiceClient userServiceClient;
+	private AppointmentRepository appointmentRepository;
+	private IdSequenceRepository idSequenceRepository;
+	private AppointmentCreationPipeline pipeline;
+
+	@BeforeEach
+	void setUp() {
+		userServiceClient = mock(UserServiceClient.class);
+		appointmentRepository = mock(AppointmentRepository.class);
+		idSequenceRepository = mock(IdSequenceRepository.class);
+		pipeline = new AppointmentCreationPipeline(userServiceClient, appointmentRepository, idSequenceRepository,
+				mock(AppointmentSeriesExpander.class), 4, 5000L);
+		pipeline.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		pipeline.stop();
+	}
+
+	@Test
+	void stagesRunConcurrentlySoLatencyIsCloseToSlowestStage() {
+		when(userServiceClient.getUserByIdAsync("host1")).thenReturn(delayedUser(STAGE_DELAY_MS));
+		when(appointmentRepository.findOverlappingAppointments(anyString(), any(), any())).thenAnswer(invocation -> {
+			Thread.sleep(STAGE_DELAY_MS);
+			return List.of();
+		});
+		when(idSequenceRepository.next(AppointmentCreationPipeline.APPOINTMENT_ID_SEQUENCE)).thenAnswer(invocation -> {
+			Thread.sleep(STAGE_DELAY_MS);
+			return 7L;
+		});
+
+		long started = System.nanoTime();
+		AppointmentCreationPipeline.PreparedCreation prepared = pipeline.prepare(request());
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+		assertThat(prepared.getAppointmentId()).isEqualTo("appo007");
+		assertThat(prepared.getHost().getUsername()).isEqualTo("host1");
+		// 순차 실행이면 3 * STAGE_DELAY_MS 이상 소요
+		assertThat(elapsedMillis).isLessThan(STAGE_DELAY_MS * 2);
+	}
+
+	@Test
+	void conflictFailsFastAndCancelsSlowHostLookup() {
+		CompletableFuture<UserResponse> slowHost = delayedUser(3000);
+		when(userServiceClient.getUserByIdAsync("host1")).thenReturn(slowHost);
+		Appointment conflicting = appointment("appo001").host("host1").build();
+		when(appointmentRepository.findOverlappingAppointments(anyString(), any(), any())).thenReturn(List.of(conflicting));
+		when(idSequenceRepository.next(AppointmentCreationPipeline.APPOINTMENT_ID_SEQUENCE)).thenReturn(2L);
+
+		long started = System.nanoTime();
+		assertThatThrownBy(() -> pipeline.prepare(request()))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("INV-A008");
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+		assertThat(elapsedMillis).isLessThan(1000);
+		assertThat(slowHost).isCancelled();
+	}
+
+	@Test
+	void missingHostFailsFastWithoutWaitingForDatabaseStages() {
+		when(userServiceClient.getUserByIdAsync("host1")).thenReturn(CompletableFuture.completedFuture(null));
+		when(appointmentRepository.findOverlappingAppointments(anyString(), any(), any())).thenAnswer(invocation -> {
+			Thread.sleep(2000);
+			return List.of();
+		});
+		when(idSequenceRepository.next(AppointmentCreationPipeline.APPOINTMENT_ID_SEQUENCE)).thenReturn(2L);
+
+		long started = System.nanoTime();
+		assertThatThrownBy(() -> pipeline.prepare(request()))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Invalid host ID: host1");
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(1000);
+	}
+
+	private static CompletableFuture<UserResponse> delayedUser(long delayMillis) {
+		UserResponse user = new UserResponse();
+		user.setUsername("host1");
+		return CompletableFuture.supplyAsync(() -> user,
+				CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS));
+	}
+
+	private static AppointmentRequestDto request() {
+		AppointmentRequestDto request = new AppointmentRequestDto();
+		request.setHostId("host1");
+		request.setTitle("회의");
+		request.setLocationId("loc1");
+		request.setStartTime(LocalDateTime.of(2025, 1, 1, 10, 0));
+		request.setEndTime(LocalDateTime.of(2025, 1, 1, 11, 0));
+		return request;
+	}
+}
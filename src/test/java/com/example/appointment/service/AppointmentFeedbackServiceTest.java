@@ -0,0 +1,167 @@
+package com.example.appointment.service;
+
+import com.example.appointment.client.UserServiceClient;
+import com.example.appointment.dto.FeedbackCompleteResponseDto;
+import com.example.appointment.dto.FeedbackPendingDto;
+import com.example.appointment.dto.GuestInfo;
+import com.example.appointment.dto.GuestResponse;
+import com.example.appointment.entity.Appointment;
+import com.example.appointment.event.AppointmentChangedEvent;
+import com.example.appointment.repository.AppointmentArchiveRepository;
+import com.example.appointment.repository.AppointmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static com.example.appointment.support.TestAppointments.appointment;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 피드백 대기 큐 테스트 (대기 목록 Guest 일괄 조회, 피드백 완료 일괄 처리)
+ */
+class AppointmentFeedbackServiceTest {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2025, 12, 1, 9, 0);
+
+	private AppointmentRepository appointmentRepository;
+	private AppointmentArchiveRepository archiveRepository;
+	private GuestMembershipCache guestMembershipCache;
+	private ApplicationEventPublisher eventPublisher;
+	private HostLookup hostLookup;
+	private AppointmentFeedbackService feedbackService;
+
+	@BeforeEach
+	void setUp() {
+		appointmentRepository = mock(AppointmentRepository.class);
+		archiveRepository = mock(AppointmentArchiveRepository.class);
+		guestMembershipCache = mock(GuestMembershipCache.class);
+		eventPublisher = mock(ApplicationEventPublisher.class);
+		UserServiceClient userServiceClient = mock(UserServiceClient.class);
+		when(userServiceClient.getUserByIdAsync(anyString())).thenReturn(CompletableFuture.completedFuture(null));
+		hostLookup = new HostLookup(userServiceClient);
+		feedbackService = feedbackService(true);
+	}
+
+	@Test
+	void pendingPageJoinsGuestsWithOneBatchedLookup() {
+		when(appointmentRepository.findFeedbackPendingForUser("user1", "coming", 20, 0))
+				.thenReturn(List.of(pending("appo001", BASE), pending("appo002", BASE.plusHours(2))));
+		when(guestMembershipCache.getGuests(List.of("appo001", "appo002")))
+				.thenReturn(Map.of("appo001", List.of(guest("appo001", "user2"), guest("appo001", "user3")),
+						"appo002", List.of()));
+
+		List<FeedbackPendingDto> pending = feedbackService.getPendingFeedback("user1", 0, 20);
+
+		assertThat(pending).extracting(dto -> dto.getAppointment().getAppointmentId())
+				.containsExactly("appo001", "appo002");
+		assertThat(pending.get(0).getGuests()).extracting(GuestInfo::getUserId).containsExactly("user2", "user3");
+		assertThat(pending.get(1).getGuests()).isEmpty();
+		verify(guestMembershipCache, times(1)).getGuests(anyCollection());
+		verify(guestMembershipCache, never()).getGuests(anyString());
+	}
+
+	@Test
+	void guestLookupFailureIsSurfaced() {
+		when(appointmentRepository.findFeedbackPendingForUser("user1", "coming", 20, 0))
+				.thenReturn(List.of(pending("appo001", BASE)));
+		when(guestMembershipCache.getGuests(anyCollection())).thenThrow(new IllegalStateException("guest service down"));
+
+		// Guest 조회 실패를 빈 Guest 목록으로 숨기지 않음
+		assertThatThrownBy(() -> feedbackService.getPendingFeedback("user1", 0, 20))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void guestServiceFallbackMergesHostedAndParticipatingInEndTimeOrder() {
+		feedbackService = feedbackService(false);
+		when(appointmentRepository.findFeedbackPendingByHostId("user1"))
+				.thenReturn(List.of(pending("appo003", BASE.plusHours(4)), pending("appo001", BASE)));
+		when(guestMembershipCache.getParticipatingAppointmentIds("user1")).thenReturn(List.of("appo001", "appo002"));
+		when(appointmentRepository.findFeedbackPendingByIds(List.of("appo001", "appo002")))
+				.thenReturn(List.of(pending("appo001", BASE), pending("appo002", BASE.plusHours(2))));
+		when(guestMembershipCache.getGuests(anyCollection())).thenReturn(Map.of());
+
+		List<FeedbackPendingDto> pending = feedbackService.getPendingFeedback("user1", 0, 2);
+
+		assertThat(pending).extracting(dto -> dto.getAppointment().getAppointmentId())
+				.containsExactly("appo001", "appo002");
+	}
+
+	@Test
+	void completeFeedbackUpdatesInBulkAndPublishesEvents() {
+		when(appointmentRepository.lockFeedbackPendingByIds(Set.of("appo001", "appo002")))
+				.thenReturn(List.of(pending("appo001", BASE), pending("appo002", BASE)));
+		when(appointmentRepository.completeFeedback(eq(Set.of("appo001", "appo002")), any())).thenReturn(2);
+
+		FeedbackCompleteResponseDto result = feedbackService.completeFeedback(List.of("appo001", "appo002", "appo001"));
+
+		assertThat(result.getRequested()).isEqualTo(2);
+		assertThat(result.getCompleted()).isEqualTo(2);
+		verify(archiveRepository, never()).completeFeedback(any(), any());
+		ArgumentCaptor<AppointmentChangedEvent> events = ArgumentCaptor.forClass(AppointmentChangedEvent.class);
+		verify(eventPublisher, times(2)).publishEvent(events.capture());
+		assertThat(events.getAllValues()).allSatisfy(event -> {
+			assertThat(event.getType()).isEqualTo(AppointmentChangedEvent.Type.FEEDBACK_CHANGED);
+			assertThat(event.getFeedback()).isEqualTo("T");
+		});
+	}
+
+	@Test
+	void completeFeedbackFallsBackToArchiveForRemainingIds() {
+		when(appointmentRepository.lockFeedbackPendingByIds(any())).thenReturn(List.of(pending("appo002", BASE)));
+		when(appointmentRepository.completeFeedback(any(), any())).thenReturn(1);
+		when(archiveRepository.completeFeedback(any(), any())).thenReturn(1);
+
+		FeedbackCompleteResponseDto result = feedbackService.completeFeedback(List.of("appo001", "appo002", "appo003"));
+
+		assertThat(result.getRequested()).isEqualTo(3);
+		assertThat(result.getCompleted()).isEqualTo(2);
+		verify(appointmentRepository).completeFeedback(eq(Set.of("appo002")), any());
+		verify(archiveRepository).completeFeedback(eq(Set.of("appo001", "appo003")), any());
+		verify(eventPublisher, times(1)).publishEvent(any(AppointmentChangedEvent.class));
+	}
+
+	@Test
+	void completeFeedbackSkipsEventsForAppointmentsAlreadyCompletedElsewhere() {
+		// 다른 요청이 먼저 완료한 약속은 잠금 조회에 나오지 않으므로 UPDATE/이벤트 대상에서 빠짐
+		when(appointmentRepository.lockFeedbackPendingByIds(any())).thenReturn(List.of());
+		when(archiveRepository.completeFeedback(any(), any())).thenReturn(0);
+
+		FeedbackCompleteResponseDto result = feedbackService.completeFeedback(List.of("appo001"));
+
+		assertThat(result.getCompleted()).isZero();
+		verify(appointmentRepository, never()).completeFeedback(any(), any());
+		verify(eventPublisher, never()).publishEvent(any(AppointmentChangedEvent.class));
+	}
+
+	private static GuestResponse guest(String appointmentId, String userId) {
+		return new GuestResponse("g-" + appointmentId + "-" + userId, appointmentId, userId, userId, userId);
+	}
+
+	private AppointmentFeedbackService feedbackService(boolean participantIndexEnabled) {
+		return new AppointmentFeedbackService(appointmentRepository, archiveRepository, guestMembershipCache,
+				hostLookup, eventPublisher, participantIndexEnabled, 1000L);
+	}
+
+	private static Appointment pending(String id, LocalDateTime start) {
+		return appointment(id).host("user1").location("room1").start(start)
+				.status(Appointment.AppointmentStatus.DONE).feedback("F").build();
+	}
+}
@@ -0,0 +1,172 @@
+package com.example.appointment.service;
+
+import com.example.appointment.client.GuestServiceClient;
+import com.example.appointment.dto.GuestResponse;
+import com.example.appointment.entity.AppointmentArchive;
+import com.example.appointment.entity.AppointmentParticipant;
+import com.example.appointment.repository.AppointmentArchiveRepository;
+import com.example.appointment.repository.AppointmentParticipantRepository;
+import com.example.appointment.repository.AppointmentRepository;
+import com.example.appointment.scheduler.SchedulerLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.example.appointment.support.TestAppointments.appointment;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 참여자 로컬 인덱스 동기화 테스트 (사용자 단위 교체, 일괄 재동기화 mark-and-sweep, 리스)
+ */
+class AppointmentParticipantSyncTest {
+
+	private static final LocalDateTime START = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+	private GuestServiceClient guestServiceClient;
+	private AppointmentParticipantRepository participantRepository;
+	private AppointmentRepository appointmentRepository;
+	private AppointmentArchiveRepository archiveRepository;
+	private SchedulerLock schedulerLock;
+	private AppointmentParticipantSync sync;
+
+	@BeforeEach
+	void setUp() {
+		guestServiceClient = mock(GuestServiceClient.class);
+		participantRepository = mock(AppointmentParticipantRepository.class);
+		appointmentRepository = mock(AppointmentRepository.class);
+		archiveRepository = mock(AppointmentArchiveRepository.class);
+		schedulerLock = mock(SchedulerLock.class);
+		when(schedulerLock.tryAcquire(eq(AppointmentParticipantSync.RECONCILE_LOCK), any())).thenReturn(true);
+		sync = new AppointmentParticipantSync(guestServiceClient, participantRepository, appointmentRepository,
+				archiveRepository, new TransactionTemplate(mock(PlatformTransactionManager.class)), schedulerLock,
+				2, 2, 10, 120L);
+	}
+
+	@Test
+	void syncUserReplacesRowsWithLocalStartTimes() {
+		when(guestServiceClient.fetchGuestsByUserIdAndStatus("user1", "coming")).thenReturn(List.of(
+				guest("g1", "appo001", "user1"), guest("g2", "appo002", "user1"), guest("g3", "appo404", "user1")));
+		when(appointmentRepository.findByAppointmentIdIn(anyList())).thenReturn(List.of(appointment("appo001").start(START).build()));
+		when(archiveRepository.findByAppointmentIdIn(anyList()))
+				.thenReturn(List.of(archived("appo002", START.minusMonths(2))));
+
+		sync.syncUser("user1");
+
+		// 로컬에 없는 약속(appo404)은 제외하고, 보관된 약속은 보관 테이블의 시작 시간 사용
+		verify(participantRepository).upsert(eq("appo001"), eq("user1"), eq("g1"), eq("coming"), eq(START), any(), isNull());
+		verify(participantRepository).upsert(eq("appo002"), eq("user1"), eq("g2"), eq("coming"), eq(START.minusMonths(2)), any(), isNull());
+		verify(participantRepository, never()).upsert(eq("appo404"), any(), any(), any(), any(), any(), any());
+		// 현재 참여 약속에 없는 행만 삭제 (전체 삭제 후 재삽입하지 않음)
+		ArgumentCaptor<List<String>> kept = listCaptor();
+		verify(participantRepository).deleteByUserIdAndStatusAndAppointmentIdNotIn(eq("user1"), eq("coming"), kept.capture());
+		assertThat(kept.getValue()).containsExactlyInAnyOrder("appo001", "appo002");
+		verify(participantRepository, never()).deleteByUserIdAndStatus(any(), any());
+	}
+
+	@Test
+	void syncUserWithoutParticipationRemovesAllRows() {
+		when(guestServiceClient.fetchGuestsByUserIdAndStatus("user1", "coming")).thenReturn(List.of());
+
+		sync.syncUser("user1");
+
+		verify(participantRepository).deleteByUserIdAndStatus("user1", "coming");
+		verify(participantRepository, never()).upsert(any(), any(), any(), any(), any(), any(), any());
+	}
+
+	@Test
+	void syncAppointmentResyncsPreviousAndCurrentParticipants() {
+		when(participantRepository.findByAppointmentId("appo001")).thenReturn(List.of(
+				new AppointmentParticipant("appo001", "left", "g0", "coming", START, START, null)));
+		when(guestServiceClient.fetchGuestsByAppointmentId("appo001")).thenReturn(List.of(guest("g1", "appo001", "joined")));
+		when(guestServiceClient.fetchGuestsByUserIdAndStatus(any(), eq("coming"))).thenReturn(List.of());
+
+		sync.syncAppointment("appo001");
+
+		// 참여를 취소한 사용자(left)도 다시 읽어 행이 제거되어야 함
+		verify(participantRepository).deleteByUserIdAndStatus("left", "coming");
+		verify(participantRepository).deleteByUserIdAndStatus("joined", "coming");
+	}
+
+	@Test
+	void reconcileMarksRowsWithRunTokenThenRechecksUnconfirmedUsers() {
+		when(guestServiceClient.fetchGuestsPageByStatus("coming", 0, 2)).thenReturn(List.of(
+				guest("g1", "appo001", "user1"), guest("g2", "appo001", "user2")));
+		when(guestServiceClient.fetchGuestsPageByStatus("coming", 1, 2)).thenReturn(List.of(
+				guest("g3", "appo001", "user3")));
+		when(appointmentRepository.findByAppointmentIdIn(anyList())).thenReturn(List.of(appointment("appo001").start(START).build()));
+		// 목록 조회 중 건너뛴 행의 사용자 - 사용자 단위로 다시 확인하면 여전히 참여 중
+		when(participantRepository.findUnconfirmedUserIds(eq("coming"), anyString(), eq(""), any())).thenReturn(List.of("skipped"));
+		when(guestServiceClient.fetchGuestsByUserIdAndStatus("skipped", "coming"))
+				.thenReturn(List.of(guest("g4", "appo001", "skipped")));
+
+		int total = sync.reconcileAll();
+
+		assertThat(total).isEqualTo(3);
+		ArgumentCaptor<String> tokens = ArgumentCaptor.forClass(String.class);
+		verify(participantRepository).upsert(eq("appo001"), eq("user1"), any(), any(), any(), any(), tokens.capture());
+		verify(participantRepository).upsert(eq("appo001"), eq("user3"), any(), any(), any(), any(), tokens.capture());
+		String runToken = tokens.getAllValues().get(0);
+		assertThat(runToken).isNotNull();
+		assertThat(tokens.getAllValues()).containsOnly(runToken);
+		verify(participantRepository).findUnconfirmedUserIds(eq("coming"), eq(runToken), eq(""), any());
+		// 미확인 행은 바로 지우지 않고 사용자 단위 동기화 결과로 유지/삭제
+		verify(participantRepository).upsert(eq("appo001"), eq("skipped"), eq("g4"), any(), any(), any(), isNull());
+		verify(participantRepository).deleteByUserIdAndStatusAndAppointmentIdNotIn(eq("skipped"), eq("coming"), eq(List.of("appo001")));
+		verify(schedulerLock).release(AppointmentParticipantSync.RECONCILE_LOCK);
+	}
+
+	@Test
+	void failedReconcileKeepsExistingRows() {
+		when(guestServiceClient.fetchGuestsPageByStatus("coming", 0, 2)).thenReturn(List.of(
+				guest("g1", "appo001", "user1"), guest("g2", "appo001", "user2")));
+		when(guestServiceClient.fetchGuestsPageByStatus("coming", 1, 2)).thenThrow(new IllegalStateException("down"));
+		when(appointmentRepository.findByAppointmentIdIn(anyList())).thenReturn(List.of(appointment("appo001").start(START).build()));
+
+		assertThatThrownBy(() -> sync.reconcileAll()).isInstanceOf(IllegalStateException.class);
+
+		verify(participantRepository, never()).findUnconfirmedUserIds(any(), any(), any(), any());
+		verify(schedulerLock).release(AppointmentParticipantSync.RECONCILE_LOCK);
+	}
+
+	@Test
+	void reconcileSkipsWhenAnotherInstanceHoldsLease() {
+		when(schedulerLock.tryAcquire(eq(AppointmentParticipantSync.RECONCILE_LOCK), any())).thenReturn(false);
+
+		assertThat(sync.reconcileAll()).isZero();
+
+		verify(guestServiceClient, never()).fetchGuestsPageByStatus(any(), anyInt(), anyInt());
+		verify(schedulerLock, never()).release(any());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ArgumentCaptor<List<String>> listCaptor() {
+		return ArgumentCaptor.forClass(List.class);
+	}
+
+	private static GuestResponse guest(String guestId, String appointmentId, String userId) {
+		return new GuestResponse(guestId, appointmentId, userId, userId, userId);
+	}
+
+	private static AppointmentArchive archived(String id, LocalDateTime startTime) {
+		AppointmentArchive archive = new AppointmentArchive();
+		archive.setAppointmentId(id);
+		archive.setStartTime(startTime);
+		return archive;
+	}
+}
@@ -0,0 +1,58 @@
+package com.example.appointment.service;
+
+import com.example.appointment.client.UserServiceClient;
+import com.example.appointment.entity.Appointment;
+import com.example.appointment.repository.AppointmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 약속 키워드 검색 테스트 (검색어 분리, FULLTEXT 질의 생성)
+ */
+class AppointmentSearchServiceTest {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2025, 12, 1, 9, 0);
+
+	private AppointmentRepository appointmentRepository;
+	private AppointmentSearchService searchService;
+
+	@BeforeEach
+	void setUp() {
+		appointmentRepository = mock(AppointmentRepository.class);
+		UserServiceClient userServiceClient = mock(UserServiceClient.class);
+		when(userServiceClient.getUserByIdAsync(anyString())).thenReturn(CompletableFuture.completedFuture(null));
+		searchService = new AppointmentSearchService(appointmentRepository, new HostLookup(userServiceClient), 1000L);
+	}
+
+	@Test
+	void splitsKeywordsAndBuildsRequiredPhraseQuery() {
+		List<String> keywords = AppointmentSearchService.keywords("  회의  \"주간\" 회의 ");
+
+		assertThat(keywords).containsExactly("회의", "주간");
+		assertThat(AppointmentSearchService.toBooleanQuery(keywords)).isEqualTo("+\"회의\" +\"주간\"");
+	}
+
+	@Test
+	void rejectsEmptyOrTooShortKeywords() {
+		assertThatThrownBy(() -> AppointmentSearchService.keywords("  ")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> AppointmentSearchService.keywords("회의 a")).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void usesFullTextQueryWithFiltersAndOffset() {
+		searchService.search("회의", "room1", Appointment.AppointmentStatus.PLANNED, BASE, BASE.plusDays(7), 2, 20);
+
+		verify(appointmentRepository).searchFullText("+\"회의\"", "room1", "PLANNED", BASE, BASE.plusDays(7), 20, 40);
+	}
+}
@@ -0,0 +1,118 @@
+package com.example.appointment.service;
+
+import com.example.appointment.client.UserServiceClient;
+import com.example.appointment.entity.Appointment;
+import com.example.appointment.entity.AppointmentSeries;
+import com.example.appointment.entity.AppointmentSeriesOverride;
+import com.example.appointment.repository.AppointmentArchiveRepository;
+import com.example.appointment.repository.AppointmentRepository;
+import com.example.appointment.repository.AppointmentSeriesOverrideRepository;
+import com.example.appointment.repository.AppointmentSeriesRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.appointment.support.TestAppointments.appointment;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 시리즈 발생 생성 JPA 테스트 - 실제 EntityManager/트랜잭션으로 약속 ID 충돌 후 재시도 확인
+ * (마이그레이션은 MySQL 전용이므로 필요한 테이블만 H2에 생성, 서비스의 트랜잭션을 그대로 쓰도록 테스트 트랜잭션 없이 실행)
+ */
+@DataJpaTest(properties = {
+		"spring.flyway.enabled=false",
+		"spring.jpa.hibernate.ddl-auto=none",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Sql(statements = {
+		"CREATE TABLE IF NOT EXISTS appointment (appointment_id VARCHAR(100) PRIMARY KEY, host_id VARCHAR(100) NOT NULL, "
+				+ "title VARCHAR(200) NOT NULL, description CLOB, start_time TIMESTAMP(6) NOT NULL, "
+				+ "end_time TIMESTAMP(6) NOT NULL, location_id VARCHAR(100) NOT NULL, "
+				+ "appointment_status VARCHAR(20) NOT NULL, feedback CHAR(1) NOT NULL, version BIGINT NOT NULL, "
+				+ "updated_at TIMESTAMP(6))",
+		"CREATE TABLE IF NOT EXISTS appointment_series_override (series_id VARCHAR(100) NOT NULL, "
+				+ "original_start_time TIMESTAMP(6) NOT NULL, override_type VARCHAR(20) NOT NULL, "
+				+ "appointment_id VARCHAR(100), created_at TIMESTAMP(6) NOT NULL, "
+				+ "PRIMARY KEY (series_id, original_start_time))",
+		"DELETE FROM appointment_series_override",
+		"DELETE FROM appointment"
+})
+class AppointmentSeriesMaterializeJpaTest {
+
+	private static final LocalDateTime START = LocalDateTime.of(2025, 3, 3, 10, 0);
+
+	@Autowired
+	private AppointmentRepository appointmentRepository;
+
+	@Autowired
+	private AppointmentSeriesOverrideRepository overrideRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private AppointmentCreationPipeline appointmentCreationPipeline;
+	private AppointmentSeriesService seriesService;
+	private final List<Object> events = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		AppointmentSeries series = new AppointmentSeries();
+		series.setSeriesId("seri001");
+		series.setHostId("host1");
+		series.setTitle("주간 회의");
+		series.setLocationId("loc1");
+		series.setStartTime(START);
+		series.setEndTime(START.plusHours(1));
+		series.setRecurrenceRule("FREQ=WEEKLY");
+
+		AppointmentSeriesRepository seriesRepository = mock(AppointmentSeriesRepository.class);
+		when(seriesRepository.findSeriesInRange(any(), any())).thenReturn(List.of(series));
+		AppointmentSeriesExpander seriesExpander = mock(AppointmentSeriesExpander.class);
+		when(seriesExpander.expand(any(), any(), any())).thenReturn(List.of(
+				new AppointmentSeriesExpander.Occurrence(series, START, START.plusHours(1))));
+		appointmentCreationPipeline = mock(AppointmentCreationPipeline.class);
+
+		seriesService = new AppointmentSeriesService(seriesRepository, overrideRepository, seriesExpander,
+				appointmentRepository, mock(AppointmentArchiveRepository.class), appointmentCreationPipeline,
+				mock(AppointmentService.class), mock(UserServiceClient.class), events::add,
+				new TransactionTemplate(transactionManager), entityManager, 365, 366);
+	}
+
+	@Test
+	void retryAfterAppointmentIdCollisionInsertsFreshAppointment() {
+		appointmentRepository.save(appointment("appo010").host("other").build());
+		when(appointmentCreationPipeline.allocateAppointmentId()).thenReturn("appo010", "appo011");
+
+		int materialized = seriesService.materializeStartingBetween(START.minusMinutes(5), START.plusMinutes(5));
+
+		assertThat(materialized).isEqualTo(1);
+		assertThat(appointmentRepository.findById("appo011")).hasValueSatisfying(created -> {
+			assertThat(created.getHostId()).isEqualTo("host1");
+			assertThat(created.getStartTime()).isEqualTo(START);
+			assertThat(created.getVersion()).isZero();
+		});
+		// 충돌한 기존 약속은 그대로 유지되고, 첫 시도의 예외 행은 롤백됨
+		assertThat(appointmentRepository.findById("appo010")).map(Appointment::getHostId).hasValue("other");
+		assertThat(overrideRepository.findAll()).singleElement()
+				.extracting(AppointmentSeriesOverride::getAppointmentId).isEqualTo("appo011");
+		assertThat(events).hasSize(1);
+	}
+}
@@ -0,0 +1,228 @@
+package com.example.appointment.service;
+
+import com.example.appointment.client.UserServiceClient;
+import com.example.appointment.dto.AppointmentRequestDto;
+import com.example.appointment.dto.AppointmentResponseDto;
+import com.example.appointment.dto.AppointmentStatusUpdateDto;
+import com.example.appointment.entity.Appointment;
+import com.example.appointment.entity.AppointmentSeries;
+import com.example.appointment.entity.AppointmentSeriesOverride;
+import com.example.appointment.event.AppointmentChangedEvent;
+import com.example.appointment.repository.AppointmentArchiveRepository;
+import com.example.appointment.repository.AppointmentRepository;
+import com.example.appointment.repository.AppointmentSeriesOverrideRepository;
+import com.example.appointment.repository.AppointmentSeriesRepository;
+import jakarta.persistence.EntityExistsException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.example.appointment.support.TestAppointments.appointment;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 시리즈 발생 생성/수정/취소 테스트 (예외 행 선점, 약속 ID 충돌 재시도, 취소 결과 확인)
+ */
+class AppointmentSeriesServiceTest {
+
+	private static final LocalDateTime START = LocalDateTime.of(2025, 3, 3, 10, 0);
+
+	private AppointmentSeriesRepository seriesRepository;
+	private AppointmentSeriesOverrideRepository overrideRepository;
+	private AppointmentSeriesExpander seriesExpander;
+	private AppointmentRepository appointmentRepository;
+	private AppointmentCreationPipeline appointmentCreationPipeline;
+	private AppointmentService appointmentService;
+	private EntityManager entityManager;
+	private List<Object> events;
+	private AppointmentSeriesService seriesService;
+	private AppointmentSeries series;
+
+	@BeforeEach
+	void setUp() {
+		seriesRepository = mock(AppointmentSeriesRepository.class);
+		overrideRepository = mock(AppointmentSeriesOverrideRepository.class);
+		seriesExpander = mock(AppointmentSeriesExpander.class);
+		appointmentRepository = mock(AppointmentRepository.class);
+		appointmentCreationPipeline = mock(AppointmentCreationPipeline.class);
+		appointmentService = mock(AppointmentService.class);
+		entityManager = mock(EntityManager.class);
+		events = new ArrayList<>();
+		ApplicationEventPublisher eventPublisher = events::add;
+		seriesService = new AppointmentSeriesService(seriesRepository, overrideRepository, seriesExpander,
+				appointmentRepository, mock(AppointmentArchiveRepository.class), appointmentCreationPipeline,
+				appointmentService, mock(UserServiceClient.class), eventPublisher,
+				new TransactionTemplate(mock(PlatformTransactionManager.class)), entityManager, 365, 366);
+
+		series = new AppointmentSeries();
+		series.setSeriesId("seri001");
+		series.setHostId("host1");
+		series.setTitle("주간 회의");
+		series.setStartTime(START);
+		series.setEndTime(START.plusHours(1));
+		series.setRecurrenceRule("FREQ=WEEKLY");
+		when(seriesRepository.findById("seri001")).thenReturn(Optional.of(series));
+		when(seriesRepository.findSeriesInRange(any(), any())).thenReturn(List.of(series));
+		when(seriesExpander.isOccurrence(eq(series), any())).thenReturn(true);
+		when(seriesExpander.findOverride(any(), any())).thenReturn(Optional.empty());
+		when(appointmentCreationPipeline.allocateAppointmentId()).thenReturn("appo010", "appo011");
+	}
+
+	@Test
+	void materializeClaimsOccurrenceBeforeInsertingAppointment() {
+		occurrenceStartingAt(START);
+
+		int materialized = seriesService.materializeStartingBetween(START.minusMinutes(5), START.plusMinutes(5));
+
+		assertThat(materialized).isEqualTo(1);
+		var order = inOrder(overrideRepository, entityManager);
+		ArgumentCaptor<AppointmentSeriesOverride> override = ArgumentCaptor.forClass(AppointmentSeriesOverride.class);
+		order.verify(overrideRepository).saveAndFlush(override.capture());
+		ArgumentCaptor<Appointment> appointment = ArgumentCaptor.forClass(Appointment.class);
+		order.verify(entityManager).persist(appointment.capture());
+		order.verify(entityManager).flush();
+		assertThat(override.getValue().isNew()).isTrue();
+		assertThat(override.getValue().getOverrideType()).isEqualTo(AppointmentSeriesOverride.OverrideType.MATERIALIZED);
+		assertThat(override.getValue().getAppointmentId()).isEqualTo("appo010");
+		assertThat(appointment.getValue().getAppointmentId()).isEqualTo("appo010");
+		assertThat(appointment.getValue().getStartTime()).isEqualTo(START);
+		assertThat(events).singleElement().satisfies(event ->
+				assertThat(((AppointmentChangedEvent) event).getType()).isEqualTo(AppointmentChangedEvent.Type.CREATED));
+		// 약속은 save(merge)로 저장하지 않음
+		verify(appointmentRepository, never()).save(any());
+	}
+
+	@Test
+	void materializeSkipsOccurrenceClaimedByAnotherInstance() {
+		occurrenceStartingAt(START);
+		when(overrideRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+		int materialized = seriesService.materializeStartingBetween(START.minusMinutes(5), START.plusMinutes(5));
+
+		assertThat(materialized).isZero();
+		verify(entityManager, never()).persist(any());
+		assertThat(events).isEmpty();
+	}
+
+	@Test
+	void materializeRetriesWithNewIdWhenAppointmentIdCollides() {
+		occurrenceStartingAt(START);
+		doThrow(new EntityExistsException("appo010")).doNothing().when(entityManager).flush();
+
+		int materialized = seriesService.materializeStartingBetween(START.minusMinutes(5), START.plusMinutes(5));
+
+		assertThat(materialized).isEqualTo(1);
+		ArgumentCaptor<AppointmentSeriesOverride> overrides = ArgumentCaptor.forClass(AppointmentSeriesOverride.class);
+		verify(overrideRepository, times(2)).saveAndFlush(overrides.capture());
+		assertThat(overrides.getAllValues()).extracting(AppointmentSeriesOverride::getAppointmentId)
+				.containsExactly("appo010", "appo011");
+		// 실패한 persist 의 엔티티를 재사용하지 않음
+		ArgumentCaptor<Appointment> persisted = ArgumentCaptor.forClass(Appointment.class);
+		verify(entityManager, times(2)).persist(persisted.capture());
+		assertThat(persisted.getAllValues().get(0)).isNotSameAs(persisted.getAllValues().get(1));
+		assertThat(persisted.getAllValues()).extracting(Appointment::getAppointmentId).containsExactly("appo010", "appo011");
+		assertThat(events).singleElement().satisfies(event ->
+				assertThat(((AppointmentChangedEvent) event).getAppointmentId()).isEqualTo("appo011"));
+	}
+
+	@Test
+	void overrideOfOccurrenceClaimedConcurrentlyIsConflict() {
+		when(appointmentRepository.findOverlappingAppointments(any(), any(), any())).thenReturn(List.of());
+		when(seriesExpander.findHostConflict(any(), any(), any(), any(), any())).thenReturn(Optional.empty());
+		when(overrideRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("duplicate"));
+		AppointmentRequestDto changes = new AppointmentRequestDto();
+		changes.setTitle("장소 변경");
+
+		assertThatThrownBy(() -> seriesService.overrideOccurrence("seri001", START, changes))
+				.isInstanceOf(IllegalStateException.class);
+		verify(entityManager, never()).persist(any());
+	}
+
+	@Test
+	void cancelOfPlainOccurrenceInsertsCancelledOverride() {
+		assertThat(seriesService.cancelOccurrence("seri001", START)).isTrue();
+
+		ArgumentCaptor<AppointmentSeriesOverride> override = ArgumentCaptor.forClass(AppointmentSeriesOverride.class);
+		verify(overrideRepository).saveAndFlush(override.capture());
+		assertThat(override.getValue().getOverrideType()).isEqualTo(AppointmentSeriesOverride.OverrideType.CANCELLED);
+	}
+
+	@Test
+	void cancelOfMaterializedOccurrenceReportsMissingAppointment() {
+		materializedAs("appo010");
+		when(appointmentService.updateAppointmentStatus(eq("appo010"), any(AppointmentStatusUpdateDto.class))).thenReturn(null);
+
+		assertThat(seriesService.cancelOccurrence("seri001", START)).isFalse();
+	}
+
+	@Test
+	void cancelOfMaterializedOccurrenceCancelsAppointment() {
+		materializedAs("appo010");
+		AppointmentResponseDto cancelled = mock(AppointmentResponseDto.class);
+		when(appointmentService.updateAppointmentStatus(eq("appo010"), any(AppointmentStatusUpdateDto.class))).thenReturn(cancelled);
+
+		assertThat(seriesService.cancelOccurrence("seri001", START)).isTrue();
+		verify(overrideRepository, never()).saveAndFlush(any());
+	}
+
+	@Test
+	void cancelOfAlreadyCancelledOccurrenceIsIdempotentButFinishedOneIsRejected() {
+		materializedAs("appo010");
+		when(appointmentService.updateAppointmentStatus(eq("appo010"), any(AppointmentStatusUpdateDto.class)))
+				.thenThrow(new IllegalArgumentException("Cannot change status (INV-A007)"));
+		when(appointmentRepository.findById("appo010"))
+				.thenReturn(Optional.of(appointment("appo010").host("host1").start(START)
+						.status(Appointment.AppointmentStatus.CANCELLED).build()))
+				.thenReturn(Optional.of(appointment("appo010").host("host1").start(START)
+						.status(Appointment.AppointmentStatus.DONE).build()));
+
+		assertThat(seriesService.cancelOccurrence("seri001", START)).isTrue();
+		assertThatThrownBy(() -> seriesService.cancelOccurrence("seri001", START))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void cancelRacingWithMaterializeCancelsMaterializedAppointment() {
+		AppointmentSeriesOverride materialized = new AppointmentSeriesOverride("seri001", START,
+				AppointmentSeriesOverride.OverrideType.MATERIALIZED, "appo010", START.minusHours(1));
+		when(seriesExpander.findOverride("seri001", START))
+				.thenReturn(Optional.empty())
+				.thenReturn(Optional.of(materialized));
+		when(overrideRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("duplicate"));
+		AppointmentResponseDto cancelled = mock(AppointmentResponseDto.class);
+		when(appointmentService.updateAppointmentStatus(eq("appo010"), any(AppointmentStatusUpdateDto.class))).thenReturn(cancelled);
+
+		assertThat(seriesService.cancelOccurrence("seri001", START)).isTrue();
+		verify(appointmentService).updateAppointmentStatus(eq("appo010"), any(AppointmentStatusUpdateDto.class));
+	}
+
+	private void occurrenceStartingAt(LocalDateTime startTime) {
+		when(seriesExpander.expand(any(), any(), any())).thenReturn(List.of(
+				new AppointmentSeriesExpander.Occurrence(series, startTime, startTime.plusHours(1))));
+	}
+
+	private void materializedAs(String appointmentId) {
+		when(seriesExpander.findOverride("seri001", START)).thenReturn(Optional.of(new AppointmentSeriesOverride(
+				"seri001", START, AppointmentSeriesOverride.OverrideType.MATERIALIZED, appointmentId, START.minusHours(1))));
+	}
+}
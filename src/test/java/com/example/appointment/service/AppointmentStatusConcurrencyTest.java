@@ -0,0 +1,210 @@
+package com.example.appointment.service;
+
+import com.example.appointment.client.UserServiceClient;
+import com.example.appointment.dto.AppointmentResponseDto;
+import com.example.appointment.dto.AppointmentStatusUpdateDto;
+import com.example.appointment.entity.Appointment;
+import com.example.appointment.event.AppointmentChangedEvent;
+import com.example.appointment.index.AppointmentTimelineIndex;
+import com.example.appointment.repository.AppointmentArchiveRepository;
+import com.example.appointment.repository.AppointmentParticipantRepository;
+import com.example.appointment.repository.AppointmentRepository;
+import com.example.appointment.scheduler.AppointmentStatusScheduler;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.example.appointment.support.TestAppointments.appointment;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 스케줄러 자동 상태 변경과 수동 취소가 동시에 실행될 때 종료 상태(DONE/CANCELLED)가 덮어써지지 않는지 검증
+ */
+class AppointmentStatusConcurrencyTest {
+
+	private static final int APPOINTMENT_COUNT = 200;
+
+	private final Map<String, AtomicReference<Appointment.AppointmentStatus>> store = new ConcurrentHashMap<>();
+	private final Map<String, List<Appointment.AppointmentStatus>> history = new ConcurrentHashMap<>();
+	private final List<AppointmentChangedEvent> events = new CopyOnWriteArrayList<>();
+
+	private AppointmentRepository appointmentRepository;
+	private AppointmentService appointmentService;
+	private AppointmentStatusScheduler scheduler;
+
+	@BeforeEach
+	void setUp() {
+		appointmentRepository = mock(AppointmentRepository.class);
+		ApplicationEventPublisher eventPublisher = event -> events.add((AppointmentChangedEvent) event);
+		TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+		when(appointmentRepository.findById(anyString())).thenAnswer(invocation -> {
+			String id = invocation.getArgument(0);
+			AtomicReference<Appointment.AppointmentStatus> status = store.get(id);
+			return status == null ? Optional.empty() : Optional.of(appointment(id).status(status.get()).build());
+		});
+		when(appointmentRepository.transitionStatus(anyString(), any(), any(), any())).thenAnswer(invocation ->
+				compareAndSet(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+
+		appointmentService = new AppointmentService(appointmentRepository, mock(UserServiceClient.class),
+				mock(GuestMembershipCache.class), mock(AppointmentTimelineIndex.class), eventPublisher, transactionTemplate,
+				mock(AppointmentCreationPipeline.class), mock(AppointmentReadCoalescer.class),
+				mock(AppointmentArchiveRepository.class), mock(AppointmentParticipantRepository.class), false, 30);
+		scheduler = new AppointmentStatusScheduler(appointmentRepository, eventPublisher, transactionTemplate,
+				ObservationRegistry.NOOP);
+	}
+
+	@Test
+	void schedulerNeverOverwritesCancellationAndCancelNeverOverwritesDone() throws Exception {
+		for (int i = 0; i < APPOINTMENT_COUNT; i++) {
+			put(String.format("appo%03d", i), Appointment.AppointmentStatus.ONGOING);
+		}
+		// 스케줄러는 항상 오래된(ONGOING) 스냅샷을 읽는다고 가정하여 경합을 최대화
+		when(appointmentRepository.findAppointmentsToEndNow(any()))
+				.thenAnswer(invocation -> staleSnapshot(Appointment.AppointmentStatus.ONGOING));
+		when(appointmentRepository.findAppointmentsToStartNow(any())).thenReturn(List.of());
+		when(appointmentRepository.findPlannedAppointmentsPastEndTime(any())).thenReturn(List.of());
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicBoolean running = new AtomicBoolean(true);
+		Map<String, Boolean> cancelled = new ConcurrentHashMap<>();
+		try {
+			Future<?> schedulerRun = executor.submit(() -> {
+				start.await();
+				while (running.get()) {
+					scheduler.updateAppointmentStatuses();
+				}
+				return null;
+			});
+			List<Future<?>> cancellations = new ArrayList<>();
+			for (String id : store.keySet()) {
+				cancellations.add(executor.submit(() -> {
+					start.await();
+					try {
+						AppointmentResponseDto response = appointmentService.updateAppointmentStatus(id,
+								new AppointmentStatusUpdateDto(Appointment.AppointmentStatus.CANCELLED));
+						cancelled.put(id, response.getAppointmentStatus() == Appointment.AppointmentStatus.CANCELLED);
+					} catch (IllegalArgumentException e) {
+						cancelled.put(id, false);
+					}
+					return null;
+				}));
+			}
+
+			start.countDown();
+			for (Future<?> cancellation : cancellations) {
+				cancellation.get(30, TimeUnit.SECONDS);
+			}
+			running.set(false);
+			schedulerRun.get(30, TimeUnit.SECONDS);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(cancelled).hasSize(APPOINTMENT_COUNT);
+		for (String id : store.keySet()) {
+			Appointment.AppointmentStatus expected = cancelled.get(id)
+					? Appointment.AppointmentStatus.CANCELLED
+					: Appointment.AppointmentStatus.DONE;
+			assertThat(store.get(id).get()).as(id).isEqualTo(expected);
+			// ONGOING 에서 종료 상태로 정확히 한 번만 전이
+			assertThat(history.get(id)).as(id).containsExactly(Appointment.AppointmentStatus.ONGOING, expected);
+		}
+		assertThat(events).hasSize(APPOINTMENT_COUNT);
+	}
+
+	@Test
+	void cancelUsesStatusReachedConcurrentlyAsPreviousStatus() {
+		put("appo001", Appointment.AppointmentStatus.PLANNED);
+		AtomicBoolean raced = new AtomicBoolean(false);
+		doAnswer(invocation -> {
+			// 첫 UPDATE 직전에 스케줄러가 PLANNED → ONGOING 으로 변경
+			if (raced.compareAndSet(false, true)) {
+				compareAndSet("appo001", List.of(Appointment.AppointmentStatus.PLANNED), Appointment.AppointmentStatus.ONGOING);
+			}
+			return compareAndSet(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+		}).when(appointmentRepository).transitionStatus(anyString(), any(), any(), any());
+
+		AppointmentResponseDto response = appointmentService.updateAppointmentStatus("appo001",
+				new AppointmentStatusUpdateDto(Appointment.AppointmentStatus.CANCELLED));
+
+		assertThat(response.getAppointmentStatus()).isEqualTo(Appointment.AppointmentStatus.CANCELLED);
+		assertThat(history.get("appo001")).containsExactly(Appointment.AppointmentStatus.PLANNED,
+				Appointment.AppointmentStatus.ONGOING, Appointment.AppointmentStatus.CANCELLED);
+		assertThat(events).singleElement()
+				.extracting(AppointmentChangedEvent::getPreviousStatus)
+				.isEqualTo(Appointment.AppointmentStatus.ONGOING);
+	}
+
+	@Test
+	void cancelOfFinishedAppointmentIsRejectedWithoutChange() {
+		put("appo001", Appointment.AppointmentStatus.DONE);
+
+		assertThatThrownBy(() -> appointmentService.updateAppointmentStatus("appo001",
+				new AppointmentStatusUpdateDto(Appointment.AppointmentStatus.CANCELLED)))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("INV-A007");
+		assertThat(history.get("appo001")).containsExactly(Appointment.AppointmentStatus.DONE);
+		assertThat(events).isEmpty();
+	}
+
+	@Test
+	void cancelOfMissingAppointmentReturnsNull() {
+		assertThat(appointmentService.updateAppointmentStatus("appo404",
+				new AppointmentStatusUpdateDto(Appointment.AppointmentStatus.CANCELLED))).isNull();
+		assertThat(events).isEmpty();
+	}
+
+	private void put(String id, Appointment.AppointmentStatus status) {
+		store.put(id, new AtomicReference<>(status));
+		history.put(id, new CopyOnWriteArrayList<>(List.of(status)));
+	}
+
+	// 조건부 UPDATE 시뮬레이션 - 현재 상태가 허용 목록에 있을 때만 원자적으로 변경
+	private int compareAndSet(String id, Collection<Appointment.AppointmentStatus> allowed, Appointment.AppointmentStatus next) {
+		AtomicReference<Appointment.AppointmentStatus> status = store.get(id);
+		if (status == null) {
+			return 0;
+		}
+		synchronized (status) {
+			Appointment.AppointmentStatus current = status.get();
+			if (!allowed.contains(current)) {
+				return 0;
+			}
+			status.set(next);
+			history.get(id).add(next);
+			return 1;
+		}
+	}
+
+	private List<Appointment> staleSnapshot(Appointment.AppointmentStatus status) {
+		List<Appointment> snapshot = new ArrayList<>();
+		store.keySet().forEach(id -> snapshot.add(appointment(id).status(status).build()));
+		return snapshot;
+	}
+}
@@ -0,0 +1,107 @@
+package com.example.appointment.service;
+
+import com.example.appointment.client.UserServiceClient;
+import com.example.appointment.dto.TimeBucketCountDto;
+import com.example.appointment.index.AppointmentTimelineIndex;
+import com.example.appointment.repository.AppointmentArchiveRepository;
+import com.example.appointment.repository.AppointmentParticipantRepository;
+import com.example.appointment.repository.AppointmentRepository;
+import com.example.appointment.repository.TimeBucketCountView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 시간 범위 조회 / 시간 구간 히스토그램 검증
+ */
+class AppointmentTimeQueryTest {
+
+	private static final LocalDateTime FROM = LocalDateTime.of(2025, 3, 1, 0, 0);
+	private static final LocalDateTime TO = LocalDateTime.of(2025, 3, 3, 0, 0);
+
+	private AppointmentRepository appointmentRepository;
+	private AppointmentService appointmentService;
+
+	@BeforeEach
+	void setUp() {
+		appointmentRepository = mock(AppointmentRepository.class);
+		appointmentService = new AppointmentService(appointmentRepository, mock(UserServiceClient.class),
+				mock(GuestMembershipCache.class), mock(AppointmentTimelineIndex.class),
+				mock(ApplicationEventPublisher.class), mock(TransactionTemplate.class),
+				mock(AppointmentCreationPipeline.class), mock(AppointmentReadCoalescer.class),
+				mock(AppointmentArchiveRepository.class), mock(AppointmentParticipantRepository.class), false, 30);
+	}
+
+	@Test
+	void hourHistogramKeepsOneBucketPerHour() {
+		List<TimeBucketCountView> rows = List.of(
+				row(LocalDate.of(2025, 3, 1), 9, 2),
+				row(LocalDate.of(2025, 3, 1), 14, 1),
+				row(LocalDate.of(2025, 3, 2), 9, 4));
+		when(appointmentRepository.countByStartTimeHour(FROM, TO)).thenReturn(rows);
+
+		List<TimeBucketCountDto> histogram = appointmentService.getTimeHistogram(
+				AppointmentService.TimeField.START_TIME, AppointmentService.HistogramBucket.HOUR, FROM, TO);
+
+		assertThat(histogram).containsExactly(
+				new TimeBucketCountDto(LocalDateTime.of(2025, 3, 1, 9, 0), 2),
+				new TimeBucketCountDto(LocalDateTime.of(2025, 3, 1, 14, 0), 1),
+				new TimeBucketCountDto(LocalDateTime.of(2025, 3, 2, 9, 0), 4));
+		verify(appointmentRepository, never()).countByEndTimeHour(FROM, TO);
+	}
+
+	@Test
+	void dayHistogramSumsHoursOfTheSameDate() {
+		List<TimeBucketCountView> rows = List.of(
+				row(LocalDate.of(2025, 3, 1), 9, 2),
+				row(LocalDate.of(2025, 3, 1), 14, 1),
+				row(LocalDate.of(2025, 3, 1), 23, 3),
+				row(LocalDate.of(2025, 3, 2), 0, 4));
+		when(appointmentRepository.countByEndTimeHour(FROM, TO)).thenReturn(rows);
+
+		List<TimeBucketCountDto> histogram = appointmentService.getTimeHistogram(
+				AppointmentService.TimeField.END_TIME, AppointmentService.HistogramBucket.DAY, FROM, TO);
+
+		assertThat(histogram).containsExactly(
+				new TimeBucketCountDto(LocalDateTime.of(2025, 3, 1, 0, 0), 6),
+				new TimeBucketCountDto(LocalDateTime.of(2025, 3, 2, 0, 0), 4));
+		verify(appointmentRepository, never()).countByStartTimeHour(FROM, TO);
+	}
+
+	@Test
+	void emptyRangeReturnsEmptyHistogram() {
+		when(appointmentRepository.countByStartTimeHour(FROM, TO)).thenReturn(List.of());
+
+		assertThat(appointmentService.getTimeHistogram(
+				AppointmentService.TimeField.START_TIME, AppointmentService.HistogramBucket.DAY, FROM, TO)).isEmpty();
+	}
+
+	@Test
+	void rangeQueryUsesRepositoryOfRequestedField() {
+		when(appointmentRepository.findByEndTimeRange(FROM, TO)).thenReturn(List.of());
+
+		assertThat(appointmentService.getAppointmentsInTimeRange(AppointmentService.TimeField.END_TIME, FROM, TO))
+				.isEmpty();
+		verify(appointmentRepository).findByEndTimeRange(FROM, TO);
+		verify(appointmentRepository, never()).findByStartTimeRange(FROM, TO);
+	}
+
+	private static TimeBucketCountView row(LocalDate date, int hour, long count) {
+		TimeBucketCountView view = mock(TimeBucketCountView.class);
+		when(view.getBucketDate()).thenReturn(date);
+		when(view.getBucketHour()).thenReturn(hour);
+		when(view.getCount()).thenReturn(count);
+		return view;
+	}
+}
@@ -0,0 +1,98 @@
+package com.example.appointment.service;
+
+import com.example.appointment.entity.GuestCacheInvalidation;
+import com.example.appointment.repository.GuestCacheInvalidationRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class GuestCacheInvalidationBroadcasterTest {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+	private GuestCacheInvalidationRepository invalidationRepository;
+	private GuestMembershipCache guestMembershipCache;
+	private GuestCacheInvalidationBroadcaster broadcaster;
+
+	@BeforeEach
+	void setUp() {
+		invalidationRepository = mock(GuestCacheInvalidationRepository.class);
+		guestMembershipCache = mock(GuestMembershipCache.class);
+		broadcaster = new GuestCacheInvalidationBroadcaster(invalidationRepository, guestMembershipCache,
+				new ObjectMapper(), 2, 1, 5000L);
+	}
+
+	@Test
+	void constructionDoesNotQueryDatabase() {
+		// 시작 위치는 첫 폴링 때 정함 - DB 없이 컨텍스트만 띄우는 실행(CDS 학습)에서도 기동 가능
+		verifyNoInteractions(invalidationRepository);
+	}
+
+	@Test
+	void broadcastInvalidatesLocallyAndRecordsRequest() {
+		broadcaster.broadcast(List.of("user001"), List.of("appo001", "appo002"));
+
+		verify(guestMembershipCache).invalidate(List.of("user001"), List.of("appo001", "appo002"));
+		ArgumentCaptor<GuestCacheInvalidation> saved = ArgumentCaptor.forClass(GuestCacheInvalidation.class);
+		verify(invalidationRepository).save(saved.capture());
+		assertThat(saved.getValue().getUserIds()).isEqualTo("[\"user001\"]");
+		assertThat(saved.getValue().getAppointmentIds()).isEqualTo("[\"appo001\",\"appo002\"]");
+	}
+
+	@Test
+	void pollAppliesRecordedRequestsAfterLastOneAcrossBatches() {
+		when(invalidationRepository.findMaxCreatedAt()).thenReturn(BASE);
+		when(invalidationRepository.findCreatedAfter(eq(BASE.minusSeconds(5)), eq(0L), any()))
+				.thenReturn(List.of(invalidation(11L, BASE.plusSeconds(1), "[\"user001\"]", null),
+						invalidation(12L, BASE.plusSeconds(1), null, "[\"appo001\"]")));
+		when(invalidationRepository.findCreatedAfter(eq(BASE.plusSeconds(1)), eq(12L), any()))
+				.thenReturn(List.of(invalidation(13L, BASE.plusSeconds(2), "[\"user002\"]", "[\"appo002\"]")));
+
+		broadcaster.poll();
+
+		verify(guestMembershipCache).invalidate(List.of("user001"), List.of());
+		verify(guestMembershipCache).invalidate(List.of(), List.of("appo001"));
+		verify(guestMembershipCache).invalidate(List.of("user002"), List.of("appo002"));
+
+		// 다음 폴링은 마지막 기록 시각에서 lookback 만큼 앞부터 다시 읽음
+		broadcaster.poll();
+		verify(invalidationRepository).findCreatedAfter(eq(BASE.minusSeconds(3)), eq(0L), any());
+		verify(invalidationRepository).findMaxCreatedAt();
+	}
+
+	@Test
+	void requestCommittedLateWithLowerIdIsAppliedOnce() {
+		when(invalidationRepository.findMaxCreatedAt()).thenReturn(BASE);
+		GuestCacheInvalidation first = invalidation(12L, BASE.plusSeconds(1), "[\"user001\"]", null);
+		// id 11은 id 12보다 늦게 커밋되어 다음 폴링에서야 보임
+		GuestCacheInvalidation late = invalidation(11L, BASE.plusSeconds(1), "[\"user002\"]", null);
+		when(invalidationRepository.findCreatedAfter(any(), anyLong(), any()))
+				.thenReturn(List.of(first))
+				.thenReturn(List.of(late, first));
+
+		broadcaster.poll();
+		broadcaster.poll();
+
+		verify(guestMembershipCache, times(1)).invalidate(List.of("user001"), List.of());
+		verify(guestMembershipCache, times(1)).invalidate(List.of("user002"), List.of());
+	}
+
+	private static GuestCacheInvalidation invalidation(Long id, LocalDateTime createdAt, String userIds,
+			String appointmentIds) {
+		return new GuestCacheInvalidation(id, userIds, appointmentIds, createdAt);
+	}
+}
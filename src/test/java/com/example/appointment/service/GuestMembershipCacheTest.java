@@ -0,0 +1,148 @@
+package com.example.appointment.service;
+
+import com.example.appointment.client.GuestServiceClient;
+import com.example.appointment.dto.GuestResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GuestMembershipCacheTest {
+
+	private final AtomicLong nanos = new AtomicLong();
+	private GuestServiceClient guestServiceClient;
+	private GuestMembershipCache cache;
+
+	@BeforeEach
+	void setUp() {
+		guestServiceClient = mock(GuestServiceClient.class);
+		cache = new GuestMembershipCache(guestServiceClient, new SimpleMeterRegistry(), 300L, 30L, 100L, 100L, 1,
+				nanos::get);
+		cache.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		cache.stop();
+	}
+
+	@Test
+	void repeatedLookupsWithinRefreshIntervalHitCache() {
+		when(guestServiceClient.fetchGuestsByUserIdAndStatus("user1", "coming"))
+				.thenReturn(List.of(guest("appo001", "user1"), guest("appo002", "user1")));
+
+		assertThat(cache.getParticipatingAppointmentIds("user1")).containsExactly("appo001", "appo002");
+		assertThat(cache.getParticipatingAppointmentIds("user1")).containsExactly("appo001", "appo002");
+
+		verify(guestServiceClient, times(1)).fetchGuestsByUserIdAndStatus("user1", "coming");
+	}
+
+	@Test
+	void staleEntryIsServedWhileRefreshingInBackground() {
+		when(guestServiceClient.fetchGuestsByAppointmentId("appo001"))
+				.thenReturn(List.of(guest("appo001", "user1")))
+				.thenReturn(List.of(guest("appo001", "user1"), guest("appo001", "user2")));
+		assertThat(cache.getGuests("appo001")).hasSize(1);
+
+		advance(Duration.ofSeconds(31));
+
+		// 갱신 시점 이후 첫 조회는 기존 값을 즉시 반환
+		assertThat(cache.getGuests("appo001")).hasSize(1);
+		await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+				assertThat(cache.getGuests("appo001")).hasSize(2));
+	}
+
+	@Test
+	void failedRefreshKeepsStaleValueUntilTtl() {
+		when(guestServiceClient.fetchGuestsByAppointmentId("appo001"))
+				.thenReturn(List.of(guest("appo001", "user1")))
+				.thenThrow(new IllegalStateException("guest service down"));
+		cache.getGuests("appo001");
+
+		advance(Duration.ofSeconds(31));
+		cache.getGuests("appo001");
+		await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+				verify(guestServiceClient, times(2)).fetchGuestsByAppointmentId("appo001"));
+
+		assertThat(cache.getGuests("appo001")).extracting(GuestResponse::getUserId).containsExactly("user1");
+
+		advance(Duration.ofSeconds(300));
+		assertThatThrownBy(() -> cache.getGuests("appo001")).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	@Timeout(5)
+	void batchLookupLoadsOnlyMissingAppointmentsConcurrently() {
+		when(guestServiceClient.fetchGuestsByAppointmentId("appo001")).thenReturn(List.of(guest("appo001", "user1")));
+		CompletableFuture<List<GuestResponse>> appo002 = new CompletableFuture<>();
+		CompletableFuture<List<GuestResponse>> appo003 = new CompletableFuture<>();
+		// 각 조회는 다른 약속의 조회가 시작될 때 완료되므로, 순차로 기다리면 끝나지 않음
+		when(guestServiceClient.fetchGuestsByAppointmentIdAsync("appo002")).thenAnswer(invocation -> {
+			appo003.complete(List.of());
+			return appo002;
+		});
+		when(guestServiceClient.fetchGuestsByAppointmentIdAsync("appo003")).thenAnswer(invocation -> {
+			appo002.complete(List.of(guest("appo002", "user1"), guest("appo002", "user2")));
+			return appo003;
+		});
+		cache.getGuests("appo001");
+
+		Map<String, List<GuestResponse>> guests = cache.getGuests(List.of("appo001", "appo002", "appo003"));
+
+		assertThat(guests.get("appo001")).hasSize(1);
+		assertThat(guests.get("appo002")).extracting(GuestResponse::getUserId).containsExactly("user1", "user2");
+		// Guest가 없는 약속도 빈 목록으로 캐시됨
+		assertThat(guests.get("appo003")).isEmpty();
+		assertThat(cache.getGuests("appo003")).isEmpty();
+		verify(guestServiceClient, never()).fetchGuestsByAppointmentIdAsync("appo001");
+		verify(guestServiceClient, never()).fetchGuestsByAppointmentId("appo003");
+	}
+
+	@Test
+	void batchLookupFailsWhenAnyAppointmentFails() {
+		when(guestServiceClient.fetchGuestsByAppointmentIdAsync("appo001"))
+				.thenReturn(CompletableFuture.completedFuture(List.of(guest("appo001", "user1"))));
+		when(guestServiceClient.fetchGuestsByAppointmentIdAsync("appo002"))
+				.thenReturn(CompletableFuture.failedFuture(new IllegalStateException("guest service down")));
+
+		assertThatThrownBy(() -> cache.getGuests(List.of("appo001", "appo002")))
+				.hasRootCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void invalidationForcesReload() {
+		when(guestServiceClient.fetchGuestsByUserIdAndStatus("user1", "coming"))
+				.thenReturn(List.of(guest("appo001", "user1")))
+				.thenReturn(List.of());
+		assertThat(cache.getParticipatingAppointmentIds("user1")).containsExactly("appo001");
+
+		cache.invalidate(List.of("user1"), null);
+
+		assertThat(cache.getParticipatingAppointmentIds("user1")).isEmpty();
+	}
+
+	private void advance(Duration duration) {
+		nanos.addAndGet(duration.toNanos());
+	}
+
+	private static GuestResponse guest(String appointmentId, String userId) {
+		return new GuestResponse("g-" + appointmentId + "-" + userId, appointmentId, userId, userId, userId);
+	}
+}
@@ -0,0 +1,50 @@
+package com.example.appointment.service;
+
+import com.example.appointment.client.UserServiceClient;
+import com.example.appointment.dto.UserResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static com.example.appointment.support.TestAppointments.appointment;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HostLookupTest {
+
+	private UserServiceClient userServiceClient;
+	private HostLookup hostLookup;
+
+	@BeforeEach
+	void setUp() {
+		userServiceClient = mock(UserServiceClient.class);
+		hostLookup = new HostLookup(userServiceClient);
+	}
+
+	@Test
+	void requestsEachHostOnceAndMapsFailuresAndTimeoutsToNull() {
+		UserResponse host1 = mock(UserResponse.class);
+		when(userServiceClient.getUserByIdAsync("host1")).thenReturn(CompletableFuture.completedFuture(host1));
+		when(userServiceClient.getUserByIdAsync("failing"))
+				.thenReturn(CompletableFuture.failedFuture(new IllegalStateException("down")));
+		when(userServiceClient.getUserByIdAsync("slow")).thenReturn(new CompletableFuture<>());
+
+		Map<String, UserResponse> hosts = hostLookup.fetch(List.of(
+				appointment("appo001").host("host1").build(),
+				appointment("appo002").host("failing").build(),
+				appointment("appo003").host("host1").build(),
+				appointment("appo004").host("slow").build()), 50);
+
+		assertThat(hosts).containsOnlyKeys("host1", "failing", "slow");
+		assertThat(hosts.get("host1")).isSameAs(host1);
+		assertThat(hosts.get("failing")).isNull();
+		assertThat(hosts.get("slow")).isNull();
+		verify(userServiceClient, times(1)).getUserByIdAsync("host1");
+	}
+}
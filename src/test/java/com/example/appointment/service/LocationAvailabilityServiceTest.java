@@ -0,0 +1,54 @@
+package com.example.appointment.service;
+
+import com.example.appointment.dto.LocationAvailabilityDto;
+import com.example.appointment.dto.TimeIntervalDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocationAvailabilityServiceTest {
+
+	private static final long HOUR = 3600L;
+	private static final long BASE = LocalDateTime.of(2025, 12, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+	@Test
+	void mergesOverlappingAndTouchingAppointmentsIntoBusyBlocks() {
+		// 9-10, 9:30-11, 11-12, 14-15 within a 8-18 window
+		long[] starts = {at(9), at(9) + HOUR / 2, at(11), at(14)};
+		long[] ends = {at(10), at(11), at(12), at(15)};
+
+		LocationAvailabilityDto result = LocationAvailabilityService.sweep("room1", starts, ends, at(8), at(18));
+
+		assertThat(result.getFreeIntervals()).containsExactly(
+				interval(8, 9), interval(12, 14), interval(15, 18));
+		assertThat(result.getBusySeconds()).isEqualTo(4 * HOUR);
+		assertThat(result.getUtilizationPercent()).isEqualTo(40.0);
+	}
+
+	@Test
+	void clipsAppointmentsToWindowAndHandlesEmptyLocations() {
+		long[] starts = {at(6)};
+		long[] ends = {at(9)};
+
+		LocationAvailabilityDto clipped = LocationAvailabilityService.sweep("room1", starts, ends, at(8), at(12));
+		LocationAvailabilityDto empty = LocationAvailabilityService.sweep("room2", new long[0], new long[0], at(8), at(12));
+
+		assertThat(clipped.getFreeIntervals()).containsExactly(interval(9, 12));
+		assertThat(clipped.getUtilizationPercent()).isEqualTo(25.0);
+		assertThat(empty.getFreeIntervals()).containsExactly(interval(8, 12));
+		assertThat(empty.getBusySeconds()).isZero();
+	}
+
+	private static long at(int hour) {
+		return BASE + hour * HOUR;
+	}
+
+	private static TimeIntervalDto interval(int startHour, int endHour) {
+		return new TimeIntervalDto(
+				LocalDateTime.ofEpochSecond(at(startHour), 0, ZoneOffset.UTC),
+				LocalDateTime.ofEpochSecond(at(endHour), 0, ZoneOffset.UTC));
+	}
+}
@@ -0,0 +1,68 @@
+package com.example.appointment.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+	private static final long TARGET_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+	private final AtomicLong now = new AtomicLong(0);
+
+	@Test
+	void rejectsRequestsBeyondLimit() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, TARGET_NANOS, 0.5, now::get);
+
+		assertThat(limiter.tryAcquire()).isTrue();
+		assertThat(limiter.tryAcquire()).isTrue();
+		assertThat(limiter.tryAcquire()).isFalse();
+		assertThat(limiter.getInFlight()).isEqualTo(2);
+	}
+
+	@Test
+	void slowResponsesShrinkLimitOncePerLatencyWindow() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(40, 4, 100, TARGET_NANOS, 0.5, now::get);
+		for (int i = 0; i < 20; i++) {
+			limiter.tryAcquire();
+		}
+
+		// 같은 구간에 끝난 느린 응답 여러 개는 한 번만 감소
+		now.addAndGet(TARGET_NANOS);
+		for (int i = 0; i < 5; i++) {
+			limiter.release(TARGET_NANOS * 3);
+		}
+		assertThat(limiter.getLimit()).isEqualTo(20);
+
+		now.addAndGet(TARGET_NANOS);
+		limiter.release(TARGET_NANOS * 3);
+		assertThat(limiter.getLimit()).isEqualTo(10);
+
+		for (int i = 0; i < 10; i++) {
+			now.addAndGet(TARGET_NANOS);
+			limiter.release(TARGET_NANOS * 3);
+		}
+		assertThat(limiter.getLimit()).isEqualTo(4);
+	}
+
+	@Test
+	void fastResponsesUnderLoadGrowLimitAdditively() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 12, TARGET_NANOS, 0.5, now::get);
+
+		for (int round = 0; round < 30; round++) {
+			int acquired = 0;
+			while (limiter.tryAcquire()) {
+				acquired++;
+			}
+			for (int i = 0; i < acquired; i++) {
+				limiter.release(TARGET_NANOS / 10);
+			}
+		}
+
+		assertThat(limiter.getLimit()).isEqualTo(12);
+		assertThat(limiter.getInFlight()).isZero();
+	}
+}
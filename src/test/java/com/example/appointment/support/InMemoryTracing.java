@@ -0,0 +1,49 @@
+package com.example.appointment.support;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.otel.bridge.OtelBaggageManager;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+
+import java.util.List;
+
+/**
+ * 테스트용 인메모리 트레이싱 - Observation 으로 만든 span 을 즉시(동기) 메모리에 수집
+ */
+public class InMemoryTracing {
+
+	private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+	private final ObservationRegistry observationRegistry = ObservationRegistry.create();
+
+	public InMemoryTracing() {
+		SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+				.setSampler(Sampler.alwaysOn())
+				.addSpanProcessor(SimpleSpanProcessor.create(exporter))
+				.build();
+		OtelCurrentTraceContext currentTraceContext = new OtelCurrentTraceContext();
+		OtelTracer tracer = new OtelTracer(tracerProvider.get("test"), currentTraceContext, event -> {
+		}, new OtelBaggageManager(currentTraceContext, List.of(), List.of()));
+		observationRegistry.observationConfig().observationHandler(new DefaultTracingObservationHandler(tracer));
+	}
+
+	public ObservationRegistry observationRegistry() {
+		return observationRegistry;
+	}
+
+	public List<SpanData> finishedSpans() {
+		return exporter.getFinishedSpanItems();
+	}
+
+	public SpanData span(String name) {
+		return finishedSpans().stream()
+				.filter(span -> span.getName().equals(name))
+				.findFirst()
+				.orElseThrow(() -> new AssertionError("No span named " + name + " in " + finishedSpans()));
+	}
+}
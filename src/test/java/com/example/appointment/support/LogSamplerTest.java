@@ -0,0 +1,24 @@
+package com.example.appointment.support;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogSamplerTest {
+
+	@Test
+	void logsUpToRateAndCountsSuppressedMessages() {
+		LogSampler sampler = LogSampler.perSecond(2);
+
+		int logged = 0;
+		for (int i = 0; i < 10; i++) {
+			if (sampler.tryAcquire()) {
+				logged++;
+			}
+		}
+
+		assertThat(logged).isEqualTo(2);
+		assertThat(sampler.drainSuppressed()).isEqualTo(8);
+		assertThat(sampler.drainSuppressed()).isZero();
+	}
+}
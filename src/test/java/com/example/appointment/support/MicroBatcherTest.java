@@ -0,0 +1,136 @@
+package com.example.appointment.support;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicroBatcherTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final List<List<String>> loadedBatches = new CopyOnWriteArrayList<>();
+	private MicroBatcher<String, String> batcher;
+
+	@AfterEach
+	void tearDown() {
+		if (batcher != null) {
+			batcher.close();
+		}
+	}
+
+	@Test
+	void loadsArrivingDuringInFlightQueryAreServedByOneQuery() throws Exception {
+		CountDownLatch firstQueryStarted = new CountDownLatch(1);
+		CountDownLatch releaseFirstQuery = new CountDownLatch(1);
+		batcher = new MicroBatcher<>("test", keys -> {
+			if (keys.contains("first")) {
+				firstQueryStarted.countDown();
+				await(releaseFirstQuery);
+			}
+			return load(keys);
+		}, 500, 1000, 5000, 1, meterRegistry);
+		ExecutorService executor = Executors.newFixedThreadPool(11);
+		try {
+			Future<String> first = executor.submit(() -> batcher.load("first"));
+			assertThat(firstQueryStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+			List<Future<String>> results = new ArrayList<>();
+			for (int i = 0; i < 10; i++) {
+				String key = i == 9 ? "missing" : "appo" + (i % 5);
+				results.add(executor.submit(() -> batcher.load(key)));
+			}
+			releaseFirstQuery.countDown();
+
+			assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("value-first");
+			for (int i = 0; i < 9; i++) {
+				assertThat(results.get(i).get(5, TimeUnit.SECONDS)).isEqualTo("value-appo" + (i % 5));
+			}
+			assertThat(results.get(9).get(5, TimeUnit.SECONDS)).isNull();
+		} finally {
+			executor.shutdownNow();
+		}
+
+		// 첫 조회 + 그동안 모인 키의 조회 1회, 중복 키는 한 번만 조회
+		assertThat(loadedBatches).hasSize(2);
+		assertThat(loadedBatches.get(1)).hasSize(6);
+		assertThat(meterRegistry.get("appointment.batch.requests").counter().count()).isEqualTo(11);
+		assertThat(meterRegistry.get("appointment.batch.queries").counter().count()).isEqualTo(2);
+	}
+
+	@Test
+	void loneLoadIsQueriedWithoutWaitingForWindow() {
+		batcher = new MicroBatcher<>("test", this::load, 60_000, 1000, 5000, 1, meterRegistry);
+
+		long started = System.nanoTime();
+		assertThat(batcher.load("appo1")).isEqualTo("value-appo1");
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(1000);
+	}
+
+	@Test
+	void callersJoiningSameKeyReceiveCopies() throws Exception {
+		CountDownLatch firstQueryStarted = new CountDownLatch(1);
+		CountDownLatch releaseFirstQuery = new CountDownLatch(1);
+		MicroBatcher<String, List<String>> listBatcher = new MicroBatcher<>("test", keys -> {
+			if (keys.contains("first")) {
+				firstQueryStarted.countDown();
+				await(releaseFirstQuery);
+			}
+			return keys.stream().collect(Collectors.<String, String, List<String>>toMap(Function.identity(),
+					key -> new ArrayList<>(List.of(key))));
+		}, ArrayList::new, 500, 1000, 5000, 1, meterRegistry);
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			executor.submit(() -> listBatcher.load("first"));
+			assertThat(firstQueryStarted.await(5, TimeUnit.SECONDS)).isTrue();
+			Future<List<String>> one = executor.submit(() -> listBatcher.load("shared"));
+			Future<List<String>> two = executor.submit(() -> listBatcher.load("shared"));
+			Thread.sleep(100);
+			releaseFirstQuery.countDown();
+
+			List<String> first = one.get(5, TimeUnit.SECONDS);
+			List<String> second = two.get(5, TimeUnit.SECONDS);
+			assertThat(first).isEqualTo(second).containsExactly("shared");
+			assertThat(first).isNotSameAs(second);
+		} finally {
+			executor.shutdownNow();
+			listBatcher.close();
+		}
+	}
+
+	@Test
+	void fullBatchIsFlushedWithoutWaitingForWindow() {
+		batcher = new MicroBatcher<>("test", this::load, 60_000, 1, 5000, 1, meterRegistry);
+
+		long started = System.nanoTime();
+		assertThat(batcher.load("appo1")).isEqualTo("value-appo1");
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(1000);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private Map<String, String> load(List<String> keys) {
+		loadedBatches.add(keys);
+		return keys.stream()
+				.filter(key -> !key.equals("missing"))
+				.collect(Collectors.toMap(Function.identity(), key -> "value-" + key));
+	}
+}
@@ -0,0 +1,77 @@
+package com.example.appointment.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecurrenceRuleTest {
+
+	private static final LocalDateTime MONDAY_NINE = LocalDateTime.of(2026, 1, 5, 9, 0);
+
+	@Test
+	void weeklyByDayExpandsEachListedDay() {
+		RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,WE");
+
+		assertThat(rule.occurrences(MONDAY_NINE, LocalDateTime.of(2026, 1, 5, 0, 0), LocalDateTime.of(2026, 1, 20, 0, 0), 100))
+				.containsExactly(
+						LocalDateTime.of(2026, 1, 5, 9, 0),
+						LocalDateTime.of(2026, 1, 7, 9, 0),
+						LocalDateTime.of(2026, 1, 12, 9, 0),
+						LocalDateTime.of(2026, 1, 14, 9, 0),
+						LocalDateTime.of(2026, 1, 19, 9, 0));
+	}
+
+	@Test
+	void unboundedRuleOnlyComputesRequestedWindow() {
+		RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY");
+		LocalDateTime dtstart = LocalDateTime.of(2020, 1, 1, 10, 0);
+
+		assertThat(rule.occurrences(dtstart, LocalDateTime.of(2026, 3, 1, 0, 0), LocalDateTime.of(2026, 3, 4, 0, 0), 100))
+				.containsExactly(
+						LocalDateTime.of(2026, 3, 1, 10, 0),
+						LocalDateTime.of(2026, 3, 2, 10, 0),
+						LocalDateTime.of(2026, 3, 3, 10, 0));
+		assertThat(rule.lastOccurrence(dtstart)).isNull();
+	}
+
+	@Test
+	void countAndUntilBoundTheSeries() {
+		RecurrenceRule counted = RecurrenceRule.parse("FREQ=DAILY;COUNT=3");
+		assertThat(counted.occurrences(MONDAY_NINE, MONDAY_NINE, MONDAY_NINE.plusYears(1), 100)).hasSize(3);
+		assertThat(counted.lastOccurrence(MONDAY_NINE)).isEqualTo(LocalDateTime.of(2026, 1, 7, 9, 0));
+
+		RecurrenceRule until = RecurrenceRule.parse("FREQ=DAILY;UNTIL=20260107T090000Z");
+		assertThat(until.occurrences(MONDAY_NINE, MONDAY_NINE, MONDAY_NINE.plusYears(1), 100)).hasSize(3);
+		assertThat(until.lastOccurrence(MONDAY_NINE)).isEqualTo(LocalDateTime.of(2026, 1, 7, 9, 0));
+	}
+
+	@Test
+	void monthlySkipsMonthsWithoutTheStartDay() {
+		RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY");
+		LocalDateTime dtstart = LocalDateTime.of(2026, 1, 31, 10, 0);
+
+		assertThat(rule.occurrences(dtstart, dtstart, LocalDateTime.of(2026, 6, 1, 0, 0), 100))
+				.containsExactly(
+						LocalDateTime.of(2026, 1, 31, 10, 0),
+						LocalDateTime.of(2026, 3, 31, 10, 0),
+						LocalDateTime.of(2026, 5, 31, 10, 0));
+	}
+
+	@Test
+	void parseNormalizesRule() {
+		assertThat(RecurrenceRule.parse("RRULE:freq=weekly;byday=we,mo;interval=2"))
+				.hasToString("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE");
+	}
+
+	@Test
+	void rejectsUnsupportedRules() {
+		assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=YEARLY")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;BYDAY=MO")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;COUNT=2;UNTIL=20260101T000000"))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> RecurrenceRule.parse("INTERVAL=2")).isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,60 @@
+package com.example.appointment.support;
+
+import io.micrometer.observation.Observation;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 리포지토리 호출 span 이 요청 span 의 자식으로 기록되는지 검증 (인메모리 exporter 사용)
+ */
+class RepositoryObservationInterceptorTest {
+
+	interface SampleRepository {
+		List<String> findByAppointmentIdIn(List<String> ids);
+	}
+
+	private final InMemoryTracing tracing = new InMemoryTracing();
+
+	@Test
+	void repositoryCallIsRecordedAsChildSpanOfCurrentRequest() {
+		SampleRepository repository = proxy(ids -> ids);
+
+		Observation.createNotStarted("http.server.requests", tracing.observationRegistry())
+				.contextualName("GET /appointments/participating/{user_id}")
+				.observe(() -> repository.findByAppointmentIdIn(List.of("appo001")));
+
+		SpanData request = tracing.span("GET /appointments/participating/{user_id}");
+		SpanData query = tracing.span("SampleRepository.findByAppointmentIdIn");
+		assertThat(query.getTraceId()).isEqualTo(request.getTraceId());
+		assertThat(query.getParentSpanId()).isEqualTo(request.getSpanId());
+		assertThat(query.getAttributes().asMap().values()).contains("SampleRepository", "findByAppointmentIdIn");
+		assertThat(query.getEndEpochNanos()).isGreaterThanOrEqualTo(query.getStartEpochNanos());
+	}
+
+	@Test
+	void failedQueryMarksSpanAsError() {
+		SampleRepository repository = proxy(ids -> {
+			throw new IllegalStateException("db down");
+		});
+
+		assertThatThrownBy(() -> repository.findByAppointmentIdIn(List.of("appo001")))
+				.isInstanceOf(IllegalStateException.class);
+
+		assertThat(tracing.span("SampleRepository.findByAppointmentIdIn").getStatus().getStatusCode())
+				.isEqualTo(StatusCode.ERROR);
+	}
+
+	private SampleRepository proxy(SampleRepository target) {
+		ProxyFactory proxyFactory = new ProxyFactory(target);
+		proxyFactory.addInterface(SampleRepository.class);
+		proxyFactory.addAdvice(new RepositoryObservationInterceptor(tracing.observationRegistry(), "SampleRepository"));
+		return (SampleRepository) proxyFactory.getProxy();
+	}
+}
@@ -0,0 +1,42 @@
+package com.example.appointment.support;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestIdFilterTest {
+
+	private final RequestIdFilter filter = new RequestIdFilter();
+
+	@Test
+	void propagatesValidIncomingRequestIdToMdcAndResponse() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/appointments");
+		request.addHeader(RequestIdFilter.HEADER, "abc-123");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		AtomicReference<String> seen = new AtomicReference<>();
+
+		filter.doFilter(request, response, (req, res) -> seen.set(MDC.get(RequestIdFilter.MDC_KEY)));
+
+		assertThat(seen).hasValue("abc-123");
+		assertThat(response.getHeader(RequestIdFilter.HEADER)).isEqualTo("abc-123");
+		assertThat(MDC.get(RequestIdFilter.MDC_KEY)).isNull();
+	}
+
+	@Test
+	void replacesMalformedRequestId() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/appointments");
+		request.addHeader(RequestIdFilter.HEADER, "forged\nINFO fake log line");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		AtomicReference<String> seen = new AtomicReference<>();
+
+		filter.doFilter(request, response, (req, res) -> seen.set(MDC.get(RequestIdFilter.MDC_KEY)));
+
+		assertThat(seen.get()).matches("[0-9a-f]{32}");
+		assertThat(response.getHeader(RequestIdFilter.HEADER)).isEqualTo(seen.get());
+	}
+}
@@ -0,0 +1,73 @@
+package com.example.appointment.support;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void concurrentCallsWithSameKeyShareOneComputation() throws Exception {
+		SingleFlight<String, String> flight = new SingleFlight<>("test", meterRegistry);
+		AtomicInteger executions = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(16);
+		try {
+			List<Future<String>> results = new ArrayList<>();
+			for (int i = 0; i < 16; i++) {
+				results.add(executor.submit(() -> flight.execute("host1", () -> {
+					executions.incrementAndGet();
+					await(release);
+					return "value";
+				})));
+			}
+			// 모든 호출이 진행 중인 계산에 합류할 시간을 줌
+			Thread.sleep(200);
+			release.countDown();
+
+			for (Future<String> result : results) {
+				assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(executions.get()).isEqualTo(1);
+		assertThat(flight.inFlightCount()).isZero();
+		assertThat(meterRegistry.get("appointment.coalesce.calls").tag("role", "follower").counter().count())
+				.isEqualTo(15);
+		assertThat(meterRegistry.get("appointment.coalesce.ratio").gauge().value()).isEqualTo(15.0 / 16);
+	}
+
+	@Test
+	void failureIsPropagatedAndKeyIsReleased() {
+		SingleFlight<String, String> flight = new SingleFlight<>("test", meterRegistry);
+
+		assertThatThrownBy(() -> flight.execute("host1", () -> {
+			throw new IllegalStateException("db down");
+		})).isInstanceOf(IllegalStateException.class);
+
+		assertThat(flight.execute("host1", () -> "recovered")).isEqualTo("recovered");
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package com.example.appointment.support;
+
+import com.example.appointment.entity.Appointment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 테스트용 약속 생성 - 테스트마다 필요한 값만 지정하고 나머지는 기본값 사용
+ * 기본값: 호스트 "host", 장소 "loc", 제목 "회의", 시작 {@link #START}, 종료 시작 + 1시간, PLANNED, 피드백 F
+ */
+public final class TestAppointments {
+
+	public static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+	private TestAppointments() {
+	}
+
+	public static Builder appointment(String appointmentId) {
+		return new Builder(appointmentId);
+	}
+
+	public static final class Builder {
+
+		private final String appointmentId;
+		private String hostId = "host";
+		private String locationId = "loc";
+		private String title = "회의";
+		private LocalDateTime startTime = START;
+		private LocalDateTime endTime;
+		private Appointment.AppointmentStatus status = Appointment.AppointmentStatus.PLANNED;
+		private String feedback = "F";
+
+		private Builder(String appointmentId) {
+			this.appointmentId = appointmentId;
+		}
+
+		public Builder host(String hostId) {
+			this.hostId = hostId;
+			return this;
+		}
+
+		public Builder location(String locationId) {
+			this.locationId = locationId;
+			return this;
+		}
+
+		public Builder title(String title) {
+			this.title = title;
+			return this;
+		}
+
+		/**
+		 * 시작 시간 - 종료 시간을 따로 지정하지 않으면 시작 + 1시간
+		 */
+		public Builder start(LocalDateTime startTime) {
+			this.startTime = startTime;
+			return this;
+		}
+
+		public Builder end(LocalDateTime endTime) {
+			this.endTime = endTime;
+			return this;
+		}
+
+		public Builder status(Appointment.AppointmentStatus status) {
+			this.status = status;
+			return this;
+		}
+
+		public Builder feedback(String feedback) {
+			this.feedback = feedback;
+			return this;
+		}
+
+		public Appointment build() {
+			Appointment appointment = new Appointment();
+			appointment.setAppointmentId(appointmentId);
+			appointment.setHostId(hostId);
+			appointment.setLocationId(locationId);
+			appointment.setTitle(title);
+			appointment.setStartTime(startTime);
+			appointment.setEndTime(endTime != null ? endTime : startTime.plusHours(1));
+			appointment.setAppointmentStatus(status);
+			appointment.setFeedback(feedback);
+			return appointment;
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package com.example.appointment.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+	private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+	@Test
+	void allowsBurstThenRefillsAtConfiguredRate() {
+		TokenBucket bucket = new TokenBucket(10, 5, now::get);
+
+		for (int i = 0; i < 5; i++) {
+			assertThat(bucket.tryAcquire(1)).isZero();
+		}
+		long waitNanos = bucket.tryAcquire(1);
+		assertThat(waitNanos).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+
+		now.addAndGet(waitNanos);
+		assertThat(bucket.tryAcquire(1)).isZero();
+		assertThat(bucket.tryAcquire(1)).isPositive();
+	}
+
+	@Test
+	void expensiveRequestsConsumeMoreTokens() {
+		TokenBucket bucket = new TokenBucket(10, 20, now::get);
+
+		assertThat(bucket.tryAcquire(20)).isZero();
+		assertThat(bucket.tryAcquire(5)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+
+		now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+		assertThat(bucket.isFull()).isTrue();
+	}
+
+	@Test
+	void concurrentCallersNeverExceedCapacity() throws Exception {
+		TokenBucket bucket = new TokenBucket(1, 100, now::get);
+		AtomicInteger granted = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			for (int i = 0; i < 1000; i++) {
+				executor.submit(() -> {
+					start.await();
+					if (bucket.tryAcquire(1) == 0) {
+						granted.incrementAndGet();
+					}
+					return null;
+				});
+			}
+			start.countDown();
+			executor.shutdown();
+			assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(granted).hasValue(100);
+	}
+}